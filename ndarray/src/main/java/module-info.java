@@ -17,10 +17,13 @@
 module org.tensorflow.ndarray {
   requires jdk.unsupported; // required by raw buffer implementations using Unsafe
 
+  uses org.tensorflow.ndarray.buffer.DataBufferAllocator;
+
   exports org.tensorflow.ndarray;
   exports org.tensorflow.ndarray.buffer;
   exports org.tensorflow.ndarray.buffer.layout;
   exports org.tensorflow.ndarray.index;
+  exports org.tensorflow.ndarray.ops;
 
   // Expose all implementions of our interfaces, so consumers can write custom
   // implementations easily by extending from them
@@ -29,9 +32,12 @@ module org.tensorflow.ndarray {
   exports org.tensorflow.ndarray.impl.buffer.layout;
   exports org.tensorflow.ndarray.impl.buffer.misc;
   exports org.tensorflow.ndarray.impl.buffer.nio;
+  exports org.tensorflow.ndarray.impl.buffer.pool;
   exports org.tensorflow.ndarray.impl.buffer.raw;
+  exports org.tensorflow.ndarray.impl.buffer.segment;
   exports org.tensorflow.ndarray.impl.dense;
   exports org.tensorflow.ndarray.impl.dimension;
+  exports org.tensorflow.ndarray.impl.ops;
   exports org.tensorflow.ndarray.impl.sequence;
   exports org.tensorflow.ndarray.impl.sparse;
   exports org.tensorflow.ndarray.impl.sparse.slice;
@@ -68,12 +68,165 @@ public interface BooleanNdArray extends NdArray<Boolean> {
    */
   BooleanNdArray setBoolean(boolean value, long... coordinates);
 
+  /**
+   * Returns the boolean value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #getBoolean(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default boolean getBoolean(long i) {
+    return getBoolean(new long[] {i});
+  }
+
+  /**
+   * Assigns the boolean value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #setBoolean(boolean, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default BooleanNdArray setBoolean(boolean value, long i) {
+    return setBoolean(value, new long[] {i});
+  }
+
+  /**
+   * Returns the boolean value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #getBoolean(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default boolean getBoolean(long i, long j) {
+    return getBoolean(new long[] {i, j});
+  }
+
+  /**
+   * Assigns the boolean value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #setBoolean(boolean, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default BooleanNdArray setBoolean(boolean value, long i, long j) {
+    return setBoolean(value, new long[] {i, j});
+  }
+
+  /**
+   * Returns the boolean value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #getBoolean(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default boolean getBoolean(long i, long j, long k) {
+    return getBoolean(new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the boolean value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #setBoolean(boolean, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default BooleanNdArray setBoolean(boolean value, long i, long j, long k) {
+    return setBoolean(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the boolean value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #getBoolean(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default boolean getBoolean(long i, long j, long k, long l) {
+    return getBoolean(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the boolean value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #setBoolean(boolean, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default BooleanNdArray setBoolean(boolean value, long i, long j, long k, long l) {
+    return setBoolean(value, new long[] {i, j, k, l});
+  }
+
+  @Override
+  default BooleanNdCursor cursor() {
+    throw new UnsupportedOperationException("Cursors are not supported by " + getClass().getSimpleName());
+  }
+
   @Override
   BooleanNdArray withShape(Shape shape);
 
+  @Override
+  BooleanNdArray transpose(int... axes);
+
+  @Override
+  BooleanNdArray broadcastTo(Shape shape);
+
+  @Override
+  BooleanNdArray slidingWindows(int axis, long windowSize, long step);
+
   @Override
   BooleanNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<BooleanNdArray> slicePlan(Index... indices);
+
   @Override
   BooleanNdArray get(long... coordinates);
 
@@ -0,0 +1,61 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * An {@link NdCursor} over booleans.
+ */
+public interface BooleanNdCursor extends NdCursor<Boolean> {
+
+  /**
+   * Returns the boolean value of the current scalar.
+   */
+  boolean getBoolean();
+
+  /**
+   * Assigns the boolean value of the current scalar.
+   *
+   * @param value value to assign
+   * @return this cursor
+   */
+  BooleanNdCursor setBoolean(boolean value);
+
+  @Override
+  BooleanNdCursor moveTo(long i);
+
+  @Override
+  BooleanNdCursor moveTo(long i, long j);
+
+  @Override
+  BooleanNdCursor moveTo(long i, long j, long k);
+
+  @Override
+  BooleanNdCursor moveTo(long i, long j, long k, long l);
+
+  @Override
+  BooleanNdCursor moveTo(long... coordinates);
+
+  @Override
+  default Boolean getObject() {
+    return getBoolean();
+  }
+
+  @Override
+  default BooleanNdCursor setObject(Boolean value) {
+    return setBoolean(value);
+  }
+}
@@ -68,12 +68,165 @@ public interface ByteNdArray extends NdArray<Byte> {
    */
   ByteNdArray setByte(byte value, long... coordinates);
 
+  /**
+   * Returns the byte value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #getByte(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default byte getByte(long i) {
+    return getByte(new long[] {i});
+  }
+
+  /**
+   * Assigns the byte value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #setByte(byte, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default ByteNdArray setByte(byte value, long i) {
+    return setByte(value, new long[] {i});
+  }
+
+  /**
+   * Returns the byte value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #getByte(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default byte getByte(long i, long j) {
+    return getByte(new long[] {i, j});
+  }
+
+  /**
+   * Assigns the byte value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #setByte(byte, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default ByteNdArray setByte(byte value, long i, long j) {
+    return setByte(value, new long[] {i, j});
+  }
+
+  /**
+   * Returns the byte value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #getByte(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default byte getByte(long i, long j, long k) {
+    return getByte(new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the byte value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #setByte(byte, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default ByteNdArray setByte(byte value, long i, long j, long k) {
+    return setByte(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the byte value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #getByte(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default byte getByte(long i, long j, long k, long l) {
+    return getByte(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the byte value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #setByte(byte, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default ByteNdArray setByte(byte value, long i, long j, long k, long l) {
+    return setByte(value, new long[] {i, j, k, l});
+  }
+
+  @Override
+  default ByteNdCursor cursor() {
+    throw new UnsupportedOperationException("Cursors are not supported by " + getClass().getSimpleName());
+  }
+
   @Override
   ByteNdArray withShape(Shape shape);
 
+  @Override
+  ByteNdArray transpose(int... axes);
+
+  @Override
+  ByteNdArray broadcastTo(Shape shape);
+
+  @Override
+  ByteNdArray slidingWindows(int axis, long windowSize, long step);
+
   @Override
   ByteNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<ByteNdArray> slicePlan(Index... indices);
+
   @Override
   ByteNdArray get(long... coordinates);
 
@@ -0,0 +1,61 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * An {@link NdCursor} over bytes.
+ */
+public interface ByteNdCursor extends NdCursor<Byte> {
+
+  /**
+   * Returns the byte value of the current scalar.
+   */
+  byte getByte();
+
+  /**
+   * Assigns the byte value of the current scalar.
+   *
+   * @param value value to assign
+   * @return this cursor
+   */
+  ByteNdCursor setByte(byte value);
+
+  @Override
+  ByteNdCursor moveTo(long i);
+
+  @Override
+  ByteNdCursor moveTo(long i, long j);
+
+  @Override
+  ByteNdCursor moveTo(long i, long j, long k);
+
+  @Override
+  ByteNdCursor moveTo(long i, long j, long k, long l);
+
+  @Override
+  ByteNdCursor moveTo(long... coordinates);
+
+  @Override
+  default Byte getObject() {
+    return getByte();
+  }
+
+  @Override
+  default ByteNdCursor setObject(Byte value) {
+    return setByte(value);
+  }
+}
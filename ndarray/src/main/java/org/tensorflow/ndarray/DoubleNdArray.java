@@ -28,6 +28,19 @@ import java.util.stream.StreamSupport;
  */
 public interface DoubleNdArray extends NdArray<Double> {
 
+  /**
+   * Consumes the value of a scalar along with its coordinates, without boxing it.
+   */
+  @FunctionalInterface
+  interface CoordsDoubleConsumer {
+
+    /**
+     * @param coords coordinates of the scalar, reused between calls
+     * @param value value of the scalar
+     */
+    void accept(long[] coords, double value);
+  }
+
   /**
    * Returns the double value of the scalar found at the given coordinates.
    *
@@ -71,6 +84,147 @@ public interface DoubleNdArray extends NdArray<Double> {
    */
   DoubleNdArray setDouble(double value, long... coordinates);
 
+  /**
+   * Returns the double value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #getDouble(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default double getDouble(long i) {
+    return getDouble(new long[] {i});
+  }
+
+  /**
+   * Assigns the double value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #setDouble(double, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default DoubleNdArray setDouble(double value, long i) {
+    return setDouble(value, new long[] {i});
+  }
+
+  /**
+   * Returns the double value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #getDouble(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default double getDouble(long i, long j) {
+    return getDouble(new long[] {i, j});
+  }
+
+  /**
+   * Assigns the double value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #setDouble(double, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default DoubleNdArray setDouble(double value, long i, long j) {
+    return setDouble(value, new long[] {i, j});
+  }
+
+  /**
+   * Returns the double value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #getDouble(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default double getDouble(long i, long j, long k) {
+    return getDouble(new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the double value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #setDouble(double, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default DoubleNdArray setDouble(double value, long i, long j, long k) {
+    return setDouble(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the double value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #getDouble(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default double getDouble(long i, long j, long k, long l) {
+    return getDouble(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the double value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #setDouble(double, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default DoubleNdArray setDouble(double value, long i, long j, long k, long l) {
+    return setDouble(value, new long[] {i, j, k, l});
+  }
+
+  @Override
+  default DoubleNdCursor cursor() {
+    throw new UnsupportedOperationException("Cursors are not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Retrieve all scalar values of this array as a stream of doubles.
    *
@@ -83,12 +237,44 @@ public interface DoubleNdArray extends NdArray<Double> {
     return StreamSupport.stream(scalars().spliterator(), false).mapToDouble(DoubleNdArray::getDouble);
   }
 
+  /**
+   * Visits all scalar values of this array in sequential order, without boxing them.
+   *
+   * <p>The coordinates passed to the consumer are updated in place between each call, and must be
+   * copied if they are retained. For example:
+   * <pre>{@code
+   *  DoubleNdArray matrix = NdArrays.ofDoubles(Shape.of(2, 3));
+   *  matrix.forEachDouble((coords, value) -> System.out.println(Arrays.toString(coords) + " = " + value));
+   * }</pre>
+   *
+   * @param consumer receives the coordinates and the value of each scalar
+   */
+  default void forEachDouble(CoordsDoubleConsumer consumer) {
+    if (rank() == 0) {
+      consumer.accept(new long[0], getDouble());
+    } else {
+      scalars().forEachIndexed((coords, scalar) -> consumer.accept(coords, scalar.getDouble()));
+    }
+  }
+
   @Override
   DoubleNdArray withShape(Shape shape);
 
+  @Override
+  DoubleNdArray transpose(int... axes);
+
+  @Override
+  DoubleNdArray broadcastTo(Shape shape);
+
+  @Override
+  DoubleNdArray slidingWindows(int axis, long windowSize, long step);
+
   @Override
   DoubleNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<DoubleNdArray> slicePlan(Index... indices);
+
   @Override
   DoubleNdArray get(long... coordinates);
 
@@ -0,0 +1,61 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * An {@link NdCursor} over doubles.
+ */
+public interface DoubleNdCursor extends NdCursor<Double> {
+
+  /**
+   * Returns the double value of the current scalar.
+   */
+  double getDouble();
+
+  /**
+   * Assigns the double value of the current scalar.
+   *
+   * @param value value to assign
+   * @return this cursor
+   */
+  DoubleNdCursor setDouble(double value);
+
+  @Override
+  DoubleNdCursor moveTo(long i);
+
+  @Override
+  DoubleNdCursor moveTo(long i, long j);
+
+  @Override
+  DoubleNdCursor moveTo(long i, long j, long k);
+
+  @Override
+  DoubleNdCursor moveTo(long i, long j, long k, long l);
+
+  @Override
+  DoubleNdCursor moveTo(long... coordinates);
+
+  @Override
+  default Double getObject() {
+    return getDouble();
+  }
+
+  @Override
+  default DoubleNdCursor setObject(Double value) {
+    return setDouble(value);
+  }
+}
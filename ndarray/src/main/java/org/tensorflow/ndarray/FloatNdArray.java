@@ -16,6 +16,8 @@
  */
 package org.tensorflow.ndarray;
 
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.index.Index;
@@ -25,6 +27,19 @@ import org.tensorflow.ndarray.index.Index;
  */
 public interface FloatNdArray extends NdArray<Float> {
 
+  /**
+   * Consumes the value of a scalar along with its coordinates, without boxing it.
+   */
+  @FunctionalInterface
+  interface CoordsFloatConsumer {
+
+    /**
+     * @param coords coordinates of the scalar, reused between calls
+     * @param value value of the scalar
+     */
+    void accept(long[] coords, float value);
+  }
+
   /**
    * Returns the float value of the scalar found at the given coordinates.
    *
@@ -68,12 +83,197 @@ public interface FloatNdArray extends NdArray<Float> {
    */
   FloatNdArray setFloat(float value, long... coordinates);
 
+  /**
+   * Returns the float value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #getFloat(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default float getFloat(long i) {
+    return getFloat(new long[] {i});
+  }
+
+  /**
+   * Assigns the float value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #setFloat(float, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default FloatNdArray setFloat(float value, long i) {
+    return setFloat(value, new long[] {i});
+  }
+
+  /**
+   * Returns the float value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #getFloat(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default float getFloat(long i, long j) {
+    return getFloat(new long[] {i, j});
+  }
+
+  /**
+   * Assigns the float value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #setFloat(float, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default FloatNdArray setFloat(float value, long i, long j) {
+    return setFloat(value, new long[] {i, j});
+  }
+
+  /**
+   * Returns the float value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #getFloat(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default float getFloat(long i, long j, long k) {
+    return getFloat(new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the float value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #setFloat(float, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default FloatNdArray setFloat(float value, long i, long j, long k) {
+    return setFloat(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the float value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #getFloat(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default float getFloat(long i, long j, long k, long l) {
+    return getFloat(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the float value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #setFloat(float, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default FloatNdArray setFloat(float value, long i, long j, long k, long l) {
+    return setFloat(value, new long[] {i, j, k, l});
+  }
+
+  @Override
+  default FloatNdCursor cursor() {
+    throw new UnsupportedOperationException("Cursors are not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Retrieve all scalar values of this array as a stream of doubles, without boxing them.
+   *
+   * <p>For {@code rank() > 1} arrays, all vectors of the last dimension are collated so that the scalar values are
+   * returned in sequential order.</p>
+   *
+   * @return scalar values widened to doubles as a stream
+   */
+  default DoubleStream streamOfFloats() {
+    return StreamSupport.stream(scalars().spliterator(), false).mapToDouble(FloatNdArray::getFloat);
+  }
+
+  /**
+   * Visits all scalar values of this array in sequential order, without boxing them.
+   *
+   * <p>The coordinates passed to the consumer are updated in place between each call, and must be
+   * copied if they are retained. For example:
+   * <pre>{@code
+   *  FloatNdArray matrix = NdArrays.ofFloats(Shape.of(2, 3));
+   *  matrix.forEachFloat((coords, value) -> System.out.println(Arrays.toString(coords) + " = " + value));
+   * }</pre>
+   *
+   * @param consumer receives the coordinates and the value of each scalar
+   */
+  default void forEachFloat(CoordsFloatConsumer consumer) {
+    if (rank() == 0) {
+      consumer.accept(new long[0], getFloat());
+    } else {
+      scalars().forEachIndexed((coords, scalar) -> consumer.accept(coords, scalar.getFloat()));
+    }
+  }
+
   @Override
   FloatNdArray withShape(Shape shape);
 
+  @Override
+  FloatNdArray transpose(int... axes);
+
+  @Override
+  FloatNdArray broadcastTo(Shape shape);
+
+  @Override
+  FloatNdArray slidingWindows(int axis, long windowSize, long step);
+
   @Override
   FloatNdArray slice(Index... coordinates);
 
+  @Override
+  SlicePlan<FloatNdArray> slicePlan(Index... indices);
+
   @Override
   FloatNdArray get(long... coordinates);
 
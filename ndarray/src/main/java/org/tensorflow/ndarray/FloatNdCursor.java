@@ -0,0 +1,61 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * An {@link NdCursor} over floats.
+ */
+public interface FloatNdCursor extends NdCursor<Float> {
+
+  /**
+   * Returns the float value of the current scalar.
+   */
+  float getFloat();
+
+  /**
+   * Assigns the float value of the current scalar.
+   *
+   * @param value value to assign
+   * @return this cursor
+   */
+  FloatNdCursor setFloat(float value);
+
+  @Override
+  FloatNdCursor moveTo(long i);
+
+  @Override
+  FloatNdCursor moveTo(long i, long j);
+
+  @Override
+  FloatNdCursor moveTo(long i, long j, long k);
+
+  @Override
+  FloatNdCursor moveTo(long i, long j, long k, long l);
+
+  @Override
+  FloatNdCursor moveTo(long... coordinates);
+
+  @Override
+  default Float getObject() {
+    return getFloat();
+  }
+
+  @Override
+  default FloatNdCursor setObject(Float value) {
+    return setFloat(value);
+  }
+}
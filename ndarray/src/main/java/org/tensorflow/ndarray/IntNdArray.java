@@ -28,6 +28,19 @@ import java.util.stream.StreamSupport;
  */
 public interface IntNdArray extends NdArray<Integer> {
 
+  /**
+   * Consumes the value of a scalar along with its coordinates, without boxing it.
+   */
+  @FunctionalInterface
+  interface CoordsIntConsumer {
+
+    /**
+     * @param coords coordinates of the scalar, reused between calls
+     * @param value value of the scalar
+     */
+    void accept(long[] coords, int value);
+  }
+
   /**
    * Returns the integer value of the scalar found at the given coordinates.
    *
@@ -71,6 +84,147 @@ public interface IntNdArray extends NdArray<Integer> {
    */
   IntNdArray setInt(int value, long... coordinates);
 
+  /**
+   * Returns the int value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #getInt(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default int getInt(long i) {
+    return getInt(new long[] {i});
+  }
+
+  /**
+   * Assigns the int value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #setInt(int, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default IntNdArray setInt(int value, long i) {
+    return setInt(value, new long[] {i});
+  }
+
+  /**
+   * Returns the int value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #getInt(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default int getInt(long i, long j) {
+    return getInt(new long[] {i, j});
+  }
+
+  /**
+   * Assigns the int value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #setInt(int, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default IntNdArray setInt(int value, long i, long j) {
+    return setInt(value, new long[] {i, j});
+  }
+
+  /**
+   * Returns the int value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #getInt(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default int getInt(long i, long j, long k) {
+    return getInt(new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the int value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #setInt(int, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default IntNdArray setInt(int value, long i, long j, long k) {
+    return setInt(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the int value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #getInt(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default int getInt(long i, long j, long k, long l) {
+    return getInt(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the int value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #setInt(int, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default IntNdArray setInt(int value, long i, long j, long k, long l) {
+    return setInt(value, new long[] {i, j, k, l});
+  }
+
+  @Override
+  default IntNdCursor cursor() {
+    throw new UnsupportedOperationException("Cursors are not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Retrieve all scalar values of this array as a stream of integers.
    *
@@ -83,12 +237,44 @@ public interface IntNdArray extends NdArray<Integer> {
     return StreamSupport.stream(scalars().spliterator(), false).mapToInt(IntNdArray::getInt);
   }
 
+  /**
+   * Visits all scalar values of this array in sequential order, without boxing them.
+   *
+   * <p>The coordinates passed to the consumer are updated in place between each call, and must be
+   * copied if they are retained. For example:
+   * <pre>{@code
+   *  IntNdArray matrix = NdArrays.ofInts(Shape.of(2, 3));
+   *  matrix.forEachInt((coords, value) -> System.out.println(Arrays.toString(coords) + " = " + value));
+   * }</pre>
+   *
+   * @param consumer receives the coordinates and the value of each scalar
+   */
+  default void forEachInt(CoordsIntConsumer consumer) {
+    if (rank() == 0) {
+      consumer.accept(new long[0], getInt());
+    } else {
+      scalars().forEachIndexed((coords, scalar) -> consumer.accept(coords, scalar.getInt()));
+    }
+  }
+
   @Override
   IntNdArray withShape(Shape shape);
 
+  @Override
+  IntNdArray transpose(int... axes);
+
+  @Override
+  IntNdArray broadcastTo(Shape shape);
+
+  @Override
+  IntNdArray slidingWindows(int axis, long windowSize, long step);
+
   @Override
   IntNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<IntNdArray> slicePlan(Index... indices);
+
   @Override
   IntNdArray get(long... coordinates);
 
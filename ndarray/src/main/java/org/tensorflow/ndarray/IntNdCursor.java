@@ -0,0 +1,61 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * An {@link NdCursor} over ints.
+ */
+public interface IntNdCursor extends NdCursor<Integer> {
+
+  /**
+   * Returns the int value of the current scalar.
+   */
+  int getInt();
+
+  /**
+   * Assigns the int value of the current scalar.
+   *
+   * @param value value to assign
+   * @return this cursor
+   */
+  IntNdCursor setInt(int value);
+
+  @Override
+  IntNdCursor moveTo(long i);
+
+  @Override
+  IntNdCursor moveTo(long i, long j);
+
+  @Override
+  IntNdCursor moveTo(long i, long j, long k);
+
+  @Override
+  IntNdCursor moveTo(long i, long j, long k, long l);
+
+  @Override
+  IntNdCursor moveTo(long... coordinates);
+
+  @Override
+  default Integer getObject() {
+    return getInt();
+  }
+
+  @Override
+  default IntNdCursor setObject(Integer value) {
+    return setInt(value);
+  }
+}
@@ -28,6 +28,19 @@ import java.util.stream.StreamSupport;
  */
 public interface LongNdArray extends NdArray<Long> {
 
+  /**
+   * Consumes the value of a scalar along with its coordinates, without boxing it.
+   */
+  @FunctionalInterface
+  interface CoordsLongConsumer {
+
+    /**
+     * @param coords coordinates of the scalar, reused between calls
+     * @param value value of the scalar
+     */
+    void accept(long[] coords, long value);
+  }
+
   /**
    * Returns the long value of the scalar found at the given coordinates.
    *
@@ -71,6 +84,147 @@ public interface LongNdArray extends NdArray<Long> {
    */
   LongNdArray setLong(long value, long... coordinates);
 
+  /**
+   * Returns the long value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #getLong(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default long getLong(long i) {
+    return getLong(new long[] {i});
+  }
+
+  /**
+   * Assigns the long value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #setLong(long, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default LongNdArray setLong(long value, long i) {
+    return setLong(value, new long[] {i});
+  }
+
+  /**
+   * Returns the long value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #getLong(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default long getLong(long i, long j) {
+    return getLong(new long[] {i, j});
+  }
+
+  /**
+   * Assigns the long value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #setLong(long, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default LongNdArray setLong(long value, long i, long j) {
+    return setLong(value, new long[] {i, j});
+  }
+
+  /**
+   * Returns the long value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #getLong(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default long getLong(long i, long j, long k) {
+    return getLong(new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the long value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #setLong(long, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default LongNdArray setLong(long value, long i, long j, long k) {
+    return setLong(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the long value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #getLong(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default long getLong(long i, long j, long k, long l) {
+    return getLong(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the long value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #setLong(long, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default LongNdArray setLong(long value, long i, long j, long k, long l) {
+    return setLong(value, new long[] {i, j, k, l});
+  }
+
+  @Override
+  default LongNdCursor cursor() {
+    throw new UnsupportedOperationException("Cursors are not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Retrieve all scalar values of this array as a stream of longs.
    *
@@ -83,12 +237,44 @@ public interface LongNdArray extends NdArray<Long> {
     return StreamSupport.stream(scalars().spliterator(), false).mapToLong(LongNdArray::getLong);
   }
 
+  /**
+   * Visits all scalar values of this array in sequential order, without boxing them.
+   *
+   * <p>The coordinates passed to the consumer are updated in place between each call, and must be
+   * copied if they are retained. For example:
+   * <pre>{@code
+   *  LongNdArray matrix = NdArrays.ofLongs(Shape.of(2, 3));
+   *  matrix.forEachLong((coords, value) -> System.out.println(Arrays.toString(coords) + " = " + value));
+   * }</pre>
+   *
+   * @param consumer receives the coordinates and the value of each scalar
+   */
+  default void forEachLong(CoordsLongConsumer consumer) {
+    if (rank() == 0) {
+      consumer.accept(new long[0], getLong());
+    } else {
+      scalars().forEachIndexed((coords, scalar) -> consumer.accept(coords, scalar.getLong()));
+    }
+  }
+
   @Override
   LongNdArray withShape(Shape shape);
 
+  @Override
+  LongNdArray transpose(int... axes);
+
+  @Override
+  LongNdArray broadcastTo(Shape shape);
+
+  @Override
+  LongNdArray slidingWindows(int axis, long windowSize, long step);
+
   @Override
   LongNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<LongNdArray> slicePlan(Index... indices);
+
   @Override
   LongNdArray get(long... coordinates);
 
@@ -0,0 +1,61 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * An {@link NdCursor} over longs.
+ */
+public interface LongNdCursor extends NdCursor<Long> {
+
+  /**
+   * Returns the long value of the current scalar.
+   */
+  long getLong();
+
+  /**
+   * Assigns the long value of the current scalar.
+   *
+   * @param value value to assign
+   * @return this cursor
+   */
+  LongNdCursor setLong(long value);
+
+  @Override
+  LongNdCursor moveTo(long i);
+
+  @Override
+  LongNdCursor moveTo(long i, long j);
+
+  @Override
+  LongNdCursor moveTo(long i, long j, long k);
+
+  @Override
+  LongNdCursor moveTo(long i, long j, long k, long l);
+
+  @Override
+  LongNdCursor moveTo(long... coordinates);
+
+  @Override
+  default Long getObject() {
+    return getLong();
+  }
+
+  @Override
+  default LongNdCursor setObject(Long value) {
+    return setLong(value);
+  }
+}
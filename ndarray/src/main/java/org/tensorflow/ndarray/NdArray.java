@@ -127,6 +127,87 @@ public interface NdArray<T> extends Shaped {
    */
   NdArray<T> withShape(Shape shape);
 
+  /**
+   * Returns a view of this array with its dimensions permuted.
+   *
+   * <p>The i-th dimension of the returned array is the dimension {@code axes[i]} of this array.
+   * If no axes are provided, the order of the dimensions is reversed. For example,
+   * <pre>{@code
+   *    FloatNdArray images = NdArrays.ofFloats(Shape.of(32, 224, 224, 3));  // NHWC
+   *    images.transpose(0, 3, 1, 2);  // NCHW, shape is [32, 3, 224, 224]
+   *    images.transpose();  // CWHN, shape is [3, 224, 224, 32]
+   * }</pre>
+   *
+   * <p>Any changes applied to the returned view affect the data of this array as well, as there
+   * is no copy involved. Copying the view to another array rearranges the data in the order of
+   * the new dimensions.
+   *
+   * @param axes the index of each dimension of this array in the returned view, or nothing to
+   *             reverse all dimensions
+   * @return a new array viewing the data with the permuted dimensions, or this array if the order
+   *         of the dimensions is unchanged
+   * @throws IllegalArgumentException if {@code axes} is not a permutation of the dimensions of
+   *                                  this array
+   * @throws UnsupportedOperationException if this array does not support this operation
+   */
+  NdArray<T> transpose(int... axes);
+
+  /**
+   * Returns a view of this array broadcast to the given shape, following the broadcasting rules of
+   * NumPy.
+   *
+   * <p>Dimensions of size 1 in this array are repeated to match the size of the corresponding
+   * dimension in the new shape, and new leading dimensions can be added as well. For example, a
+   * {@code [3]} vector of per-channel means broadcast to {@code [N, 3]} is seen as a matrix where
+   * each row is that same vector, without any copy:
+   * <pre>{@code
+   *    FloatNdArray means = NdArrays.vectorOf(0.485f, 0.456f, 0.406f);
+   *    FloatNdArray broadcast = means.broadcastTo(Shape.of(224 * 224, 3));
+   *    broadcast.getFloat(1000, 2);  // 0.406f
+   * }</pre>
+   *
+   * <p>Repeated elements share the same storage, so writing a value to the returned view changes
+   * all the elements it has been broadcast to.
+   *
+   * @param shape the shape to broadcast this array to
+   * @return a new array viewing the data with the new shape, or this array if shapes are the same
+   * @throws IllegalArgumentException if this array cannot be broadcast to the given shape
+   * @throws UnsupportedOperationException if this array does not support this operation
+   * @see Shape#broadcastWith(Shape)
+   */
+  NdArray<T> broadcastTo(Shape shape);
+
+  /**
+   * Returns a view of this array where a dimension is split into overlapping windows of a fixed
+   * size, without copying the data.
+   *
+   * <p>The given dimension is replaced by two new dimensions: the first one iterates over the
+   * windows, and the second one over the elements of a window. For example, a signal of shape
+   * {@code [T]} split in windows of {@code W} elements every {@code S} elements results in an
+   * array of shape {@code [(T - W) / S + 1, W]}, where trailing elements that do not fill a
+   * complete window are left out:
+   * <pre>{@code
+   *    FloatNdArray signal = NdArrays.vectorOf(0.0f, 1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+   *    FloatNdArray frames = signal.slidingWindows(0, 4, 2);  // shape [2, 4]
+   *    frames.get(1);  // [2.0f, 3.0f, 4.0f, 5.0f]
+   *    frames.elements(0).forEach(frame -> ...);  // iterates over each window
+   * }</pre>
+   *
+   * <p>Overlapping windows share the same storage, so writing a value to the returned view changes
+   * all the windows that contain it.
+   *
+   * @param axis index of the dimension to split
+   * @param windowSize number of elements in a window
+   * @param step distance between the first elements of two consecutive windows
+   * @return a new array viewing the data as windows
+   * @throws IllegalArgumentException if axis is out of bounds, or if window size or step are not
+   *                                  valid for this dimension
+   * @throws UnsupportedOperationException if this array does not support this operation, or if the
+   *                                       elements of the dimension are not evenly spaced in memory
+   *                                       (e.g. after being gathered by a sequence index)
+   */
+  NdArray<T> slidingWindows(int axis, long windowSize, long step);
+
   /**
    * Creates a multi-dimensional view (or slice) of this array by mapping one or more dimensions
    * to the given index selectors.
@@ -166,6 +247,29 @@ public interface NdArray<T> extends Shaped {
    */
   NdArray<T> slice(Index... indices);
 
+  /**
+   * Compiles a slicing pattern against this array, to create slices that only differ by the
+   * coordinates of their point indices without mapping the indices again each time.
+   *
+   * <p>Example of usage:
+   * <pre>{@code
+   *    FloatNdArray matrix3d = NdArrays.ofFloats(shape(3, 2, 4));  // with [x, y, z] axes
+   *
+   *    // Slices of all elements on the y axis for a given value of x and z (i.e. [x, :, z])
+   *    SlicePlan<FloatNdArray> plan = matrix3d.slicePlan(at(0), all(), at(0));
+   *    FloatNdArray slice = plan.slice(2, 3);  // same as matrix3d.slice(at(2), all(), at(3))
+   *    assertEquals(shape(2), slice.shape());
+   * }</pre>
+   *
+   * @param indices index selectors per dimensions, starting from dimension 0 of this array, where
+   *                the coordinates of the point indices are ignored
+   * @return a plan creating slices for this pattern
+   * @throws IndexOutOfBoundsException if the pattern does not fit the dimensions of this array
+   * @throws UnsupportedOperationException if this array does not support this operation
+   * @see SlicePlan
+   */
+  SlicePlan<? extends NdArray<T>> slicePlan(Index... indices);
+
   /**
    * Returns the N-dimensional element of this array at the given coordinates.
    *
@@ -258,6 +362,21 @@ public interface NdArray<T> extends Shaped {
    */
   NdArray<T> setObject(T value, long... coordinates);
 
+  /**
+   * Returns a cursor for accessing the scalars of this array without allocating views or arrays of
+   * coordinates.
+   *
+   * <p>The cursor initially points to the first scalar of the array.
+   *
+   * @return a new cursor
+   * @throws IllegalStateException if this array is empty
+   * @throws UnsupportedOperationException if this array does not support cursors
+   * @see NdCursor
+   */
+  default NdCursor<T> cursor() {
+    throw new UnsupportedOperationException("Cursors are not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Retrieve all scalar values of this array as a stream of objects.
    *
@@ -17,7 +17,10 @@
 
 package org.tensorflow.ndarray;
 
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.tensorflow.ndarray.buffer.DataBufferWindow;
 
 /**
@@ -64,4 +67,43 @@ public interface NdArraySequence<T extends NdArray<?>> extends Iterable<T> {
    * @see DataBufferWindow
    */
   NdArraySequence<T> asSlices();
+
+  /**
+   * Returns a spliterator over the elements of this sequence.
+   *
+   * <p>The spliterator knows the exact number of elements to visit and splits them by ranges of
+   * equal size, which makes this sequence suitable for parallel processing. Elements recycled by
+   * the sequence, as described in {@link #asSlices()}, are never shared between two ranges.
+   *
+   * @return a sized and splittable spliterator
+   */
+  @Override
+  Spliterator<T> spliterator();
+
+  /**
+   * Returns a sequential stream over the elements of this sequence.
+   *
+   * @return a stream of elements
+   */
+  default Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel stream over the elements of this sequence.
+   *
+   * <p>For example, to normalize in parallel each image of a batch:
+   * <pre>{@code
+   *     FloatNdArray batch = NdArrays.ofFloats(Shape.of(64, 224, 224, 3));
+   *     batch.elements(0).parallelStream().forEach(image -> normalize(image));
+   * }</pre>
+   *
+   * <p>Like in a sequential iteration, the same element instance might be recycled to view
+   * different elements visited by the same thread.
+   *
+   * @return a parallel stream of elements
+   */
+  default Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
 }
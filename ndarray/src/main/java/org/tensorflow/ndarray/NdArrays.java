@@ -17,6 +17,7 @@ limitations under the License.
 package org.tensorflow.ndarray;
 
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.BufferPool;
 import org.tensorflow.ndarray.buffer.ByteDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffers;
@@ -24,6 +25,7 @@ import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.buffer.IntDataBuffer;
 import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.Pooled;
 import org.tensorflow.ndarray.buffer.ShortDataBuffer;
 import org.tensorflow.ndarray.impl.dense.BooleanDenseNdArray;
 import org.tensorflow.ndarray.impl.dense.ByteDenseNdArray;
@@ -90,6 +92,21 @@ public final class NdArrays {
     return wrap(shape, DataBuffers.ofBytes(shape.size()));
   }
 
+  /**
+   * Creates an N-dimensional array of bytes of the given shape, borrowing its storage from a pool.
+   *
+   * <p>All values are initialized to zeros. Closing the returned object releases the storage of
+   * the array to the pool.
+   *
+   * @param shape shape of the array
+   * @param pool pool to borrow storage from
+   * @return new pooled byte N-dimensional array
+   * @throws IllegalArgumentException if shape is null or has unknown dimensions
+   */
+  public static Pooled<ByteNdArray> ofBytes(Shape shape, BufferPool pool) {
+    return pool.allocateBytes(shape.size()).map(buffer -> wrap(shape, buffer));
+  }
+
   /**
    * Wraps a buffer in a byte N-dimensional array of a given shape.
    *
@@ -103,6 +120,24 @@ public final class NdArrays {
     return ByteDenseNdArray.create(buffer, shape);
   }
 
+  /**
+   * Wraps a buffer in a byte N-dimensional array of a given shape, whose elements are stored in
+   * the given order.
+   *
+   * <p>This allows to share without copying data produced in column-major order, like by BLAS or
+   * LAPACK routines, where {@code buffer} holds the elements of each column one after the other.
+   *
+   * @param shape shape of the array
+   * @param buffer buffer to wrap
+   * @param order storage order of the elements in the buffer
+   * @return new byte N-dimensional array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has size bigger in
+   *     the buffer size
+   */
+  public static ByteNdArray wrap(Shape shape, ByteDataBuffer buffer, StorageOrder order) {
+    return ByteDenseNdArray.create(buffer, shape, order);
+  }
+
   /**
    * Creates a Sparse array of byte values with a default value of zero
    *
@@ -183,6 +218,21 @@ public final class NdArrays {
     return wrap(shape, DataBuffers.ofLongs(shape.size()));
   }
 
+  /**
+   * Creates an N-dimensional array of longs of the given shape, borrowing its storage from a pool.
+   *
+   * <p>All values are initialized to zeros. Closing the returned object releases the storage of
+   * the array to the pool.
+   *
+   * @param shape shape of the array
+   * @param pool pool to borrow storage from
+   * @return new pooled long N-dimensional array
+   * @throws IllegalArgumentException if shape is null or has unknown dimensions
+   */
+  public static Pooled<LongNdArray> ofLongs(Shape shape, BufferPool pool) {
+    return pool.allocateLongs(shape.size()).map(buffer -> wrap(shape, buffer));
+  }
+
   /**
    * Wraps a buffer in a long N-dimensional array of a given shape.
    *
@@ -196,6 +246,24 @@ public final class NdArrays {
     return LongDenseNdArray.create(buffer, shape);
   }
 
+  /**
+   * Wraps a buffer in a long N-dimensional array of a given shape, whose elements are stored in
+   * the given order.
+   *
+   * <p>This allows to share without copying data produced in column-major order, like by BLAS or
+   * LAPACK routines, where {@code buffer} holds the elements of each column one after the other.
+   *
+   * @param shape shape of the array
+   * @param buffer buffer to wrap
+   * @param order storage order of the elements in the buffer
+   * @return new long N-dimensional array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has size bigger in
+   *     the buffer size
+   */
+  public static LongNdArray wrap(Shape shape, LongDataBuffer buffer, StorageOrder order) {
+    return LongDenseNdArray.create(buffer, shape, order);
+  }
+
   /**
    * Creates a Sparse array of long values with a default value of zero
    *
@@ -276,6 +344,21 @@ public final class NdArrays {
     return wrap(shape, DataBuffers.ofInts(shape.size()));
   }
 
+  /**
+   * Creates an N-dimensional array of ints of the given shape, borrowing its storage from a pool.
+   *
+   * <p>All values are initialized to zeros. Closing the returned object releases the storage of
+   * the array to the pool.
+   *
+   * @param shape shape of the array
+   * @param pool pool to borrow storage from
+   * @return new pooled int N-dimensional array
+   * @throws IllegalArgumentException if shape is null or has unknown dimensions
+   */
+  public static Pooled<IntNdArray> ofInts(Shape shape, BufferPool pool) {
+    return pool.allocateInts(shape.size()).map(buffer -> wrap(shape, buffer));
+  }
+
   /**
    * Wraps a buffer in an int N-dimensional array of a given shape.
    *
@@ -289,6 +372,24 @@ public final class NdArrays {
     return IntDenseNdArray.create(buffer, shape);
   }
 
+  /**
+   * Wraps a buffer in an int N-dimensional array of a given shape, whose elements are stored in
+   * the given order.
+   *
+   * <p>This allows to share without copying data produced in column-major order, like by BLAS or
+   * LAPACK routines, where {@code buffer} holds the elements of each column one after the other.
+   *
+   * @param shape shape of the array
+   * @param buffer buffer to wrap
+   * @param order storage order of the elements in the buffer
+   * @return new int N-dimensional array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has size bigger in
+   *     the buffer size
+   */
+  public static IntNdArray wrap(Shape shape, IntDataBuffer buffer, StorageOrder order) {
+    return IntDenseNdArray.create(buffer, shape, order);
+  }
+
   /**
    * Creates a Sparse array of int values with a default value of zero.
    *
@@ -369,6 +470,21 @@ public final class NdArrays {
     return wrap(shape, DataBuffers.ofShorts(shape.size()));
   }
 
+  /**
+   * Creates an N-dimensional array of shorts of the given shape, borrowing its storage from a pool.
+   *
+   * <p>All values are initialized to zeros. Closing the returned object releases the storage of
+   * the array to the pool.
+   *
+   * @param shape shape of the array
+   * @param pool pool to borrow storage from
+   * @return new pooled short N-dimensional array
+   * @throws IllegalArgumentException if shape is null or has unknown dimensions
+   */
+  public static Pooled<ShortNdArray> ofShorts(Shape shape, BufferPool pool) {
+    return pool.allocateShorts(shape.size()).map(buffer -> wrap(shape, buffer));
+  }
+
   /**
    * Wraps a buffer in a short N-dimensional array of a given shape.
    *
@@ -382,6 +498,24 @@ public final class NdArrays {
     return ShortDenseNdArray.create(buffer, shape);
   }
 
+  /**
+   * Wraps a buffer in a short N-dimensional array of a given shape, whose elements are stored in
+   * the given order.
+   *
+   * <p>This allows to share without copying data produced in column-major order, like by BLAS or
+   * LAPACK routines, where {@code buffer} holds the elements of each column one after the other.
+   *
+   * @param shape shape of the array
+   * @param buffer buffer to wrap
+   * @param order storage order of the elements in the buffer
+   * @return new short N-dimensional array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has size bigger in
+   *     the buffer size
+   */
+  public static ShortNdArray wrap(Shape shape, ShortDataBuffer buffer, StorageOrder order) {
+    return ShortDenseNdArray.create(buffer, shape, order);
+  }
+
   /**
    * Creates a Sparse array of short values with a default value of zero
    *
@@ -462,6 +596,21 @@ public final class NdArrays {
     return wrap(shape, DataBuffers.ofFloats(shape.size()));
   }
 
+  /**
+   * Creates an N-dimensional array of floats of the given shape, borrowing its storage from a pool.
+   *
+   * <p>All values are initialized to zeros. Closing the returned object releases the storage of
+   * the array to the pool.
+   *
+   * @param shape shape of the array
+   * @param pool pool to borrow storage from
+   * @return new pooled float N-dimensional array
+   * @throws IllegalArgumentException if shape is null or has unknown dimensions
+   */
+  public static Pooled<FloatNdArray> ofFloats(Shape shape, BufferPool pool) {
+    return pool.allocateFloats(shape.size()).map(buffer -> wrap(shape, buffer));
+  }
+
   /**
    * Wraps a buffer in a float N-dimensional array of a given shape.
    *
@@ -475,6 +624,24 @@ public final class NdArrays {
     return FloatDenseNdArray.create(buffer, shape);
   }
 
+  /**
+   * Wraps a buffer in a float N-dimensional array of a given shape, whose elements are stored in
+   * the given order.
+   *
+   * <p>This allows to share without copying data produced in column-major order, like by BLAS or
+   * LAPACK routines, where {@code buffer} holds the elements of each column one after the other.
+   *
+   * @param shape shape of the array
+   * @param buffer buffer to wrap
+   * @param order storage order of the elements in the buffer
+   * @return new float N-dimensional array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has size bigger in
+   *     the buffer size
+   */
+  public static FloatNdArray wrap(Shape shape, FloatDataBuffer buffer, StorageOrder order) {
+    return FloatDenseNdArray.create(buffer, shape, order);
+  }
+
   /**
    * Creates a Sparse array of float values with a default value of zero
    *
@@ -555,6 +722,21 @@ public final class NdArrays {
     return wrap(shape, DataBuffers.ofDoubles(shape.size()));
   }
 
+  /**
+   * Creates an N-dimensional array of doubles of the given shape, borrowing its storage from a pool.
+   *
+   * <p>All values are initialized to zeros. Closing the returned object releases the storage of
+   * the array to the pool.
+   *
+   * @param shape shape of the array
+   * @param pool pool to borrow storage from
+   * @return new pooled double N-dimensional array
+   * @throws IllegalArgumentException if shape is null or has unknown dimensions
+   */
+  public static Pooled<DoubleNdArray> ofDoubles(Shape shape, BufferPool pool) {
+    return pool.allocateDoubles(shape.size()).map(buffer -> wrap(shape, buffer));
+  }
+
   /**
    * Wraps a buffer in a double N-dimensional array of a given shape.
    *
@@ -568,6 +750,24 @@ public final class NdArrays {
     return DoubleDenseNdArray.create(buffer, shape);
   }
 
+  /**
+   * Wraps a buffer in a double N-dimensional array of a given shape, whose elements are stored in
+   * the given order.
+   *
+   * <p>This allows to share without copying data produced in column-major order, like by BLAS or
+   * LAPACK routines, where {@code buffer} holds the elements of each column one after the other.
+   *
+   * @param shape shape of the array
+   * @param buffer buffer to wrap
+   * @param order storage order of the elements in the buffer
+   * @return new double N-dimensional array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has size bigger in
+   *     the buffer size
+   */
+  public static DoubleNdArray wrap(Shape shape, DoubleDataBuffer buffer, StorageOrder order) {
+    return DoubleDenseNdArray.create(buffer, shape, order);
+  }
+
   /**
    * Creates a Sparse array of double values with a default value of zero
    *
@@ -650,6 +850,21 @@ public final class NdArrays {
     return wrap(shape, DataBuffers.ofBooleans(shape.size()));
   }
 
+  /**
+   * Creates an N-dimensional array of booleans of the given shape, borrowing its storage from a pool.
+   *
+   * <p>All values are initialized to zeros. Closing the returned object releases the storage of
+   * the array to the pool.
+   *
+   * @param shape shape of the array
+   * @param pool pool to borrow storage from
+   * @return new pooled boolean N-dimensional array
+   * @throws IllegalArgumentException if shape is null or has unknown dimensions
+   */
+  public static Pooled<BooleanNdArray> ofBooleans(Shape shape, BufferPool pool) {
+    return pool.allocateBooleans(shape.size()).map(buffer -> wrap(shape, buffer));
+  }
+
   /**
    * Wraps a buffer in a boolean N-dimensional array of a given shape.
    *
@@ -663,6 +878,24 @@ public final class NdArrays {
     return BooleanDenseNdArray.create(buffer, shape);
   }
 
+  /**
+   * Wraps a buffer in a boolean N-dimensional array of a given shape, whose elements are stored in
+   * the given order.
+   *
+   * <p>This allows to share without copying data produced in column-major order, like by BLAS or
+   * LAPACK routines, where {@code buffer} holds the elements of each column one after the other.
+   *
+   * @param shape shape of the array
+   * @param buffer buffer to wrap
+   * @param order storage order of the elements in the buffer
+   * @return new boolean N-dimensional array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has size bigger in
+   *     the buffer size
+   */
+  public static BooleanNdArray wrap(Shape shape, BooleanDataBuffer buffer, StorageOrder order) {
+    return BooleanDenseNdArray.create(buffer, shape, order);
+  }
+
   /**
    * Creates a Sparse array of boolean values with a default value of 'false'
    *
@@ -770,6 +1003,22 @@ public final class NdArrays {
     return DenseNdArray.wrap(buffer, shape);
   }
 
+  /**
+   * Wraps a buffer in an N-dimensional array of a given shape, whose elements are stored in the
+   * given order.
+   *
+   * @param shape shape of the array
+   * @param buffer buffer to wrap
+   * @param order storage order of the elements in the buffer
+   * @param <T> the data type
+   * @return new N-dimensional array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has size bigger in
+   *     the buffer size
+   */
+  public static <T> NdArray<T> wrap(Shape shape, DataBuffer<T> buffer, StorageOrder order) {
+    return DenseNdArray.wrap(buffer, shape, order);
+  }
+
   /**
    * Creates a Sparse array of values with a null default value
    *
@@ -0,0 +1,145 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * A movable pointer to a scalar of an N-dimensional array, for accessing its values in tight
+ * loops.
+ *
+ * <p>A cursor keeps track of the coordinates of the current scalar and of its position in the
+ * buffer backing the array. Moving along a dimension only updates the part of the position that
+ * depends on that dimension, so no view or array of coordinates is allocated while iterating. For
+ * example, to compute the sum of all values of a matrix:
+ *
+ * <pre>{@code
+ * FloatNdArray matrix = NdArrays.ofFloats(Shape.of(100, 200));
+ * FloatNdCursor cursor = matrix.cursor();
+ * float sum = 0.0f;
+ * do {
+ *   sum += cursor.getFloat();
+ * } while (cursor.next());
+ * }</pre>
+ *
+ * <p>{@code NdCursor} instances are stateful and not thread-safe.
+ *
+ * @param <T> the type of values pointed by this cursor
+ */
+public interface NdCursor<T> {
+
+  /**
+   * Returns the rank of the array iterated by this cursor
+   */
+  int rank();
+
+  /**
+   * Returns the coordinate of the current scalar in a given dimension.
+   *
+   * @param dimensionIdx index of the dimension
+   * @return coordinate in that dimension
+   */
+  long coordinate(int dimensionIdx);
+
+  /**
+   * Returns the position of the current scalar in the buffer backing the array.
+   */
+  long position();
+
+  /**
+   * Moves this cursor to the given coordinate of a vector.
+   *
+   * @param i coordinate in the first dimension
+   * @return this cursor
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if the array is not of rank 1
+   */
+  NdCursor<T> moveTo(long i);
+
+  /**
+   * Moves this cursor to the given coordinates of a matrix.
+   *
+   * @see #moveTo(long)
+   */
+  NdCursor<T> moveTo(long i, long j);
+
+  /**
+   * Moves this cursor to the given coordinates of an array of rank 3.
+   *
+   * @see #moveTo(long)
+   */
+  NdCursor<T> moveTo(long i, long j, long k);
+
+  /**
+   * Moves this cursor to the given coordinates of an array of rank 4.
+   *
+   * @see #moveTo(long)
+   */
+  NdCursor<T> moveTo(long i, long j, long k, long l);
+
+  /**
+   * Moves this cursor to the given coordinates.
+   *
+   * @param coordinates coordinates of the scalar, one per dimension of the array
+   * @return this cursor
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   *                                   respective dimension
+   * @throws IllegalRankException if the number of coordinates does not match the rank of the array
+   */
+  NdCursor<T> moveTo(long... coordinates);
+
+  /**
+   * Moves this cursor to the next scalar, in row-major order.
+   *
+   * <p>When the cursor is already on the last scalar of the array, it moves back to the first one
+   * and returns false.
+   *
+   * @return true if the cursor moved forward, false if it went back to the first scalar
+   */
+  boolean next();
+
+  /**
+   * Moves this cursor to the next scalar in a given dimension, leaving the coordinates in the other
+   * dimensions unchanged.
+   *
+   * <p>When the cursor is already on the last scalar of that dimension, it does not move and
+   * returns false.
+   *
+   * @param dimensionIdx index of the dimension
+   * @return true if the cursor moved, false otherwise
+   */
+  boolean next(int dimensionIdx);
+
+  /**
+   * Returns the value of the current scalar.
+   *
+   * <p>If this cursor iterates values of a primitive type, prefer the usage of the specialized
+   * method in the subclass for that type. For example, {@code floatCursor.getFloat(); }
+   *
+   * @return value of the scalar
+   */
+  T getObject();
+
+  /**
+   * Assigns the value of the current scalar.
+   *
+   * <p>If this cursor iterates values of a primitive type, prefer the usage of the specialized
+   * method in the subclass for that type. For example, {@code floatCursor.setFloat(10.0f); }
+   *
+   * @param value value to assign
+   * @return this cursor
+   */
+  NdCursor<T> setObject(T value);
+}
@@ -482,6 +482,73 @@ public final class Shape {
     return true;
   }
 
+  /**
+   * Returns the shape resulting from broadcasting this shape with another one, following the
+   * broadcasting rules of NumPy.
+   *
+   * <p>Shapes are aligned on their last dimension, the shape with less dimensions being prepended
+   * with dimensions of size 1. Each pair of dimensions must then either be equal or one of them
+   * must be 1, in which case the size of the other dimension is retained. For example:
+   *
+   * <pre>{@code
+   * Shape.of(32, 224, 224, 3).broadcastWith(Shape.of(3));  // [32, 224, 224, 3]
+   * Shape.of(8, 1, 6).broadcastWith(Shape.of(7, 1));  // [8, 7, 6]
+   * Shape.of(2, 3).broadcastWith(Shape.of(4));  // not broadcastable
+   * }</pre>
+   *
+   * <p>An unknown dimension paired with a dimension other than 1 takes the size of that dimension.
+   * If any of the shapes is unknown, the result is unknown.
+   *
+   * @param other the other shape
+   * @return the broadcast shape
+   * @throws IllegalArgumentException if the shapes cannot be broadcast together
+   */
+  public Shape broadcastWith(Shape other) {
+    if (isUnknown() || other.isUnknown()) {
+      return Shape.unknown();
+    }
+    int rank = Math.max(numDimensions(), other.numDimensions());
+    long[] newDimensions = new long[rank];
+    for (int i = 0; i < rank; ++i) {
+      int thisIdx = i - (rank - numDimensions());
+      int otherIdx = i - (rank - other.numDimensions());
+      long dim = thisIdx >= 0 ? get(thisIdx) : 1;
+      long otherDim = otherIdx >= 0 ? other.get(otherIdx) : 1;
+      if (dim == otherDim || otherDim == 1) {
+        newDimensions[i] = dim;
+      } else if (dim == 1) {
+        newDimensions[i] = otherDim;
+      } else if (dim == UNKNOWN_SIZE) {
+        newDimensions[i] = otherDim;
+      } else if (otherDim == UNKNOWN_SIZE) {
+        newDimensions[i] = dim;
+      } else {
+        throw new IllegalArgumentException("Shapes " + this + " and " + other + " cannot be broadcast together");
+      }
+    }
+    return Shape.of(newDimensions);
+  }
+
+  /**
+   * Returns true if an array of this shape can be broadcast to the given shape, i.e. if {@link
+   * #broadcastWith(Shape) broadcasting} this shape with the other results in the other shape.
+   *
+   * @param shape the target shape, must be fully defined
+   * @return true if this shape can be broadcast to the target shape
+   */
+  public boolean isBroadcastableTo(Shape shape) {
+    if (isUnknown() || shape.isUnknown() || shape.hasUnknownDimension() || numDimensions() > shape.numDimensions()) {
+      return false;
+    }
+    for (int i = 1; i <= numDimensions(); ++i) {
+      long dim = get(numDimensions() - i);
+      if (dim != 1 && dim != shape.get(shape.numDimensions() - i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Test to see if two shape dimensions are compatible.
    *
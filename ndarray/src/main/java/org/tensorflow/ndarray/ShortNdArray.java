@@ -68,12 +68,165 @@ public interface ShortNdArray extends NdArray<Short> {
    */
   ShortNdArray setShort(short value, long... coordinates);
 
+  /**
+   * Returns the short value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #getShort(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default short getShort(long i) {
+    return getShort(new long[] {i});
+  }
+
+  /**
+   * Assigns the short value of the scalar found at the given coordinate of this vector.
+   *
+   * <p>This is equivalent to {@link #setShort(short, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinate is outside the limits of the dimension
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default ShortNdArray setShort(short value, long i) {
+    return setShort(value, new long[] {i});
+  }
+
+  /**
+   * Returns the short value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #getShort(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default short getShort(long i, long j) {
+    return getShort(new long[] {i, j});
+  }
+
+  /**
+   * Assigns the short value of the scalar found at the given coordinates of this matrix.
+   *
+   * <p>This is equivalent to {@link #setShort(short, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 2
+   */
+  default ShortNdArray setShort(short value, long i, long j) {
+    return setShort(value, new long[] {i, j});
+  }
+
+  /**
+   * Returns the short value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #getShort(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default short getShort(long i, long j, long k) {
+    return getShort(new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the short value of the scalar found at the given coordinates of this array of rank 3.
+   *
+   * <p>This is equivalent to {@link #setShort(short, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 3
+   */
+  default ShortNdArray setShort(short value, long i, long j, long k) {
+    return setShort(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the short value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #getShort(long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default short getShort(long i, long j, long k, long l) {
+    return getShort(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the short value of the scalar found at the given coordinates of this array of rank 4.
+   *
+   * <p>This is equivalent to {@link #setShort(short, long...)}, but dense arrays resolve the scalar
+   * without allocating an array of coordinates.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the first dimension
+   * @param j coordinate of the scalar in the second dimension
+   * @param k coordinate of the scalar in the third dimension
+   * @param l coordinate of the scalar in the fourth dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if the coordinates are outside the limits of their respective dimension
+   * @throws IllegalRankException if this array is not of rank 4
+   */
+  default ShortNdArray setShort(short value, long i, long j, long k, long l) {
+    return setShort(value, new long[] {i, j, k, l});
+  }
+
+  @Override
+  default ShortNdCursor cursor() {
+    throw new UnsupportedOperationException("Cursors are not supported by " + getClass().getSimpleName());
+  }
+
   @Override
   ShortNdArray withShape(Shape shape);
 
+  @Override
+  ShortNdArray transpose(int... axes);
+
+  @Override
+  ShortNdArray broadcastTo(Shape shape);
+
+  @Override
+  ShortNdArray slidingWindows(int axis, long windowSize, long step);
+
   @Override
   ShortNdArray slice(Index... coordinates);
 
+  @Override
+  SlicePlan<ShortNdArray> slicePlan(Index... indices);
+
   @Override
   ShortNdArray get(long... coordinates);
 
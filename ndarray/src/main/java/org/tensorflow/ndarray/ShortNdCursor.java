@@ -0,0 +1,61 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * An {@link NdCursor} over shorts.
+ */
+public interface ShortNdCursor extends NdCursor<Short> {
+
+  /**
+   * Returns the short value of the current scalar.
+   */
+  short getShort();
+
+  /**
+   * Assigns the short value of the current scalar.
+   *
+   * @param value value to assign
+   * @return this cursor
+   */
+  ShortNdCursor setShort(short value);
+
+  @Override
+  ShortNdCursor moveTo(long i);
+
+  @Override
+  ShortNdCursor moveTo(long i, long j);
+
+  @Override
+  ShortNdCursor moveTo(long i, long j, long k);
+
+  @Override
+  ShortNdCursor moveTo(long i, long j, long k, long l);
+
+  @Override
+  ShortNdCursor moveTo(long... coordinates);
+
+  @Override
+  default Short getObject() {
+    return getShort();
+  }
+
+  @Override
+  default ShortNdCursor setObject(Short value) {
+    return setShort(value);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * A slicing pattern compiled against an N-dimensional array, to create slices that only differ by
+ * the coordinates of their point indices.
+ *
+ * <p>Each call to {@link NdArray#slice(org.tensorflow.ndarray.index.Index...)} maps its indices to
+ * the dimensions of the array again. When slicing repeatedly with the same pattern, like in a
+ * batching loop, a plan does this mapping only once and then resolves new coordinates to a slice
+ * with a few arithmetic operations. For example:
+ *
+ * <pre>{@code
+ *    FloatNdArray batches = NdArrays.ofFloats(Shape.of(32, 224 * 224, 3));
+ *
+ *    // Slices the first channel of any image in the batch, i.e. [x, :, 0]
+ *    SlicePlan<FloatNdArray> plan = batches.slicePlan(Indices.at(0), Indices.all(), Indices.at(0));
+ *    for (long x = 0; x < 32; ++x) {
+ *      FloatNdArray channel = plan.slideTo(x, 0);  // same instance at each iteration
+ *      ...
+ *    }
+ * }</pre>
+ *
+ * <p>The coordinates of the {@link org.tensorflow.ndarray.index.Indices#at(long) point indices}
+ * used to compile the plan are ignored, as they are provided for each new slice, in the same order
+ * as their indices appear in the pattern.
+ *
+ * <p>{@code SlicePlan} instances are stateful and not thread-safe.
+ *
+ * @param <U> the type of the slices
+ */
+public interface SlicePlan<U extends NdArray<?>> {
+
+  /**
+   * Returns the shape of the slices created by this plan
+   */
+  Shape shape();
+
+  /**
+   * Returns the number of coordinates required to locate a slice, one for each point index in the
+   * pattern.
+   */
+  int numCoordinates();
+
+  /**
+   * Returns the position of the first element of a slice in the buffer backing the sliced array.
+   *
+   * @param coordinates coordinates of each point index in the pattern, negative values being
+   *                    counted from the end of their dimension
+   * @return position of the first element of the slice
+   * @throws IllegalArgumentException if the number of coordinates does not match the pattern
+   * @throws IndexOutOfBoundsException if a coordinate is out of bounds
+   */
+  long positionOf(long... coordinates);
+
+  /**
+   * Returns a new slice at the given coordinates.
+   *
+   * @param coordinates coordinates of each point index in the pattern, negative values being
+   *                    counted from the end of their dimension
+   * @return a new view of the slice
+   * @throws IllegalArgumentException if the number of coordinates does not match the pattern
+   * @throws IndexOutOfBoundsException if a coordinate is out of bounds
+   */
+  U slice(long... coordinates);
+
+  /**
+   * Moves the view of this plan to the slice at the given coordinates.
+   *
+   * <p>Like a {@link org.tensorflow.ndarray.buffer.DataBufferWindow}, the same view instance is
+   * returned by each call, its content being updated to reflect the new slice. Arrays that are not
+   * backed by a buffer supporting windows return a new slice instead.
+   *
+   * @param coordinates coordinates of each point index in the pattern, negative values being
+   *                    counted from the end of their dimension
+   * @return the view of this plan, now on the slice at the given coordinates
+   * @throws IllegalArgumentException if the number of coordinates does not match the pattern
+   * @throws IndexOutOfBoundsException if a coordinate is out of bounds
+   */
+  U slideTo(long... coordinates);
+}
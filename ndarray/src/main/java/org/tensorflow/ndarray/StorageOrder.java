@@ -0,0 +1,36 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray;
+
+/**
+ * Order in which the elements of an N-dimensional array are stored in its buffer.
+ *
+ * <p>For example, the matrix {@code [[1, 2, 3], [4, 5, 6]]} is stored as {@code [1, 2, 3, 4, 5, 6]}
+ * in row-major order and as {@code [1, 4, 2, 5, 3, 6]} in column-major order.
+ */
+public enum StorageOrder {
+
+  /**
+   * The last dimension varies the fastest, as in C, Java or NumPy arrays (default)
+   */
+  ROW_MAJOR,
+
+  /**
+   * The first dimension varies the fastest, as in Fortran, BLAS/LAPACK, R or MATLAB arrays
+   */
+  COLUMN_MAJOR
+}
@@ -0,0 +1,178 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+import org.tensorflow.ndarray.impl.buffer.pool.ArrayBufferPool;
+
+/**
+ * A pool of recyclable data buffers.
+ *
+ * <p>Allocating buffers from a pool instead of using {@link DataBuffers} avoids creating garbage
+ * when buffers of similar sizes are repeatedly allocated and discarded, like the input tensors of
+ * a request-serving path. Buffers are borrowed from the pool as {@link Pooled} objects and
+ * returned to it on {@link Pooled#close()}.
+ *
+ * <p>Storage is bucketed by size classes, each being a power of two. Released storage is first
+ * cached by the releasing thread, up to 1MB per thread, then shared with other threads through a
+ * lock-free free list. The pool shares up to a given number of bytes, after which released storage
+ * is evicted and left to the garbage collector. Storage cached by a thread is not part of that
+ * budget and is collected with the thread.
+ *
+ * <p>Like all buffers created by {@link DataBuffers}, pooled buffers are initialized to zeros.
+ * Pools are thread-safe. Closing a pool discards all the storage it shares, after which it can no
+ * longer be used.
+ */
+public interface BufferPool extends AutoCloseable {
+
+  /**
+   * Creates a new pool retaining up to 256MB of storage.
+   *
+   * @return a new pool
+   */
+  static BufferPool create() {
+    return create(DEFAULT_MAX_RETAINED_BYTES);
+  }
+
+  /**
+   * Creates a new pool.
+   *
+   * @param maxRetainedBytes maximum number of bytes shared by the pool
+   * @return a new pool
+   */
+  static BufferPool create(long maxRetainedBytes) {
+    return new ArrayBufferPool(maxRetainedBytes);
+  }
+
+  /**
+   * Borrows a buffer of bytes from this pool.
+   *
+   * @param size size of the buffer
+   * @return a pooled buffer
+   * @throws IllegalStateException if this pool is closed
+   */
+  Pooled<ByteDataBuffer> allocateBytes(long size);
+
+  /**
+   * Borrows a buffer of longs from this pool.
+   *
+   * @param size size of the buffer
+   * @return a pooled buffer
+   * @throws IllegalStateException if this pool is closed
+   */
+  Pooled<LongDataBuffer> allocateLongs(long size);
+
+  /**
+   * Borrows a buffer of ints from this pool.
+   *
+   * @param size size of the buffer
+   * @return a pooled buffer
+   * @throws IllegalStateException if this pool is closed
+   */
+  Pooled<IntDataBuffer> allocateInts(long size);
+
+  /**
+   * Borrows a buffer of shorts from this pool.
+   *
+   * @param size size of the buffer
+   * @return a pooled buffer
+   * @throws IllegalStateException if this pool is closed
+   */
+  Pooled<ShortDataBuffer> allocateShorts(long size);
+
+  /**
+   * Borrows a buffer of doubles from this pool.
+   *
+   * @param size size of the buffer
+   * @return a pooled buffer
+   * @throws IllegalStateException if this pool is closed
+   */
+  Pooled<DoubleDataBuffer> allocateDoubles(long size);
+
+  /**
+   * Borrows a buffer of floats from this pool.
+   *
+   * @param size size of the buffer
+   * @return a pooled buffer
+   * @throws IllegalStateException if this pool is closed
+   */
+  Pooled<FloatDataBuffer> allocateFloats(long size);
+
+  /**
+   * Borrows a buffer of booleans from this pool.
+   *
+   * @param size size of the buffer
+   * @return a pooled buffer
+   * @throws IllegalStateException if this pool is closed
+   */
+  Pooled<BooleanDataBuffer> allocateBooleans(long size);
+
+  /**
+   * Returns the metrics of this pool.
+   */
+  Metrics metrics();
+
+  /**
+   * Closes this pool, discarding the storage it shares.
+   *
+   * <p>Borrowing or returning a buffer after the pool has been closed throws an
+   * {@link IllegalStateException}.
+   */
+  @Override
+  void close();
+
+  /**
+   * Metrics of a {@link BufferPool}, updated live.
+   */
+  interface Metrics {
+
+    /**
+     * Returns the number of allocations that have recycled storage from the pool.
+     */
+    long hits();
+
+    /**
+     * Returns the number of allocations that had to allocate new storage.
+     */
+    long misses();
+
+    /**
+     * Returns the ratio of allocations that have recycled storage from the pool, or 0 if nothing
+     * has been allocated yet.
+     */
+    default double hitRate() {
+      long hits = hits();
+      long total = hits + misses();
+      return total > 0 ? (double)hits / total : 0.0;
+    }
+
+    /**
+     * Returns the number of bytes of storage currently shared by the pool, not including the
+     * storage cached by each thread.
+     */
+    long bytesRetained();
+
+    /**
+     * Returns the number of times released storage has been discarded because the pool was full.
+     */
+    long evictions();
+  }
+
+  /**
+   * Default maximum number of bytes retained by a pool.
+   */
+  long DEFAULT_MAX_RETAINED_BYTES = 256L * 1024 * 1024;
+}
@@ -0,0 +1,99 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+/**
+ * Allocates the storage of new data buffers.
+ *
+ * <p>The allocator in use decides how {@link DataBuffers#ofFloats(long)} and its variants for
+ * other types, hence how {@link org.tensorflow.ndarray.NdArrays#ofFloats(org.tensorflow.ndarray.Shape)
+ * NdArrays.ofFloats(...)} and its variants, allocate new buffers. It can be changed globally or
+ * for the current thread only with {@link DataBufferAllocators}, which also provides the
+ * allocators shipped with this library.
+ *
+ * <p>Libraries can also provide their own allocator as a {@link java.util.ServiceLoader service}
+ * implementing this interface, which is then used by default instead of allocating buffers on the
+ * heap.
+ *
+ * <p>Allocators must be thread-safe. Sizes passed to an allocator have already been validated to
+ * be non-negative. All values of an allocated buffer must be initialized to zeros.
+ */
+public interface DataBufferAllocator {
+
+  /**
+   * Allocates a buffer of bytes.
+   *
+   * @param size number of values in the buffer
+   * @return a new buffer
+   * @throws IllegalArgumentException if the allocator does not support buffers of that size
+   */
+  ByteDataBuffer allocateBytes(long size);
+
+  /**
+   * Allocates a buffer of longs.
+   *
+   * @param size number of values in the buffer
+   * @return a new buffer
+   * @throws IllegalArgumentException if the allocator does not support buffers of that size
+   */
+  LongDataBuffer allocateLongs(long size);
+
+  /**
+   * Allocates a buffer of ints.
+   *
+   * @param size number of values in the buffer
+   * @return a new buffer
+   * @throws IllegalArgumentException if the allocator does not support buffers of that size
+   */
+  IntDataBuffer allocateInts(long size);
+
+  /**
+   * Allocates a buffer of shorts.
+   *
+   * @param size number of values in the buffer
+   * @return a new buffer
+   * @throws IllegalArgumentException if the allocator does not support buffers of that size
+   */
+  ShortDataBuffer allocateShorts(long size);
+
+  /**
+   * Allocates a buffer of doubles.
+   *
+   * @param size number of values in the buffer
+   * @return a new buffer
+   * @throws IllegalArgumentException if the allocator does not support buffers of that size
+   */
+  DoubleDataBuffer allocateDoubles(long size);
+
+  /**
+   * Allocates a buffer of floats.
+   *
+   * @param size number of values in the buffer
+   * @return a new buffer
+   * @throws IllegalArgumentException if the allocator does not support buffers of that size
+   */
+  FloatDataBuffer allocateFloats(long size);
+
+  /**
+   * Allocates a buffer of booleans.
+   *
+   * @param size number of values in the buffer
+   * @return a new buffer
+   * @throws IllegalArgumentException if the allocator does not support buffers of that size
+   */
+  BooleanDataBuffer allocateBooleans(long size);
+}
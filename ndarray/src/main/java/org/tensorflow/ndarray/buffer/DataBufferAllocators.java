@@ -0,0 +1,122 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import org.tensorflow.ndarray.impl.buffer.HeapDataBufferAllocator;
+import org.tensorflow.ndarray.impl.buffer.nio.DirectDataBufferAllocator;
+
+/**
+ * Helper class for selecting the {@link DataBufferAllocator} used by {@link DataBuffers}.
+ *
+ * <p>The allocator in use for the current thread is resolved in this order:
+ * <ol>
+ *   <li>the allocator set for the current thread, if any</li>
+ *   <li>the allocator set globally, if any</li>
+ *   <li>the first allocator found with {@link ServiceLoader}, if any</li>
+ *   <li>the {@link #heap() heap allocator}</li>
+ * </ol>
+ */
+public final class DataBufferAllocators {
+
+  /**
+   * Returns an allocator of buffers backed by arrays on the heap.
+   */
+  public static DataBufferAllocator heap() {
+    return HeapDataBufferAllocator.INSTANCE;
+  }
+
+  /**
+   * Returns an allocator of buffers backed by direct NIO buffers, in native byte order.
+   *
+   * <p>Direct buffers are allocated out of the heap and are limited to 2GB.
+   */
+  public static DataBufferAllocator direct() {
+    return DirectDataBufferAllocator.INSTANCE;
+  }
+
+  /**
+   * Returns the allocator in use for the current thread.
+   */
+  public static DataBufferAllocator current() {
+    DataBufferAllocator allocator = THREAD_ALLOCATOR.get();
+    if (allocator != null) {
+      return allocator;
+    }
+    allocator = globalAllocator;
+    if (allocator != null) {
+      return allocator;
+    }
+    return DefaultAllocator.INSTANCE;
+  }
+
+  /**
+   * Sets the allocator to use by all threads that did not set their own.
+   *
+   * @param allocator allocator to use, or null to restore the default allocator
+   */
+  public static void setGlobal(DataBufferAllocator allocator) {
+    globalAllocator = allocator;
+  }
+
+  /**
+   * Sets the allocator to use by the current thread.
+   *
+   * <p>The previous allocator should be restored once done, for example:
+   *
+   * <pre>{@code
+   * DataBufferAllocator previous = DataBufferAllocators.setForCurrentThread(DataBufferAllocators.direct());
+   * try {
+   *   FloatNdArray array = NdArrays.ofFloats(shape);  // allocated in direct memory
+   * } finally {
+   *   DataBufferAllocators.setForCurrentThread(previous);
+   * }
+   * }</pre>
+   *
+   * @param allocator allocator to use, or null to use the global allocator
+   * @return the allocator previously set for the current thread, or null if none
+   */
+  public static DataBufferAllocator setForCurrentThread(DataBufferAllocator allocator) {
+    DataBufferAllocator previous = THREAD_ALLOCATOR.get();
+    if (allocator != null) {
+      THREAD_ALLOCATOR.set(allocator);
+    } else {
+      THREAD_ALLOCATOR.remove();
+    }
+    return previous;
+  }
+
+  private static final ThreadLocal<DataBufferAllocator> THREAD_ALLOCATOR = new ThreadLocal<>();
+  private static volatile DataBufferAllocator globalAllocator;
+
+  /**
+   * Lazily resolves the default allocator, the first time it is needed.
+   */
+  private static final class DefaultAllocator {
+
+    static final DataBufferAllocator INSTANCE = load();
+
+    private static DataBufferAllocator load() {
+      Iterator<DataBufferAllocator> providers = ServiceLoader.load(DataBufferAllocator.class).iterator();
+      return providers.hasNext() ? providers.next() : heap();
+    }
+  }
+
+  private DataBufferAllocators() {
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+import org.tensorflow.ndarray.impl.buffer.raw.RawDataBufferArena;
+
+/**
+ * Allocates native data buffers from large memory slabs that are all released at once when the
+ * arena is closed.
+ *
+ * <p>Allocating from an arena is a simple pointer bump in a slab obtained from the system, which
+ * makes it much cheaper than allocating many direct buffers individually, and releasing the arena
+ * frees all its memory deterministically, without waiting for the garbage collector. The address of
+ * each buffer is aligned on {@link #ALIGNMENT} bytes, so values can be loaded efficiently in vector
+ * registers or passed to native libraries expecting aligned data. For example:
+ *
+ * <pre>{@code
+ * try (DataBufferArena arena = DataBufferArena.create()) {
+ *   FloatNdArray input = NdArrays.wrap(Shape.of(32, 224, 224, 3), arena.allocateFloats(32 * 224 * 224 * 3));
+ *   // ... fill and use the array
+ * }
+ * }</pre>
+ *
+ * <p>Since an arena is also a {@link DataBufferAllocator}, it can be set as the allocator of the
+ * current thread with {@link DataBufferAllocators#setForCurrentThread(DataBufferAllocator)} so that
+ * all buffers and arrays created by this thread, e.g. with {@link DataBuffers#ofFloats(long)}, are
+ * allocated in the arena.
+ *
+ * <p>Buffers allocated by an arena, and their views, throw an {@link IllegalStateException} when
+ * accessed after the arena is closed; closing an arena while another thread still uses them is not
+ * safe. In debug mode, each buffer is followed by a guard zone that is verified when the arena is
+ * closed, to detect out-of-bounds writes made by code accessing the memory directly (e.g. native
+ * code). Arenas that become unreachable without being closed are reported as leaks. Arenas are
+ * thread-safe.
+ */
+public interface DataBufferArena extends DataBufferAllocator, AutoCloseable {
+
+  /**
+   * Alignment, in bytes, of the buffers allocated by an arena.
+   */
+  int ALIGNMENT = 64;
+
+  /**
+   * Default size, in bytes, of the memory slabs reserved by an arena.
+   */
+  long DEFAULT_SLAB_SIZE = 4L * 1024 * 1024;
+
+  /**
+   * Creates a new arena reserving memory slabs of the default size.
+   *
+   * @return new arena
+   * @throws IllegalStateException if native memory cannot be allocated on this JVM
+   */
+  static DataBufferArena create() {
+    return create(DEFAULT_SLAB_SIZE, false);
+  }
+
+  /**
+   * Creates a new arena.
+   *
+   * <p>Buffers that are larger than the slab size are allocated in a slab of their own.
+   *
+   * @param slabSize size, in bytes, of the memory slabs reserved by the arena
+   * @param debug true to verify that no data has been written outside the bounds of a buffer when
+   *              closing the arena
+   * @return new arena
+   * @throws IllegalArgumentException if slab size is not positive
+   * @throws IllegalStateException if native memory cannot be allocated on this JVM
+   */
+  static DataBufferArena create(long slabSize, boolean debug) {
+    return RawDataBufferArena.create(slabSize, debug);
+  }
+
+  /**
+   * Returns the number of bytes allocated by this arena so far, including alignment padding.
+   */
+  long allocatedBytes();
+
+  /**
+   * Returns true if this arena has been closed.
+   */
+  boolean isClosed();
+
+  /**
+   * Releases all memory allocated by this arena.
+   *
+   * <p>Buffers allocated by this arena cannot be accessed anymore once it is closed. Closing an
+   * arena more than once has no effect.
+   *
+   * @throws IllegalStateException in debug mode, if some data has been written outside the bounds
+   *                               of a buffer allocated by this arena
+   */
+  @Override
+  void close();
+}
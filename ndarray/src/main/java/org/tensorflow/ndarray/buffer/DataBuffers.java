@@ -16,6 +16,7 @@
  */
 package org.tensorflow.ndarray.buffer;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.nio.DoubleBuffer;
@@ -23,12 +24,16 @@ import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
 import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
-import java.util.BitSet;
+import java.util.function.Function;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.impl.buffer.misc.MiscDataBufferFactory;
 import org.tensorflow.ndarray.impl.buffer.nio.NioDataBufferFactory;
 import org.tensorflow.ndarray.impl.buffer.raw.RawDataBufferFactory;
+import org.tensorflow.ndarray.impl.buffer.segment.SegmentDataBufferFactory;
 
 /**
  * Helper class for creating {@code DataBuffer} instances.
@@ -42,11 +47,8 @@ public final class DataBuffers {
    * @return a new buffer
    */
   public static ByteDataBuffer ofBytes(long size) {
-    Validator.createArgs(size, MAX_32BITS);
-    if (RawDataBufferFactory.canBeUsed()) {
-      return RawDataBufferFactory.create(new byte[(int)size], false);
-    }
-    return NioDataBufferFactory.create(ByteBuffer.allocate((int)size));
+    Validator.createArgs(size, MAX_64BITS);
+    return DataBufferAllocators.current().allocateBytes(size);
   }
 
   /**
@@ -56,11 +58,8 @@ public final class DataBuffers {
    * @return a new buffer
    */
   public static LongDataBuffer ofLongs(long size) {
-    Validator.createArgs(size, MAX_32BITS);
-    if (RawDataBufferFactory.canBeUsed()) {
-      return RawDataBufferFactory.create(new long[(int)size], false);
-    }
-    return NioDataBufferFactory.create(LongBuffer.allocate((int)size));
+    Validator.createArgs(size, MAX_64BITS);
+    return DataBufferAllocators.current().allocateLongs(size);
   }
 
   /**
@@ -70,11 +69,8 @@ public final class DataBuffers {
    * @return a new buffer
    */
   public static IntDataBuffer ofInts(long size) {
-    Validator.createArgs(size, MAX_32BITS);
-    if (RawDataBufferFactory.canBeUsed()) {
-      return RawDataBufferFactory.create(new int[(int)size], false);
-    }
-    return NioDataBufferFactory.create(IntBuffer.allocate((int)size));
+    Validator.createArgs(size, MAX_64BITS);
+    return DataBufferAllocators.current().allocateInts(size);
   }
 
   /**
@@ -84,11 +80,8 @@ public final class DataBuffers {
    * @return a new buffer
    */
   public static ShortDataBuffer ofShorts(long size) {
-    Validator.createArgs(size, MAX_32BITS);
-    if (RawDataBufferFactory.canBeUsed()) {
-      return RawDataBufferFactory.create(new short[(int)size], false);
-    }
-    return NioDataBufferFactory.create(ShortBuffer.allocate((int)size));
+    Validator.createArgs(size, MAX_64BITS);
+    return DataBufferAllocators.current().allocateShorts(size);
   }
 
   /**
@@ -98,11 +91,8 @@ public final class DataBuffers {
    * @return a new buffer
    */
   public static DoubleDataBuffer ofDoubles(long size) {
-    Validator.createArgs(size, MAX_32BITS);
-    if (RawDataBufferFactory.canBeUsed()) {
-      return RawDataBufferFactory.create(new double[(int)size], false);
-    }
-    return NioDataBufferFactory.create(DoubleBuffer.allocate((int)size));
+    Validator.createArgs(size, MAX_64BITS);
+    return DataBufferAllocators.current().allocateDoubles(size);
   }
 
   /**
@@ -112,11 +102,8 @@ public final class DataBuffers {
    * @return a new buffer
    */
   public static FloatDataBuffer ofFloats(long size) {
-    Validator.createArgs(size, MAX_32BITS);
-    if (RawDataBufferFactory.canBeUsed()) {
-      return RawDataBufferFactory.create(new float[(int)size], false);
-    }
-    return NioDataBufferFactory.create(FloatBuffer.allocate((int)size));
+    Validator.createArgs(size, MAX_64BITS);
+    return DataBufferAllocators.current().allocateFloats(size);
   }
 
   /**
@@ -126,11 +113,8 @@ public final class DataBuffers {
    * @return a new buffer
    */
   public static BooleanDataBuffer ofBooleans(long size) {
-    Validator.createArgs(size, MAX_32BITS);
-    if (RawDataBufferFactory.canBeUsed()) {
-      return RawDataBufferFactory.create(new boolean[(int)size], false);
-    }
-    return MiscDataBufferFactory.create(new BitSet((int)size), size, false);
+    Validator.createArgs(size, MAX_64BITS);
+    return DataBufferAllocators.current().allocateBooleans(size);
   }
 
   /**
@@ -265,6 +249,9 @@ public final class DataBuffers {
    */
   public static FloatDataBuffer of(float[] array, boolean readOnly, boolean makeCopy) {
     float[] bufferArray = makeCopy ? Arrays.copyOf(array, array.length) : array;
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(bufferArray, readOnly);
+    }
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(bufferArray, readOnly);
     }
@@ -282,6 +269,9 @@ public final class DataBuffers {
    */
   public static ByteDataBuffer of(byte[] array, boolean readOnly, boolean makeCopy) {
     byte[] bufferArray = makeCopy ? Arrays.copyOf(array, array.length) : array;
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(bufferArray, readOnly);
+    }
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(bufferArray, readOnly);
     }
@@ -299,6 +289,9 @@ public final class DataBuffers {
    */
   public static LongDataBuffer of(long[] array, boolean readOnly, boolean makeCopy) {
     long[] bufferArray = makeCopy ? Arrays.copyOf(array, array.length) : array;
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(bufferArray, readOnly);
+    }
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(bufferArray, readOnly);
     }
@@ -316,6 +309,9 @@ public final class DataBuffers {
    */
   public static IntDataBuffer of(int[] array, boolean readOnly, boolean makeCopy) {
     int[] bufferArray = makeCopy ? Arrays.copyOf(array, array.length) : array;
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(bufferArray, readOnly);
+    }
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(bufferArray, readOnly);
     }
@@ -333,6 +329,9 @@ public final class DataBuffers {
    */
   public static ShortDataBuffer of(short[] array, boolean readOnly, boolean makeCopy) {
     short[] bufferArray = makeCopy ? Arrays.copyOf(array, array.length) : array;
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(bufferArray, readOnly);
+    }
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(bufferArray, readOnly);
     }
@@ -350,6 +349,9 @@ public final class DataBuffers {
    */
   public static DoubleDataBuffer of(double[] array, boolean readOnly, boolean makeCopy) {
     double[] bufferArray = makeCopy ? Arrays.copyOf(array, array.length) : array;
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(bufferArray, readOnly);
+    }
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(bufferArray, readOnly);
     }
@@ -447,6 +449,147 @@ public final class DataBuffers {
     return NioDataBufferFactory.create(buf.duplicate());
   }
 
+  /**
+   * Maps a region of a file in memory as a buffer of bytes.
+   * <p>
+   * See {@link #mapFloats(Path, FileChannel.MapMode, long, long)} for more details.
+   *
+   * @param file file to map
+   * @param mode mapping mode
+   * @param position position in the file where the mapped region starts, in bytes
+   * @param size number of values to map
+   * @return the mapped buffer
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static MappedDataBuffer<ByteDataBuffer> mapBytes(Path file, FileChannel.MapMode mode, long position, long size)
+      throws IOException {
+    return map(file, mode, position, size, Byte.BYTES, Function.identity());
+  }
+
+  /**
+   * Maps a region of a file in memory as a buffer of longs.
+   * <p>
+   * See {@link #mapFloats(Path, FileChannel.MapMode, long, long)} for more details.
+   *
+   * @param file file to map
+   * @param mode mapping mode
+   * @param position position in the file where the mapped region starts, in bytes
+   * @param size number of values to map
+   * @return the mapped buffer
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static MappedDataBuffer<LongDataBuffer> mapLongs(Path file, FileChannel.MapMode mode, long position, long size)
+      throws IOException {
+    return map(file, mode, position, size, Long.BYTES, ByteDataBuffer::asLongs);
+  }
+
+  /**
+   * Maps a region of a file in memory as a buffer of ints.
+   * <p>
+   * See {@link #mapFloats(Path, FileChannel.MapMode, long, long)} for more details.
+   *
+   * @param file file to map
+   * @param mode mapping mode
+   * @param position position in the file where the mapped region starts, in bytes
+   * @param size number of values to map
+   * @return the mapped buffer
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static MappedDataBuffer<IntDataBuffer> mapInts(Path file, FileChannel.MapMode mode, long position, long size)
+      throws IOException {
+    return map(file, mode, position, size, Integer.BYTES, ByteDataBuffer::asInts);
+  }
+
+  /**
+   * Maps a region of a file in memory as a buffer of shorts.
+   * <p>
+   * See {@link #mapFloats(Path, FileChannel.MapMode, long, long)} for more details.
+   *
+   * @param file file to map
+   * @param mode mapping mode
+   * @param position position in the file where the mapped region starts, in bytes
+   * @param size number of values to map
+   * @return the mapped buffer
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static MappedDataBuffer<ShortDataBuffer> mapShorts(Path file, FileChannel.MapMode mode, long position, long size)
+      throws IOException {
+    return map(file, mode, position, size, Short.BYTES, ByteDataBuffer::asShorts);
+  }
+
+  /**
+   * Maps a region of a file in memory as a buffer of doubles.
+   * <p>
+   * See {@link #mapFloats(Path, FileChannel.MapMode, long, long)} for more details.
+   *
+   * @param file file to map
+   * @param mode mapping mode
+   * @param position position in the file where the mapped region starts, in bytes
+   * @param size number of values to map
+   * @return the mapped buffer
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static MappedDataBuffer<DoubleDataBuffer> mapDoubles(Path file, FileChannel.MapMode mode, long position, long size)
+      throws IOException {
+    return map(file, mode, position, size, Double.BYTES, ByteDataBuffer::asDoubles);
+  }
+
+  /**
+   * Maps a region of a file in memory as a buffer of floats.
+   * <p>
+   * The content of the file is paged in by the operating system on demand, allowing to work with
+   * data larger than the heap without loading it first. Values are read and written in the native
+   * byte order of the platform. The returned handle controls the lifecycle of the mapping, which
+   * can be {@link MappedDataBuffer#force() forced} to the file and
+   * {@link MappedDataBuffer#close() closed}.
+   * <p>
+   * On JDK 22+, the file is mapped as a memory segment. On previous JDKs, it is mapped as a NIO
+   * buffer, or as a sequence of NIO buffers of 1GB if the region exceeds 2GB. The region can be of
+   * any size in both cases.
+   *
+   * @param file file to map
+   * @param mode mapping mode
+   * @param position position in the file where the mapped region starts, in bytes
+   * @param size number of values to map
+   * @return the mapped buffer
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static MappedDataBuffer<FloatDataBuffer> mapFloats(Path file, FileChannel.MapMode mode, long position, long size)
+      throws IOException {
+    return map(file, mode, position, size, Float.BYTES, ByteDataBuffer::asFloats);
+  }
+
+  /**
+   * Maps a region of a file in memory as a buffer of booleans.
+   * <p>
+   * See {@link #mapFloats(Path, FileChannel.MapMode, long, long)} for more details.
+   * <p>Each boolean is stored in a single byte.
+   *
+   * @param file file to map
+   * @param mode mapping mode
+   * @param position position in the file where the mapped region starts, in bytes
+   * @param size number of values to map
+   * @return the mapped buffer
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static MappedDataBuffer<BooleanDataBuffer> mapBooleans(Path file, FileChannel.MapMode mode, long position, long size)
+      throws IOException {
+    return map(file, mode, position, size, Byte.BYTES, ByteDataBuffer::asBooleans);
+  }
+
+  private static <B extends DataBuffer<?>> MappedDataBuffer<B> map(Path file, FileChannel.MapMode mode,
+      long position, long size, int scale, Function<ByteDataBuffer, B> view) throws IOException {
+    Validator.createArgs(size, MAX_64BITS / scale);
+    try (FileChannel channel = mode == FileChannel.MapMode.READ_ONLY
+        ? FileChannel.open(file, StandardOpenOption.READ)
+        : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      if (SegmentDataBufferFactory.canBeUsed()) {
+        return SegmentDataBufferFactory.map(channel, mode, position, size * scale, view);
+      }
+      return NioDataBufferFactory.map(channel, mode, position, size * scale, view);
+    }
+  }
+
   /*
    * The maximum size for a buffer of this type, i.e. the maximum number of bytes it can store.
    * <p>
@@ -454,4 +597,5 @@ public final class DataBuffers {
    * property returns a value that is safe for most of them.
    */
   static long MAX_32BITS = Integer.MAX_VALUE - 10;
+  static long MAX_64BITS = Long.MAX_VALUE - 10;
 }
@@ -0,0 +1,64 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+/**
+ * A handle on a {@link DataBuffer} mapping the content of a file in memory.
+ *
+ * <p>Mapped buffers are obtained from {@link DataBuffers}, for example
+ * {@link DataBuffers#mapFloats(java.nio.file.Path, java.nio.channels.FileChannel.MapMode, long, long)
+ * DataBuffers.mapFloats(...)}. Their data is paged in lazily by the operating system, which allows
+ * to access files that are larger than the heap without loading them first. For example:
+ *
+ * <pre>{@code
+ * try (MappedDataBuffer<FloatDataBuffer> mapping =
+ *     DataBuffers.mapFloats(path, FileChannel.MapMode.READ_ONLY, 0, numRows * numCols)) {
+ *   FloatNdArray table = NdArrays.wrap(Shape.of(numRows, numCols), mapping.buffer());
+ *   // ... read rows of the table
+ * }
+ * }</pre>
+ *
+ * <p>The buffer must not be accessed anymore once its mapping has been closed. On JDK 22+, doing
+ * so throws an {@link IllegalStateException}. On older JDKs, the file remains mapped until the
+ * buffer is garbage collected, as the JDK does not allow to unmap it explicitly.
+ *
+ * @param <B> the type of buffer mapping the file
+ */
+public interface MappedDataBuffer<B extends DataBuffer<?>> extends AutoCloseable {
+
+  /**
+   * Returns the buffer mapping the content of the file.
+   */
+  B buffer();
+
+  /**
+   * Forces any change made to the buffer to be written to the file.
+   *
+   * <p>This method has no effect if the file has been mapped in read-only or private mode.
+   */
+  void force();
+
+  /**
+   * Unmaps the file from memory.
+   *
+   * <p>On JDK 22+, the file is unmapped right away. On older JDKs, the JDK offers no safe way to
+   * unmap a file explicitly, so this method has no effect and the file remains mapped until the
+   * buffer is garbage collected. The buffer must not be accessed anymore in both cases.
+   */
+  @Override
+  void close();
+}
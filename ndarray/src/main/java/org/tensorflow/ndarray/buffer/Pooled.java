@@ -0,0 +1,82 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+import java.util.function.Function;
+
+/**
+ * An object whose storage has been borrowed from a {@link BufferPool}.
+ *
+ * <p>Closing this object returns its storage to the pool it has been borrowed from, so it can be
+ * recycled by a following allocation. The object must not be used anymore after being closed.
+ * For example:
+ *
+ * <pre>{@code
+ * BufferPool pool = BufferPool.create();
+ * try (Pooled<FloatNdArray> input = NdArrays.ofFloats(Shape.of(32, 224, 224, 3), pool)) {
+ *   FloatNdArray array = input.get();
+ *   // ... fill and use the array
+ * }
+ * }</pre>
+ *
+ * <p>{@code Pooled} instances are not thread-safe.
+ *
+ * @param <T> the type of pooled object
+ */
+public interface Pooled<T> extends AutoCloseable {
+
+  /**
+   * Returns the pooled object.
+   */
+  T get();
+
+  /**
+   * Returns the storage of this object to its pool.
+   *
+   * <p>Closing an object more than once has no effect.
+   *
+   * @throws IllegalStateException if the pool has been closed
+   */
+  @Override
+  void close();
+
+  /**
+   * Returns a pooled object derived from this one, like an {@link org.tensorflow.ndarray.NdArray}
+   * wrapping a pooled buffer.
+   *
+   * <p>Closing the returned object closes this one.
+   *
+   * @param mapper function deriving a new object from the pooled one
+   * @param <R> type of the derived object
+   * @return pooled derived object
+   */
+  default <R> Pooled<R> map(Function<? super T, R> mapper) {
+    R value = mapper.apply(get());
+    return new Pooled<R>() {
+
+      @Override
+      public R get() {
+        return value;
+      }
+
+      @Override
+      public void close() {
+        Pooled.this.close();
+      }
+    };
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.BitSet;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferAllocator;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.misc.MiscDataBufferFactory;
+import org.tensorflow.ndarray.impl.buffer.nio.NioDataBufferFactory;
+import org.tensorflow.ndarray.impl.buffer.raw.RawDataBufferFactory;
+import org.tensorflow.ndarray.impl.buffer.segment.SegmentDataBufferFactory;
+
+/**
+ * Allocates data buffers backed by arrays on the heap.
+ *
+ * <p>This is the default allocator of {@link org.tensorflow.ndarray.buffer.DataBuffers}. Arrays
+ * are accessed through memory segments when available, then through raw memory access, and finally
+ * through JDK NIO buffers.
+ */
+public final class HeapDataBufferAllocator implements DataBufferAllocator {
+
+  public static final HeapDataBufferAllocator INSTANCE = new HeapDataBufferAllocator();
+
+  @Override
+  public ByteDataBuffer allocateBytes(long size) {
+    Validator.createArgs(size, MAX_32BITS);
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(new byte[(int)size], false);
+    }
+    if (RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.create(new byte[(int)size], false);
+    }
+    return NioDataBufferFactory.create(ByteBuffer.allocate((int)size));
+  }
+
+  @Override
+  public LongDataBuffer allocateLongs(long size) {
+    Validator.createArgs(size, MAX_32BITS);
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(new long[(int)size], false);
+    }
+    if (RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.create(new long[(int)size], false);
+    }
+    return NioDataBufferFactory.create(LongBuffer.allocate((int)size));
+  }
+
+  @Override
+  public IntDataBuffer allocateInts(long size) {
+    Validator.createArgs(size, MAX_32BITS);
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(new int[(int)size], false);
+    }
+    if (RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.create(new int[(int)size], false);
+    }
+    return NioDataBufferFactory.create(IntBuffer.allocate((int)size));
+  }
+
+  @Override
+  public ShortDataBuffer allocateShorts(long size) {
+    Validator.createArgs(size, MAX_32BITS);
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(new short[(int)size], false);
+    }
+    if (RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.create(new short[(int)size], false);
+    }
+    return NioDataBufferFactory.create(ShortBuffer.allocate((int)size));
+  }
+
+  @Override
+  public DoubleDataBuffer allocateDoubles(long size) {
+    Validator.createArgs(size, MAX_32BITS);
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(new double[(int)size], false);
+    }
+    if (RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.create(new double[(int)size], false);
+    }
+    return NioDataBufferFactory.create(DoubleBuffer.allocate((int)size));
+  }
+
+  @Override
+  public FloatDataBuffer allocateFloats(long size) {
+    Validator.createArgs(size, MAX_32BITS);
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.create(new float[(int)size], false);
+    }
+    if (RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.create(new float[(int)size], false);
+    }
+    return NioDataBufferFactory.create(FloatBuffer.allocate((int)size));
+  }
+
+  @Override
+  public BooleanDataBuffer allocateBooleans(long size) {
+    Validator.createArgs(size, MAX_32BITS);
+    if (SegmentDataBufferFactory.canBeUsed()) {
+      return SegmentDataBufferFactory.allocateBooleans(size);
+    }
+    if (RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.create(new boolean[(int)size], false);
+    }
+    return MiscDataBufferFactory.create(new BitSet((int)size), size, false);
+  }
+
+  private HeapDataBufferAllocator() {
+  }
+
+  private static final long MAX_32BITS = Integer.MAX_VALUE - 10;
+}
@@ -20,6 +20,7 @@ package org.tensorflow.ndarray.impl.buffer.adapter;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.layout.BooleanDataLayout;
 
 class BooleanDataBufferAdapter<S extends DataBuffer<?>> extends AbstractDataBufferAdapter<S, Boolean, BooleanDataBuffer>
@@ -87,6 +88,14 @@ class BooleanDataBufferAdapter<S extends DataBuffer<?>> extends AbstractDataBuff
     return new BooleanDataBufferAdapter<>((S)buffer().slice(index * layout.scale(), size * layout.scale()), layout);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public DataBufferWindow<BooleanDataBuffer> window(long size) {
+    DataBufferWindow<?> bufferWindow = buffer().window(size * layout.scale());
+    BooleanDataBuffer windowBuffer = new BooleanDataBufferAdapter<>((S)bufferWindow.buffer(), layout);
+    return new DataBufferAdapterWindow<>(windowBuffer, bufferWindow, layout.scale(), size());
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
@@ -4,6 +4,7 @@ import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
 import org.tensorflow.ndarray.buffer.ByteDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.buffer.IntDataBuffer;
@@ -106,6 +107,14 @@ class ByteDataBufferAdapter<S extends DataBuffer<?>> extends AbstractDataBufferA
     return new ByteDataBufferAdapter<>((S)buffer().slice(index * layout.scale(), size * layout.scale()), layout);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public DataBufferWindow<ByteDataBuffer> window(long size) {
+    DataBufferWindow<?> bufferWindow = buffer().window(size * layout.scale());
+    ByteDataBuffer windowBuffer = new ByteDataBufferAdapter<>((S)bufferWindow.buffer(), layout);
+    return new DataBufferAdapterWindow<>(windowBuffer, bufferWindow, layout.scale(), size());
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
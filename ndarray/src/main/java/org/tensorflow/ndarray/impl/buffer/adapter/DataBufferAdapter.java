@@ -18,6 +18,7 @@
 package org.tensorflow.ndarray.impl.buffer.adapter;
 
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.layout.DataLayout;
 
 @SuppressWarnings("unchecked")
@@ -41,6 +42,14 @@ class DataBufferAdapter<S extends DataBuffer<?>, T> extends AbstractDataBufferAd
     return new DataBufferAdapter<>((S)buffer().slice(index * layout().scale(), size * layout().scale()), layout());
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public DataBufferWindow<DataBuffer<T>> window(long size) {
+    DataBufferWindow<?> bufferWindow = buffer().window(size * layout().scale());
+    DataBuffer<T> windowBuffer = new DataBufferAdapter<>((S)bufferWindow.buffer(), layout());
+    return new DataBufferAdapterWindow<>(windowBuffer, bufferWindow, layout().scale(), size());
+  }
+
   DataBufferAdapter(S buffer, DataLayout<S, T> layout) {
     super(buffer, layout);
   }
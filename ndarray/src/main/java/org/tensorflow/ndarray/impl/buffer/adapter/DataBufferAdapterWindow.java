@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.adapter;
+
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
+import org.tensorflow.ndarray.impl.buffer.AbstractDataBufferWindow;
+
+/**
+ * A window over an adapted buffer, sliding a window of the underlying buffer by the scale of the
+ * layout.
+ *
+ * @param <B> type of the adapted window buffer
+ */
+final class DataBufferAdapterWindow<B extends DataBuffer<?>> extends AbstractDataBufferWindow<B> {
+
+  @Override
+  protected void offset(long offset) {
+    bufferWindow.slideTo(offset * scale);
+  }
+
+  DataBufferAdapterWindow(B windowBuffer, DataBufferWindow<?> bufferWindow, int scale, long bufferLimit) {
+    super(windowBuffer, bufferLimit);
+    this.bufferWindow = bufferWindow;
+    this.scale = scale;
+  }
+
+  private final DataBufferWindow<?> bufferWindow;
+  private final int scale;
+}
@@ -19,6 +19,7 @@ package org.tensorflow.ndarray.impl.buffer.adapter;
 
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.buffer.layout.DoubleDataLayout;
 
@@ -87,6 +88,14 @@ class DoubleDataBufferAdapter<S extends DataBuffer<?>> extends AbstractDataBuffe
     return new DoubleDataBufferAdapter<>((S)buffer().slice(index * layout.scale(), size * layout.scale()), layout);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public DataBufferWindow<DoubleDataBuffer> window(long size) {
+    DataBufferWindow<?> bufferWindow = buffer().window(size * layout.scale());
+    DoubleDataBuffer windowBuffer = new DoubleDataBufferAdapter<>((S)bufferWindow.buffer(), layout);
+    return new DataBufferAdapterWindow<>(windowBuffer, bufferWindow, layout.scale(), size());
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
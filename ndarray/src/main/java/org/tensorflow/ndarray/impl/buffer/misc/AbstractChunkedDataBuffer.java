@@ -0,0 +1,132 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.misc;
+
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.impl.buffer.AbstractDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer whose values are split across a sequence of buffers of the same type, called chunks.
+ *
+ * <p>All chunks but the last one hold exactly {@code 1 << chunkShift} values, so the chunk of a
+ * value and its index in that chunk are found with a shift and a mask. Slices falling entirely
+ * within a chunk are slices of that chunk, so they are accessed without any indirection.
+ *
+ * @param <T> type of values in this buffer
+ * @param <B> type of the chunks
+ */
+abstract class AbstractChunkedDataBuffer<T, B extends DataBuffer<T>> extends AbstractDataBuffer<T> {
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return chunks[0].isReadOnly();
+  }
+
+  @FunctionalInterface
+  interface RunVisitor<B> {
+
+    /**
+     * Visits a run of values stored in the same chunk.
+     *
+     * @param run slice of the chunk holding the values
+     * @param index index of the first value of the run in this buffer
+     * @param length number of values in the run
+     */
+    void visit(B run, long index, long length);
+  }
+
+  /**
+   * Creates a buffer over the same chunks, starting at the given position in the first chunk.
+   */
+  abstract B instantiate(long position, long size);
+
+  /**
+   * @return the chunk holding the value at the given position
+   */
+  final B chunk(long position) {
+    return chunks[(int)(position >>> chunkShift)];
+  }
+
+  /**
+   * @return index of the value at the given position in its chunk
+   */
+  final long indexInChunk(long position) {
+    return position & chunkMask;
+  }
+
+  /**
+   * @return position of the value at the given index of this buffer, from the start of the first
+   *     chunk
+   */
+  final long position(long index) {
+    return offset + index;
+  }
+
+  /**
+   * Visits the first values of this buffer, by runs of values stored in the same chunk.
+   *
+   * @param size number of values to visit
+   * @param visitor visitor of each run
+   */
+  @SuppressWarnings("unchecked")
+  final void forEachRun(long size, RunVisitor<B> visitor) {
+    long index = 0;
+    while (index < size) {
+      long position = offset + index;
+      long indexInChunk = position & chunkMask;
+      long length = Math.min(size - index, chunkMask + 1 - indexInChunk);
+      visitor.visit((B)chunk(position).slice(indexInChunk, length), index, length);
+      index += length;
+    }
+  }
+
+  final void copyRunsTo(DataBuffer<T> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    forEachRun(size, (run, index, length) -> run.copyTo(dst.slice(index, length), length));
+  }
+
+  @SuppressWarnings("unchecked")
+  final B sliceRuns(long index, long size) {
+    Validator.sliceArgs(this, index, size);
+    long position = offset + index;
+    if (size > 0 && (position >>> chunkShift) == ((position + size - 1) >>> chunkShift)) {
+      return (B)chunk(position).slice(position & chunkMask, size);
+    }
+    return instantiate(position, size);
+  }
+
+  final B[] chunks;
+  final int chunkShift;
+
+  AbstractChunkedDataBuffer(B[] chunks, int chunkShift, long offset, long size) {
+    this.chunks = chunks;
+    this.chunkShift = chunkShift;
+    this.chunkMask = (1L << chunkShift) - 1;
+    this.offset = offset;
+    this.size = size;
+  }
+
+  private final long chunkMask;
+  private final long offset;
+  private final long size;
+}
@@ -18,8 +18,10 @@ package org.tensorflow.ndarray.impl.buffer.misc;
 
 import java.util.Arrays;
 import org.tensorflow.ndarray.impl.buffer.AbstractDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.AbstractDataBufferWindow;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 
 class ArrayDataBuffer<T> extends AbstractDataBuffer<T> {
@@ -74,6 +76,18 @@ class ArrayDataBuffer<T> extends AbstractDataBuffer<T> {
     return new ArrayDataBuffer<>(values, readOnly, offset + (int)index, (int)size);
   }
 
+  @Override
+  public DataBufferWindow<DataBuffer<T>> window(long size) {
+    ArrayDataBuffer<T> windowBuffer = new ArrayDataBuffer<>(values, readOnly, offset, (int)size);
+    return new AbstractDataBufferWindow<DataBuffer<T>>(windowBuffer, length) {
+
+      @Override
+      protected void offset(long offset) {
+        windowBuffer.offset = ArrayDataBuffer.this.offset + (int)offset;
+      }
+    };
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
     return visitor.visit(values, offset, length);
@@ -121,6 +135,6 @@ class ArrayDataBuffer<T> extends AbstractDataBuffer<T> {
  
   private final T[] values;
   private final boolean readOnly;
-  private final int offset;
+  private int offset;
   private final int length;
 }
@@ -19,9 +19,11 @@ package org.tensorflow.ndarray.impl.buffer.misc;
 
 import java.util.BitSet;
 import org.tensorflow.ndarray.impl.buffer.AbstractDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.AbstractDataBufferWindow;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 
 class BitSetDataBuffer extends AbstractDataBuffer<Boolean> implements BooleanDataBuffer {
@@ -111,6 +113,18 @@ class BitSetDataBuffer extends AbstractDataBuffer<Boolean> implements BooleanDat
     return new BitSetDataBuffer(bitSet, size, readOnly, offset + (int)index);
   }
 
+  @Override
+  public DataBufferWindow<BooleanDataBuffer> window(long size) {
+    BitSetDataBuffer windowBuffer = new BitSetDataBuffer(bitSet, size, readOnly, offset);
+    return new AbstractDataBufferWindow<BooleanDataBuffer>(windowBuffer, numBits) {
+
+      @Override
+      protected void offset(long offset) {
+        windowBuffer.offset = BitSetDataBuffer.this.offset + (int)offset;
+      }
+    };
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
     return visitor.visit(bitSet, offset, numBits);
@@ -179,5 +193,5 @@ class BitSetDataBuffer extends AbstractDataBuffer<Boolean> implements BooleanDat
   private final BitSet bitSet;
   private final long numBits;
   private final boolean readOnly;
-  private final int offset;
+  private int offset;
 }
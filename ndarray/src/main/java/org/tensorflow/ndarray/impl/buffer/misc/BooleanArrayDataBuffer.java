@@ -19,9 +19,11 @@ package org.tensorflow.ndarray.impl.buffer.misc;
 import java.util.Arrays;
 import java.util.BitSet;
 import org.tensorflow.ndarray.impl.buffer.AbstractDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.AbstractDataBufferWindow;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 
 class BooleanArrayDataBuffer extends AbstractDataBuffer<Boolean> implements
@@ -104,6 +106,18 @@ class BooleanArrayDataBuffer extends AbstractDataBuffer<Boolean> implements
     return new BooleanArrayDataBuffer(values, readOnly, offset + (int)index, (int)size);
   }
 
+  @Override
+  public DataBufferWindow<BooleanDataBuffer> window(long size) {
+    BooleanArrayDataBuffer windowBuffer = new BooleanArrayDataBuffer(values, readOnly, offset, (int)size);
+    return new AbstractDataBufferWindow<BooleanDataBuffer>(windowBuffer, length) {
+
+      @Override
+      protected void offset(long offset) {
+        windowBuffer.offset = BooleanArrayDataBuffer.this.offset + (int)offset;
+      }
+    };
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
     return visitor.visit(values, offset, length);
@@ -171,6 +185,6 @@ class BooleanArrayDataBuffer extends AbstractDataBuffer<Boolean> implements
  
   private final boolean[] values;
   private final boolean readOnly;
-  private final int offset;
+  private int offset;
   private final int length;
 }
@@ -0,0 +1,77 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.misc;
+
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of booleans split across multiple boolean buffers.
+ */
+final class BooleanChunkedDataBuffer extends AbstractChunkedDataBuffer<Boolean, BooleanDataBuffer>
+    implements BooleanDataBuffer {
+
+  @Override
+  public boolean getBoolean(long index) {
+    Validator.getArgs(this, index);
+    long position = position(index);
+    return chunk(position).getBoolean(indexInChunk(position));
+  }
+
+  @Override
+  public BooleanDataBuffer setBoolean(boolean value, long index) {
+    Validator.setArgs(this, index);
+    long position = position(index);
+    chunk(position).setBoolean(value, indexInChunk(position));
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer read(boolean[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    forEachRun(length, (run, index, runLength) -> run.read(dst, offset + (int)index, (int)runLength));
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer write(boolean[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    forEachRun(length, (run, index, runLength) -> run.write(src, offset + (int)index, (int)runLength));
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer copyTo(DataBuffer<Boolean> dst, long size) {
+    copyRunsTo(dst, size);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer slice(long index, long size) {
+    return sliceRuns(index, size);
+  }
+
+  @Override
+  BooleanDataBuffer instantiate(long position, long size) {
+    return new BooleanChunkedDataBuffer(chunks, chunkShift, position, size);
+  }
+
+  BooleanChunkedDataBuffer(BooleanDataBuffer[] chunks, int chunkShift, long offset, long size) {
+    super(chunks, chunkShift, offset, size);
+  }
+}
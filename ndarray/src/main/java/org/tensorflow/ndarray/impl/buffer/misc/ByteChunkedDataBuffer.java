@@ -0,0 +1,133 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.misc;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of bytes split across multiple byte buffers.
+ */
+final class ByteChunkedDataBuffer extends AbstractChunkedDataBuffer<Byte, ByteDataBuffer>
+    implements ByteDataBuffer {
+
+  @Override
+  public byte getByte(long index) {
+    Validator.getArgs(this, index);
+    long position = position(index);
+    return chunk(position).getByte(indexInChunk(position));
+  }
+
+  @Override
+  public ByteDataBuffer setByte(byte value, long index) {
+    Validator.setArgs(this, index);
+    long position = position(index);
+    chunk(position).setByte(value, indexInChunk(position));
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer read(byte[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    forEachRun(length, (run, index, runLength) -> run.read(dst, offset + (int)index, (int)runLength));
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer write(byte[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    forEachRun(length, (run, index, runLength) -> run.write(src, offset + (int)index, (int)runLength));
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer asInts() {
+    IntDataBuffer[] views = viewChunks(IntDataBuffer[]::new, ByteDataBuffer::asInts, Integer.BYTES);
+    return new IntChunkedDataBuffer(views, chunkShift - 2, position(0) / Integer.BYTES, size() / Integer.BYTES);
+  }
+
+  @Override
+  public ShortDataBuffer asShorts() {
+    ShortDataBuffer[] views = viewChunks(ShortDataBuffer[]::new, ByteDataBuffer::asShorts, Short.BYTES);
+    return new ShortChunkedDataBuffer(views, chunkShift - 1, position(0) / Short.BYTES, size() / Short.BYTES);
+  }
+
+  @Override
+  public LongDataBuffer asLongs() {
+    LongDataBuffer[] views = viewChunks(LongDataBuffer[]::new, ByteDataBuffer::asLongs, Long.BYTES);
+    return new LongChunkedDataBuffer(views, chunkShift - 3, position(0) / Long.BYTES, size() / Long.BYTES);
+  }
+
+  @Override
+  public FloatDataBuffer asFloats() {
+    FloatDataBuffer[] views = viewChunks(FloatDataBuffer[]::new, ByteDataBuffer::asFloats, Float.BYTES);
+    return new FloatChunkedDataBuffer(views, chunkShift - 2, position(0) / Float.BYTES, size() / Float.BYTES);
+  }
+
+  @Override
+  public DoubleDataBuffer asDoubles() {
+    DoubleDataBuffer[] views = viewChunks(DoubleDataBuffer[]::new, ByteDataBuffer::asDoubles, Double.BYTES);
+    return new DoubleChunkedDataBuffer(views, chunkShift - 3, position(0) / Double.BYTES, size() / Double.BYTES);
+  }
+
+  @Override
+  public BooleanDataBuffer asBooleans() {
+    BooleanDataBuffer[] views = viewChunks(BooleanDataBuffer[]::new, ByteDataBuffer::asBooleans, Byte.BYTES);
+    return new BooleanChunkedDataBuffer(views, chunkShift, position(0), size());
+  }
+
+  @Override
+  public ByteDataBuffer copyTo(DataBuffer<Byte> dst, long size) {
+    copyRunsTo(dst, size);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer slice(long index, long size) {
+    return sliceRuns(index, size);
+  }
+
+  @Override
+  ByteDataBuffer instantiate(long position, long size) {
+    return new ByteChunkedDataBuffer(chunks, chunkShift, position, size);
+  }
+
+  ByteChunkedDataBuffer(ByteDataBuffer[] chunks, int chunkShift, long offset, long size) {
+    super(chunks, chunkShift, offset, size);
+  }
+
+  private <V> V[] viewChunks(IntFunction<V[]> arrayFactory, Function<ByteDataBuffer, V> view, int scale) {
+    if (position(0) % scale != 0) {
+      throw new UnsupportedOperationException(
+          "Values of " + scale + " bytes cannot be read from a chunked buffer at an unaligned offset");
+    }
+    V[] views = arrayFactory.apply(chunks.length);
+    for (int i = 0; i < chunks.length; ++i) {
+      views[i] = view.apply(chunks[i]);
+    }
+    return views;
+  }
+}
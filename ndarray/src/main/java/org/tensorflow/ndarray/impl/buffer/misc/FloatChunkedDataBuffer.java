@@ -0,0 +1,77 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.misc;
+
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of floats split across multiple float buffers.
+ */
+final class FloatChunkedDataBuffer extends AbstractChunkedDataBuffer<Float, FloatDataBuffer>
+    implements FloatDataBuffer {
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    long position = position(index);
+    return chunk(position).getFloat(indexInChunk(position));
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(float value, long index) {
+    Validator.setArgs(this, index);
+    long position = position(index);
+    chunk(position).setFloat(value, indexInChunk(position));
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer read(float[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    forEachRun(length, (run, index, runLength) -> run.read(dst, offset + (int)index, (int)runLength));
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer write(float[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    forEachRun(length, (run, index, runLength) -> run.write(src, offset + (int)index, (int)runLength));
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer copyTo(DataBuffer<Float> dst, long size) {
+    copyRunsTo(dst, size);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer slice(long index, long size) {
+    return sliceRuns(index, size);
+  }
+
+  @Override
+  FloatDataBuffer instantiate(long position, long size) {
+    return new FloatChunkedDataBuffer(chunks, chunkShift, position, size);
+  }
+
+  FloatChunkedDataBuffer(FloatDataBuffer[] chunks, int chunkShift, long offset, long size) {
+    super(chunks, chunkShift, offset, size);
+  }
+}
@@ -19,6 +19,7 @@ package org.tensorflow.ndarray.impl.buffer.misc;
 
 import java.util.BitSet;
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 
 /**
@@ -37,4 +38,37 @@ public class MiscDataBufferFactory {
   public static <T>  DataBuffer<T> create(T[] array, boolean readOnly) {
     return new ArrayDataBuffer<>(array, readOnly);
   }
+
+  /**
+   * Creates a buffer of bytes spanning multiple buffers laid out one after the other.
+   *
+   * <p>Buffers of other types viewing the returned buffer, like {@link ByteDataBuffer#asFloats()},
+   * span the views of each chunk in the same way.
+   *
+   * @param chunks buffers to span, all of the same size except the last one which can be smaller
+   * @return a buffer of the total size of the chunks
+   * @throws IllegalArgumentException if there are no chunks, or if there are many chunks and their
+   *     size is not a power of two multiple of 8 bytes
+   */
+  public static ByteDataBuffer create(ByteDataBuffer[] chunks) {
+    if (chunks.length == 0) {
+      throw new IllegalArgumentException("At least one chunk is required");
+    }
+    long chunkSize = chunks[0].size();
+    if (chunks.length == 1) {
+      // a single chunk is the last one, so it only needs to fit in the chunk size
+      chunkSize = Math.max(Long.BYTES, Long.highestOneBit(Math.max(1, chunkSize - 1)) << 1);
+    }
+    if (chunkSize < Long.BYTES || Long.bitCount(chunkSize) != 1) {
+      throw new IllegalArgumentException("Chunk size must be a power of two multiple of 8 bytes, got " + chunkSize);
+    }
+    long size = 0;
+    for (int i = 0; i < chunks.length; ++i) {
+      if (i < chunks.length - 1 ? chunks[i].size() != chunkSize : chunks[i].size() > chunkSize) {
+        throw new IllegalArgumentException("Chunk " + i + " is of size " + chunks[i].size() + ", expected " + chunkSize);
+      }
+      size += chunks[i].size();
+    }
+    return new ByteChunkedDataBuffer(chunks.clone(), Long.numberOfTrailingZeros(chunkSize), 0, size);
+  }
 }
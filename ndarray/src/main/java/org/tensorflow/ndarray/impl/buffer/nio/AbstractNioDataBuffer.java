@@ -29,7 +29,7 @@ abstract class AbstractNioDataBuffer<T> extends AbstractDataBuffer<T> {
 
   @Override
   public long size() {
-    return buf().capacity();
+    return size;
   }
 
   @Override
@@ -38,4 +38,23 @@ abstract class AbstractNioDataBuffer<T> extends AbstractDataBuffer<T> {
   }
 
   abstract Buffer buf();
+
+  /**
+   * Returns the index in {@link #buf()} of the first value of this buffer, which is always 0 unless this buffer is
+   * a window sliding over a larger NIO buffer.
+   */
+  final int offset() {
+    return offset;
+  }
+
+  final void rebase(int offset) {
+    this.offset = offset;
+  }
+
+  AbstractNioDataBuffer(int size) {
+    this.size = size;
+  }
+
+  private final int size;
+  private int offset = 0;
 }
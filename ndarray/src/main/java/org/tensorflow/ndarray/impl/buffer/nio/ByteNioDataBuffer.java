@@ -23,6 +23,7 @@ import org.tensorflow.ndarray.impl.buffer.adapter.DataBufferAdapterFactory;
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
 import org.tensorflow.ndarray.buffer.ByteDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
@@ -39,24 +40,26 @@ final class ByteNioDataBuffer extends AbstractNioDataBuffer<Byte>
 
   @Override
   public byte getByte(long index) {
-    return buf.get((int)index);
+    Validator.getArgs(this, index);
+    return buf.get(offset() + (int)index);
   }
 
   @Override
   public ByteDataBuffer setByte(byte value, long index) {
-    buf.put((int)index, value);
+    Validator.setArgs(this, index);
+    buf.put(offset() + (int)index, value);
     return this;
   }
 
   @Override
   public ByteDataBuffer read(byte[] dst, int offset, int length) {
-    buf.duplicate().get(dst, offset, length);
+    bulkBuf(size()).get(dst, offset, length);
     return this;
   }
 
   @Override
   public ByteDataBuffer write(byte[] src, int offset, int length) {
-    buf.duplicate().put(src, offset, length);
+    bulkBuf(size()).put(src, offset, length);
     return this;
   }
 
@@ -67,7 +70,7 @@ final class ByteNioDataBuffer extends AbstractNioDataBuffer<Byte>
 
       @Override
       public ByteDataBuffer visit(ByteBuffer buffer) {
-        buffer.duplicate().put((ByteBuffer)buf.duplicate().limit((int)size));
+        buffer.duplicate().put(bulkBuf(size));
         return ByteNioDataBuffer.this;
       }
 
@@ -87,27 +90,27 @@ final class ByteNioDataBuffer extends AbstractNioDataBuffer<Byte>
 
   @Override
   public IntDataBuffer asInts() {
-    return new IntNioDataBuffer(buf.asIntBuffer());
+    return new IntNioDataBuffer(view().asIntBuffer());
   }
 
   @Override
   public ShortDataBuffer asShorts() {
-    return new ShortNioDataBuffer(buf.asShortBuffer());
+    return new ShortNioDataBuffer(view().asShortBuffer());
   }
 
   @Override
   public LongDataBuffer asLongs() {
-    return new LongNioDataBuffer(buf.asLongBuffer());
+    return new LongNioDataBuffer(view().asLongBuffer());
   }
 
   @Override
   public FloatDataBuffer asFloats() {
-    return new FloatNioDataBuffer(buf.asFloatBuffer());
+    return new FloatNioDataBuffer(view().asFloatBuffer());
   }
 
   @Override
   public DoubleDataBuffer asDoubles() {
-    return new DoubleNioDataBuffer(buf.asDoubleBuffer());
+    return new DoubleNioDataBuffer(view().asDoubleBuffer());
   }
 
   @Override
@@ -118,27 +121,33 @@ final class ByteNioDataBuffer extends AbstractNioDataBuffer<Byte>
   @Override
   public ByteDataBuffer offset(long index) {
     Validator.offsetArgs(this, index);
-    return new ByteNioDataBuffer(((ByteBuffer)buf.duplicate().position((int)index)).slice());
+    return new ByteNioDataBuffer(((ByteBuffer)view().duplicate().position((int)index)).slice());
   }
 
   @Override
   public ByteDataBuffer narrow(long size) {
     Validator.narrowArgs(this, size);
-    return new ByteNioDataBuffer(((ByteBuffer)buf.duplicate().limit((int)size)).slice());
+    return new ByteNioDataBuffer(((ByteBuffer)view().duplicate().limit((int)size)).slice());
   }
 
   @Override
   public ByteDataBuffer slice(long index, long size) {
     Validator.sliceArgs(this, index, size);
-    ByteBuffer sliceBuf = buf.duplicate();
+    ByteBuffer sliceBuf = view().duplicate();
     sliceBuf.position((int)index);
     sliceBuf.limit((int)index + (int)size);
     return new ByteNioDataBuffer(sliceBuf.slice());
   }
 
+  @Override
+  public DataBufferWindow<ByteDataBuffer> window(long size) {
+    ByteNioDataBuffer windowBuffer = new ByteNioDataBuffer(view(), (int)size);
+    return new NioDataBufferWindow<>(windowBuffer, size());
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
-    return visitor.visit(buf);
+    return visitor.visit(view());
   }
 
   @Override
@@ -157,7 +166,7 @@ final class ByteNioDataBuffer extends AbstractNioDataBuffer<Byte>
 
       @Override
       public Boolean visit(ByteBuffer buffer) {
-        return buf.equals(buffer);
+        return view().equals(buffer);
       }
 
       @Override
@@ -178,8 +187,34 @@ final class ByteNioDataBuffer extends AbstractNioDataBuffer<Byte>
   }
 
   ByteNioDataBuffer(ByteBuffer buf) {
+    this(buf, buf.capacity());
+  }
+
+  private final ByteBuffer buf;
+
+  private ByteNioDataBuffer(ByteBuffer buf, int size) {
+    super(size);
     this.buf = buf;
   }
 
-  private ByteBuffer buf;
+  private ByteBuffer view() {
+    if (offset() == 0 && size() == buf.capacity()) {
+      return buf;
+    }
+    ByteBuffer viewBuf = buf.duplicate();
+    viewBuf.position(offset());
+    viewBuf.limit(offset() + (int)size());
+    return viewBuf.slice().order(buf.order());
+  }
+
+  /**
+   * Returns a duplicate of the backing buffer positioned over the first values of this buffer, for
+   * bulk transfers that do not need a slice of their own.
+   */
+  private ByteBuffer bulkBuf(long length) {
+    ByteBuffer bulkBuf = buf.duplicate();
+    bulkBuf.limit(offset() + (int)length);
+    bulkBuf.position(offset());
+    return bulkBuf;
+  }
 }
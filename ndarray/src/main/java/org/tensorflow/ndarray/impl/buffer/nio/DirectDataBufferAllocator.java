@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferAllocator;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * Allocates data buffers backed by direct JDK NIO buffers, in native byte order.
+ */
+public final class DirectDataBufferAllocator implements DataBufferAllocator {
+
+  public static final DirectDataBufferAllocator INSTANCE = new DirectDataBufferAllocator();
+
+  @Override
+  public ByteDataBuffer allocateBytes(long size) {
+    return new ByteNioDataBuffer(allocateDirect(size, Byte.BYTES));
+  }
+
+  @Override
+  public LongDataBuffer allocateLongs(long size) {
+    return new LongNioDataBuffer(allocateDirect(size, Long.BYTES).asLongBuffer());
+  }
+
+  @Override
+  public IntDataBuffer allocateInts(long size) {
+    return new IntNioDataBuffer(allocateDirect(size, Integer.BYTES).asIntBuffer());
+  }
+
+  @Override
+  public ShortDataBuffer allocateShorts(long size) {
+    return new ShortNioDataBuffer(allocateDirect(size, Short.BYTES).asShortBuffer());
+  }
+
+  @Override
+  public DoubleDataBuffer allocateDoubles(long size) {
+    return new DoubleNioDataBuffer(allocateDirect(size, Double.BYTES).asDoubleBuffer());
+  }
+
+  @Override
+  public FloatDataBuffer allocateFloats(long size) {
+    return new FloatNioDataBuffer(allocateDirect(size, Float.BYTES).asFloatBuffer());
+  }
+
+  @Override
+  public BooleanDataBuffer allocateBooleans(long size) {
+    return allocateBytes(size).asBooleans();
+  }
+
+  private static ByteBuffer allocateDirect(long size, int scale) {
+    Validator.createArgs(size, MAX_32BITS / scale);
+    return ByteBuffer.allocateDirect((int)size * scale).order(ByteOrder.nativeOrder());
+  }
+
+  private DirectDataBufferAllocator() {
+  }
+
+  private static final long MAX_32BITS = Integer.MAX_VALUE - 10;
+}
@@ -20,6 +20,7 @@ package org.tensorflow.ndarray.impl.buffer.nio;
 import java.nio.DoubleBuffer;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 
@@ -31,24 +32,26 @@ final class DoubleNioDataBuffer extends AbstractNioDataBuffer<Double>
 
   @Override
   public double getDouble(long index) {
-    return buf.get((int)index);
+    Validator.getArgs(this, index);
+    return buf.get(offset() + (int)index);
   }
 
   @Override
   public DoubleDataBuffer setDouble(double value, long index) {
-    buf.put((int)index, value);
+    Validator.setArgs(this, index);
+    buf.put(offset() + (int)index, value);
     return this;
   }
 
   @Override
   public DoubleDataBuffer read(double[] dst, int offset, int length) {
-    buf.duplicate().get(dst, offset, length);
+    bulkBuf(size()).get(dst, offset, length);
     return this;
   }
 
   @Override
   public DoubleDataBuffer write(double[] src, int offset, int length) {
-    buf.duplicate().put(src, offset, length);
+    bulkBuf(size()).put(src, offset, length);
     return this;
   }
 
@@ -59,7 +62,7 @@ final class DoubleNioDataBuffer extends AbstractNioDataBuffer<Double>
 
       @Override
       public DoubleDataBuffer visit(DoubleBuffer buffer) {
-        buffer.duplicate().put((DoubleBuffer)buf.duplicate().limit((int)size));
+        buffer.duplicate().put(bulkBuf(size));
         return DoubleNioDataBuffer.this;
       }
 
@@ -80,27 +83,33 @@ final class DoubleNioDataBuffer extends AbstractNioDataBuffer<Double>
   @Override
   public DoubleDataBuffer offset(long index) {
     Validator.offsetArgs(this, index);
-    return new DoubleNioDataBuffer(((DoubleBuffer)buf.duplicate().position((int)index)).slice());
+    return new DoubleNioDataBuffer(((DoubleBuffer)view().duplicate().position((int)index)).slice());
   }
 
   @Override
   public DoubleDataBuffer narrow(long size) {
     Validator.narrowArgs(this, size);
-    return new DoubleNioDataBuffer(((DoubleBuffer)buf.duplicate().limit((int)size)).slice());
+    return new DoubleNioDataBuffer(((DoubleBuffer)view().duplicate().limit((int)size)).slice());
   }
 
   @Override
   public DoubleDataBuffer slice(long index, long size) {
     Validator.sliceArgs(this, index, size);
-    DoubleBuffer sliceBuf = buf.duplicate();
+    DoubleBuffer sliceBuf = view().duplicate();
     sliceBuf.position((int)index);
     sliceBuf.limit((int)index + (int)size);
     return new DoubleNioDataBuffer(sliceBuf.slice());
   }
 
+  @Override
+  public DataBufferWindow<DoubleDataBuffer> window(long size) {
+    DoubleNioDataBuffer windowBuffer = new DoubleNioDataBuffer(view(), (int)size);
+    return new NioDataBufferWindow<>(windowBuffer, size());
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
-    return visitor.visit(buf);
+    return visitor.visit(view());
   }
 
   @Override
@@ -119,7 +128,7 @@ final class DoubleNioDataBuffer extends AbstractNioDataBuffer<Double>
 
       @Override
       public Boolean visit(DoubleBuffer buffer) {
-        return buf.equals(buffer);
+        return view().equals(buffer);
       }
 
       @Override
@@ -140,8 +149,34 @@ final class DoubleNioDataBuffer extends AbstractNioDataBuffer<Double>
   }
 
   DoubleNioDataBuffer(DoubleBuffer buf) {
+    this(buf, buf.capacity());
+  }
+
+  private final DoubleBuffer buf;
+
+  private DoubleNioDataBuffer(DoubleBuffer buf, int size) {
+    super(size);
     this.buf = buf;
   }
-  
-  private DoubleBuffer buf;
+
+  private DoubleBuffer view() {
+    if (offset() == 0 && size() == buf.capacity()) {
+      return buf;
+    }
+    DoubleBuffer viewBuf = buf.duplicate();
+    viewBuf.position(offset());
+    viewBuf.limit(offset() + (int)size());
+    return viewBuf.slice();
+  }
+
+  /**
+   * Returns a duplicate of the backing buffer positioned over the first values of this buffer, for
+   * bulk transfers that do not need a slice of their own.
+   */
+  private DoubleBuffer bulkBuf(long length) {
+    DoubleBuffer bulkBuf = buf.duplicate();
+    bulkBuf.limit(offset() + (int)length);
+    bulkBuf.position(offset());
+    return bulkBuf;
+  }
 }
@@ -20,6 +20,7 @@ package org.tensorflow.ndarray.impl.buffer.nio;
 import java.nio.FloatBuffer;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 
@@ -31,24 +32,26 @@ final class FloatNioDataBuffer extends AbstractNioDataBuffer<Float>
 
   @Override
   public float getFloat(long index) {
-    return buf.get((int)index);
+    Validator.getArgs(this, index);
+    return buf.get(offset() + (int)index);
   }
 
   @Override
   public FloatDataBuffer setFloat(float value, long index) {
-    buf.put((int)index, value);
+    Validator.setArgs(this, index);
+    buf.put(offset() + (int)index, value);
     return this;
   }
 
   @Override
   public FloatDataBuffer read(float[] dst, int offset, int length) {
-    buf.duplicate().get(dst, offset, length);
+    bulkBuf(size()).get(dst, offset, length);
     return this;
   }
 
   @Override
   public FloatDataBuffer write(float[] src, int offset, int length) {
-    buf.duplicate().put(src, offset, length);
+    bulkBuf(size()).put(src, offset, length);
     return this;
   }
 
@@ -59,7 +62,7 @@ final class FloatNioDataBuffer extends AbstractNioDataBuffer<Float>
 
       @Override
       public FloatDataBuffer visit(FloatBuffer buffer) {
-        buffer.duplicate().put((FloatBuffer)buf.duplicate().limit((int)size));
+        buffer.duplicate().put(bulkBuf(size));
         return FloatNioDataBuffer.this;
       }
 
@@ -80,27 +83,33 @@ final class FloatNioDataBuffer extends AbstractNioDataBuffer<Float>
   @Override
   public FloatDataBuffer offset(long index) {
     Validator.offsetArgs(this, index);
-    return new FloatNioDataBuffer(((FloatBuffer)buf.duplicate().position((int)index)).slice());
+    return new FloatNioDataBuffer(((FloatBuffer)view().duplicate().position((int)index)).slice());
   }
 
   @Override
   public FloatDataBuffer narrow(long size) {
     Validator.narrowArgs(this, size);
-    return new FloatNioDataBuffer(((FloatBuffer)buf.duplicate().limit((int)size)).slice());
+    return new FloatNioDataBuffer(((FloatBuffer)view().duplicate().limit((int)size)).slice());
   }
 
   @Override
   public FloatDataBuffer slice(long index, long size) {
     Validator.sliceArgs(this, index, size);
-    FloatBuffer sliceBuf = buf.duplicate();
+    FloatBuffer sliceBuf = view().duplicate();
     sliceBuf.position((int)index);
     sliceBuf.limit((int)index + (int)size);
     return new FloatNioDataBuffer(sliceBuf.slice());
   }
 
+  @Override
+  public DataBufferWindow<FloatDataBuffer> window(long size) {
+    FloatNioDataBuffer windowBuffer = new FloatNioDataBuffer(view(), (int)size);
+    return new NioDataBufferWindow<>(windowBuffer, size());
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
-    return visitor.visit(buf);
+    return visitor.visit(view());
   }
 
   @Override
@@ -119,7 +128,7 @@ final class FloatNioDataBuffer extends AbstractNioDataBuffer<Float>
 
       @Override
       public Boolean visit(FloatBuffer buffer) {
-        return buf.equals(buffer);
+        return view().equals(buffer);
       }
 
       @Override
@@ -140,8 +149,34 @@ final class FloatNioDataBuffer extends AbstractNioDataBuffer<Float>
   }
 
   FloatNioDataBuffer(FloatBuffer buf) {
+    this(buf, buf.capacity());
+  }
+
+  private final FloatBuffer buf;
+
+  private FloatNioDataBuffer(FloatBuffer buf, int size) {
+    super(size);
     this.buf = buf;
   }
 
-  private FloatBuffer buf;
+  private FloatBuffer view() {
+    if (offset() == 0 && size() == buf.capacity()) {
+      return buf;
+    }
+    FloatBuffer viewBuf = buf.duplicate();
+    viewBuf.position(offset());
+    viewBuf.limit(offset() + (int)size());
+    return viewBuf.slice();
+  }
+
+  /**
+   * Returns a duplicate of the backing buffer positioned over the first values of this buffer, for
+   * bulk transfers that do not need a slice of their own.
+   */
+  private FloatBuffer bulkBuf(long length) {
+    FloatBuffer bulkBuf = buf.duplicate();
+    bulkBuf.limit(offset() + (int)length);
+    bulkBuf.position(offset());
+    return bulkBuf;
+  }
 }
@@ -20,6 +20,7 @@ package org.tensorflow.ndarray.impl.buffer.nio;
 import java.nio.IntBuffer;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 import org.tensorflow.ndarray.buffer.IntDataBuffer;
 
@@ -31,24 +32,26 @@ final class IntNioDataBuffer extends AbstractNioDataBuffer<Integer>
 
   @Override
   public int getInt(long index) {
-    return buf.get((int)index);
+    Validator.getArgs(this, index);
+    return buf.get(offset() + (int)index);
   }
 
   @Override
   public IntDataBuffer setInt(int value, long index) {
-    buf.put((int)index, value);
+    Validator.setArgs(this, index);
+    buf.put(offset() + (int)index, value);
     return this;
   }
 
   @Override
   public IntDataBuffer read(int[] dst, int offset, int length) {
-    buf.duplicate().get(dst, offset, length);
+    bulkBuf(size()).get(dst, offset, length);
     return this;
   }
 
   @Override
   public IntDataBuffer write(int[] src, int offset, int length) {
-    buf.duplicate().put(src, offset, length);
+    bulkBuf(size()).put(src, offset, length);
     return this;
   }
 
@@ -59,7 +62,7 @@ final class IntNioDataBuffer extends AbstractNioDataBuffer<Integer>
 
       @Override
       public IntDataBuffer visit(IntBuffer buffer) {
-        buffer.duplicate().put((IntBuffer)buf.duplicate().limit((int)size));
+        buffer.duplicate().put(bulkBuf(size));
         return IntNioDataBuffer.this;
       }
 
@@ -80,27 +83,33 @@ final class IntNioDataBuffer extends AbstractNioDataBuffer<Integer>
   @Override
   public IntDataBuffer offset(long index) {
     Validator.offsetArgs(this, index);
-    return new IntNioDataBuffer(((IntBuffer)buf.duplicate().position((int)index)).slice());
+    return new IntNioDataBuffer(((IntBuffer)view().duplicate().position((int)index)).slice());
   }
 
   @Override
   public IntDataBuffer narrow(long size) {
     Validator.narrowArgs(this, size);
-    return new IntNioDataBuffer(((IntBuffer)buf.duplicate().limit((int)size)).slice());
+    return new IntNioDataBuffer(((IntBuffer)view().duplicate().limit((int)size)).slice());
   }
 
   @Override
   public IntDataBuffer slice(long index, long size) {
     Validator.sliceArgs(this, index, size);
-    IntBuffer sliceBuf = buf.duplicate();
+    IntBuffer sliceBuf = view().duplicate();
     sliceBuf.position((int)index);
     sliceBuf.limit((int)index + (int)size);
     return new IntNioDataBuffer(sliceBuf.slice());
   }
 
+  @Override
+  public DataBufferWindow<IntDataBuffer> window(long size) {
+    IntNioDataBuffer windowBuffer = new IntNioDataBuffer(view(), (int)size);
+    return new NioDataBufferWindow<>(windowBuffer, size());
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
-    return visitor.visit(buf);
+    return visitor.visit(view());
   }
 
   @Override
@@ -119,7 +128,7 @@ final class IntNioDataBuffer extends AbstractNioDataBuffer<Integer>
 
       @Override
       public Boolean visit(IntBuffer buffer) {
-        return buf.equals(buffer);
+        return view().equals(buffer);
       }
 
       @Override
@@ -140,8 +149,34 @@ final class IntNioDataBuffer extends AbstractNioDataBuffer<Integer>
   }
 
   IntNioDataBuffer(IntBuffer buf) {
+    this(buf, buf.capacity());
+  }
+
+  private final IntBuffer buf;
+
+  private IntNioDataBuffer(IntBuffer buf, int size) {
+    super(size);
     this.buf = buf;
   }
 
-  private IntBuffer buf;
+  private IntBuffer view() {
+    if (offset() == 0 && size() == buf.capacity()) {
+      return buf;
+    }
+    IntBuffer viewBuf = buf.duplicate();
+    viewBuf.position(offset());
+    viewBuf.limit(offset() + (int)size());
+    return viewBuf.slice();
+  }
+
+  /**
+   * Returns a duplicate of the backing buffer positioned over the first values of this buffer, for
+   * bulk transfers that do not need a slice of their own.
+   */
+  private IntBuffer bulkBuf(long length) {
+    IntBuffer bulkBuf = buf.duplicate();
+    bulkBuf.limit(offset() + (int)length);
+    bulkBuf.position(offset());
+    return bulkBuf;
+  }
 }
@@ -20,6 +20,7 @@ package org.tensorflow.ndarray.impl.buffer.nio;
 import java.nio.LongBuffer;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 import org.tensorflow.ndarray.buffer.LongDataBuffer;
 
@@ -31,24 +32,26 @@ final class LongNioDataBuffer extends AbstractNioDataBuffer<Long>
 
   @Override
   public long getLong(long index) {
-    return buf.get((int)index);
+    Validator.getArgs(this, index);
+    return buf.get(offset() + (int)index);
   }
 
   @Override
   public LongDataBuffer setLong(long value, long index) {
-    buf.put((int)index, value);
+    Validator.setArgs(this, index);
+    buf.put(offset() + (int)index, value);
     return this;
   }
 
   @Override
   public LongDataBuffer read(long[] dst, int offset, int length) {
-    buf.duplicate().get(dst, offset, length);
+    bulkBuf(size()).get(dst, offset, length);
     return this;
   }
 
   @Override
   public LongDataBuffer write(long[] src, int offset, int length) {
-    buf.duplicate().put(src, offset, length);
+    bulkBuf(size()).put(src, offset, length);
     return this;
   }
 
@@ -59,7 +62,7 @@ final class LongNioDataBuffer extends AbstractNioDataBuffer<Long>
 
       @Override
       public LongDataBuffer visit(LongBuffer buffer) {
-        buffer.duplicate().put((LongBuffer)buf.duplicate().limit((int)size));
+        buffer.duplicate().put(bulkBuf(size));
         return LongNioDataBuffer.this;
       }
 
@@ -80,27 +83,33 @@ final class LongNioDataBuffer extends AbstractNioDataBuffer<Long>
   @Override
   public LongDataBuffer offset(long index) {
     Validator.offsetArgs(this, index);
-    return new LongNioDataBuffer(((LongBuffer)buf.duplicate().position((int)index)).slice());
+    return new LongNioDataBuffer(((LongBuffer)view().duplicate().position((int)index)).slice());
   }
 
   @Override
   public LongDataBuffer narrow(long size) {
     Validator.narrowArgs(this, size);
-    return new LongNioDataBuffer(((LongBuffer)buf.duplicate().limit((int)size)).slice());
+    return new LongNioDataBuffer(((LongBuffer)view().duplicate().limit((int)size)).slice());
   }
 
   @Override
   public LongDataBuffer slice(long index, long size) {
     Validator.sliceArgs(this, index, size);
-    LongBuffer sliceBuf = buf.duplicate();
+    LongBuffer sliceBuf = view().duplicate();
     sliceBuf.position((int)index);
     sliceBuf.limit((int)index + (int)size);
     return new LongNioDataBuffer(sliceBuf.slice());
   }
 
+  @Override
+  public DataBufferWindow<LongDataBuffer> window(long size) {
+    LongNioDataBuffer windowBuffer = new LongNioDataBuffer(view(), (int)size);
+    return new NioDataBufferWindow<>(windowBuffer, size());
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
-    return visitor.visit(buf);
+    return visitor.visit(view());
   }
 
   @Override
@@ -119,7 +128,7 @@ final class LongNioDataBuffer extends AbstractNioDataBuffer<Long>
 
       @Override
       public Boolean visit(LongBuffer buffer) {
-        return buf.equals(buffer);
+        return view().equals(buffer);
       }
 
       @Override
@@ -140,8 +149,34 @@ final class LongNioDataBuffer extends AbstractNioDataBuffer<Long>
   }
 
   LongNioDataBuffer(LongBuffer buf) {
+    this(buf, buf.capacity());
+  }
+
+  private final LongBuffer buf;
+
+  private LongNioDataBuffer(LongBuffer buf, int size) {
+    super(size);
     this.buf = buf;
   }
 
-  private LongBuffer buf;
+  private LongBuffer view() {
+    if (offset() == 0 && size() == buf.capacity()) {
+      return buf;
+    }
+    LongBuffer viewBuf = buf.duplicate();
+    viewBuf.position(offset());
+    viewBuf.limit(offset() + (int)size());
+    return viewBuf.slice();
+  }
+
+  /**
+   * Returns a duplicate of the backing buffer positioned over the first values of this buffer, for
+   * bulk transfers that do not need a slice of their own.
+   */
+  private LongBuffer bulkBuf(long length) {
+    LongBuffer bulkBuf = buf.duplicate();
+    bulkBuf.limit(offset() + (int)length);
+    bulkBuf.position(offset());
+    return bulkBuf;
+  }
 }
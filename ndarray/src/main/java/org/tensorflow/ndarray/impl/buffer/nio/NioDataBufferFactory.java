@@ -17,18 +17,26 @@
 
 package org.tensorflow.ndarray.impl.buffer.nio;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Function;
 import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.buffer.IntDataBuffer;
 import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.MappedDataBuffer;
 import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.misc.MiscDataBufferFactory;
 
 /**
  * Factory of JDK NIO-based data buffers
@@ -58,4 +66,32 @@ public class NioDataBufferFactory {
   public static ShortDataBuffer create(ShortBuffer buffer) {
     return new ShortNioDataBuffer(buffer);
   }
+
+  /**
+   * Maps a region of a file in memory.
+   *
+   * <p>A {@link MappedByteBuffer} cannot map more than 2GB, so larger regions are mapped in chunks of
+   * 1GB, spanned by a single buffer.
+   */
+  public static <B extends DataBuffer<?>> MappedDataBuffer<B> map(FileChannel channel,
+      FileChannel.MapMode mode, long position, long byteSize, Function<ByteDataBuffer, B> view)
+      throws IOException {
+    if (byteSize <= Integer.MAX_VALUE) {
+      MappedByteBuffer mappedBuffer = channel.map(mode, position, byteSize);
+      mappedBuffer.order(ByteOrder.nativeOrder());
+      return new NioMappedDataBuffer<>(view.apply(new ByteNioDataBuffer(mappedBuffer)), mappedBuffer);
+    }
+    int numChunks = (int)((byteSize + MAPPED_CHUNK_SIZE - 1) / MAPPED_CHUNK_SIZE);
+    MappedByteBuffer[] mappedBuffers = new MappedByteBuffer[numChunks];
+    ByteDataBuffer[] chunks = new ByteDataBuffer[numChunks];
+    for (int i = 0; i < numChunks; ++i) {
+      long chunkPosition = i * MAPPED_CHUNK_SIZE;
+      mappedBuffers[i] = channel.map(mode, position + chunkPosition, Math.min(MAPPED_CHUNK_SIZE, byteSize - chunkPosition));
+      mappedBuffers[i].order(ByteOrder.nativeOrder());
+      chunks[i] = new ByteNioDataBuffer(mappedBuffers[i]);
+    }
+    return new NioMappedDataBuffer<>(view.apply(MiscDataBufferFactory.create(chunks)), mappedBuffers);
+  }
+
+  private static final long MAPPED_CHUNK_SIZE = 1L << 30;
 }
@@ -0,0 +1,37 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.ndarray.impl.buffer.nio;
+
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.impl.buffer.AbstractDataBufferWindow;
+
+final class NioDataBufferWindow<B extends DataBuffer<?>> extends AbstractDataBufferWindow<B> {
+
+  @Override
+  protected void offset(long offset) {
+    windowBuffer.rebase((int)offset);
+  }
+
+  @SuppressWarnings("unchecked")
+  <R extends AbstractNioDataBuffer<?>> NioDataBufferWindow(R windowBuffer, long bufferLimit) {
+    super((B)windowBuffer, bufferLimit);
+    this.windowBuffer = windowBuffer;
+  }
+
+  private final AbstractNioDataBuffer<?> windowBuffer;
+}
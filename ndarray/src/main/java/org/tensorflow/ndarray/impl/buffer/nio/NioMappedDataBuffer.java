@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.nio;
+
+import java.nio.MappedByteBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.MappedDataBuffer;
+
+/**
+ * A file mapped in memory using one or more JDK {@link MappedByteBuffer}.
+ *
+ * <p>The JDK does not allow to unmap a {@link MappedByteBuffer} explicitly, so the file remains
+ * mapped until the buffer is garbage collected, even after the mapping has been closed.
+ */
+final class NioMappedDataBuffer<B extends DataBuffer<?>> implements MappedDataBuffer<B> {
+
+  @Override
+  public B buffer() {
+    return buffer;
+  }
+
+  @Override
+  public void force() {
+    for (MappedByteBuffer mappedBuffer : mappedBuffers) {
+      mappedBuffer.force();
+    }
+  }
+
+  @Override
+  public void close() {
+    // nothing to do, the buffer is unmapped by the garbage collector
+  }
+
+  NioMappedDataBuffer(B buffer, MappedByteBuffer... mappedBuffers) {
+    this.buffer = buffer;
+    this.mappedBuffers = mappedBuffers;
+  }
+
+  private final MappedByteBuffer[] mappedBuffers;
+  private final B buffer;
+}
@@ -20,6 +20,7 @@ package org.tensorflow.ndarray.impl.buffer.nio;
 import java.nio.ShortBuffer;
 import org.tensorflow.ndarray.impl.buffer.Validator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 import org.tensorflow.ndarray.buffer.ShortDataBuffer;
 
@@ -31,24 +32,26 @@ final class ShortNioDataBuffer extends AbstractNioDataBuffer<Short>
 
   @Override
   public short getShort(long index) {
-    return buf.get((int)index);
+    Validator.getArgs(this, index);
+    return buf.get(offset() + (int)index);
   }
 
   @Override
   public ShortDataBuffer setShort(short value, long index) {
-    buf.put((int)index, value);
+    Validator.setArgs(this, index);
+    buf.put(offset() + (int)index, value);
     return this;
   }
 
   @Override
   public ShortDataBuffer read(short[] dst, int offset, int length) {
-    buf.duplicate().get(dst, offset, length);
+    bulkBuf(size()).get(dst, offset, length);
     return this;
   }
 
   @Override
   public ShortDataBuffer write(short[] src, int offset, int length) {
-    buf.duplicate().put(src, offset, length);
+    bulkBuf(size()).put(src, offset, length);
     return this;
   }
 
@@ -59,7 +62,7 @@ final class ShortNioDataBuffer extends AbstractNioDataBuffer<Short>
 
       @Override
       public ShortDataBuffer visit(ShortBuffer buffer) {
-        buffer.duplicate().put((ShortBuffer)buf.duplicate().limit((int)size));
+        buffer.duplicate().put(bulkBuf(size));
         return ShortNioDataBuffer.this;
       }
 
@@ -80,27 +83,33 @@ final class ShortNioDataBuffer extends AbstractNioDataBuffer<Short>
   @Override
   public ShortDataBuffer offset(long index) {
     Validator.offsetArgs(this, index);
-    return new ShortNioDataBuffer(((ShortBuffer)buf.duplicate().position((int)index)).slice());
+    return new ShortNioDataBuffer(((ShortBuffer)view().duplicate().position((int)index)).slice());
   }
 
   @Override
   public ShortDataBuffer narrow(long size) {
     Validator.narrowArgs(this, size);
-    return new ShortNioDataBuffer(((ShortBuffer)buf.duplicate().limit((int)size)).slice());
+    return new ShortNioDataBuffer(((ShortBuffer)view().duplicate().limit((int)size)).slice());
   }
 
   @Override
   public ShortDataBuffer slice(long index, long size) {
     Validator.sliceArgs(this, index, size);
-    ShortBuffer sliceBuf = buf.duplicate();
+    ShortBuffer sliceBuf = view().duplicate();
     sliceBuf.position((int)index);
     sliceBuf.limit((int)index + (int)size);
     return new ShortNioDataBuffer(sliceBuf.slice());
   }
 
+  @Override
+  public DataBufferWindow<ShortDataBuffer> window(long size) {
+    ShortNioDataBuffer windowBuffer = new ShortNioDataBuffer(view(), (int)size);
+    return new NioDataBufferWindow<>(windowBuffer, size());
+  }
+
   @Override
   public <R> R accept(DataStorageVisitor<R> visitor) {
-    return visitor.visit(buf);
+    return visitor.visit(view());
   }
 
   @Override
@@ -119,7 +128,7 @@ final class ShortNioDataBuffer extends AbstractNioDataBuffer<Short>
 
       @Override
       public Boolean visit(ShortBuffer buffer) {
-        return buf.equals(buffer);
+        return view().equals(buffer);
       }
 
       @Override
@@ -140,8 +149,34 @@ final class ShortNioDataBuffer extends AbstractNioDataBuffer<Short>
   }
 
   ShortNioDataBuffer(ShortBuffer buf) {
+    this(buf, buf.capacity());
+  }
+
+  private final ShortBuffer buf;
+
+  private ShortNioDataBuffer(ShortBuffer buf, int size) {
+    super(size);
     this.buf = buf;
   }
 
-  private ShortBuffer buf;
+  private ShortBuffer view() {
+    if (offset() == 0 && size() == buf.capacity()) {
+      return buf;
+    }
+    ShortBuffer viewBuf = buf.duplicate();
+    viewBuf.position(offset());
+    viewBuf.limit(offset() + (int)size());
+    return viewBuf.slice();
+  }
+
+  /**
+   * Returns a duplicate of the backing buffer positioned over the first values of this buffer, for
+   * bulk transfers that do not need a slice of their own.
+   */
+  private ShortBuffer bulkBuf(long length) {
+    ShortBuffer bulkBuf = buf.duplicate();
+    bulkBuf.limit(offset() + (int)length);
+    bulkBuf.position(offset());
+    return bulkBuf;
+  }
 }
@@ -0,0 +1,262 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.pool;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.BufferPool;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.Pooled;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A pool of buffers recycling primitive arrays, bucketed by power-of-two size classes.
+ *
+ * <p>Released arrays are first kept in a small cache local to the releasing thread, which is
+ * checked first on allocation. When that cache is full, arrays are shared with other threads
+ * through a lock-free queue per type and size class. Only shared arrays count in the retained
+ * bytes, since other threads cannot reach the local caches, which are instead bounded to 1MB and
+ * collected with their thread.
+ */
+public class ArrayBufferPool implements BufferPool {
+
+  @Override
+  public Pooled<ByteDataBuffer> allocateBytes(long size) {
+    byte[] array = (byte[])acquire(ArrayType.BYTE, size);
+    return new PooledBuffer<>(this, ArrayType.BYTE, array, DataBuffers.of(array, false, false).narrow(size));
+  }
+
+  @Override
+  public Pooled<LongDataBuffer> allocateLongs(long size) {
+    long[] array = (long[])acquire(ArrayType.LONG, size);
+    return new PooledBuffer<>(this, ArrayType.LONG, array, DataBuffers.of(array, false, false).narrow(size));
+  }
+
+  @Override
+  public Pooled<IntDataBuffer> allocateInts(long size) {
+    int[] array = (int[])acquire(ArrayType.INT, size);
+    return new PooledBuffer<>(this, ArrayType.INT, array, DataBuffers.of(array, false, false).narrow(size));
+  }
+
+  @Override
+  public Pooled<ShortDataBuffer> allocateShorts(long size) {
+    short[] array = (short[])acquire(ArrayType.SHORT, size);
+    return new PooledBuffer<>(this, ArrayType.SHORT, array, DataBuffers.of(array, false, false).narrow(size));
+  }
+
+  @Override
+  public Pooled<DoubleDataBuffer> allocateDoubles(long size) {
+    double[] array = (double[])acquire(ArrayType.DOUBLE, size);
+    return new PooledBuffer<>(this, ArrayType.DOUBLE, array, DataBuffers.of(array, false, false).narrow(size));
+  }
+
+  @Override
+  public Pooled<FloatDataBuffer> allocateFloats(long size) {
+    float[] array = (float[])acquire(ArrayType.FLOAT, size);
+    return new PooledBuffer<>(this, ArrayType.FLOAT, array, DataBuffers.of(array, false, false).narrow(size));
+  }
+
+  @Override
+  public Pooled<BooleanDataBuffer> allocateBooleans(long size) {
+    boolean[] array = (boolean[])acquire(ArrayType.BOOLEAN, size);
+    return new PooledBuffer<>(this, ArrayType.BOOLEAN, array, DataBuffers.of(array, false, false).narrow(size));
+  }
+
+  @Override
+  public Metrics metrics() {
+    return metrics;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    localCache.remove();
+    for (ConcurrentLinkedQueue<Object> freeList : freeLists) {
+      freeList.clear();
+    }
+    retainedBytes.set(0);
+  }
+
+  @SuppressWarnings("unchecked")
+  public ArrayBufferPool(long maxRetainedBytes) {
+    if (maxRetainedBytes < 0) {
+      throw new IllegalArgumentException("Maximum number of retained bytes must be non-negative");
+    }
+    this.maxRetainedBytes = maxRetainedBytes;
+    this.maxLocalBytes = Math.min(LOCAL_CACHE_BYTES, maxRetainedBytes);
+    int numTypes = ArrayType.values().length;
+    freeLists = (ConcurrentLinkedQueue<Object>[])new ConcurrentLinkedQueue<?>[numTypes * NUM_SIZE_CLASSES];
+    for (int i = 0; i < freeLists.length; ++i) {
+      freeLists[i] = new ConcurrentLinkedQueue<>();
+    }
+  }
+
+  Object acquire(ArrayType type, long size) {
+    checkOpen();
+    Validator.createArgs(size, MAX_32BITS);
+    int sizeClass = sizeClassOf(size);
+    if (sizeClass < 0) {
+      misses.increment();
+      return type.allocate((int)size);
+    }
+    int bucket = type.ordinal() * NUM_SIZE_CLASSES + sizeClass;
+    long bytes = (long)type.byteSize << (sizeClass + MIN_SIZE_CLASS);
+    Object array = localCache.get().poll(bucket, bytes);
+    if (array == null) {
+      array = freeLists[bucket].poll();
+      if (array == null) {
+        misses.increment();
+        return type.allocate(1 << (sizeClass + MIN_SIZE_CLASS));
+      }
+      retainedBytes.addAndGet(-bytes);
+    }
+    hits.increment();
+    type.clear(array, (int)size);
+    return array;
+  }
+
+  void release(ArrayType type, Object array) {
+    checkOpen();
+    int length = type.length(array);
+    int sizeClass = sizeClassOf(length);
+    if (sizeClass < 0 || length != 1 << (sizeClass + MIN_SIZE_CLASS)) {
+      return; // not allocated by the pool
+    }
+    int bucket = type.ordinal() * NUM_SIZE_CLASSES + sizeClass;
+    long bytes = (long)length * type.byteSize;
+    if (localCache.get().offer(bucket, array, bytes, maxLocalBytes)) {
+      return;
+    }
+    if (!retain(bytes)) {
+      evictions.increment();
+      return;
+    }
+    freeLists[bucket].offer(array);
+  }
+
+  private static final int MIN_SIZE_CLASS = 6; // 64 elements
+  private static final int MAX_SIZE_CLASS = 30;
+  private static final int NUM_SIZE_CLASSES = MAX_SIZE_CLASS - MIN_SIZE_CLASS + 1;
+  private static final int LOCAL_CACHE_SIZE = 4;
+  private static final long LOCAL_CACHE_BYTES = 1L << 20;
+  private static final long MAX_32BITS = Integer.MAX_VALUE - 10;
+
+  private final long maxRetainedBytes;
+  private final long maxLocalBytes;
+  private final ConcurrentLinkedQueue<Object>[] freeLists;
+  private final ThreadLocal<LocalCache> localCache = ThreadLocal.withInitial(LocalCache::new);
+  private final AtomicLong retainedBytes = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile boolean closed;
+
+  private final Metrics metrics = new Metrics() {
+
+    @Override
+    public long hits() {
+      return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+      return misses.sum();
+    }
+
+    @Override
+    public long bytesRetained() {
+      return retainedBytes.get();
+    }
+
+    @Override
+    public long evictions() {
+      return evictions.sum();
+    }
+  };
+
+  /**
+   * Returns the index of the size class of arrays that can hold {@code size} elements, or -1 if
+   * that size is too large to be pooled.
+   */
+  private static int sizeClassOf(long size) {
+    if (size <= 1L << MIN_SIZE_CLASS) {
+      return 0;
+    }
+    int sizeClass = 64 - Long.numberOfLeadingZeros(size - 1);
+    return sizeClass <= MAX_SIZE_CLASS ? sizeClass - MIN_SIZE_CLASS : -1;
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Buffer pool is closed");
+    }
+  }
+
+  private boolean retain(long bytes) {
+    long retained;
+    do {
+      retained = retainedBytes.get();
+      if (retained + bytes > maxRetainedBytes) {
+        return false;
+      }
+    } while (!retainedBytes.compareAndSet(retained, retained + bytes));
+    return true;
+  }
+
+  /**
+   * Arrays cached by a single thread, up to a few per type and size class and up to a maximum
+   * number of bytes in total.
+   */
+  private static final class LocalCache {
+
+    Object poll(int bucket, long arrayBytes) {
+      int count = counts[bucket];
+      if (count == 0) {
+        return null;
+      }
+      int slot = bucket * LOCAL_CACHE_SIZE + --count;
+      Object array = slots[slot];
+      slots[slot] = null;
+      counts[bucket] = count;
+      bytes -= arrayBytes;
+      return array;
+    }
+
+    boolean offer(int bucket, Object array, long arrayBytes, long maxBytes) {
+      int count = counts[bucket];
+      if (count == LOCAL_CACHE_SIZE || bytes + arrayBytes > maxBytes) {
+        return false;
+      }
+      slots[bucket * LOCAL_CACHE_SIZE + count] = array;
+      counts[bucket] = count + 1;
+      bytes += arrayBytes;
+      return true;
+    }
+
+    private final int[] counts = new int[ArrayType.values().length * NUM_SIZE_CLASSES];
+    private final Object[] slots = new Object[counts.length * LOCAL_CACHE_SIZE];
+    private long bytes;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.pool;
+
+import java.util.Arrays;
+
+/**
+ * Types of primitive arrays recycled by a {@link ArrayBufferPool}.
+ */
+enum ArrayType {
+  BYTE(Byte.BYTES) {
+    @Override
+    Object allocate(int length) {
+      return new byte[length];
+    }
+
+    @Override
+    int length(Object array) {
+      return ((byte[])array).length;
+    }
+
+    @Override
+    void clear(Object array, int length) {
+      Arrays.fill((byte[])array, 0, length, (byte)0);
+    }
+  },
+  SHORT(Short.BYTES) {
+    @Override
+    Object allocate(int length) {
+      return new short[length];
+    }
+
+    @Override
+    int length(Object array) {
+      return ((short[])array).length;
+    }
+
+    @Override
+    void clear(Object array, int length) {
+      Arrays.fill((short[])array, 0, length, (short)0);
+    }
+  },
+  INT(Integer.BYTES) {
+    @Override
+    Object allocate(int length) {
+      return new int[length];
+    }
+
+    @Override
+    int length(Object array) {
+      return ((int[])array).length;
+    }
+
+    @Override
+    void clear(Object array, int length) {
+      Arrays.fill((int[])array, 0, length, 0);
+    }
+  },
+  LONG(Long.BYTES) {
+    @Override
+    Object allocate(int length) {
+      return new long[length];
+    }
+
+    @Override
+    int length(Object array) {
+      return ((long[])array).length;
+    }
+
+    @Override
+    void clear(Object array, int length) {
+      Arrays.fill((long[])array, 0, length, 0L);
+    }
+  },
+  FLOAT(Float.BYTES) {
+    @Override
+    Object allocate(int length) {
+      return new float[length];
+    }
+
+    @Override
+    int length(Object array) {
+      return ((float[])array).length;
+    }
+
+    @Override
+    void clear(Object array, int length) {
+      Arrays.fill((float[])array, 0, length, 0.0f);
+    }
+  },
+  DOUBLE(Double.BYTES) {
+    @Override
+    Object allocate(int length) {
+      return new double[length];
+    }
+
+    @Override
+    int length(Object array) {
+      return ((double[])array).length;
+    }
+
+    @Override
+    void clear(Object array, int length) {
+      Arrays.fill((double[])array, 0, length, 0.0);
+    }
+  },
+  BOOLEAN(1) {
+    @Override
+    Object allocate(int length) {
+      return new boolean[length];
+    }
+
+    @Override
+    int length(Object array) {
+      return ((boolean[])array).length;
+    }
+
+    @Override
+    void clear(Object array, int length) {
+      Arrays.fill((boolean[])array, 0, length, false);
+    }
+  };
+
+  abstract Object allocate(int length);
+
+  abstract int length(Object array);
+
+  abstract void clear(Object array, int length);
+
+  final int byteSize;
+
+  ArrayType(int byteSize) {
+    this.byteSize = byteSize;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.pool;
+
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.Pooled;
+
+/**
+ * A buffer borrowed from a {@link ArrayBufferPool}, returning its array to the pool when closed.
+ */
+final class PooledBuffer<B extends DataBuffer<?>> implements Pooled<B> {
+
+  @Override
+  public B get() {
+    return buffer;
+  }
+
+  @Override
+  public void close() {
+    if (array != null) {
+      pool.release(type, array);
+      array = null;
+    }
+  }
+
+  PooledBuffer(ArrayBufferPool pool, ArrayType type, Object array, B buffer) {
+    this.pool = pool;
+    this.type = type;
+    this.array = array;
+    this.buffer = buffer;
+  }
+
+  private final ArrayBufferPool pool;
+  private final ArrayType type;
+  private final B buffer;
+  private Object array;
+}
@@ -73,9 +73,9 @@ final class ByteRawDataBuffer extends AbstractRawDataBuffer<Byte, ByteDataBuffer
       @Override
       public ByteDataBuffer visit(ByteBuffer buffer) {
         if (buffer.hasArray()) {
-          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.position(), buffer.limit()), size);
+          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()), size);
         } else if (memory.isArray()) {
-          buffer.put(memory.toArrayByteBuffer());
+          buffer.duplicate().put(memory.narrow(size).toArrayByteBuffer());
         } else {
           slowCopyTo(dst, size);
         }
@@ -137,7 +137,7 @@ final class ByteRawDataBuffer extends AbstractRawDataBuffer<Byte, ByteDataBuffer
     if (memory.isArray()) {
       return visitor.visit(memory.toArrayByteBuffer());
     }
-    return visitor.visit(memory.byteOffset, memory.byteSize, memory.scale);
+    return visitor.visit(memory.address(), memory.byteSize, memory.scale);
   }
 
   @Override
@@ -67,9 +67,9 @@ final class DoubleRawDataBuffer extends AbstractRawDataBuffer<Double, DoubleData
       @Override
       public DoubleDataBuffer visit(DoubleBuffer buffer) {
         if (buffer.hasArray()) {
-          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.position(), buffer.limit()), size);
+          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()), size);
         } else if (memory.isArray()) {
-          buffer.put(memory.toArrayDoubleBuffer());
+          buffer.duplicate().put(memory.narrow(size).toArrayDoubleBuffer());
         } else {
           slowCopyTo(dst, size);
         }
@@ -101,7 +101,7 @@ final class DoubleRawDataBuffer extends AbstractRawDataBuffer<Double, DoubleData
     if (memory.isArray()) {
       return visitor.visit(memory.toArrayDoubleBuffer());
     }
-    return visitor.visit(memory.byteOffset, memory.byteSize, memory.scale);
+    return visitor.visit(memory.address(), memory.byteSize, memory.scale);
   }
 
   @Override
@@ -68,9 +68,9 @@ final class FloatRawDataBuffer extends AbstractRawDataBuffer<Float, FloatDataBuf
       @Override
       public FloatDataBuffer visit(FloatBuffer buffer) {
         if (buffer.hasArray()) {
-          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.position(), buffer.limit()), size);
+          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()), size);
         } else if (memory.isArray()) {
-          buffer.put(memory.toArrayFloatBuffer());
+          buffer.duplicate().put(memory.narrow(size).toArrayFloatBuffer());
         } else {
           slowCopyTo(dst, size);
         }
@@ -102,7 +102,7 @@ final class FloatRawDataBuffer extends AbstractRawDataBuffer<Float, FloatDataBuf
     if (memory.isArray()) {
       return visitor.visit(memory.toArrayFloatBuffer());
     }
-    return visitor.visit(memory.byteOffset, memory.byteSize, memory.scale);
+    return visitor.visit(memory.address(), memory.byteSize, memory.scale);
   }
 
   @Override
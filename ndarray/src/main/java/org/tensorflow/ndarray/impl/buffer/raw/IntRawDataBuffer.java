@@ -67,9 +67,9 @@ final class IntRawDataBuffer extends AbstractRawDataBuffer<Integer, IntDataBuffe
       @Override
       public IntDataBuffer visit(IntBuffer buffer) {
         if (buffer.hasArray()) {
-          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.position(), buffer.limit()), size);
+          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()), size);
         } else if (memory.isArray()) {
-          buffer.put(memory.toArrayIntBuffer());
+          buffer.duplicate().put(memory.narrow(size).toArrayIntBuffer());
         } else {
           slowCopyTo(dst, size);
         }
@@ -101,7 +101,7 @@ final class IntRawDataBuffer extends AbstractRawDataBuffer<Integer, IntDataBuffe
     if (memory.isArray()) {
       return visitor.visit(memory.toArrayIntBuffer());
     }
-    return visitor.visit(memory.byteOffset, memory.byteSize, memory.scale);
+    return visitor.visit(memory.address(), memory.byteSize, memory.scale);
   }
 
   @Override
@@ -67,9 +67,9 @@ final class LongRawDataBuffer extends AbstractRawDataBuffer<Long, LongDataBuffer
       @Override
       public LongDataBuffer visit(LongBuffer buffer) {
         if (buffer.hasArray()) {
-          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.position(), buffer.limit()), size);
+          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()), size);
         } else if (memory.isArray()) {
-          buffer.put(memory.toArrayLongBuffer());
+          buffer.duplicate().put(memory.narrow(size).toArrayLongBuffer());
         } else {
           slowCopyTo(dst, size);
         }
@@ -101,7 +101,7 @@ final class LongRawDataBuffer extends AbstractRawDataBuffer<Long, LongDataBuffer
     if (memory.isArray()) {
       return visitor.visit(memory.toArrayLongBuffer());
     }
-    return visitor.visit(memory.byteOffset, memory.byteSize, memory.scale);
+    return visitor.visit(memory.address(), memory.byteSize, memory.scale);
   }
 
   @Override
@@ -0,0 +1,244 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.ndarray.impl.buffer.raw;
+
+import static org.tensorflow.ndarray.impl.buffer.raw.UnsafeReference.UNSAFE;
+
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferArena;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+
+/**
+ * A {@link DataBufferArena} bump-allocating raw buffers in native memory slabs, using the
+ * {@code mapNative*} hooks of {@link RawDataBufferFactory}.
+ *
+ * <p>All buffers allocated by an arena share its memory scope, which is closed before the slabs are
+ * released so that these buffers cannot access them anymore.
+ */
+public final class RawDataBufferArena implements DataBufferArena {
+
+  public static RawDataBufferArena create(long slabSize, boolean debug) {
+    if (!RawDataBufferFactory.canBeUsed()) {
+      throw new IllegalStateException("Native memory cannot be allocated on this JVM");
+    }
+    if (slabSize <= 0) {
+      throw new IllegalArgumentException("Slab size must be positive, got " + slabSize);
+    }
+    return new RawDataBufferArena(slabSize, debug);
+  }
+
+  @Override
+  public ByteDataBuffer allocateBytes(long size) {
+    return RawDataBufferFactory.mapNativeBytes(allocate(size, Byte.BYTES), size, false, scope);
+  }
+
+  @Override
+  public LongDataBuffer allocateLongs(long size) {
+    return RawDataBufferFactory.mapNativeLongs(allocate(size, Long.BYTES), size, false, scope);
+  }
+
+  @Override
+  public IntDataBuffer allocateInts(long size) {
+    return RawDataBufferFactory.mapNativeInts(allocate(size, Integer.BYTES), size, false, scope);
+  }
+
+  @Override
+  public ShortDataBuffer allocateShorts(long size) {
+    return RawDataBufferFactory.mapNativeShorts(allocate(size, Short.BYTES), size, false, scope);
+  }
+
+  @Override
+  public DoubleDataBuffer allocateDoubles(long size) {
+    return RawDataBufferFactory.mapNativeDoubles(allocate(size, Double.BYTES), size, false, scope);
+  }
+
+  @Override
+  public FloatDataBuffer allocateFloats(long size) {
+    return RawDataBufferFactory.mapNativeFloats(allocate(size, Float.BYTES), size, false, scope);
+  }
+
+  @Override
+  public BooleanDataBuffer allocateBooleans(long size) {
+    return RawDataBufferFactory.mapNativeBooleans(allocate(size, Byte.BYTES), size, false, scope);
+  }
+
+  @Override
+  public synchronized long allocatedBytes() {
+    return allocatedBytes;
+  }
+
+  @Override
+  public synchronized boolean isClosed() {
+    return state.closed;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (state.closed) {
+      return;
+    }
+    long corruptedAddress = state.findCorruptedGuard();
+    state.closed = true;
+    scope.close();
+    cleanable.clean();  // releases the slabs
+    if (corruptedAddress != 0) {
+      throw new IllegalStateException("Data has been written out of the bounds of the buffer "
+          + "ending at address 0x" + Long.toHexString(corruptedAddress));
+    }
+  }
+
+  /**
+   * State of an arena, released either explicitly when the arena is closed or reported as leaked
+   * when the arena is garbage collected without being closed.
+   *
+   * <p>It must not retain any reference to the arena itself, so that the latter can be collected.
+   */
+  private static final class State implements Runnable {
+
+    @Override
+    public void run() {
+      if (!closed) {
+        // The memory is leaked on purpose, as buffers allocated by the arena might still be in use
+        if (creationTrace != null) {
+          LOGGER.log(System.Logger.Level.WARNING, LEAK_MESSAGE, creationTrace);
+        } else {
+          LOGGER.log(System.Logger.Level.WARNING, LEAK_MESSAGE
+              + " (create the arena in debug mode to find where it has been allocated)");
+        }
+        return;
+      }
+      for (int i = 0; i < slabCount; ++i) {
+        UNSAFE.freeMemory(slabs[i]);
+      }
+      slabCount = 0;
+    }
+
+    void addSlab(long address) {
+      if (slabCount == slabs.length) {
+        slabs = Arrays.copyOf(slabs, slabCount * 2);
+      }
+      slabs[slabCount++] = address;
+    }
+
+    void addGuard(long address, long size) {
+      if (guardCount + 2 > guards.length) {
+        guards = Arrays.copyOf(guards, guards.length * 2);
+      }
+      guards[guardCount++] = address;
+      guards[guardCount++] = size;
+    }
+
+    long findCorruptedGuard() {
+      for (int i = 0; i < guardCount; i += 2) {
+        long address = guards[i];
+        for (long j = 0; j < guards[i + 1]; ++j) {
+          if (UNSAFE.getByte(address + j) != GUARD_VALUE) {
+            return address;
+          }
+        }
+      }
+      return 0;
+    }
+
+    State(boolean debug) {
+      creationTrace = debug ? new Throwable("Arena allocated here") : null;
+      guards = debug ? new long[32] : null;
+    }
+
+    private final Throwable creationTrace;
+    private long[] slabs = new long[8];
+    private int slabCount = 0;
+    private long[] guards;
+    private int guardCount = 0;
+    private boolean closed = false;
+  }
+
+  private RawDataBufferArena(long slabSize, boolean debug) {
+    this.slabSize = slabSize;
+    this.debug = debug;
+    this.state = new State(debug);
+    this.cleanable = CLEANER.register(this, state);
+  }
+
+  private synchronized long allocate(long size, int scale) {
+    if (state.closed) {
+      throw new IllegalStateException("Arena has been closed");
+    }
+    if (size < 0 || size > RawDataBufferFactory.MAX_64BITS / scale) {
+      throw new IllegalArgumentException("Size " + size + " is out of range");
+    }
+    long byteSize = size * scale;
+    long alignedSize = align(byteSize);
+    long requiredSize = debug ? alignedSize + GUARD_SIZE : alignedSize;
+    long address;
+    if (requiredSize <= slabRemaining) {
+      address = slabCursor;
+      slabCursor += requiredSize;
+      slabRemaining -= requiredSize;
+    } else if (requiredSize > slabSize) {
+      // Oversized buffers get a slab of their own, keeping what remains in the current one
+      address = reserveSlab(requiredSize);
+    } else {
+      address = reserveSlab(slabSize);
+      slabCursor = address + requiredSize;
+      slabRemaining = slabSize - requiredSize;
+    }
+    UNSAFE.setMemory(address, byteSize, (byte)0);
+    if (debug) {
+      // Padding added for alignment is also part of the guard zone
+      long guardSize = requiredSize - byteSize;
+      UNSAFE.setMemory(address + byteSize, guardSize, GUARD_VALUE);
+      state.addGuard(address + byteSize, guardSize);
+    }
+    allocatedBytes += requiredSize;
+    return address;
+  }
+
+  private long reserveSlab(long size) {
+    long address = UNSAFE.allocateMemory(size + ALIGNMENT - 1);
+    state.addSlab(address);
+    return align(address);
+  }
+
+  private static long align(long value) {
+    return (value + ALIGNMENT - 1) & -ALIGNMENT;
+  }
+
+  private static final Cleaner CLEANER = Cleaner.create();
+  private static final System.Logger LOGGER = System.getLogger(DataBufferArena.class.getName());
+  private static final String LEAK_MESSAGE = "A data buffer arena has not been closed before "
+      + "being garbage collected, its memory is leaked";
+  private static final long GUARD_SIZE = ALIGNMENT;
+  private static final byte GUARD_VALUE = (byte)0xDB;
+
+  private final long slabSize;
+  private final boolean debug;
+  private final State state;
+  private final Cleaner.Cleanable cleanable;
+  private final RawMemoryScope scope = new RawMemoryScope();
+  private long slabCursor = 0;
+  private long slabRemaining = 0;
+  private long allocatedBytes = 0;
+}
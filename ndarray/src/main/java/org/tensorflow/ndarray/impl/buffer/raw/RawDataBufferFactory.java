@@ -82,59 +82,87 @@ public class RawDataBufferFactory {
   }
 
   protected static BooleanDataBuffer mapNativeBooleans(long address, long size, boolean readOnly) {
+    return mapNativeBooleans(address, size, readOnly, null);
+  }
+
+  static BooleanDataBuffer mapNativeBooleans(long address, long size, boolean readOnly, RawMemoryScope scope) {
     if (!canBeUsed()) {
       throw new IllegalStateException("Raw data buffers are not available");
     }
-    Validator.createArgs(size, MAX_64BITS);
-    return new BooleanRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size, Byte.BYTES), readOnly);
+    Validator.createArgs(size, MAX_64BITS / Byte.BYTES);
+    return new BooleanRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size * Byte.BYTES, Byte.BYTES, scope), readOnly);
   }
 
   protected static ByteDataBuffer mapNativeBytes(long address, long size, boolean readOnly) {
+    return mapNativeBytes(address, size, readOnly, null);
+  }
+
+  static ByteDataBuffer mapNativeBytes(long address, long size, boolean readOnly, RawMemoryScope scope) {
     if (!canBeUsed()) {
       throw new IllegalStateException("Raw data buffers are not available");
     }
-    Validator.createArgs(size, MAX_64BITS);
-    return new ByteRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size, Byte.BYTES), readOnly);
+    Validator.createArgs(size, MAX_64BITS / Byte.BYTES);
+    return new ByteRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size * Byte.BYTES, Byte.BYTES, scope), readOnly);
   }
 
   protected static DoubleDataBuffer mapNativeDoubles(long address, long size, boolean readOnly) {
+    return mapNativeDoubles(address, size, readOnly, null);
+  }
+
+  static DoubleDataBuffer mapNativeDoubles(long address, long size, boolean readOnly, RawMemoryScope scope) {
     if (!canBeUsed()) {
       throw new IllegalStateException("Raw data buffers are not available");
     }
-    Validator.createArgs(size, MAX_64BITS);
-    return new DoubleRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size, Double.BYTES), readOnly);
+    Validator.createArgs(size, MAX_64BITS / Double.BYTES);
+    return new DoubleRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size * Double.BYTES, Double.BYTES, scope), readOnly);
   }
 
   protected static FloatDataBuffer mapNativeFloats(long address, long size, boolean readOnly) {
+    return mapNativeFloats(address, size, readOnly, null);
+  }
+
+  static FloatDataBuffer mapNativeFloats(long address, long size, boolean readOnly, RawMemoryScope scope) {
     if (!canBeUsed()) {
       throw new IllegalStateException("Raw data buffers are not available");
     }
-    Validator.createArgs(size, MAX_64BITS);
-    return new FloatRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size, Float.BYTES), readOnly);
+    Validator.createArgs(size, MAX_64BITS / Float.BYTES);
+    return new FloatRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size * Float.BYTES, Float.BYTES, scope), readOnly);
   }
 
   protected static IntDataBuffer mapNativeInts(long address, long size, boolean readOnly) {
+    return mapNativeInts(address, size, readOnly, null);
+  }
+
+  static IntDataBuffer mapNativeInts(long address, long size, boolean readOnly, RawMemoryScope scope) {
     if (!canBeUsed()) {
       throw new IllegalStateException("Raw data buffers are not available");
     }
-    Validator.createArgs(size, MAX_64BITS);
-    return new IntRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size, Integer.BYTES), readOnly);
+    Validator.createArgs(size, MAX_64BITS / Integer.BYTES);
+    return new IntRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size * Integer.BYTES, Integer.BYTES, scope), readOnly);
   }
 
   protected static LongDataBuffer mapNativeLongs(long address, long size, boolean readOnly) {
+    return mapNativeLongs(address, size, readOnly, null);
+  }
+
+  static LongDataBuffer mapNativeLongs(long address, long size, boolean readOnly, RawMemoryScope scope) {
     if (!canBeUsed()) {
       throw new IllegalStateException("Raw data buffers are not available");
     }
-    Validator.createArgs(size, MAX_64BITS);
-    return new LongRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size, Long.BYTES), readOnly);
+    Validator.createArgs(size, MAX_64BITS / Long.BYTES);
+    return new LongRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size * Long.BYTES, Long.BYTES, scope), readOnly);
   }
 
   protected static ShortDataBuffer mapNativeShorts(long address, long size, boolean readOnly) {
+    return mapNativeShorts(address, size, readOnly, null);
+  }
+
+  static ShortDataBuffer mapNativeShorts(long address, long size, boolean readOnly, RawMemoryScope scope) {
     if (!canBeUsed()) {
       throw new IllegalStateException("Raw data buffers are not available");
     }
-    Validator.createArgs(size, MAX_64BITS);
-    return new ShortRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size, Short.BYTES), readOnly);
+    Validator.createArgs(size, MAX_64BITS / Short.BYTES);
+    return new ShortRawDataBuffer(UnsafeMemoryHandle.fromAddress(address, size * Short.BYTES, Short.BYTES, scope), readOnly);
   }
 
   /*
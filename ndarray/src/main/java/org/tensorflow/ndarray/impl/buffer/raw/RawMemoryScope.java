@@ -0,0 +1,39 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.ndarray.impl.buffer.raw;
+
+/**
+ * Lifetime of native memory released by its owner, shared by all the raw buffers mapping it.
+ *
+ * <p>Once the scope is closed, these buffers and any view of them throw an {@link
+ * IllegalStateException} instead of accessing the released memory.
+ */
+final class RawMemoryScope {
+
+  void checkAlive() {
+    if (closed) {
+      throw new IllegalStateException("Buffer memory has been released");
+    }
+  }
+
+  void close() {
+    closed = true;
+  }
+
+  private volatile boolean closed = false;
+}
@@ -67,9 +67,9 @@ final class ShortRawDataBuffer extends AbstractRawDataBuffer<Short, ShortDataBuf
       @Override
       public ShortDataBuffer visit(ShortBuffer buffer) {
         if (buffer.hasArray()) {
-          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.position(), buffer.limit()), size);
+          memory.copyTo(UnsafeMemoryHandle.fromArray(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()), size);
         } else if (memory.isArray()) {
-          buffer.put(memory.toArrayShortBuffer());
+          buffer.duplicate().put(memory.narrow(size).toArrayShortBuffer());
         } else {
           slowCopyTo(dst, size);
         }
@@ -101,7 +101,7 @@ final class ShortRawDataBuffer extends AbstractRawDataBuffer<Short, ShortDataBuf
     if (memory.isArray()) {
       return visitor.visit(memory.toArrayShortBuffer());
     }
-    return visitor.visit(memory.byteOffset, memory.byteSize, memory.scale);
+    return visitor.visit(memory.address(), memory.byteSize, memory.scale);
   }
 
   @Override
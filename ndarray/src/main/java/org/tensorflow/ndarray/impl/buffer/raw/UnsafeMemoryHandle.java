@@ -33,11 +33,15 @@ final class UnsafeMemoryHandle {
   static UnsafeMemoryHandle fromArray(Object array, int arrayOffset, int length) {
     long scale = UnsafeReference.UNSAFE.arrayIndexScale(array.getClass());
     int baseOffset = UnsafeReference.UNSAFE.arrayBaseOffset(array.getClass());
-    return new UnsafeMemoryHandle(array, baseOffset + (arrayOffset * scale), length * scale, scale);
+    return new UnsafeMemoryHandle(array, baseOffset + (arrayOffset * scale), length * scale, scale, null);
   }
 
   static UnsafeMemoryHandle fromAddress(long address, long byteSize, long scale) {
-    return new UnsafeMemoryHandle(address, byteSize, scale);
+    return new UnsafeMemoryHandle(address, byteSize, scale, null);
+  }
+
+  static UnsafeMemoryHandle fromAddress(long address, long byteSize, long scale, RawMemoryScope scope) {
+    return new UnsafeMemoryHandle(address, byteSize, scale, scope);
   }
 
   long size() {
@@ -101,33 +105,40 @@ final class UnsafeMemoryHandle {
   }
 
   void copyTo(UnsafeMemoryHandle memory, long length) {
+    checkScope();
+    memory.checkScope();
     UnsafeReference.UNSAFE.copyMemory(object, byteOffset, memory.object, memory.byteOffset, length * scale);
   }
 
   UnsafeMemoryHandle offset(long index) {
     long offset = scale(index);
-    return new UnsafeMemoryHandle(object, this.byteOffset + offset, byteSize - offset, scale);
+    return new UnsafeMemoryHandle(object, this.byteOffset + offset, byteSize - offset, scale, scope);
   }
 
   UnsafeMemoryHandle narrow(long size) {
-    return new UnsafeMemoryHandle(object, byteOffset, scale(size), scale);
+    return new UnsafeMemoryHandle(object, byteOffset, scale(size), scale, scope);
   }
 
   UnsafeMemoryHandle slice(long index, long size) {
-    return new UnsafeMemoryHandle(object, this.byteOffset + scale(index), scale(size), scale);
+    return new UnsafeMemoryHandle(object, this.byteOffset + scale(index), scale(size), scale, scope);
   }
 
   UnsafeMemoryHandle rescale(long scale) {
     if (object != null) {
       throw new IllegalStateException("Raw heap memory cannot be rescaled");
     }
-    return new UnsafeMemoryHandle(null, byteOffset, byteSize, scale);
+    return new UnsafeMemoryHandle(null, byteOffset, byteSize, scale, scope);
   }
 
   void rebase(long index) {
     byteOffset = baseOffset + scale(index);
   }
 
+  long address() {
+    checkScope();
+    return byteOffset;
+  }
+
   boolean isArray() {
     return object != null;
   }
@@ -171,21 +182,30 @@ final class UnsafeMemoryHandle {
   final long byteSize;
   final long scale;
   final long size;
+  final RawMemoryScope scope;
 
-  private UnsafeMemoryHandle(Object object, long baseOffset, long byteSize, long scale) {
+  private UnsafeMemoryHandle(Object object, long baseOffset, long byteSize, long scale, RawMemoryScope scope) {
     this.object = object;
     this.baseOffset = baseOffset;
     byteOffset = baseOffset;
     this.byteSize = byteSize;
     this.scale = scale;
     size = byteSize / scale;
+    this.scope = scope;
   }
 
-  private UnsafeMemoryHandle(long address, long byteSize, long scale) {
-    this(null, address, byteSize, scale);
+  private UnsafeMemoryHandle(long address, long byteSize, long scale, RawMemoryScope scope) {
+    this(null, address, byteSize, scale, scope);
+  }
+
+  private void checkScope() {
+    if (scope != null) {
+      scope.checkAlive();
+    }
   }
 
   private long align(long index) {
+    checkScope();
     return byteOffset + index * scale;
   }
 
@@ -53,6 +53,9 @@ final class UnsafeReference {
         checkMethod(clazz, "copyMemory", Object.class, long.class, Object.class, long.class, long.class);
         checkMethod(clazz, "arrayBaseOffset", Class.class);
         checkMethod(clazz, "arrayIndexScale", Class.class);
+        checkMethod(clazz, "allocateMemory", long.class);
+        checkMethod(clazz, "freeMemory", long.class);
+        checkMethod(clazz, "setMemory", long.class, long.class, byte.class);
 
         unsafe = (Unsafe) instance;
       }
@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.function.Function;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.MappedDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+
+/**
+ * Factory of data buffers backed by memory segments.
+ * <p>
+ * Memory segments are part of the foreign memory API, available from JDK 22. On previous JDKs,
+ * this factory cannot be used and {@link org.tensorflow.ndarray.buffer.DataBuffers} falls back
+ * to raw or NIO buffers. On JDK 22+, this class is replaced by its version found in the
+ * multi-release jar.
+ */
+public class SegmentDataBufferFactory {
+
+  public static boolean canBeUsed() {
+    return false;
+  }
+
+  public static BooleanDataBuffer allocateBooleans(long size) {
+    throw new IllegalStateException("Memory segment data buffers are not available");
+  }
+
+  public static ByteDataBuffer create(byte[] array, boolean readOnly) {
+    throw new IllegalStateException("Memory segment data buffers are not available");
+  }
+
+  public static DoubleDataBuffer create(double[] array, boolean readOnly) {
+    throw new IllegalStateException("Memory segment data buffers are not available");
+  }
+
+  public static FloatDataBuffer create(float[] array, boolean readOnly) {
+    throw new IllegalStateException("Memory segment data buffers are not available");
+  }
+
+  public static IntDataBuffer create(int[] array, boolean readOnly) {
+    throw new IllegalStateException("Memory segment data buffers are not available");
+  }
+
+  public static LongDataBuffer create(long[] array, boolean readOnly) {
+    throw new IllegalStateException("Memory segment data buffers are not available");
+  }
+
+  public static ShortDataBuffer create(short[] array, boolean readOnly) {
+    throw new IllegalStateException("Memory segment data buffers are not available");
+  }
+
+  public static <B extends DataBuffer<?>> MappedDataBuffer<B> map(FileChannel channel,
+      FileChannel.MapMode mode, long position, long byteSize, Function<ByteDataBuffer, B> view)
+      throws IOException {
+    throw new IllegalStateException("Memory segment data buffers are not available");
+  }
+
+  private SegmentDataBufferFactory() {}
+}
@@ -16,12 +16,21 @@
  */
 package org.tensorflow.ndarray.impl.dense;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.NdArraySequence;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.SlicePlan;
 import org.tensorflow.ndarray.impl.AbstractNdArray;
+import org.tensorflow.ndarray.impl.dimension.Dimension;
 import org.tensorflow.ndarray.impl.dimension.RelativeDimensionalSpace;
+import org.tensorflow.ndarray.impl.dimension.SliceMapping;
+import org.tensorflow.ndarray.impl.sequence.ElementView;
 import org.tensorflow.ndarray.impl.sequence.FastElementSequence;
+import org.tensorflow.ndarray.impl.sequence.PositionIterator;
 import org.tensorflow.ndarray.index.Index;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.DataBufferWindow;
@@ -43,9 +52,10 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     }
     DimensionalSpace elemDims = dimensions().from(dimensionIdx + 1);
     try {
-      DataBufferWindow<? extends DataBuffer<T>> elemWindow = buffer().window(elemDims.physicalSize());
-      U element = instantiateView(elemWindow.buffer(), elemDims);
-      return new FastElementSequence(this, dimensionIdx, element, elemWindow);
+      return new FastElementSequence<>(this, dimensionIdx, () -> {
+        DataBufferWindow<? extends DataBuffer<T>> elemWindow = buffer().window(elemDims.physicalSize());
+        return new ElementView<>(instantiateView(elemWindow.buffer(), elemDims), elemWindow);
+      });
     } catch (UnsupportedOperationException e) {
       // If buffer windows are not supported, fallback to slicing (and slower) sequence
       return new SlicingElementSequence<>(this, dimensionIdx, elemDims);
@@ -60,9 +70,36 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     if (shape.equals(this.shape())) {
       return (U)this;
     }
+    if (dimensions().isSegmented()) {
+      throw new UnsupportedOperationException("Array of shape " + this.shape() + " is not contiguous in memory "
+          + "and cannot be reshaped without being copied first");
+    }
     return instantiateView(buffer(), DimensionalSpace.create(shape));
   }
 
+  @Override
+  public U transpose(int... axes) {
+    DimensionalSpace transposedDimensions = dimensions().transpose(axes);
+    if (transposedDimensions == dimensions()) {
+      return (U)this;
+    }
+    return instantiateView(buffer(), transposedDimensions);
+  }
+
+  @Override
+  public U broadcastTo(Shape shape) {
+    DimensionalSpace broadcastDimensions = dimensions().broadcastTo(shape);
+    if (broadcastDimensions == dimensions()) {
+      return (U)this;
+    }
+    return instantiateView(buffer(), broadcastDimensions);
+  }
+
+  @Override
+  public U slidingWindows(int axis, long windowSize, long step) {
+    return instantiateView(buffer(), dimensions().slidingWindows(axis, windowSize, step));
+  }
+
   @Override
   public U slice(long position, DimensionalSpace sliceDimensions) {
     DataBuffer<T> sliceBuffer = buffer().slice(position, sliceDimensions.physicalSize());
@@ -78,6 +115,14 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     return slice(sliceDimensions.position(), sliceDimensions);
   }
 
+  @Override
+  public SlicePlan<U> slicePlan(Index... indices) {
+    if (indices == null) {
+      throw new IllegalArgumentException("Slicing requires at least one index");
+    }
+    return new DenseSlicePlan<>(this, SliceMapping.compile(dimensions(), indices));
+  }
+
   @Override
   public U get(long... coords) {
     return slice(positionOf(coords, false), dimensions().from(coords.length));
@@ -169,6 +214,76 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     return dimensions.positionOf(coords);
   }
 
+  /**
+   * Visits a run of scalars that are evenly spaced in the buffer of an array.
+   */
+  @FunctionalInterface
+  interface ScalarRunVisitor {
+
+    /**
+     * @param coords coordinates of the first scalar of the run, where the last coordinate must be
+     *               incremented for each following scalar
+     * @param position position of the first scalar in the buffer
+     * @param stride distance in the buffer between two consecutive scalars of the run
+     * @param length number of scalars in the run, always greater than 0
+     */
+    void visit(long[] coords, long position, long stride, long length);
+  }
+
+  /**
+   * Visits all scalars of this array in sequential order, by runs covering each vector of the last
+   * dimension whenever that dimension is strided.
+   *
+   * <p>The coordinates passed to the visitor are reused between runs.
+   */
+  void forEachScalarRun(ScalarRunVisitor visitor) {
+    DimensionalSpace dims = dimensions();
+    if (dims.shape().size() == 0) {
+      return;
+    }
+    int lastDimIdx = dims.numDimensions() - 1;
+    if (lastDimIdx < 0) {
+      visitor.visit(new long[0], 0, 1, 1);
+      return;
+    }
+    Dimension lastDim = dims.get(lastDimIdx);
+    if (!lastDim.isStrided()) {
+      PositionIterator.createIndexed(dims, lastDimIdx).forEachIndexed((coords, position) ->
+          visitor.visit(coords, position, 1, 1)
+      );
+      return;
+    }
+    long runStart = lastDim.positionOf(0);
+    long runStride = lastDim.stride();
+    long runLength = lastDim.numElements();
+    if (lastDimIdx == 0) {
+      visitor.visit(new long[1], runStart, runStride, runLength);
+      return;
+    }
+    long[] runCoords = new long[lastDimIdx + 1];
+    PositionIterator.createIndexed(dims, lastDimIdx - 1).forEachIndexed((coords, position) -> {
+      System.arraycopy(coords, 0, runCoords, 0, lastDimIdx);
+      runCoords[lastDimIdx] = 0;
+      visitor.visit(runCoords, position + runStart, runStride, runLength);
+    });
+  }
+
+  /**
+   * Returns the position in the buffer of each scalar of this array, in sequential order.
+   */
+  LongStream scalarPositions() {
+    DimensionalSpace dims = dimensions();
+    long size = dims.shape().size();
+    if (!dims.isSegmented()) {
+      return LongStream.range(0, size);
+    }
+    PositionIterator positions = PositionIterator.create(dims, dims.numDimensions() - 1);
+    return StreamSupport.longStream(
+        Spliterators.spliterator(positions, size, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL),
+        false
+    );
+  }
+
   @Override
   protected void slowCopyTo(NdArray<T> array) {
     if (array instanceof AbstractDenseNdArray) {
@@ -0,0 +1,171 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dense;
+
+import org.tensorflow.ndarray.IllegalRankException;
+import org.tensorflow.ndarray.NdCursor;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+/**
+ * Base class of cursors over dense arrays, which keep the offset of each coordinate in the position
+ * of the current scalar so that moving along a dimension only updates that offset.
+ *
+ * @param <T> the type of values pointed by this cursor
+ * @param <C> the type of this cursor
+ */
+@SuppressWarnings("unchecked")
+abstract class AbstractDenseNdCursor<T, C extends NdCursor<T>> implements NdCursor<T> {
+
+  @Override
+  public int rank() {
+    return coords.length;
+  }
+
+  @Override
+  public long coordinate(int dimensionIdx) {
+    return coords[dimensionIdx];
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public C moveTo(long i) {
+    checkRank(1);
+    move(0, i);
+    return (C)this;
+  }
+
+  @Override
+  public C moveTo(long i, long j) {
+    checkRank(2);
+    checkCoordinate(1, j);
+    move(0, i);
+    move(1, j);
+    return (C)this;
+  }
+
+  @Override
+  public C moveTo(long i, long j, long k) {
+    checkRank(3);
+    checkCoordinate(1, j);
+    checkCoordinate(2, k);
+    move(0, i);
+    move(1, j);
+    move(2, k);
+    return (C)this;
+  }
+
+  @Override
+  public C moveTo(long i, long j, long k, long l) {
+    checkRank(4);
+    checkCoordinate(1, j);
+    checkCoordinate(2, k);
+    checkCoordinate(3, l);
+    move(0, i);
+    move(1, j);
+    move(2, k);
+    move(3, l);
+    return (C)this;
+  }
+
+  @Override
+  public C moveTo(long... coordinates) {
+    checkRank(coordinates.length);
+    for (int i = 1; i < coordinates.length; ++i) {
+      checkCoordinate(i, coordinates[i]);
+    }
+    for (int i = 0; i < coordinates.length; ++i) {
+      move(i, coordinates[i]);
+    }
+    return (C)this;
+  }
+
+  @Override
+  public boolean next() {
+    for (int i = coords.length - 1; i >= 0; --i) {
+      if (coords[i] < numElements[i] - 1) {
+        move(i, coords[i] + 1);
+        return true;
+      }
+      move(i, 0);
+    }
+    return false;
+  }
+
+  @Override
+  public boolean next(int dimensionIdx) {
+    if (coords[dimensionIdx] >= numElements[dimensionIdx] - 1) {
+      return false;
+    }
+    move(dimensionIdx, coords[dimensionIdx] + 1);
+    return true;
+  }
+
+  AbstractDenseNdCursor(DimensionalSpace dimensions) {
+    if (dimensions.shape().size() == 0) {
+      throw new IllegalStateException("Cannot create a cursor on an empty array");
+    }
+    this.dimensions = dimensions;
+    int rank = dimensions.numDimensions();
+    coords = new long[rank];
+    numElements = new long[rank];
+    offsets = new long[rank];
+    long position = dimensions.origin();
+    for (int i = 0; i < rank; ++i) {
+      numElements[i] = dimensions.numElements(i);
+      offsets[i] = dimensions.offsetOf(i, 0);
+      position += offsets[i];
+    }
+    this.position = position;
+  }
+
+  private final DimensionalSpace dimensions;
+  private final long[] coords;
+  private final long[] numElements;
+  private final long[] offsets;
+  private long position;
+
+  private void move(int dimensionIdx, long coord) {
+    long offset = dimensions.offsetOf(dimensionIdx, coord);
+    position += offset - offsets[dimensionIdx];
+    offsets[dimensionIdx] = offset;
+    coords[dimensionIdx] = coord;
+  }
+
+  /**
+   * Checks a coordinate before moving along its dimension, so that a cursor moved to invalid
+   * coordinates is left where it was. The first coordinate is checked by the move itself.
+   */
+  private void checkCoordinate(int dimensionIdx, long coord) {
+    if (coord < 0 || coord >= numElements[dimensionIdx]) {
+      throw new IndexOutOfBoundsException("Coordinate " + coord + " is out of bounds for dimension "
+          + dimensionIdx + " of " + numElements[dimensionIdx] + " elements");
+    }
+  }
+
+  private void checkRank(int rank) {
+    if (rank > coords.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (rank < coords.length) {
+      throw new IllegalRankException("Not a scalar value");
+    }
+  }
+}
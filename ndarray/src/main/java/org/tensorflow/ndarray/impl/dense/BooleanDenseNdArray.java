@@ -17,8 +17,10 @@
 package org.tensorflow.ndarray.impl.dense;
 
 import org.tensorflow.ndarray.BooleanNdArray;
+import org.tensorflow.ndarray.BooleanNdCursor;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
@@ -31,6 +33,11 @@ public class BooleanDenseNdArray extends AbstractDenseNdArray<Boolean, BooleanNd
     return new BooleanDenseNdArray(buffer, shape);
   }
 
+  public static BooleanNdArray create(BooleanDataBuffer buffer, Shape shape, StorageOrder order) {
+    Validator.denseShape(buffer, shape);
+    return new BooleanDenseNdArray(buffer, DimensionalSpace.create(shape, order));
+  }
+
   @Override
   public boolean getBoolean(long... indices) {
     return buffer.getBoolean(positionOf(indices, true));
@@ -42,6 +49,55 @@ public class BooleanDenseNdArray extends AbstractDenseNdArray<Boolean, BooleanNd
     return this;
   }
 
+  @Override
+  public boolean getBoolean(long i) {
+    return buffer.getBoolean(dimensions().positionOf(i));
+  }
+
+  @Override
+  public BooleanNdArray setBoolean(boolean value, long i) {
+    buffer.setBoolean(value, dimensions().positionOf(i));
+    return this;
+  }
+
+  @Override
+  public boolean getBoolean(long i, long j) {
+    return buffer.getBoolean(dimensions().positionOf(i, j));
+  }
+
+  @Override
+  public BooleanNdArray setBoolean(boolean value, long i, long j) {
+    buffer.setBoolean(value, dimensions().positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public boolean getBoolean(long i, long j, long k) {
+    return buffer.getBoolean(dimensions().positionOf(i, j, k));
+  }
+
+  @Override
+  public BooleanNdArray setBoolean(boolean value, long i, long j, long k) {
+    buffer.setBoolean(value, dimensions().positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public boolean getBoolean(long i, long j, long k, long l) {
+    return buffer.getBoolean(dimensions().positionOf(i, j, k, l));
+  }
+
+  @Override
+  public BooleanNdArray setBoolean(boolean value, long i, long j, long k, long l) {
+    buffer.setBoolean(value, dimensions().positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public BooleanNdCursor cursor() {
+    return new BooleanDenseNdCursor(buffer, dimensions());
+  }
+
   @Override
   public BooleanNdArray copyTo(NdArray<Boolean> dst) {
     Validator.copyToNdArrayArgs(this, dst);
@@ -17,8 +17,10 @@
 package org.tensorflow.ndarray.impl.dense;
 
 import org.tensorflow.ndarray.ByteNdArray;
+import org.tensorflow.ndarray.ByteNdCursor;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.buffer.ByteDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
@@ -31,6 +33,11 @@ public class ByteDenseNdArray extends AbstractDenseNdArray<Byte, ByteNdArray>
     return new ByteDenseNdArray(buffer, shape);
   }
 
+  public static ByteNdArray create(ByteDataBuffer buffer, Shape shape, StorageOrder order) {
+    Validator.denseShape(buffer, shape);
+    return new ByteDenseNdArray(buffer, DimensionalSpace.create(shape, order));
+  }
+
   @Override
   public byte getByte(long... indices) {
     return buffer.getByte(positionOf(indices, true));
@@ -42,6 +49,55 @@ public class ByteDenseNdArray extends AbstractDenseNdArray<Byte, ByteNdArray>
     return this;
   }
 
+  @Override
+  public byte getByte(long i) {
+    return buffer.getByte(dimensions().positionOf(i));
+  }
+
+  @Override
+  public ByteNdArray setByte(byte value, long i) {
+    buffer.setByte(value, dimensions().positionOf(i));
+    return this;
+  }
+
+  @Override
+  public byte getByte(long i, long j) {
+    return buffer.getByte(dimensions().positionOf(i, j));
+  }
+
+  @Override
+  public ByteNdArray setByte(byte value, long i, long j) {
+    buffer.setByte(value, dimensions().positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public byte getByte(long i, long j, long k) {
+    return buffer.getByte(dimensions().positionOf(i, j, k));
+  }
+
+  @Override
+  public ByteNdArray setByte(byte value, long i, long j, long k) {
+    buffer.setByte(value, dimensions().positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public byte getByte(long i, long j, long k, long l) {
+    return buffer.getByte(dimensions().positionOf(i, j, k, l));
+  }
+
+  @Override
+  public ByteNdArray setByte(byte value, long i, long j, long k, long l) {
+    buffer.setByte(value, dimensions().positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public ByteNdCursor cursor() {
+    return new ByteDenseNdCursor(buffer, dimensions());
+  }
+
   @Override
   public ByteNdArray copyTo(NdArray<Byte> dst) {
     Validator.copyToNdArrayArgs(this, dst);
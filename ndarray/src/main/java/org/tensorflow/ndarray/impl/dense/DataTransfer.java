@@ -17,120 +17,505 @@
 
 package org.tensorflow.ndarray.impl.dense;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
 import org.tensorflow.ndarray.buffer.ByteDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.buffer.IntDataBuffer;
 import org.tensorflow.ndarray.buffer.LongDataBuffer;
 import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.dimension.Dimension;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
 import org.tensorflow.ndarray.impl.sequence.PositionIterator;
 
+/**
+ * Copies data between dense arrays by decomposing their dimensional spaces in runs of values.
+ *
+ * <p>A run is a sequence of values that are evenly spaced in their buffer, in both the source and the destination
+ * of the transfer. Contiguous runs are copied in bulk while strided runs are copied by a tight loop that is
+ * specialized for each type of data, without allocating any buffer per run.
+ */
 final class DataTransfer {
 
+  /**
+   * Copies a run of {@code length} values, which are {@code srcStride} positions apart in the source buffer and
+   * {@code dstStride} positions apart in the destination buffer.
+   */
   @FunctionalInterface
-  interface OfValue<B extends DataBuffer<?>> {
-    void copy(B srcBuffer, long srcIndex, B dstBuffer, long dstIndex);
+  interface RunCopier {
+    void copy(long srcIndex, long srcStride, long dstIndex, long dstStride, long length);
   }
 
-  static <T, B extends DataBuffer<T>> void ofValue(B srcBuf, long srcIdx, B dstBuf, long dstIdx) {
-    dstBuf.setObject(srcBuf.getObject(srcIdx), dstIdx);
+  @FunctionalInterface
+  interface OfType<B extends DataBuffer<?>> {
+    RunCopier copier(B srcBuffer, B dstBuffer);
   }
 
-  static void ofByte(ByteDataBuffer srcBuf, long srcIdx, ByteDataBuffer dstBuf, long dstIdx) {
-    dstBuf.setByte(srcBuf.getByte(srcIdx), dstIdx);
+  static <T, B extends DataBuffer<T>> RunCopier ofValue(B srcBuf, B dstBuf) {
+    HeapArray src = HeapArray.of(srcBuf, Object[].class);
+    HeapArray dst = HeapArray.of(dstBuf, Object[].class);
+    if (src != null && dst != null) {
+      Object[] srcArray = (Object[])src.array;
+      Object[] dstArray = (Object[])dst.array;
+      return new ArrayRunCopier(src, dst) {
+        @Override
+        void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length) {
+          for (int i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+            dstArray[d] = srcArray[s];
+          }
+        }
+      };
+    }
+    return new WindowedRunCopier<>(srcBuf, dstBuf, (srcIdx, srcStride, dstIdx, dstStride, length) -> {
+      for (long i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+        dstBuf.setObject(srcBuf.getObject(s), d);
+      }
+    });
   }
 
-  static void ofInt(IntDataBuffer srcBuf, long srcIdx, IntDataBuffer dstBuf, long dstIdx) {
-    dstBuf.setInt(srcBuf.getInt(srcIdx), dstIdx);
+  static RunCopier ofByte(ByteDataBuffer srcBuf, ByteDataBuffer dstBuf) {
+    HeapArray src = HeapArray.of(srcBuf, byte[].class);
+    HeapArray dst = HeapArray.of(dstBuf, byte[].class);
+    if (src != null && dst != null) {
+      byte[] srcArray = (byte[])src.array;
+      byte[] dstArray = (byte[])dst.array;
+      return new ArrayRunCopier(src, dst) {
+        @Override
+        void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length) {
+          for (int i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+            dstArray[d] = srcArray[s];
+          }
+        }
+      };
+    }
+    return new WindowedRunCopier<>(srcBuf, dstBuf, (srcIdx, srcStride, dstIdx, dstStride, length) -> {
+      for (long i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+        dstBuf.setByte(srcBuf.getByte(s), d);
+      }
+    });
   }
 
-  static void ofLong(LongDataBuffer srcBuf, long srcIdx, LongDataBuffer dstBuf, long dstIdx) {
-    dstBuf.setLong(srcBuf.getLong(srcIdx), dstIdx);
+  static RunCopier ofInt(IntDataBuffer srcBuf, IntDataBuffer dstBuf) {
+    HeapArray src = HeapArray.of(srcBuf, int[].class);
+    HeapArray dst = HeapArray.of(dstBuf, int[].class);
+    if (src != null && dst != null) {
+      int[] srcArray = (int[])src.array;
+      int[] dstArray = (int[])dst.array;
+      return new ArrayRunCopier(src, dst) {
+        @Override
+        void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length) {
+          for (int i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+            dstArray[d] = srcArray[s];
+          }
+        }
+      };
+    }
+    return new WindowedRunCopier<>(srcBuf, dstBuf, (srcIdx, srcStride, dstIdx, dstStride, length) -> {
+      for (long i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+        dstBuf.setInt(srcBuf.getInt(s), d);
+      }
+    });
   }
 
-  static void ofDouble(DoubleDataBuffer srcBuf, long srcIdx, DoubleDataBuffer dstBuf, long dstIdx) {
-    dstBuf.setDouble(srcBuf.getDouble(srcIdx), dstIdx);
+  static RunCopier ofLong(LongDataBuffer srcBuf, LongDataBuffer dstBuf) {
+    HeapArray src = HeapArray.of(srcBuf, long[].class);
+    HeapArray dst = HeapArray.of(dstBuf, long[].class);
+    if (src != null && dst != null) {
+      long[] srcArray = (long[])src.array;
+      long[] dstArray = (long[])dst.array;
+      return new ArrayRunCopier(src, dst) {
+        @Override
+        void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length) {
+          for (int i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+            dstArray[d] = srcArray[s];
+          }
+        }
+      };
+    }
+    return new WindowedRunCopier<>(srcBuf, dstBuf, (srcIdx, srcStride, dstIdx, dstStride, length) -> {
+      for (long i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+        dstBuf.setLong(srcBuf.getLong(s), d);
+      }
+    });
   }
 
-  static void ofFloat(FloatDataBuffer srcBuf, long srcIdx, FloatDataBuffer dstBuf, long dstIdx) {
-    dstBuf.setFloat(srcBuf.getFloat(srcIdx), dstIdx);
+  static RunCopier ofDouble(DoubleDataBuffer srcBuf, DoubleDataBuffer dstBuf) {
+    HeapArray src = HeapArray.of(srcBuf, double[].class);
+    HeapArray dst = HeapArray.of(dstBuf, double[].class);
+    if (src != null && dst != null) {
+      double[] srcArray = (double[])src.array;
+      double[] dstArray = (double[])dst.array;
+      return new ArrayRunCopier(src, dst) {
+        @Override
+        void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length) {
+          for (int i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+            dstArray[d] = srcArray[s];
+          }
+        }
+      };
+    }
+    return new WindowedRunCopier<>(srcBuf, dstBuf, (srcIdx, srcStride, dstIdx, dstStride, length) -> {
+      for (long i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+        dstBuf.setDouble(srcBuf.getDouble(s), d);
+      }
+    });
+  }
+
+  static RunCopier ofFloat(FloatDataBuffer srcBuf, FloatDataBuffer dstBuf) {
+    HeapArray src = HeapArray.of(srcBuf, float[].class);
+    HeapArray dst = HeapArray.of(dstBuf, float[].class);
+    if (src != null && dst != null) {
+      float[] srcArray = (float[])src.array;
+      float[] dstArray = (float[])dst.array;
+      return new ArrayRunCopier(src, dst) {
+        @Override
+        void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length) {
+          for (int i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+            dstArray[d] = srcArray[s];
+          }
+        }
+      };
+    }
+    return new WindowedRunCopier<>(srcBuf, dstBuf, (srcIdx, srcStride, dstIdx, dstStride, length) -> {
+      for (long i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+        dstBuf.setFloat(srcBuf.getFloat(s), d);
+      }
+    });
   }
 
-  static void ofShort(ShortDataBuffer srcBuf, long srcIdx, ShortDataBuffer dstBuf, long dstIdx) {
-    dstBuf.setShort(srcBuf.getShort(srcIdx), dstIdx);
+  static RunCopier ofShort(ShortDataBuffer srcBuf, ShortDataBuffer dstBuf) {
+    HeapArray src = HeapArray.of(srcBuf, short[].class);
+    HeapArray dst = HeapArray.of(dstBuf, short[].class);
+    if (src != null && dst != null) {
+      short[] srcArray = (short[])src.array;
+      short[] dstArray = (short[])dst.array;
+      return new ArrayRunCopier(src, dst) {
+        @Override
+        void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length) {
+          for (int i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+            dstArray[d] = srcArray[s];
+          }
+        }
+      };
+    }
+    return new WindowedRunCopier<>(srcBuf, dstBuf, (srcIdx, srcStride, dstIdx, dstStride, length) -> {
+      for (long i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+        dstBuf.setShort(srcBuf.getShort(s), d);
+      }
+    });
   }
 
-  static void ofBoolean(BooleanDataBuffer srcBuf, long srcIdx, BooleanDataBuffer dstBuf, long dstIdx) {
-    dstBuf.setBoolean(srcBuf.getBoolean(srcIdx), dstIdx);
+  static RunCopier ofBoolean(BooleanDataBuffer srcBuf, BooleanDataBuffer dstBuf) {
+    HeapArray src = HeapArray.of(srcBuf, boolean[].class);
+    HeapArray dst = HeapArray.of(dstBuf, boolean[].class);
+    if (src != null && dst != null) {
+      boolean[] srcArray = (boolean[])src.array;
+      boolean[] dstArray = (boolean[])dst.array;
+      return new ArrayRunCopier(src, dst) {
+        @Override
+        void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length) {
+          for (int i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+            dstArray[d] = srcArray[s];
+          }
+        }
+      };
+    }
+    return new WindowedRunCopier<>(srcBuf, dstBuf, (srcIdx, srcStride, dstIdx, dstStride, length) -> {
+      for (long i = 0, s = srcIdx, d = dstIdx; i < length; ++i, s += srcStride, d += dstStride) {
+        dstBuf.setBoolean(srcBuf.getBoolean(s), d);
+      }
+    });
   }
 
-  static <T, B extends DataBuffer<T>> void execute(B srcBuffer, DimensionalSpace srcDimensions, B dstBuffer, DimensionalSpace dstDimensions, OfValue<B> valueTransfer) {
-    if (srcDimensions.isSegmented() || dstDimensions.isSegmented()) {
+  static <T, B extends DataBuffer<T>> void execute(B srcBuffer, DimensionalSpace srcDimensions, B dstBuffer, DimensionalSpace dstDimensions, OfType<B> type) {
+    if ((srcDimensions.isSegmented() || dstDimensions.isSegmented()) && !srcDimensions.hasSameDenseLayoutAs(dstDimensions)) {
       int segmentationIdx = Math.max(srcDimensions.segmentationIdx(), dstDimensions.segmentationIdx());
-      copyByElement(
-          srcBuffer,
-          PositionIterator.create(srcDimensions, segmentationIdx),
-          dstBuffer,
-          PositionIterator.create(dstDimensions, segmentationIdx),
-          srcDimensions.get(segmentationIdx).elementSize(),
-          valueTransfer
-      );
+      copyByRun(type.copier(srcBuffer, dstBuffer), srcDimensions, dstDimensions, segmentationIdx);
     } else {
-      srcBuffer.copyTo(dstBuffer, srcDimensions.physicalSize());
+      srcBuffer.copyTo(dstBuffer, srcDimensions.shape().size());
     }
   }
 
-  static <T, B extends DataBuffer<T>> void execute(B srcBuffer, B dstBuffer, DimensionalSpace dstDimensions, OfValue<B> valueTransfer) {
+  static <T, B extends DataBuffer<T>> void execute(B srcBuffer, B dstBuffer, DimensionalSpace dstDimensions, OfType<B> type) {
     if (dstDimensions.isSegmented()) {
-      long elementSize = dstDimensions.get(dstDimensions.segmentationIdx()).elementSize();
-      copyByElement(
-          srcBuffer,
-          PositionIterator.sequence(elementSize, srcBuffer.size()),
-          dstBuffer,
-          PositionIterator.create(dstDimensions, dstDimensions.segmentationIdx()),
-          elementSize,
-          valueTransfer
+      copyByRun(
+          type.copier(srcBuffer, dstBuffer),
+          DimensionalSpace.create(dstDimensions.shape()),
+          dstDimensions,
+          dstDimensions.segmentationIdx()
       );
     } else {
       srcBuffer.copyTo(dstBuffer, dstDimensions.physicalSize());
     }
   }
 
-  static <T, B extends DataBuffer<T>> void execute(B srcBuffer, DimensionalSpace srcDimensions, B dstBuffer, OfValue<B> valueTransfer) {
+  static <T, B extends DataBuffer<T>> void execute(B srcBuffer, DimensionalSpace srcDimensions, B dstBuffer, OfType<B> type) {
     if (srcDimensions.isSegmented()) {
-      long elementSize = srcDimensions.get(srcDimensions.segmentationIdx()).elementSize();
-      copyByElement(
-          srcBuffer,
-          PositionIterator.create(srcDimensions, srcDimensions.segmentationIdx()),
-          dstBuffer,
-          PositionIterator.sequence(elementSize, dstBuffer.size()),
-          elementSize,
-          valueTransfer
+      copyByRun(
+          type.copier(srcBuffer, dstBuffer),
+          srcDimensions,
+          DimensionalSpace.create(srcDimensions.shape()),
+          srcDimensions.segmentationIdx()
       );
     } else {
       srcBuffer.copyTo(dstBuffer, srcDimensions.physicalSize());
     }
   }
 
-  private static <T, B extends DataBuffer<T>> void copyByElement(
-      B srcBuffer,
-      PositionIterator srcIterator,
-      B dstBuffer,
-      PositionIterator dstIterator,
-      long elementSize,
-      OfValue<B> valueTransfer
+  private static void copyByRun(
+      RunCopier copier,
+      DimensionalSpace srcDimensions,
+      DimensionalSpace dstDimensions,
+      int segmentationIdx
   ) {
-    if (elementSize == 1) {
+    if (srcDimensions.shape().size() == 0) {
+      return;
+    }
+    Dimension srcDimension = srcDimensions.get(segmentationIdx);
+    Dimension dstDimension = dstDimensions.get(segmentationIdx);
+    long elementSize = srcDimension.elementSize();
+
+    if (elementSize == 1 && srcDimension.isStrided() && dstDimension.isStrided()) {
+      // Elements of the last segmented dimension are scalars, copy each vector of that dimension
+      // as a single strided run instead of one value at a time
+      long srcStride = srcDimension.stride();
+      long dstStride = dstDimension.stride();
+      long srcStart = srcDimension.positionOf(0);
+      long dstStart = dstDimension.positionOf(0);
+      long runLength = srcDimension.numElements();
+      if (segmentationIdx == 0) {
+        copier.copy(srcStart, srcStride, dstStart, dstStride, runLength);
+        return;
+      }
+      if (runLength >= TILE_SIZE) {
+        Dimension srcOuterDimension = srcDimensions.get(segmentationIdx - 1);
+        Dimension dstOuterDimension = dstDimensions.get(segmentationIdx - 1);
+        if (srcOuterDimension.isStrided() && dstOuterDimension.isStrided() && srcOuterDimension.numElements() >= TILE_SIZE
+            && (isTransposed(srcDimension, srcOuterDimension) || isTransposed(dstDimension, dstOuterDimension))) {
+          copyByTile(copier, srcDimensions, dstDimensions, segmentationIdx);
+          return;
+        }
+      }
+      PositionIterator srcIterator = PositionIterator.create(srcDimensions, segmentationIdx - 1);
+      PositionIterator dstIterator = PositionIterator.create(dstDimensions, segmentationIdx - 1);
       while (srcIterator.hasNext()) {
-        valueTransfer.copy(srcBuffer, srcIterator.nextLong(), dstBuffer, dstIterator.nextLong());
+        copier.copy(srcIterator.nextLong() + srcStart, srcStride, dstIterator.nextLong() + dstStart, dstStride, runLength);
       }
     } else {
+      PositionIterator srcIterator = PositionIterator.create(srcDimensions, segmentationIdx);
+      PositionIterator dstIterator = PositionIterator.create(dstDimensions, segmentationIdx);
       while (srcIterator.hasNext()) {
-        srcBuffer.offset(srcIterator.nextLong()).copyTo(dstBuffer.offset(dstIterator.nextLong()), elementSize);
+        copier.copy(srcIterator.nextLong(), 1, dstIterator.nextLong(), 1, elementSize);
       }
     }
   }
+
+  /**
+   * Copies the last two dimensions of a transfer by square tiles, so that the values read or
+   * written at a large stride in one dimension are kept in cache while iterating the other
+   * dimension, like when copying a transposed matrix.
+   */
+  private static void copyByTile(
+      RunCopier copier,
+      DimensionalSpace srcDimensions,
+      DimensionalSpace dstDimensions,
+      int segmentationIdx
+  ) {
+    Dimension srcInner = srcDimensions.get(segmentationIdx);
+    Dimension dstInner = dstDimensions.get(segmentationIdx);
+    Dimension srcOuter = srcDimensions.get(segmentationIdx - 1);
+    Dimension dstOuter = dstDimensions.get(segmentationIdx - 1);
+    long srcStart = srcOuter.positionOf(0) + srcInner.positionOf(0);
+    long dstStart = dstOuter.positionOf(0) + dstInner.positionOf(0);
+    long numRows = srcOuter.numElements();
+    long numColumns = srcInner.numElements();
+
+    PositionIterator srcIterator = null;
+    PositionIterator dstIterator = null;
+    if (segmentationIdx > 1) {
+      srcIterator = PositionIterator.create(srcDimensions, segmentationIdx - 2);
+      dstIterator = PositionIterator.create(dstDimensions, segmentationIdx - 2);
+    }
+    do {
+      long srcBase = srcStart + (srcIterator != null ? srcIterator.nextLong() : 0);
+      long dstBase = dstStart + (dstIterator != null ? dstIterator.nextLong() : 0);
+      for (long row = 0; row < numRows; row += TILE_SIZE) {
+        long rowEnd = Math.min(row + TILE_SIZE, numRows);
+        for (long column = 0; column < numColumns; column += TILE_SIZE) {
+          long runLength = Math.min(TILE_SIZE, numColumns - column);
+          for (long r = row; r < rowEnd; ++r) {
+            copier.copy(
+                srcBase + r * srcOuter.stride() + column * srcInner.stride(), srcInner.stride(),
+                dstBase + r * dstOuter.stride() + column * dstInner.stride(), dstInner.stride(),
+                runLength
+            );
+          }
+        }
+      }
+    } while (srcIterator != null && srcIterator.hasNext());
+  }
+
+  /**
+   * Returns true if consecutive values of the inner dimension are farther apart in memory than those of the outer
+   * dimension, and far enough so that each value read or written is likely to require a different cache line.
+   */
+  private static boolean isTransposed(Dimension innerDimension, Dimension outerDimension) {
+    return innerDimension.stride() > TILE_SIZE && outerDimension.stride() < innerDimension.stride();
+  }
+
+  /**
+   * Number of values on each side of a tile copied by {@link #copyByTile}
+   */
+  private static final int TILE_SIZE = 32;
+
+  /**
+   * Copies runs between two buffers backed by Java arrays, using {@link System#arraycopy} for contiguous runs.
+   */
+  private abstract static class ArrayRunCopier implements RunCopier {
+
+    @Override
+    public void copy(long srcIndex, long srcStride, long dstIndex, long dstStride, long length) {
+      if (srcStride == 1 && dstStride == 1) {
+        System.arraycopy(srcArray, srcOffset + (int)srcIndex, dstArray, dstOffset + (int)dstIndex, (int)length);
+      } else {
+        copyStrided(srcOffset + (int)srcIndex, (int)srcStride, dstOffset + (int)dstIndex, (int)dstStride, (int)length);
+      }
+    }
+
+    abstract void copyStrided(int srcIdx, int srcStride, int dstIdx, int dstStride, int length);
+
+    ArrayRunCopier(HeapArray src, HeapArray dst) {
+      srcArray = src.array;
+      srcOffset = src.offset;
+      dstArray = dst.array;
+      dstOffset = dst.offset;
+    }
+
+    private final Object srcArray;
+    private final int srcOffset;
+    private final Object dstArray;
+    private final int dstOffset;
+  }
+
+  /**
+   * Copies contiguous runs between two buffers using sliding windows, so that the buffers can copy their memory in
+   * bulk, and delegates any other run to a value-by-value copier.
+   */
+  private static final class WindowedRunCopier<T, B extends DataBuffer<T>> implements RunCopier {
+
+    @Override
+    public void copy(long srcIndex, long srcStride, long dstIndex, long dstStride, long length) {
+      if (srcStride == 1 && dstStride == 1 && length >= MIN_BULK_COPY_LENGTH && windows(length)) {
+        srcWindow.slideTo(srcIndex).buffer().copyTo(dstWindow.slideTo(dstIndex).buffer(), length);
+      } else {
+        valueCopier.copy(srcIndex, srcStride, dstIndex, dstStride, length);
+      }
+    }
+
+    WindowedRunCopier(B srcBuffer, B dstBuffer, RunCopier valueCopier) {
+      this.srcBuffer = srcBuffer;
+      this.dstBuffer = dstBuffer;
+      this.valueCopier = valueCopier;
+    }
+
+    /**
+     * Runs shorter than this are copied value by value, as it is faster than sliding two windows
+     */
+    private static final long MIN_BULK_COPY_LENGTH = 16;
+
+    private final B srcBuffer;
+    private final B dstBuffer;
+    private final RunCopier valueCopier;
+    private boolean windowsSupported = true;
+    private DataBufferWindow<? extends DataBuffer<T>> srcWindow;
+    private DataBufferWindow<? extends DataBuffer<T>> dstWindow;
+
+    private boolean windows(long length) {
+      if (windowsSupported && (srcWindow == null || srcWindow.size() != length)) {
+        try {
+          srcWindow = srcBuffer.window(length);
+          dstWindow = dstBuffer.window(length);
+        } catch (UnsupportedOperationException e) {
+          windowsSupported = false;
+        }
+      }
+      return windowsSupported;
+    }
+  }
+
+  /**
+   * Java array backing a data buffer, with the offset of the first value of this buffer in the array.
+   */
+  private static final class HeapArray {
+
+    static HeapArray of(DataBuffer<?> buffer, Class<?> arrayClass) {
+      HeapArray heapArray = buffer.accept(VISITOR);
+      return heapArray != null && arrayClass.isInstance(heapArray.array) ? heapArray : null;
+    }
+
+    final Object array;
+    final int offset;
+
+    private HeapArray(Object array, int offset) {
+      this.array = array;
+      this.offset = offset;
+    }
+
+    private static final DataStorageVisitor<HeapArray> VISITOR = new DataStorageVisitor<HeapArray>() {
+
+      @Override
+      public HeapArray visit(ByteBuffer buffer) {
+        return buffer.hasArray() ? new HeapArray(buffer.array(), buffer.arrayOffset() + buffer.position()) : null;
+      }
+
+      @Override
+      public HeapArray visit(ShortBuffer buffer) {
+        return buffer.hasArray() ? new HeapArray(buffer.array(), buffer.arrayOffset() + buffer.position()) : null;
+      }
+
+      @Override
+      public HeapArray visit(IntBuffer buffer) {
+        return buffer.hasArray() ? new HeapArray(buffer.array(), buffer.arrayOffset() + buffer.position()) : null;
+      }
+
+      @Override
+      public HeapArray visit(LongBuffer buffer) {
+        return buffer.hasArray() ? new HeapArray(buffer.array(), buffer.arrayOffset() + buffer.position()) : null;
+      }
+
+      @Override
+      public HeapArray visit(FloatBuffer buffer) {
+        return buffer.hasArray() ? new HeapArray(buffer.array(), buffer.arrayOffset() + buffer.position()) : null;
+      }
+
+      @Override
+      public HeapArray visit(DoubleBuffer buffer) {
+        return buffer.hasArray() ? new HeapArray(buffer.array(), buffer.arrayOffset() + buffer.position()) : null;
+      }
+
+      @Override
+      public HeapArray visit(boolean[] array, int offset, int length) {
+        return new HeapArray(array, offset);
+      }
+
+      @Override
+      public HeapArray visit(Object[] array, int offset, int length) {
+        return new HeapArray(array, offset);
+      }
+
+      @Override
+      public HeapArray fallback() {
+        return null;
+      }
+    };
+  }
 }
@@ -17,8 +17,10 @@
 package org.tensorflow.ndarray.impl.dense;
 
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.NdArray;
+import org.tensorflow.ndarray.NdCursor;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
 
 public class DenseNdArray<T> extends AbstractDenseNdArray<T, NdArray<T>> {
@@ -28,6 +30,11 @@ public class DenseNdArray<T> extends AbstractDenseNdArray<T, NdArray<T>> {
     return new DenseNdArray<>(buffer, shape);
   }
 
+  public static <T> NdArray<T> wrap(DataBuffer<T> buffer, Shape shape, StorageOrder order) {
+    Validator.denseShape(buffer, shape);
+    return new DenseNdArray<>(buffer, DimensionalSpace.create(shape, order));
+  }
+
   @Override
   public NdArray<T> copyTo(NdArray<T> dst) {
     Validator.copyToNdArrayArgs(this, dst);
@@ -40,6 +47,11 @@ public class DenseNdArray<T> extends AbstractDenseNdArray<T, NdArray<T>> {
     return this;
   }
 
+  @Override
+  public NdCursor<T> cursor() {
+    return new DenseNdCursor<>(buffer, dimensions());
+  }
+
   protected DenseNdArray(DataBuffer<T> buffer, Shape shape) {
     this(buffer, DimensionalSpace.create(shape));
   }
@@ -0,0 +1,42 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dense;
+
+import org.tensorflow.ndarray.NdCursor;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+final class DenseNdCursor<T> extends AbstractDenseNdCursor<T, NdCursor<T>> {
+
+  @Override
+  public T getObject() {
+    return buffer.getObject(position());
+  }
+
+  @Override
+  public NdCursor<T> setObject(T value) {
+    buffer.setObject(value, position());
+    return this;
+  }
+
+  DenseNdCursor(DataBuffer<T> buffer, DimensionalSpace dimensions) {
+    super(dimensions);
+    this.buffer = buffer;
+  }
+
+  private final DataBuffer<T> buffer;
+}
@@ -0,0 +1,78 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dense;
+
+import org.tensorflow.ndarray.NdArray;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.SlicePlan;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
+import org.tensorflow.ndarray.impl.dimension.SliceMapping;
+
+final class DenseSlicePlan<T, U extends NdArray<T>> implements SlicePlan<U> {
+
+  @Override
+  public Shape shape() {
+    return mapping.dimensions().shape();
+  }
+
+  @Override
+  public int numCoordinates() {
+    return mapping.numCoordinates();
+  }
+
+  @Override
+  public long positionOf(long... coordinates) {
+    return mapping.positionOf(coordinates) + mapping.firstElementOffset();
+  }
+
+  @Override
+  public U slice(long... coordinates) {
+    return array.slice(mapping.positionOf(coordinates), mapping.dimensions());
+  }
+
+  @Override
+  public U slideTo(long... coordinates) {
+    long position = mapping.positionOf(coordinates);
+    if (view == null) {
+      if (!windowSupported) {
+        return array.slice(position, mapping.dimensions());
+      }
+      try {
+        window = array.buffer().window(mapping.dimensions().physicalSize());
+      } catch (UnsupportedOperationException e) {
+        // If buffer windows are not supported, fallback to a new slice each time
+        windowSupported = false;
+        return array.slice(position, mapping.dimensions());
+      }
+      view = array.instantiateView(window.buffer(), mapping.dimensions());
+    }
+    window.slideTo(position);
+    return view;
+  }
+
+  DenseSlicePlan(AbstractDenseNdArray<T, U> array, SliceMapping mapping) {
+    this.array = array;
+    this.mapping = mapping;
+  }
+
+  private final AbstractDenseNdArray<T, U> array;
+  private final SliceMapping mapping;
+  private DataBufferWindow<? extends DataBuffer<T>> window;
+  private U view;
+  private boolean windowSupported = true;
+}
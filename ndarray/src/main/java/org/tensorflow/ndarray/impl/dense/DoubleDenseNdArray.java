@@ -16,9 +16,12 @@
  */
 package org.tensorflow.ndarray.impl.dense;
 
+import java.util.stream.DoubleStream;
 import org.tensorflow.ndarray.DoubleNdArray;
+import org.tensorflow.ndarray.DoubleNdCursor;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
@@ -31,6 +34,11 @@ public class DoubleDenseNdArray extends AbstractDenseNdArray<Double, DoubleNdArr
     return new DoubleDenseNdArray(buffer, shape);
   }
 
+  public static DoubleNdArray create(DoubleDataBuffer buffer, Shape shape, StorageOrder order) {
+    Validator.denseShape(buffer, shape);
+    return new DoubleDenseNdArray(buffer, DimensionalSpace.create(shape, order));
+  }
+
   @Override
   public double getDouble(long... indices) {
     return buffer.getDouble(positionOf(indices, true));
@@ -42,6 +50,71 @@ public class DoubleDenseNdArray extends AbstractDenseNdArray<Double, DoubleNdArr
     return this;
   }
 
+  @Override
+  public double getDouble(long i) {
+    return buffer.getDouble(dimensions().positionOf(i));
+  }
+
+  @Override
+  public DoubleNdArray setDouble(double value, long i) {
+    buffer.setDouble(value, dimensions().positionOf(i));
+    return this;
+  }
+
+  @Override
+  public double getDouble(long i, long j) {
+    return buffer.getDouble(dimensions().positionOf(i, j));
+  }
+
+  @Override
+  public DoubleNdArray setDouble(double value, long i, long j) {
+    buffer.setDouble(value, dimensions().positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public double getDouble(long i, long j, long k) {
+    return buffer.getDouble(dimensions().positionOf(i, j, k));
+  }
+
+  @Override
+  public DoubleNdArray setDouble(double value, long i, long j, long k) {
+    buffer.setDouble(value, dimensions().positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public double getDouble(long i, long j, long k, long l) {
+    return buffer.getDouble(dimensions().positionOf(i, j, k, l));
+  }
+
+  @Override
+  public DoubleNdArray setDouble(double value, long i, long j, long k, long l) {
+    buffer.setDouble(value, dimensions().positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public DoubleNdCursor cursor() {
+    return new DoubleDenseNdCursor(buffer, dimensions());
+  }
+
+  @Override
+  public DoubleStream streamOfDoubles() {
+    return scalarPositions().mapToDouble(buffer::getDouble);
+  }
+
+  @Override
+  public void forEachDouble(CoordsDoubleConsumer consumer) {
+    forEachScalarRun((coords, position, stride, length) -> {
+      consumer.accept(coords, buffer.getDouble(position));
+      for (long i = 1; i < length; ++i) {
+        ++coords[coords.length - 1];
+        consumer.accept(coords, buffer.getDouble(position + i * stride));
+      }
+    });
+  }
+
   @Override
   public DoubleNdArray copyTo(NdArray<Double> dst) {
     Validator.copyToNdArrayArgs(this, dst);
@@ -78,7 +151,7 @@ public class DoubleDenseNdArray extends AbstractDenseNdArray<Double, DoubleNdArr
   }
 
   @Override
-  protected DoubleDataBuffer buffer() {
+  public DoubleDataBuffer buffer() {
     return buffer;
   }
 
@@ -16,9 +16,12 @@
  */
 package org.tensorflow.ndarray.impl.dense;
 
+import java.util.stream.DoubleStream;
 import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.FloatNdCursor;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
@@ -31,6 +34,11 @@ public class FloatDenseNdArray extends AbstractDenseNdArray<Float, FloatNdArray>
     return new FloatDenseNdArray(buffer, shape);
   }
 
+  public static FloatNdArray create(FloatDataBuffer buffer, Shape shape, StorageOrder order) {
+    Validator.denseShape(buffer, shape);
+    return new FloatDenseNdArray(buffer, DimensionalSpace.create(shape, order));
+  }
+
   @Override
   public float getFloat(long... indices) {
     return buffer.getFloat(positionOf(indices, true));
@@ -42,6 +50,71 @@ public class FloatDenseNdArray extends AbstractDenseNdArray<Float, FloatNdArray>
     return this;
   }
 
+  @Override
+  public float getFloat(long i) {
+    return buffer.getFloat(dimensions().positionOf(i));
+  }
+
+  @Override
+  public FloatNdArray setFloat(float value, long i) {
+    buffer.setFloat(value, dimensions().positionOf(i));
+    return this;
+  }
+
+  @Override
+  public float getFloat(long i, long j) {
+    return buffer.getFloat(dimensions().positionOf(i, j));
+  }
+
+  @Override
+  public FloatNdArray setFloat(float value, long i, long j) {
+    buffer.setFloat(value, dimensions().positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public float getFloat(long i, long j, long k) {
+    return buffer.getFloat(dimensions().positionOf(i, j, k));
+  }
+
+  @Override
+  public FloatNdArray setFloat(float value, long i, long j, long k) {
+    buffer.setFloat(value, dimensions().positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public float getFloat(long i, long j, long k, long l) {
+    return buffer.getFloat(dimensions().positionOf(i, j, k, l));
+  }
+
+  @Override
+  public FloatNdArray setFloat(float value, long i, long j, long k, long l) {
+    buffer.setFloat(value, dimensions().positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public FloatNdCursor cursor() {
+    return new FloatDenseNdCursor(buffer, dimensions());
+  }
+
+  @Override
+  public DoubleStream streamOfFloats() {
+    return scalarPositions().mapToDouble(buffer::getFloat);
+  }
+
+  @Override
+  public void forEachFloat(CoordsFloatConsumer consumer) {
+    forEachScalarRun((coords, position, stride, length) -> {
+      consumer.accept(coords, buffer.getFloat(position));
+      for (long i = 1; i < length; ++i) {
+        ++coords[coords.length - 1];
+        consumer.accept(coords, buffer.getFloat(position + i * stride));
+      }
+    });
+  }
+
   @Override
   public FloatNdArray copyTo(NdArray<Float> dst) {
     Validator.copyToNdArrayArgs(this, dst);
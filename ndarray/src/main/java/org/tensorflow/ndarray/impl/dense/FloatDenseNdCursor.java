@@ -0,0 +1,42 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dense;
+
+import org.tensorflow.ndarray.FloatNdCursor;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+final class FloatDenseNdCursor extends AbstractDenseNdCursor<Float, FloatNdCursor> implements FloatNdCursor {
+
+  @Override
+  public float getFloat() {
+    return buffer.getFloat(position());
+  }
+
+  @Override
+  public FloatNdCursor setFloat(float value) {
+    buffer.setFloat(value, position());
+    return this;
+  }
+
+  FloatDenseNdCursor(FloatDataBuffer buffer, DimensionalSpace dimensions) {
+    super(dimensions);
+    this.buffer = buffer;
+  }
+
+  private final FloatDataBuffer buffer;
+}
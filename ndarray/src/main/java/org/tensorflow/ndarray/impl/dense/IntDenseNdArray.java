@@ -16,10 +16,13 @@
  */
 package org.tensorflow.ndarray.impl.dense;
 
+import java.util.stream.IntStream;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.IntDataBuffer;
 import org.tensorflow.ndarray.IntNdArray;
+import org.tensorflow.ndarray.IntNdCursor;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
 
@@ -31,6 +34,11 @@ public class IntDenseNdArray extends AbstractDenseNdArray<Integer, IntNdArray>
     return new IntDenseNdArray(buffer, shape);
   }
 
+  public static IntNdArray create(IntDataBuffer buffer, Shape shape, StorageOrder order) {
+    Validator.denseShape(buffer, shape);
+    return new IntDenseNdArray(buffer, DimensionalSpace.create(shape, order));
+  }
+
   @Override
   public int getInt(long... indices) {
     return buffer.getInt(positionOf(indices, true));
@@ -42,6 +50,71 @@ public class IntDenseNdArray extends AbstractDenseNdArray<Integer, IntNdArray>
     return this;
   }
 
+  @Override
+  public int getInt(long i) {
+    return buffer.getInt(dimensions().positionOf(i));
+  }
+
+  @Override
+  public IntNdArray setInt(int value, long i) {
+    buffer.setInt(value, dimensions().positionOf(i));
+    return this;
+  }
+
+  @Override
+  public int getInt(long i, long j) {
+    return buffer.getInt(dimensions().positionOf(i, j));
+  }
+
+  @Override
+  public IntNdArray setInt(int value, long i, long j) {
+    buffer.setInt(value, dimensions().positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public int getInt(long i, long j, long k) {
+    return buffer.getInt(dimensions().positionOf(i, j, k));
+  }
+
+  @Override
+  public IntNdArray setInt(int value, long i, long j, long k) {
+    buffer.setInt(value, dimensions().positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public int getInt(long i, long j, long k, long l) {
+    return buffer.getInt(dimensions().positionOf(i, j, k, l));
+  }
+
+  @Override
+  public IntNdArray setInt(int value, long i, long j, long k, long l) {
+    buffer.setInt(value, dimensions().positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public IntNdCursor cursor() {
+    return new IntDenseNdCursor(buffer, dimensions());
+  }
+
+  @Override
+  public IntStream streamOfInts() {
+    return scalarPositions().mapToInt(buffer::getInt);
+  }
+
+  @Override
+  public void forEachInt(CoordsIntConsumer consumer) {
+    forEachScalarRun((coords, position, stride, length) -> {
+      consumer.accept(coords, buffer.getInt(position));
+      for (long i = 1; i < length; ++i) {
+        ++coords[coords.length - 1];
+        consumer.accept(coords, buffer.getInt(position + i * stride));
+      }
+    });
+  }
+
   @Override
   public IntNdArray copyTo(NdArray<Integer> dst) {
     Validator.copyToNdArrayArgs(this, dst);
@@ -78,7 +151,7 @@ public class IntDenseNdArray extends AbstractDenseNdArray<Integer, IntNdArray>
   }
 
   @Override
-  protected IntDataBuffer buffer() {
+  public IntDataBuffer buffer() {
     return buffer;
   }
 
@@ -0,0 +1,42 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dense;
+
+import org.tensorflow.ndarray.IntNdCursor;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+final class IntDenseNdCursor extends AbstractDenseNdCursor<Integer, IntNdCursor> implements IntNdCursor {
+
+  @Override
+  public int getInt() {
+    return buffer.getInt(position());
+  }
+
+  @Override
+  public IntNdCursor setInt(int value) {
+    buffer.setInt(value, position());
+    return this;
+  }
+
+  IntDenseNdCursor(IntDataBuffer buffer, DimensionalSpace dimensions) {
+    super(dimensions);
+    this.buffer = buffer;
+  }
+
+  private final IntDataBuffer buffer;
+}
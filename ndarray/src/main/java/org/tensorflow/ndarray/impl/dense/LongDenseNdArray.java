@@ -16,9 +16,12 @@
  */
 package org.tensorflow.ndarray.impl.dense;
 
+import java.util.stream.LongStream;
 import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.LongNdCursor;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.LongDataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
@@ -31,6 +34,11 @@ public class LongDenseNdArray extends AbstractDenseNdArray<Long, LongNdArray>
     return new LongDenseNdArray(buffer, shape);
   }
 
+  public static LongNdArray create(LongDataBuffer buffer, Shape shape, StorageOrder order) {
+    Validator.denseShape(buffer, shape);
+    return new LongDenseNdArray(buffer, DimensionalSpace.create(shape, order));
+  }
+
   @Override
   public long getLong(long... indices) {
     return buffer.getLong(positionOf(indices, true));
@@ -42,6 +50,71 @@ public class LongDenseNdArray extends AbstractDenseNdArray<Long, LongNdArray>
     return this;
   }
 
+  @Override
+  public long getLong(long i) {
+    return buffer.getLong(dimensions().positionOf(i));
+  }
+
+  @Override
+  public LongNdArray setLong(long value, long i) {
+    buffer.setLong(value, dimensions().positionOf(i));
+    return this;
+  }
+
+  @Override
+  public long getLong(long i, long j) {
+    return buffer.getLong(dimensions().positionOf(i, j));
+  }
+
+  @Override
+  public LongNdArray setLong(long value, long i, long j) {
+    buffer.setLong(value, dimensions().positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public long getLong(long i, long j, long k) {
+    return buffer.getLong(dimensions().positionOf(i, j, k));
+  }
+
+  @Override
+  public LongNdArray setLong(long value, long i, long j, long k) {
+    buffer.setLong(value, dimensions().positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public long getLong(long i, long j, long k, long l) {
+    return buffer.getLong(dimensions().positionOf(i, j, k, l));
+  }
+
+  @Override
+  public LongNdArray setLong(long value, long i, long j, long k, long l) {
+    buffer.setLong(value, dimensions().positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public LongNdCursor cursor() {
+    return new LongDenseNdCursor(buffer, dimensions());
+  }
+
+  @Override
+  public LongStream streamOfLongs() {
+    return scalarPositions().map(buffer::getLong);
+  }
+
+  @Override
+  public void forEachLong(CoordsLongConsumer consumer) {
+    forEachScalarRun((coords, position, stride, length) -> {
+      consumer.accept(coords, buffer.getLong(position));
+      for (long i = 1; i < length; ++i) {
+        ++coords[coords.length - 1];
+        consumer.accept(coords, buffer.getLong(position + i * stride));
+      }
+    });
+  }
+
   @Override
   public LongNdArray copyTo(NdArray<Long> dst) {
     Validator.copyToNdArrayArgs(this, dst);
@@ -78,7 +151,7 @@ public class LongDenseNdArray extends AbstractDenseNdArray<Long, LongNdArray>
   }
 
   @Override
-  protected LongDataBuffer buffer() {
+  public LongDataBuffer buffer() {
     return buffer;
   }
 
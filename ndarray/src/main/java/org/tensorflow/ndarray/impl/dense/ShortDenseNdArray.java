@@ -18,7 +18,9 @@ package org.tensorflow.ndarray.impl.dense;
 
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.ShortNdArray;
+import org.tensorflow.ndarray.ShortNdCursor;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.ShortDataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
@@ -31,6 +33,11 @@ public class ShortDenseNdArray extends AbstractDenseNdArray<Short, ShortNdArray>
     return new ShortDenseNdArray(buffer, shape);
   }
 
+  public static ShortNdArray create(ShortDataBuffer buffer, Shape shape, StorageOrder order) {
+    Validator.denseShape(buffer, shape);
+    return new ShortDenseNdArray(buffer, DimensionalSpace.create(shape, order));
+  }
+
   @Override
   public short getShort(long... indices) {
     return buffer.getShort(positionOf(indices, true));
@@ -42,6 +49,55 @@ public class ShortDenseNdArray extends AbstractDenseNdArray<Short, ShortNdArray>
     return this;
   }
 
+  @Override
+  public short getShort(long i) {
+    return buffer.getShort(dimensions().positionOf(i));
+  }
+
+  @Override
+  public ShortNdArray setShort(short value, long i) {
+    buffer.setShort(value, dimensions().positionOf(i));
+    return this;
+  }
+
+  @Override
+  public short getShort(long i, long j) {
+    return buffer.getShort(dimensions().positionOf(i, j));
+  }
+
+  @Override
+  public ShortNdArray setShort(short value, long i, long j) {
+    buffer.setShort(value, dimensions().positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public short getShort(long i, long j, long k) {
+    return buffer.getShort(dimensions().positionOf(i, j, k));
+  }
+
+  @Override
+  public ShortNdArray setShort(short value, long i, long j, long k) {
+    buffer.setShort(value, dimensions().positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public short getShort(long i, long j, long k, long l) {
+    return buffer.getShort(dimensions().positionOf(i, j, k, l));
+  }
+
+  @Override
+  public ShortNdArray setShort(short value, long i, long j, long k, long l) {
+    buffer.setShort(value, dimensions().positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public ShortNdCursor cursor() {
+    return new ShortDenseNdCursor(buffer, dimensions());
+  }
+
   @Override
   public ShortNdArray copyTo(NdArray<Short> dst) {
     Validator.copyToNdArrayArgs(this, dst);
@@ -36,6 +36,16 @@ final class Axis extends AbstractDimension {
     return false;  // all axis are continuous
   }
 
+  @Override
+  public boolean isStrided() {
+    return true;
+  }
+
+  @Override
+  public long stride() {
+    return elementSize;
+  }
+
   @Override
   public long elementSize() {
     return elementSize;
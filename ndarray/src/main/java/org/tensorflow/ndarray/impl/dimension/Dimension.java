@@ -33,4 +33,16 @@ public interface Dimension {
   long positionOf(long coord);
 
   boolean isSegmented();
+
+  /**
+   * Returns true if all elements of this dimension are evenly spaced in memory, i.e.
+   * {@code positionOf(i) == positionOf(0) + i * stride()}
+   */
+  boolean isStrided();
+
+  /**
+   * Returns the distance between the positions of two consecutive elements of this dimension,
+   * only meaningful if this dimension {@link #isStrided() is strided}
+   */
+  long stride();
 }
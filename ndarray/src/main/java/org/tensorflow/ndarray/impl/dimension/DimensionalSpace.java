@@ -18,7 +18,10 @@
 package org.tensorflow.ndarray.impl.dimension;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import org.tensorflow.ndarray.IllegalRankException;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StorageOrder;
 import org.tensorflow.ndarray.index.Index;
 
 public class DimensionalSpace {
@@ -34,6 +37,28 @@ public class DimensionalSpace {
     return new DimensionalSpace(dimensions, shape);
   }
 
+  /**
+   * Creates a space for an array of the given shape whose elements are stored in the given order.
+   *
+   * @param shape shape of the array
+   * @param order storage order of the elements
+   * @return a new space
+   */
+  public static DimensionalSpace create(Shape shape, StorageOrder order) {
+    if (order == StorageOrder.ROW_MAJOR || shape.numDimensions() < 2) {
+      return create(shape);
+    }
+    Dimension[] dimensions = new Dimension[shape.numDimensions()];
+
+    // Start from the first dimension, where all elements are continuous
+    long stride = 1;
+    for (int i = 0; i < dimensions.length; ++i) {
+      dimensions[i] = new StridedDimension(shape.get(i), stride, 0, 0, 0);
+      stride *= shape.get(i);
+    }
+    return rearrange(dimensions);
+  }
+
   public RelativeDimensionalSpace mapTo(Index[] indices) {
     if (dimensions == null) {
       throw new ArrayIndexOutOfBoundsException();
@@ -150,6 +175,115 @@ public class DimensionalSpace {
     return new DimensionalSpace(newDimensions);
   }
 
+  /**
+   * Returns a view of this space with its dimensions permuted.
+   *
+   * @param axes the new order of the dimensions, where {@code axes[i]} is the index in this space
+   *             of the i-th dimension of the new space, or an empty array to reverse the dimensions
+   * @return the transposed space
+   * @throws IllegalArgumentException if axes are not a permutation of the dimensions of this space
+   */
+  public DimensionalSpace transpose(int[] axes) {
+    int rank = dimensions.length;
+    if (axes.length == 0) {
+      axes = new int[rank];
+      for (int i = 0; i < rank; ++i) {
+        axes[i] = rank - 1 - i;
+      }
+    } else if (axes.length != rank) {
+      throw new IllegalArgumentException("Expected " + rank + " axes to transpose a space of shape "
+          + shape() + ", got " + Arrays.toString(axes));
+    }
+    boolean[] seen = new boolean[rank];
+    boolean identity = true;
+    Dimension[] permutedDimensions = new Dimension[rank];
+    for (int i = 0; i < rank; ++i) {
+      int axis = axes[i];
+      if (axis < 0 || axis >= rank || seen[axis]) {
+        throw new IllegalArgumentException(Arrays.toString(axes) + " is not a permutation of the "
+            + "axes of shape " + shape());
+      }
+      seen[axis] = true;
+      identity &= axis == i;
+      permutedDimensions[i] = dimensions[axis];
+    }
+    return identity ? this : rearrange(permutedDimensions);
+  }
+
+  /**
+   * Returns a view of this space broadcast to the given shape, where dimensions of size 1 and new
+   * leading dimensions are repeated by using a stride of zero.
+   *
+   * @param shape the shape to broadcast this space to
+   * @return the broadcast space
+   * @throws IllegalArgumentException if this space cannot be broadcast to the given shape
+   */
+  public DimensionalSpace broadcastTo(Shape shape) {
+    if (!shape().isBroadcastableTo(shape)) {
+      throw new IllegalArgumentException("Shape " + shape() + " cannot be broadcast to " + shape);
+    }
+    int rank = shape.numDimensions();
+    int newDimensionCount = rank - dimensions.length;
+    boolean broadcast = newDimensionCount > 0;
+    Dimension[] broadcastDimensions = new Dimension[rank];
+    for (int i = 0; i < rank; ++i) {
+      long numElements = shape.get(i);
+      if (i < newDimensionCount) {
+        broadcastDimensions[i] = new StridedDimension(numElements, 0, 0, 0, 0);
+      } else {
+        Dimension dimension = dimensions[i - newDimensionCount];
+        if (dimension.numElements() == numElements) {
+          broadcastDimensions[i] = dimension;
+        } else {
+          broadcastDimensions[i] = new StridedDimension(numElements, 0, dimension.positionOf(0), 0, 0);
+          broadcast = true;
+        }
+      }
+    }
+    // Element and physical sizes are recomputed when rearranging the dimensions
+    return broadcast ? rearrange(broadcastDimensions) : this;
+  }
+
+  /**
+   * Returns a view of this space where a dimension is split into overlapping windows, by using a
+   * first dimension iterating over the windows and a second one over the elements of a window.
+   *
+   * @param axis index of the dimension to split
+   * @param windowSize number of elements in a window
+   * @param step distance between the first elements of two consecutive windows
+   * @return the windowed space
+   * @throws IllegalArgumentException if parameters are out of bounds
+   * @throws UnsupportedOperationException if the elements of the dimension are not evenly spaced
+   */
+  public DimensionalSpace slidingWindows(int axis, long windowSize, long step) {
+    if (axis < 0 || axis >= dimensions.length) {
+      throw new IllegalArgumentException("Axis " + axis + " is out of bounds for shape " + shape());
+    }
+    Dimension dimension = dimensions[axis];
+    if (windowSize < 1 || windowSize > dimension.numElements()) {
+      throw new IllegalArgumentException("Window size must be between 1 and " + dimension.numElements()
+          + ", got " + windowSize);
+    }
+    if (step < 1) {
+      throw new IllegalArgumentException("Step must be positive, got " + step);
+    }
+    if (!dimension.isStrided()) {
+      throw new UnsupportedOperationException("Dimension " + axis + " of shape " + shape() + " is not strided "
+          + "and cannot be split into windows without being copied first");
+    }
+    long numWindows = (dimension.numElements() - windowSize) / step + 1;
+    long stride = dimension.stride();
+    // Windows are positioned at their element having the lowest position, so that the elements of a
+    // window never precede it in memory when the dimension is reversed
+    long windowOffset = stride < 0 ? -(windowSize - 1) * stride : 0;
+    Dimension[] windowedDimensions = new Dimension[dimensions.length + 1];
+    System.arraycopy(dimensions, 0, windowedDimensions, 0, axis);
+    windowedDimensions[axis] = new StridedDimension(numWindows, step * stride, dimension.positionOf(0) - windowOffset, 0, 0);
+    windowedDimensions[axis + 1] = new StridedDimension(windowSize, stride, windowOffset, 0, 0);
+    System.arraycopy(dimensions, axis + 1, windowedDimensions, axis + 2, dimensions.length - axis - 1);
+    return rearrange(windowedDimensions);
+  }
+
   public Shape shape() {
     if (shape == null) {
       shape = toShape(dimensions);
@@ -189,6 +323,108 @@ public class DimensionalSpace {
     return position;
   }
 
+  /**
+   * Returns true if the elements of this space and of another space are stored contiguously from
+   * the start of their buffer, and in the same order, so that they can be copied in bulk even if
+   * their dimensions are segmented.
+   *
+   * <p>This is the case for example between two arrays stored in column-major order, or between two
+   * arrays transposed the same way.
+   *
+   * @param other another space of the same shape
+   * @return true if elements of both spaces are laid out the same way in a dense region of memory
+   */
+  public boolean hasSameDenseLayoutAs(DimensionalSpace other) {
+    if (dimensions.length != other.dimensions.length || !isDense() || !other.isDense()) {
+      return false;
+    }
+    for (int i = 0; i < dimensions.length; ++i) {
+      Dimension dimension = dimensions[i];
+      Dimension otherDimension = other.dimensions[i];
+      if (dimension.numElements() != otherDimension.numElements()) {
+        return false;
+      }
+      if (dimension.numElements() > 1 && (!dimension.isStrided() || !otherDimension.isStrided()
+          || dimension.stride() != otherDimension.stride())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the position of a scalar in a space of rank 1.
+   *
+   * <p>Unlike {@link #positionOf(long[])}, this method validates the rank of the space and the
+   * bounds of the coordinate, using strides precomputed on the first call.
+   *
+   * @param i coordinate of the scalar
+   * @return position of the scalar
+   * @throws IndexOutOfBoundsException if the coordinate is out of bounds
+   * @throws IllegalRankException if this space is not of rank 1
+   */
+  public long positionOf(long i) {
+    ScalarLayout layout = scalarLayout(1);
+    return layout.origin + layout.offsetOf(0, i);
+  }
+
+  /**
+   * Returns the position of a scalar in a space of rank 2.
+   *
+   * @see #positionOf(long)
+   */
+  public long positionOf(long i, long j) {
+    ScalarLayout layout = scalarLayout(2);
+    return layout.origin + layout.offsetOf(0, i) + layout.offsetOf(1, j);
+  }
+
+  /**
+   * Returns the position of a scalar in a space of rank 3.
+   *
+   * @see #positionOf(long)
+   */
+  public long positionOf(long i, long j, long k) {
+    ScalarLayout layout = scalarLayout(3);
+    return layout.origin + layout.offsetOf(0, i) + layout.offsetOf(1, j) + layout.offsetOf(2, k);
+  }
+
+  /**
+   * Returns the position of a scalar in a space of rank 4.
+   *
+   * @see #positionOf(long)
+   */
+  public long positionOf(long i, long j, long k, long l) {
+    ScalarLayout layout = scalarLayout(4);
+    return layout.origin + layout.offsetOf(0, i) + layout.offsetOf(1, j) + layout.offsetOf(2, k)
+        + layout.offsetOf(3, l);
+  }
+
+  /**
+   * Returns the part of the position of any scalar that does not depend on its coordinates.
+   *
+   * <p>The position of a scalar is equal to this origin plus the {@link #offsetOf(int, long)
+   * offset} of each of its coordinates.
+   *
+   * @return origin of the scalar positions
+   */
+  public long origin() {
+    return scalarLayout().origin;
+  }
+
+  /**
+   * Returns the part of the position of a scalar that depends on its coordinate in a given
+   * dimension.
+   *
+   * @param dimensionIdx index of the dimension
+   * @param coord coordinate of the scalar in that dimension
+   * @return offset of the coordinate
+   * @throws IndexOutOfBoundsException if the coordinate is out of bounds
+   * @see #origin()
+   */
+  public long offsetOf(int dimensionIdx, long coord) {
+    return scalarLayout().offsetOf(dimensionIdx, coord);
+  }
+
   /**
    * Succinct description of the shape meant for debugging.
    */
@@ -214,6 +450,157 @@ public class DimensionalSpace {
   private final Dimension[] dimensions;
   private final int segmentationIdx;
   private Shape shape;
+  private ScalarLayout scalarLayout;
+
+  /**
+   * Sizes and strides of the dimensions of a space, used to compute the position of a scalar by
+   * a few multiplications instead of resolving it through each dimension.
+   *
+   * <p>Dimensions that are not strided are still resolved individually.
+   */
+  private static final class ScalarLayout {
+
+    long offsetOf(int dimensionIdx, long coord) {
+      if (coord < 0 || coord >= numElements[dimensionIdx]) {
+        throw new IndexOutOfBoundsException("Coordinate " + coord + " is out of bounds for dimension "
+            + dimensionIdx + " of " + numElements[dimensionIdx] + " elements");
+      }
+      Dimension irregularDimension = irregularDimensions[dimensionIdx];
+      return irregularDimension == null ? coord * strides[dimensionIdx] : irregularDimension.positionOf(coord);
+    }
+
+    ScalarLayout(Dimension[] dimensions) {
+      numElements = new long[dimensions.length];
+      strides = new long[dimensions.length];
+      irregularDimensions = new Dimension[dimensions.length];
+      long origin = 0;
+      for (int i = 0; i < dimensions.length; ++i) {
+        Dimension dimension = dimensions[i];
+        numElements[i] = dimension.numElements();
+        if (!dimension.isStrided()) {
+          irregularDimensions[i] = dimension;
+        } else {
+          strides[i] = dimension.stride();
+          if (numElements[i] > 0) {
+            origin += dimension.positionOf(0);
+          }
+        }
+      }
+      this.origin = origin;
+    }
+
+    final long origin;
+    final long[] numElements;
+    final long[] strides;
+    final Dimension[] irregularDimensions;
+  }
+
+  private ScalarLayout scalarLayout(int rank) {
+    if (rank > dimensions.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (rank < dimensions.length) {
+      throw new IllegalRankException("Not a scalar value");
+    }
+    return scalarLayout();
+  }
+
+  private ScalarLayout scalarLayout() {
+    ScalarLayout layout = scalarLayout;
+    if (layout == null) {
+      // Layout is immutable and can be safely recomputed if published concurrently
+      layout = new ScalarLayout(dimensions);
+      scalarLayout = layout;
+    }
+    return layout;
+  }
+
+  /**
+   * Creates a space from dimensions that have been taken out of their original space, recomputing
+   * the size of their elements and the memory they cover from their new layout.
+   */
+  static DimensionalSpace rearrange(Dimension[] dimensions) {
+    Dimension[] newDimensions = new Dimension[dimensions.length];
+    int segmentationIdx = -1;
+    long elementSize = 1;
+    long maxPosition = 0;
+    boolean empty = false;
+    for (int i = dimensions.length - 1; i >= 0; --i) {
+      Dimension dimension = dimensions[i];
+      long numElements = dimension.numElements();
+      empty |= numElements == 0;
+      if (!empty) {
+        maxPosition += maxPositionOf(dimension);
+      }
+      long physicalSize = empty ? 0 : maxPosition + 1;
+      Dimension newDimension;
+      if (dimension.isStrided()) {
+        long offset = numElements > 0 ? dimension.positionOf(0) : 0;
+        newDimension = new StridedDimension(numElements, dimension.stride(), offset, elementSize, physicalSize);
+      } else {
+        newDimension = new PermutedDimension(dimension, elementSize, physicalSize);
+      }
+      if (segmentationIdx < 0 && newDimension.isSegmented()) {
+        segmentationIdx = i;
+      }
+      newDimensions[i] = newDimension;
+      elementSize *= numElements;
+    }
+    return new DimensionalSpace(newDimensions, segmentationIdx);
+  }
+
+  /**
+   * Returns true if each element of this space maps to a distinct position in a contiguous region
+   * starting at position 0, whatever the order of its strided dimensions.
+   */
+  private boolean isDense() {
+    if (!isSegmented()) {
+      return true;
+    }
+    Dimension[] byStride = new Dimension[dimensions.length];
+    int count = 0;
+    for (Dimension dimension : dimensions) {
+      if (!dimension.isStrided() || dimension.numElements() == 0 || dimension.positionOf(0) != 0) {
+        return false;
+      }
+      if (dimension.numElements() > 1) {
+        byStride[count++] = dimension;
+      }
+    }
+    Arrays.sort(byStride, 0, count, Comparator.comparingLong(Dimension::stride));
+    long expectedStride = 1;
+    for (int i = 0; i < count; ++i) {
+      if (byStride[i].stride() != expectedStride) {
+        return false;
+      }
+      expectedStride *= byStride[i].numElements();
+    }
+    return true;
+  }
+
+  static long minPositionOf(Dimension dimension) {
+    long numElements = dimension.numElements();
+    if (dimension.isStrided()) {
+      return Math.min(dimension.positionOf(0), dimension.positionOf(numElements - 1));
+    }
+    long minPosition = Long.MAX_VALUE;
+    for (long i = 0; i < numElements; ++i) {
+      minPosition = Math.min(minPosition, dimension.positionOf(i));
+    }
+    return minPosition;
+  }
+
+  private static long maxPositionOf(Dimension dimension) {
+    long numElements = dimension.numElements();
+    if (dimension.isStrided()) {
+      return Math.max(dimension.positionOf(0), dimension.positionOf(numElements - 1));
+    }
+    long maxPosition = 0;
+    for (long i = 0; i < numElements; ++i) {
+      maxPosition = Math.max(maxPosition, dimension.positionOf(i));
+    }
+    return maxPosition;
+  }
 
   private static Shape toShape(Dimension[] dimensions) {
     long[] shapeDimSizes = new long[dimensions.length];
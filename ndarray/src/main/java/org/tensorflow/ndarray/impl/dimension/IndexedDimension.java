@@ -40,6 +40,16 @@ final class IndexedDimension extends AbstractDimension {
     return true;
   }
 
+  @Override
+  public boolean isStrided() {
+    return strided;
+  }
+
+  @Override
+  public long stride() {
+    return stride;
+  }
+
   @Override
   public long elementSize() {
     return originalDimension.elementSize();  // indices do not change the size of an inner element
@@ -61,9 +71,24 @@ final class IndexedDimension extends AbstractDimension {
     this.index = index;
     this.originalDimension = originalDimension;
     this.numElements = index.numElements(originalDimension);
+    if (numElements <= 1) {
+      strided = true;
+      stride = 0;
+    } else if (originalDimension.isStrided() && index.isStridedSlicingCompliant()) {
+      // Make sure the index is really linear by checking both ends of the dimension
+      long first = index.mapCoordinate(0, originalDimension);
+      long step = index.mapCoordinate(1, originalDimension) - first;
+      strided = index.mapCoordinate(numElements - 1, originalDimension) == first + step * (numElements - 1);
+      stride = strided ? step * originalDimension.stride() : 0;
+    } else {
+      strided = false;
+      stride = 0;
+    }
   }
 
   private final Index index;
   private final Dimension originalDimension;
   private final long numElements;
+  private final boolean strided;
+  private final long stride;
 }
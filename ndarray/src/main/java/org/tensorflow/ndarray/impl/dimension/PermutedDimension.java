@@ -0,0 +1,74 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dimension;
+
+/**
+ * A dimension moved to another index of its dimensional space, like when an array is transposed,
+ * while its elements are not evenly spaced in memory.
+ */
+final class PermutedDimension extends AbstractDimension {
+
+  @Override
+  public long numElements() {
+    return originalDimension.numElements();
+  }
+
+  @Override
+  public long positionOf(long coord) {
+    return originalDimension.positionOf(coord);
+  }
+
+  @Override
+  public boolean isSegmented() {
+    return true;
+  }
+
+  @Override
+  public boolean isStrided() {
+    return false;
+  }
+
+  @Override
+  public long stride() {
+    return 0;
+  }
+
+  @Override
+  public long elementSize() {
+    return elementSize;
+  }
+
+  @Override
+  public long physicalSize() {
+    return physicalSize;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(numElements());
+  }
+
+  PermutedDimension(Dimension originalDimension, long elementSize, long physicalSize) {
+    this.originalDimension = originalDimension;
+    this.elementSize = elementSize;
+    this.physicalSize = physicalSize;
+  }
+
+  private final Dimension originalDimension;
+  private final long elementSize;
+  private final long physicalSize;
+}
@@ -33,6 +33,16 @@ final class ReducedDimension extends AbstractDimension {
     return true;
   }
 
+  @Override
+  public boolean isStrided() {
+    return originalDimension.isStrided();
+  }
+
+  @Override
+  public long stride() {
+    return originalDimension.stride();
+  }
+
   @Override
   public long elementSize() {
     return elementSize;
@@ -0,0 +1,164 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dimension;
+
+import java.util.Arrays;
+import org.tensorflow.ndarray.index.Index;
+import org.tensorflow.ndarray.index.Indices;
+
+/**
+ * A slicing pattern mapped once to a dimensional space, where only the coordinates of the point
+ * indices vary from one slice to another.
+ *
+ * <p>Since moving a point index only shifts all the elements of a slice by the same distance, the
+ * dimensions of the slice are computed only once and each new set of coordinates is resolved to
+ * the position of the slice in the original space.
+ */
+public final class SliceMapping {
+
+  /**
+   * Maps a slicing pattern to a space.
+   *
+   * <p>The coordinates of the point indices found in the pattern are ignored, as they will be
+   * provided when resolving the position of each slice.
+   *
+   * @param dimensions the space to slice
+   * @param indices the slicing pattern
+   * @return the mapping
+   */
+  public static SliceMapping compile(DimensionalSpace dimensions, Index[] indices) {
+    Index[] origins = indices.clone();
+    Dimension[] pointDimensions = new Dimension[indices.length];
+    int numPoints = 0;
+    int dimIdx = 0;
+    for (int i = 0; i < indices.length; ++i) {
+      Index index = indices[i];
+      if (index.isPoint()) {
+        if (dimIdx >= dimensions.numDimensions()) {
+          throw new IndexOutOfBoundsException("Too many indices for shape " + dimensions.shape());
+        }
+        pointDimensions[numPoints++] = dimensions.get(dimIdx++);
+        origins[i] = Indices.at(0);
+      } else if (index.isEllipsis()) {
+        int requiredDimensions = 0;
+        for (int j = i + 1; j < indices.length; ++j) {
+          if (!indices[j].isNewAxis()) {
+            requiredDimensions++;
+          }
+        }
+        dimIdx += Math.max(0, dimensions.numDimensions() - dimIdx - requiredDimensions);
+      } else if (!index.isNewAxis()) {
+        dimIdx++;
+      }
+    }
+    RelativeDimensionalSpace originSpace = dimensions.mapTo(origins);
+    Dimension[] sliceDimensions = new Dimension[originSpace.numDimensions()];
+    for (int i = 0; i < sliceDimensions.length; ++i) {
+      sliceDimensions[i] = originSpace.get(i);
+    }
+    // Slices are positioned at their element having the lowest position, which remains in the
+    // bounds of the original space when moving a point index over a reversed or permuted dimension
+    long lowestPosition = 0;
+    if (originSpace.shape().size() > 0) {
+      for (Dimension dimension : sliceDimensions) {
+        lowestPosition += DimensionalSpace.minPositionOf(dimension);
+      }
+    }
+    if (lowestPosition != 0) {
+      Dimension first = sliceDimensions[0];
+      sliceDimensions[0] = new ReducedDimension(first, -lowestPosition, first.elementSize());
+    }
+    return new SliceMapping(
+        DimensionalSpace.rearrange(sliceDimensions),
+        Arrays.copyOf(pointDimensions, numPoints),
+        originSpace.position() + lowestPosition
+    );
+  }
+
+  /**
+   * Returns the dimensions of each slice, relative to their {@link #positionOf(long[]) position}.
+   */
+  public DimensionalSpace dimensions() {
+    return dimensions;
+  }
+
+  /**
+   * Returns the number of point indices in the pattern, which is also the number of coordinates
+   * required to locate a slice.
+   */
+  public int numCoordinates() {
+    return pointDimensions.length;
+  }
+
+  /**
+   * Returns the position of a slice in the original space, which is the position of its element
+   * located first in memory.
+   *
+   * @param coordinates coordinates of each point index in the pattern, negative values being
+   *                    counted from the end of their dimension
+   * @return position of the slice
+   * @throws IllegalArgumentException if the number of coordinates does not match the pattern
+   * @throws IndexOutOfBoundsException if a coordinate is out of bounds
+   */
+  public long positionOf(long[] coordinates) {
+    if (coordinates.length != pointDimensions.length) {
+      throw new IllegalArgumentException("Expected " + pointDimensions.length + " coordinates to slice, got "
+          + coordinates.length);
+    }
+    long position = originPosition;
+    for (int i = 0; i < coordinates.length; ++i) {
+      Dimension dimension = pointDimensions[i];
+      long coordinate = coordinates[i] >= 0 ? coordinates[i] : dimension.numElements() + coordinates[i];
+      if (coordinate < 0 || coordinate >= dimension.numElements()) {
+        throw new IndexOutOfBoundsException("Coordinate " + coordinates[i] + " is out of bounds for a dimension of "
+            + dimension.numElements() + " elements");
+      }
+      position += dimension.positionOf(coordinate) - pointOrigins[i];
+    }
+    return position;
+  }
+
+  /**
+   * Returns the distance between the position of a slice and the position of its first element.
+   */
+  public long firstElementOffset() {
+    return firstElementOffset;
+  }
+
+  private SliceMapping(DimensionalSpace dimensions, Dimension[] pointDimensions, long originPosition) {
+    this.dimensions = dimensions;
+    this.pointDimensions = pointDimensions;
+    this.originPosition = originPosition;
+    pointOrigins = new long[pointDimensions.length];
+    for (int i = 0; i < pointDimensions.length; ++i) {
+      pointOrigins[i] = pointDimensions[i].positionOf(0);
+    }
+    long offset = 0;
+    if (dimensions.shape().size() > 0) {
+      for (int i = 0; i < dimensions.numDimensions(); ++i) {
+        offset += dimensions.get(i).positionOf(0);
+      }
+    }
+    firstElementOffset = offset;
+  }
+
+  private final DimensionalSpace dimensions;
+  private final Dimension[] pointDimensions;
+  private final long[] pointOrigins;
+  private final long originPosition;
+  private final long firstElementOffset;
+}
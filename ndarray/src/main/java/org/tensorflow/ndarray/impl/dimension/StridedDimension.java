@@ -0,0 +1,82 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dimension;
+
+/**
+ * A dimension whose elements are evenly spaced in memory by an arbitrary stride, like the
+ * dimensions of a transposed array.
+ */
+final class StridedDimension extends AbstractDimension {
+
+  @Override
+  public long numElements() {
+    return numElements;
+  }
+
+  @Override
+  public long positionOf(long coord) {
+    if (coord >= numElements) {
+      throw new IndexOutOfBoundsException();
+    }
+    return offset + coord * stride;
+  }
+
+  @Override
+  public boolean isSegmented() {
+    // Elements are contiguous only if they are laid out like those of a row-major axis
+    return offset != 0 || (numElements > 1 && stride != elementSize);
+  }
+
+  @Override
+  public boolean isStrided() {
+    return true;
+  }
+
+  @Override
+  public long stride() {
+    return stride;
+  }
+
+  @Override
+  public long elementSize() {
+    return elementSize;
+  }
+
+  @Override
+  public long physicalSize() {
+    return physicalSize;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(numElements);
+  }
+
+  StridedDimension(long numElements, long stride, long offset, long elementSize, long physicalSize) {
+    this.numElements = numElements;
+    this.stride = stride;
+    this.offset = offset;
+    this.elementSize = elementSize;
+    this.physicalSize = physicalSize;
+  }
+
+  private final long numElements;
+  private final long stride;
+  private final long offset;
+  private final long elementSize;
+  private final long physicalSize;
+}
@@ -0,0 +1,205 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Provides kernels computing a {@link FusedGraph graph} of operations on doubles in a single pass.
+ *
+ * <p>The graph is compiled in a class of its own if the {@link FusedKernelCompiler compiler} supports
+ * it. Otherwise, it is interpreted as a sequence of invocations of the element-wise
+ * {@link DoubleKernels kernels}, executed on each chunk of values.
+ */
+public final class DoubleFusion {
+
+  /**
+   * Returns a kernel computing a graph, reading its array operands from the inputs of the kernel.
+   *
+   * @param graph graph to compute
+   * @param constants values of the constants of the graph
+   * @return a new kernel, not to be shared between threads
+   */
+  public static DoubleElementwise.NaryKernel kernel(FusedGraph graph, double[] constants) {
+    DoubleElementwise.NaryKernel kernel = FusedKernelCompiler.compile(graph, constants);
+    return kernel != null ? kernel : interpret(graph, constants);
+  }
+
+  /**
+   * Returns a kernel interpreting a graph, even if it could be compiled.
+   *
+   * @param graph graph to compute
+   * @param constants values of the constants of the graph
+   * @return a new kernel, not to be shared between threads
+   */
+  public static DoubleElementwise.NaryKernel interpret(FusedGraph graph, double[] constants) {
+    return new Program(graph, constants);
+  }
+
+  private static final DoubleKernels KERNELS = Kernels.doubles();
+
+  /**
+   * Graph compiled in a sequence of kernel invocations.
+   *
+   * <p>Each node reads its values from a slot, which either exposes the current chunk of an array
+   * operand or is a register of scratch memory holding a constant or the result of an operation.
+   * Registers are reused as soon as the values they hold have been consumed, and the last operation
+   * writes its result directly to the destination.
+   */
+  private static final class Program implements DoubleElementwise.NaryKernel {
+
+    @Override
+    public void apply(double[][] x, int[] xOffsets, double[] dst, int dstOffset, int length) {
+      System.arraycopy(x, 0, slots, 0, x.length);
+      System.arraycopy(xOffsets, 0, offsets, 0, xOffsets.length);
+      slots[outputSlot] = dst;
+      offsets[outputSlot] = dstOffset;
+      for (Instruction instruction : instructions) {
+        instruction.execute(slots, offsets, length);
+      }
+    }
+
+    Program(FusedGraph graph, double[] constants) {
+      int numNodes = graph.numNodes();
+      int[] remainingUses = new int[numNodes];
+      for (int node = 0; node < numNodes; ++node) {
+        for (int operand : graph.operands(node)) {
+          ++remainingUses[operand];
+        }
+      }
+      List<double[]> slotData = new ArrayList<>(Arrays.asList(new double[graph.numArrays()][]));
+      int outputSlot = slotData.size();
+      slotData.add(null);
+      Deque<Integer> freeRegisters = new ArrayDeque<>();
+      int[] nodeSlots = new int[numNodes];
+      int root = numNodes - 1;
+      for (int node = 0; node < numNodes; ++node) {
+        FusedGraph.Op op = graph.op(node);
+        if (op == FusedGraph.Op.ARRAY) {
+          nodeSlots[node] = graph.leafIndex(node);
+        } else if (op == FusedGraph.Op.CONSTANT) {
+          double[] register = new double[DoubleElementwise.CHUNK_SIZE];
+          Arrays.fill(register, constants[graph.leafIndex(node)]);
+          nodeSlots[node] = slotData.size();
+          slotData.add(register);
+        } else {
+          int[] operands = graph.operands(node);
+          int[] operandSlots = new int[operands.length];
+          for (int i = 0; i < operands.length; ++i) {
+            operandSlots[i] = nodeSlots[operands[i]];
+            // releases the register of an operand once consumed, so that the node can write over it
+            if (--remainingUses[operands[i]] == 0 && graph.op(operands[i]).arity() > 0) {
+              freeRegisters.push(operandSlots[i]);
+            }
+          }
+          if (node == root) {
+            nodeSlots[node] = outputSlot;
+          } else if (!freeRegisters.isEmpty()) {
+            nodeSlots[node] = freeRegisters.pop();
+          } else {
+            nodeSlots[node] = slotData.size();
+            slotData.add(new double[DoubleElementwise.CHUNK_SIZE]);
+          }
+          instructions.add(new Instruction(op, nodeSlots[node], operandSlots));
+        }
+      }
+      if (nodeSlots[root] != outputSlot) {
+        instructions.add(new Instruction(null, outputSlot, nodeSlots[root]));
+      }
+      this.outputSlot = outputSlot;
+      slots = slotData.toArray(new double[0][]);
+      offsets = new int[slots.length];
+    }
+
+    private final List<Instruction> instructions = new ArrayList<>();
+    private final double[][] slots;
+    private final int[] offsets;
+    private final int outputSlot;
+  }
+
+  /**
+   * Computes an operation on a chunk of values, or copies them if the operation is null.
+   */
+  private static final class Instruction {
+
+    void execute(double[][] slots, int[] offsets, int length) {
+      double[] dst = slots[dstSlot];
+      int dstOffset = offsets[dstSlot];
+      double[] x = slots[operandSlots[0]];
+      int xOffset = offsets[operandSlots[0]];
+      if (op == null) {
+        System.arraycopy(x, xOffset, dst, dstOffset, length);
+        return;
+      }
+      switch (op) {
+        case ADD:
+          KERNELS.add(x, xOffset, slots[operandSlots[1]], offsets[operandSlots[1]], dst, dstOffset, length);
+          break;
+        case SUB:
+          KERNELS.sub(x, xOffset, slots[operandSlots[1]], offsets[operandSlots[1]], dst, dstOffset, length);
+          break;
+        case MUL:
+          KERNELS.mul(x, xOffset, slots[operandSlots[1]], offsets[operandSlots[1]], dst, dstOffset, length);
+          break;
+        case DIV:
+          KERNELS.div(x, xOffset, slots[operandSlots[1]], offsets[operandSlots[1]], dst, dstOffset, length);
+          break;
+        case FMA:
+          KERNELS.fma(x, xOffset, slots[operandSlots[1]], offsets[operandSlots[1]],
+              slots[operandSlots[2]], offsets[operandSlots[2]], dst, dstOffset, length);
+          break;
+        case MIN:
+          KERNELS.min(x, xOffset, slots[operandSlots[1]], offsets[operandSlots[1]], dst, dstOffset, length);
+          break;
+        case MAX:
+          KERNELS.max(x, xOffset, slots[operandSlots[1]], offsets[operandSlots[1]], dst, dstOffset, length);
+          break;
+        case CLAMP:
+          // bounds are constants, their registers being filled with the same value
+          KERNELS.clamp(x, xOffset, slots[operandSlots[1]][0], slots[operandSlots[2]][0], dst, dstOffset, length);
+          break;
+        case ABS:
+          KERNELS.abs(x, xOffset, dst, dstOffset, length);
+          break;
+        case EXP:
+          KERNELS.exp(x, xOffset, dst, dstOffset, length);
+          break;
+        case LOG:
+          KERNELS.log(x, xOffset, dst, dstOffset, length);
+          break;
+        default:
+          throw new IllegalStateException("Unexpected operation " + op);
+      }
+    }
+
+    Instruction(FusedGraph.Op op, int dstSlot, int... operandSlots) {
+      this.op = op;
+      this.dstSlot = dstSlot;
+      this.operandSlots = operandSlots;
+    }
+
+    private final FusedGraph.Op op;
+    private final int dstSlot;
+    private final int[] operandSlots;
+  }
+
+  private DoubleFusion() {}
+}
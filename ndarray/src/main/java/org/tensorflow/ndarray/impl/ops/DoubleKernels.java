@@ -0,0 +1,81 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+/**
+ * Kernels computing element-wise operations over runs of contiguous doubles.
+ *
+ * <p>Each kernel reads {@code length} values from its operand arrays, starting at their respective
+ * offsets, and writes the results in the destination array. The destination run may be the same as
+ * one of the operand runs, but should not partially overlap with any of them.
+ */
+public interface DoubleKernels {
+
+  void add(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length);
+
+  void sub(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length);
+
+  void mul(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length);
+
+  void div(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length);
+
+  /**
+   * Computes {@code x * y + z}
+   */
+  void fma(double[] x, int xOffset, double[] y, int yOffset, double[] z, int zOffset, double[] dst, int dstOffset, int length);
+
+  void clamp(double[] x, int xOffset, double min, double max, double[] dst, int dstOffset, int length);
+
+  void abs(double[] x, int xOffset, double[] dst, int dstOffset, int length);
+
+  void min(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length);
+
+  void max(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length);
+
+  /**
+   * Returns the sum of {@code length} values. The order in which values are added depends on the
+   * implementation but is always the same for a given length.
+   */
+  double reduceSum(double[] x, int xOffset, int length);
+
+  /**
+   * Returns the sum of the squares of {@code length} values, added in the same order as {@link #reduceSum}.
+   */
+  double reduceSumOfSquares(double[] x, int xOffset, int length);
+
+  /**
+   * Returns the minimum of {@code length} values, or positive infinity if {@code length} is 0.
+   */
+  double reduceMin(double[] x, int xOffset, int length);
+
+  /**
+   * Returns the maximum of {@code length} values, or negative infinity if {@code length} is 0.
+   */
+  double reduceMax(double[] x, int xOffset, int length);
+
+  void exp(double[] x, int xOffset, double[] dst, int dstOffset, int length);
+
+  void log(double[] x, int xOffset, double[] dst, int dstOffset, int length);
+
+  /**
+   * Accumulates the product of a {@code m x k} matrix {@code a} and a {@code k x n} matrix {@code b}
+   * into a {@code m x n} matrix {@code c}, i.e. computes {@code c += a * b}. Matrices are stored in
+   * row-major order, their rows being respectively {@code lda}, {@code ldb} and {@code ldc} values
+   * apart.
+   */
+  void gemm(int m, int n, int k, double[] a, int aOffset, int lda, double[] b, int bOffset, int ldb, double[] c, int cOffset, int ldc);
+}
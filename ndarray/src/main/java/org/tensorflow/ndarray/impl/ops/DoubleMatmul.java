@@ -0,0 +1,275 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.tensorflow.ndarray.DoubleNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.impl.dense.DoubleDenseNdArray;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+/**
+ * Multiplies matrices of doubles.
+ *
+ * <p>The product is computed by tiles of {@code MC x NC} values of the result. For each tile, blocks of
+ * {@code KC} columns of the left operand and rows of the right operand are packed in small contiguous
+ * arrays that fit in the processor caches, and then multiplied by a {@link DoubleKernels#gemm kernel}.
+ * Packing reads the operands directly from the Java arrays backing them, following their strides, so
+ * transposed or sliced views are multiplied without being copied first. Operands that are not backed
+ * by a Java array are copied in one first.
+ *
+ * <p>Tiles are independent from each other and large products are computed by splitting them between
+ * tasks executed in the common {@link ForkJoinPool}. Each value of the result is accumulated in the
+ * same order no matter how the tiles are split.
+ */
+public final class DoubleMatmul {
+
+  /**
+   * Multiplies two matrices, or two batches of matrices, into a new array.
+   *
+   * @param a left operand, of shape {@code [batchSize,] m x k}
+   * @param b right operand, of shape {@code [batchSize,] k x n}
+   * @return the product, of shape {@code [batchSize,] m x n}
+   * @throws IllegalArgumentException if the shapes of the operands are incompatible
+   */
+  public static DoubleNdArray multiply(DoubleNdArray a, DoubleNdArray b) {
+    MatmulShape shape = MatmulShape.of(a.shape(), b.shape());
+    return multiply(shape, a, b, NdArrays.ofDoubles(shape.resultShape()));
+  }
+
+  /**
+   * Multiplies two matrices, or two batches of matrices, into a destination array.
+   *
+   * @param a left operand, of shape {@code [batchSize,] m x k}
+   * @param b right operand, of shape {@code [batchSize,] k x n}
+   * @param dst destination array, of shape {@code [batchSize,] m x n}
+   * @return the destination array
+   * @throws IllegalArgumentException if the shapes of the operands or of the destination are incompatible
+   */
+  public static DoubleNdArray multiply(DoubleNdArray a, DoubleNdArray b, DoubleNdArray dst) {
+    MatmulShape shape = MatmulShape.of(a.shape(), b.shape());
+    if (!dst.shape().equals(shape.resultShape())) {
+      throw new IllegalArgumentException(
+          "Product of shape " + shape.resultShape() + " cannot be written to an array of shape " + dst.shape());
+    }
+    return multiply(shape, a, b, dst);
+  }
+
+  /** Number of rows of a tile */
+  private static final int MC = 64;
+
+  /** Number of columns of a tile */
+  private static final int NC = 512;
+
+  /** Depth of the blocks multiplied at once in a tile */
+  private static final int KC = 256;
+
+  /** Number of multiply-adds above which a product is split in tasks executed concurrently */
+  private static final long PARALLEL_THRESHOLD = 1L << 21;
+
+  private static final DoubleKernels KERNELS = Kernels.doubles();
+
+  private static DoubleNdArray multiply(MatmulShape shape, DoubleNdArray a, DoubleNdArray b, DoubleNdArray dst) {
+    Matrices aMatrices = Matrices.of(a);
+    Matrices bMatrices = Matrices.of(b);
+    double[] c = null;
+    int cOffset = 0;
+    if (dst != a && dst != b) {
+      DoubleBuffer heapBuffer = heapBufferOf(dst);
+      if (heapBuffer != null && !((DoubleDenseNdArray)dst).dimensions().isSegmented()) {
+        c = heapBuffer.array();
+        cOffset = heapBuffer.arrayOffset() + heapBuffer.position();
+      }
+    }
+    boolean copyResult = c == null;
+    if (copyResult) {
+      c = new double[(int)dst.size()];
+    }
+    Product product = new Product(shape, aMatrices, bMatrices, c, cOffset);
+    Product.TileTask task = product.new TileTask(0, product.numTiles);
+    if (product.workOf(product.numTiles) > PARALLEL_THRESHOLD && !ForkJoinTask.inForkJoinPool()) {
+      ForkJoinPool.commonPool().invoke(task);
+    } else {
+      task.invoke();
+    }
+    if (copyResult) {
+      dst.copyFrom(DataBuffers.of(c, false, false));
+    }
+    return dst;
+  }
+
+  private static DoubleBuffer heapBufferOf(DoubleNdArray x) {
+    return x instanceof DoubleDenseNdArray ? HeapBuffers.of(((DoubleDenseNdArray)x).buffer()) : null;
+  }
+
+  /**
+   * Matrices of an operand, read from a Java array at strided positions.
+   */
+  private static final class Matrices {
+
+    static Matrices of(DoubleNdArray x) {
+      int rank = x.rank();
+      DoubleBuffer heapBuffer = heapBufferOf(x);
+      if (heapBuffer != null) {
+        DimensionalSpace dimensions = ((DoubleDenseNdArray)x).dimensions();
+        boolean strided = true;
+        for (int i = 0; i < rank; ++i) {
+          strided &= dimensions.get(i).isStrided();
+        }
+        if (strided) {
+          return new Matrices(
+              heapBuffer.array(),
+              (int)(heapBuffer.arrayOffset() + heapBuffer.position() + dimensions.origin()),
+              rank > 2 ? (int)dimensions.get(0).stride() : 0,
+              (int)dimensions.get(rank - 2).stride(),
+              (int)dimensions.get(rank - 1).stride()
+          );
+        }
+      }
+      double[] data = new double[(int)x.size()];
+      x.copyTo(DataBuffers.of(data, false, false));
+      int numRows = (int)x.shape().get(-2);
+      int numColumns = (int)x.shape().get(-1);
+      return new Matrices(data, 0, rank > 2 ? numRows * numColumns : 0, numColumns, 1);
+    }
+
+    /**
+     * Copies a block of a matrix in a contiguous array, in row-major order.
+     */
+    void pack(int batch, int row, int column, int numRows, int numColumns, double[] dst) {
+      int position = origin + batch * batchStride + row * rowStride + column * columnStride;
+      for (int i = 0, d = 0; i < numRows; ++i, position += rowStride, d += numColumns) {
+        if (columnStride == 1) {
+          System.arraycopy(data, position, dst, d, numColumns);
+        } else {
+          for (int j = 0, p = position; j < numColumns; ++j, p += columnStride) {
+            dst[d + j] = data[p];
+          }
+        }
+      }
+    }
+
+    private final double[] data;
+    private final int origin;
+    private final int batchStride;
+    private final int rowStride;
+    private final int columnStride;
+
+    private Matrices(double[] data, int origin, int batchStride, int rowStride, int columnStride) {
+      this.data = data;
+      this.origin = origin;
+      this.batchStride = batchStride;
+      this.rowStride = rowStride;
+      this.columnStride = columnStride;
+    }
+  }
+
+  /**
+   * Product of matrices, split in tiles that are ordered by batch, then by column and finally by row, so
+   * that consecutive tiles share the same blocks of the right operand.
+   */
+  private static final class Product {
+
+    /**
+     * Computes a range of tiles.
+     */
+    @SuppressWarnings("serial")
+    final class TileTask extends RecursiveAction {
+
+      @Override
+      protected void compute() {
+        if (tileTo - tileFrom > 1 && workOf(tileTo - tileFrom) > PARALLEL_THRESHOLD) {
+          int tileMid = tileFrom + (tileTo - tileFrom) / 2;
+          invokeAll(new TileTask(tileFrom, tileMid), new TileTask(tileMid, tileTo));
+          return;
+        }
+        double[] aBlock = new double[Math.min(MC, shape.m) * Math.min(KC, shape.k)];
+        double[] bBlock = new double[Math.min(KC, shape.k) * Math.min(NC, shape.n)];
+        int tile = tileFrom;
+        while (tile < tileTo) {
+          int column = tile / numRowTiles;
+          int rowTileFrom = tile - column * numRowTiles;
+          int rowTileTo = Math.min(tileTo - column * numRowTiles, numRowTiles);
+          computeColumn(column / numColumnTiles, column % numColumnTiles, rowTileFrom, rowTileTo, aBlock, bBlock);
+          tile = column * numRowTiles + rowTileTo;
+        }
+      }
+
+      TileTask(int tileFrom, int tileTo) {
+        this.tileFrom = tileFrom;
+        this.tileTo = tileTo;
+      }
+
+      private final int tileFrom;
+      private final int tileTo;
+    }
+
+    long workOf(int numTiles) {
+      return (long)numTiles * Math.min(MC, shape.m) * Math.min(NC, shape.n) * shape.k;
+    }
+
+    final int numTiles;
+
+    Product(MatmulShape shape, Matrices a, Matrices b, double[] c, int cOffset) {
+      this.shape = shape;
+      this.a = a;
+      this.b = b;
+      this.c = c;
+      this.cOffset = cOffset;
+      numRowTiles = (shape.m + MC - 1) / MC;
+      numColumnTiles = (shape.n + NC - 1) / NC;
+      numTiles = shape.batchSize * numRowTiles * numColumnTiles;
+    }
+
+    private final MatmulShape shape;
+    private final Matrices a;
+    private final Matrices b;
+    private final double[] c;
+    private final int cOffset;
+    private final int numRowTiles;
+    private final int numColumnTiles;
+
+    private void computeColumn(int batch, int columnTile, int rowTileFrom, int rowTileTo, double[] aBlock, double[] bBlock) {
+      int column = columnTile * NC;
+      int numColumns = Math.min(NC, shape.n - column);
+      int rowFrom = rowTileFrom * MC;
+      int rowTo = Math.min(rowTileTo * MC, shape.m);
+      int cBatchOffset = cOffset + batch * shape.m * shape.n;
+      for (int row = rowFrom; row < rowTo; ++row) {
+        int cRow = cBatchOffset + row * shape.n + column;
+        Arrays.fill(c, cRow, cRow + numColumns, 0.0);
+      }
+      for (int depth = 0; depth < shape.k; depth += KC) {
+        int blockDepth = Math.min(KC, shape.k - depth);
+        b.pack(batch, depth, column, blockDepth, numColumns, bBlock);
+        for (int row = rowFrom; row < rowTo; row += MC) {
+          int numRows = Math.min(MC, rowTo - row);
+          a.pack(batch, row, depth, numRows, blockDepth, aBlock);
+          KERNELS.gemm(numRows, numColumns, blockDepth, aBlock, 0, blockDepth, bBlock, 0, numColumns,
+              c, cBatchOffset + row * shape.n + column, shape.n);
+        }
+      }
+    }
+  }
+
+  private DoubleMatmul() {}
+}
@@ -0,0 +1,492 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.impl.dense.FloatDenseNdArray;
+
+/**
+ * Reduces float arrays along some of their axes.
+ *
+ * <p>The values to reduce are read directly from the Java array backing a contiguous dense array when
+ * the reduced axes are either its first or its last axes. Otherwise, they are first copied in a new
+ * array where the reduced axes are moved last.
+ *
+ * <p>Values are combined pairwise, by recursively splitting the values to reduce in two halves until
+ * they are small enough to be reduced by a kernel. This keeps the rounding errors of sums low and,
+ * since splits only depend on the shape of the array, makes the result deterministic. Large reductions
+ * are executed in the common {@link java.util.concurrent.ForkJoinPool}, which computes these halves
+ * concurrently.
+ */
+public final class FloatReduction {
+
+  /**
+   * Reduces an array along the given axes.
+   *
+   * @param x array to reduce
+   * @param type type of reduction
+   * @param keepDims true if reduced axes are kept in the result with a size of 1
+   * @param axes axes to reduce, or none to reduce all axes
+   * @return result of the reduction
+   * @throws IllegalArgumentException if the axes are invalid, or if computing the minimum or maximum of
+   *                                  no values
+   */
+  public static FloatNdArray reduce(FloatNdArray x, ReductionType type, boolean keepDims, int... axes) {
+    ReductionAxes reductionAxes = ReductionAxes.of(x.shape(), axes);
+    checkSize(x);
+    float[] result = new float[(int)reductionAxes.numCells()];
+    if (result.length > 0) {
+      if (reductionAxes.numReduced() == 0 && (type == ReductionType.MIN || type == ReductionType.MAX)) {
+        throw new IllegalArgumentException("Cannot compute the " + type.name().toLowerCase() + " of no values");
+      }
+      Layout layout = layout(x, reductionAxes);
+      Reducer reducer = reducer(type);
+      if (layout.numReduced > 0) {
+        execute(layout.byCell ? layout.new CellTask(reducer, result, 0, result.length)
+            : layout.new RowTask(reducer, 0, layout.numReduced, 0, layout.numCells, result, 0), layout.size());
+      }
+      finish(type, result, layout.numReduced);
+    }
+    FloatNdArray reduced = NdArrays.ofFloats(reductionAxes.resultShape(keepDims));
+    reduced.copyFrom(DataBuffers.of(result, false, false));
+    return reduced;
+  }
+
+  /**
+   * Finds the index of the maximum value along an axis.
+   *
+   * <p>NaN values are considered greater than any other value, and the first index is returned if the
+   * maximum is found more than once.
+   *
+   * @param x array to reduce
+   * @param axis axis to reduce
+   * @param keepDims true if the reduced axis is kept in the result with a size of 1
+   * @return indices of the maximum values
+   * @throws IllegalArgumentException if the axis is invalid or empty
+   */
+  public static LongNdArray argMax(FloatNdArray x, int axis, boolean keepDims) {
+    ReductionAxes reductionAxes = ReductionAxes.of(x.shape(), axis);
+    checkSize(x);
+    long[] result = new long[(int)reductionAxes.numCells()];
+    if (result.length > 0) {
+      if (reductionAxes.numReduced() == 0) {
+        throw new IllegalArgumentException("Cannot find the maximum of no values");
+      }
+      Layout layout = layout(x, reductionAxes);
+      execute(layout.new ArgMaxTask(result, 0, layout.numCells), layout.size());
+    }
+    LongNdArray reduced = NdArrays.ofLongs(reductionAxes.resultShape(keepDims));
+    reduced.copyFrom(DataBuffers.of(result, false, false));
+    return reduced;
+  }
+
+  /**
+   * Number of values to reduce below which a reduction is not split anymore and is executed by a
+   * kernel, or by accumulating rows of values one after the other.
+   */
+  private static final int BLOCK_SIZE = 64;
+
+  /**
+   * Number of values to reduce above which a reduction is split in tasks executed concurrently.
+   */
+  private static final long PARALLEL_THRESHOLD = 1L << 16;
+
+  private static final FloatKernels KERNELS = Kernels.floats();
+
+  /**
+   * Combines values of the same reduction.
+   */
+  private interface Reducer {
+
+    /** Reduces contiguous values */
+    float reduce(float[] x, int xOffset, int length);
+
+    /** Combines two partial reductions */
+    float combine(float a, float b);
+
+    /** Initializes a row of partial reductions from a row of values */
+    void init(float[] x, int xOffset, float[] acc, int accOffset, int length);
+
+    /** Accumulates a row of values into a row of partial reductions */
+    void accumulate(float[] x, int xOffset, float[] acc, int accOffset, int length);
+
+    /** Combines two rows of partial reductions into the first one */
+    void combine(float[] acc, int accOffset, float[] other, int otherOffset, int length);
+  }
+
+  private static Reducer reducer(ReductionType type) {
+    switch (type) {
+      case SUM:
+      case MEAN:
+        return SUM;
+      case L2_NORM:
+        return SUM_OF_SQUARES;
+      case MIN:
+        return MIN;
+      case MAX:
+        return MAX;
+      default:
+        throw new IllegalArgumentException("Unsupported reduction " + type);
+    }
+  }
+
+  private static final Reducer SUM = new Reducer() {
+
+    @Override
+    public float reduce(float[] x, int xOffset, int length) {
+      return KERNELS.reduceSum(x, xOffset, length);
+    }
+
+    @Override
+    public float combine(float a, float b) {
+      return a + b;
+    }
+
+    @Override
+    public void init(float[] x, int xOffset, float[] acc, int accOffset, int length) {
+      System.arraycopy(x, xOffset, acc, accOffset, length);
+    }
+
+    @Override
+    public void accumulate(float[] x, int xOffset, float[] acc, int accOffset, int length) {
+      KERNELS.add(acc, accOffset, x, xOffset, acc, accOffset, length);
+    }
+
+    @Override
+    public void combine(float[] acc, int accOffset, float[] other, int otherOffset, int length) {
+      KERNELS.add(acc, accOffset, other, otherOffset, acc, accOffset, length);
+    }
+  };
+
+  private static final Reducer SUM_OF_SQUARES = new Reducer() {
+
+    @Override
+    public float reduce(float[] x, int xOffset, int length) {
+      return KERNELS.reduceSumOfSquares(x, xOffset, length);
+    }
+
+    @Override
+    public float combine(float a, float b) {
+      return a + b;
+    }
+
+    @Override
+    public void init(float[] x, int xOffset, float[] acc, int accOffset, int length) {
+      KERNELS.mul(x, xOffset, x, xOffset, acc, accOffset, length);
+    }
+
+    @Override
+    public void accumulate(float[] x, int xOffset, float[] acc, int accOffset, int length) {
+      KERNELS.fma(x, xOffset, x, xOffset, acc, accOffset, acc, accOffset, length);
+    }
+
+    @Override
+    public void combine(float[] acc, int accOffset, float[] other, int otherOffset, int length) {
+      KERNELS.add(acc, accOffset, other, otherOffset, acc, accOffset, length);
+    }
+  };
+
+  private static final Reducer MIN = new Reducer() {
+
+    @Override
+    public float reduce(float[] x, int xOffset, int length) {
+      return KERNELS.reduceMin(x, xOffset, length);
+    }
+
+    @Override
+    public float combine(float a, float b) {
+      return Math.min(a, b);
+    }
+
+    @Override
+    public void init(float[] x, int xOffset, float[] acc, int accOffset, int length) {
+      System.arraycopy(x, xOffset, acc, accOffset, length);
+    }
+
+    @Override
+    public void accumulate(float[] x, int xOffset, float[] acc, int accOffset, int length) {
+      KERNELS.min(acc, accOffset, x, xOffset, acc, accOffset, length);
+    }
+
+    @Override
+    public void combine(float[] acc, int accOffset, float[] other, int otherOffset, int length) {
+      KERNELS.min(acc, accOffset, other, otherOffset, acc, accOffset, length);
+    }
+  };
+
+  private static final Reducer MAX = new Reducer() {
+
+    @Override
+    public float reduce(float[] x, int xOffset, int length) {
+      return KERNELS.reduceMax(x, xOffset, length);
+    }
+
+    @Override
+    public float combine(float a, float b) {
+      return Math.max(a, b);
+    }
+
+    @Override
+    public void init(float[] x, int xOffset, float[] acc, int accOffset, int length) {
+      System.arraycopy(x, xOffset, acc, accOffset, length);
+    }
+
+    @Override
+    public void accumulate(float[] x, int xOffset, float[] acc, int accOffset, int length) {
+      KERNELS.max(acc, accOffset, x, xOffset, acc, accOffset, length);
+    }
+
+    @Override
+    public void combine(float[] acc, int accOffset, float[] other, int otherOffset, int length) {
+      KERNELS.max(acc, accOffset, other, otherOffset, acc, accOffset, length);
+    }
+  };
+
+  private static void finish(ReductionType type, float[] result, int numReduced) {
+    if (type == ReductionType.MEAN) {
+      for (int i = 0; i < result.length; ++i) {
+        result[i] /= numReduced;
+      }
+    } else if (type == ReductionType.L2_NORM) {
+      for (int i = 0; i < result.length; ++i) {
+        result[i] = (float)Math.sqrt(result[i]);
+      }
+    }
+  }
+
+  private static boolean isGreater(float value, float max) {
+    return value > max || (Float.isNaN(value) && !Float.isNaN(max));
+  }
+
+  private static void execute(ForkJoinTask<?> task, long size) {
+    if (size > PARALLEL_THRESHOLD && !ForkJoinTask.inForkJoinPool()) {
+      ForkJoinPool.commonPool().invoke(task);
+    } else {
+      task.invoke();
+    }
+  }
+
+  private static void checkSize(FloatNdArray x) {
+    if (x.size() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Array of shape " + x.shape() + " is too large to be reduced");
+    }
+  }
+
+  private static Layout layout(FloatNdArray x, ReductionAxes reductionAxes) {
+    if (x instanceof FloatDenseNdArray && !((FloatDenseNdArray)x).dimensions().isSegmented()) {
+      FloatBuffer heapBuffer = HeapBuffers.of(((FloatDenseNdArray)x).buffer());
+      if (heapBuffer != null) {
+        int offset = heapBuffer.arrayOffset() + heapBuffer.position();
+        if (reductionAxes.reducesInnerAxes()) {
+          return new Layout(heapBuffer.array(), offset, reductionAxes, true);
+        }
+        if (reductionAxes.reducesOuterAxes()) {
+          return new Layout(heapBuffer.array(), offset, reductionAxes, false);
+        }
+      }
+    }
+    float[] data = new float[(int)x.size()];
+    x.transpose(reductionAxes.permutation()).copyTo(DataBuffers.of(data, false, false));
+    return new Layout(data, 0, reductionAxes, true);
+  }
+
+  /**
+   * Values to reduce, laid out in a Java array as a matrix of {@code numCells x numReduced} values if
+   * {@code byCell} is true, or of {@code numReduced x numCells} values otherwise.
+   */
+  private static final class Layout {
+
+    /**
+     * Reduces the values of a range of cells, one after the other.
+     */
+    @SuppressWarnings("serial")
+    final class CellTask extends RecursiveAction {
+
+      @Override
+      protected void compute() {
+        int numTaskCells = cellTo - cellFrom;
+        if (numTaskCells > 1 && (long)numTaskCells * numReduced > PARALLEL_THRESHOLD) {
+          int cellMid = cellFrom + numTaskCells / 2;
+          invokeAll(new CellTask(reducer, result, cellFrom, cellMid), new CellTask(reducer, result, cellMid, cellTo));
+        } else {
+          for (int cell = cellFrom; cell < cellTo; ++cell) {
+            result[cell] = reducePairwise(offset + cell * numReduced, numReduced);
+          }
+        }
+      }
+
+      CellTask(Reducer reducer, float[] result, int cellFrom, int cellTo) {
+        this.reducer = reducer;
+        this.result = result;
+        this.cellFrom = cellFrom;
+        this.cellTo = cellTo;
+      }
+
+      private final Reducer reducer;
+      private final float[] result;
+      private final int cellFrom;
+      private final int cellTo;
+
+      private float reducePairwise(int valueOffset, int length) {
+        if (length <= BLOCK_SIZE) {
+          return reducer.reduce(data, valueOffset, length);
+        }
+        int half = length / 2;
+        if (length > PARALLEL_THRESHOLD && inForkJoinPool()) {
+          ForkJoinTask<Float> first = ForkJoinTask.adapt(() -> reducePairwise(valueOffset, half)).fork();
+          float second = reducePairwise(valueOffset + half, length - half);
+          return reducer.combine(first.join(), second);
+        }
+        return reducer.combine(reducePairwise(valueOffset, half), reducePairwise(valueOffset + half, length - half));
+      }
+    }
+
+    /**
+     * Reduces a range of rows into partial reductions of a range of cells.
+     */
+    @SuppressWarnings("serial")
+    final class RowTask extends RecursiveAction {
+
+      @Override
+      protected void compute() {
+        int numTaskRows = rowTo - rowFrom;
+        int numTaskCells = cellTo - cellFrom;
+        boolean parallel = (long)numTaskRows * numTaskCells > PARALLEL_THRESHOLD;
+        if (parallel && numTaskCells >= 2 * BLOCK_SIZE) {
+          int cellMid = cellFrom + numTaskCells / 2;
+          invokeAll(
+              new RowTask(reducer, rowFrom, rowTo, cellFrom, cellMid, acc, accOffset),
+              new RowTask(reducer, rowFrom, rowTo, cellMid, cellTo, acc, accOffset + cellMid - cellFrom)
+          );
+        } else if (numTaskRows > BLOCK_SIZE) {
+          int rowMid = rowFrom + numTaskRows / 2;
+          float[] other = new float[numTaskCells];
+          RowTask first = new RowTask(reducer, rowFrom, rowMid, cellFrom, cellTo, acc, accOffset);
+          RowTask second = new RowTask(reducer, rowMid, rowTo, cellFrom, cellTo, other, 0);
+          if (parallel) {
+            invokeAll(first, second);
+          } else {
+            first.compute();
+            second.compute();
+          }
+          reducer.combine(acc, accOffset, other, 0, numTaskCells);
+        } else {
+          reducer.init(data, offset + rowFrom * numCells + cellFrom, acc, accOffset, numTaskCells);
+          for (int row = rowFrom + 1; row < rowTo; ++row) {
+            reducer.accumulate(data, offset + row * numCells + cellFrom, acc, accOffset, numTaskCells);
+          }
+        }
+      }
+
+      RowTask(Reducer reducer, int rowFrom, int rowTo, int cellFrom, int cellTo, float[] acc, int accOffset) {
+        this.reducer = reducer;
+        this.rowFrom = rowFrom;
+        this.rowTo = rowTo;
+        this.cellFrom = cellFrom;
+        this.cellTo = cellTo;
+        this.acc = acc;
+        this.accOffset = accOffset;
+      }
+
+      private final Reducer reducer;
+      private final int rowFrom;
+      private final int rowTo;
+      private final int cellFrom;
+      private final int cellTo;
+      private final float[] acc;
+      private final int accOffset;
+    }
+
+    /**
+     * Finds the index of the maximum value of a range of cells.
+     */
+    @SuppressWarnings("serial")
+    final class ArgMaxTask extends RecursiveAction {
+
+      @Override
+      protected void compute() {
+        int numTaskCells = cellTo - cellFrom;
+        if (numTaskCells > 1 && (long)numTaskCells * numReduced > PARALLEL_THRESHOLD) {
+          int cellMid = cellFrom + numTaskCells / 2;
+          invokeAll(new ArgMaxTask(result, cellFrom, cellMid), new ArgMaxTask(result, cellMid, cellTo));
+        } else if (byCell) {
+          for (int cell = cellFrom; cell < cellTo; ++cell) {
+            int cellOffset = offset + cell * numReduced;
+            float max = data[cellOffset];
+            int maxIdx = 0;
+            for (int i = 1; i < numReduced; ++i) {
+              if (isGreater(data[cellOffset + i], max)) {
+                max = data[cellOffset + i];
+                maxIdx = i;
+              }
+            }
+            result[cell] = maxIdx;
+          }
+        } else {
+          float[] max = new float[numTaskCells];
+          System.arraycopy(data, offset + cellFrom, max, 0, numTaskCells);
+          for (int row = 1; row < numReduced; ++row) {
+            int rowOffset = offset + row * numCells + cellFrom;
+            for (int i = 0; i < numTaskCells; ++i) {
+              if (isGreater(data[rowOffset + i], max[i])) {
+                max[i] = data[rowOffset + i];
+                result[cellFrom + i] = row;
+              }
+            }
+          }
+        }
+      }
+
+      ArgMaxTask(long[] result, int cellFrom, int cellTo) {
+        this.result = result;
+        this.cellFrom = cellFrom;
+        this.cellTo = cellTo;
+      }
+
+      private final long[] result;
+      private final int cellFrom;
+      private final int cellTo;
+    }
+
+    final float[] data;
+    final int offset;
+    final int numCells;
+    final int numReduced;
+    final boolean byCell;
+
+    long size() {
+      return (long)numCells * numReduced;
+    }
+
+    Layout(float[] data, int offset, ReductionAxes reductionAxes, boolean byCell) {
+      this.data = data;
+      this.offset = offset;
+      this.numCells = (int)reductionAxes.numCells();
+      this.numReduced = (int)reductionAxes.numReduced();
+      this.byCell = byCell;
+    }
+  }
+
+  private FloatReduction() {}
+}
@@ -0,0 +1,170 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Graph of element-wise operations to compute in a single fused kernel, independently of the type
+ * of their values.
+ *
+ * <p>Nodes are numbered in the order they are added and can only use the values of nodes added
+ * before them, the last node being the result of the graph. Leaves read the values of the i-th array
+ * operand or the i-th constant passed to the kernel.
+ */
+public final class FusedGraph {
+
+  public enum Op {
+    ARRAY(0),
+    CONSTANT(0),
+    ADD(2),
+    SUB(2),
+    MUL(2),
+    DIV(2),
+    /** Computes {@code x * y + z} with a single rounding */
+    FMA(3),
+    MIN(2),
+    MAX(2),
+    /** Clamps {@code x} between {@code min} and {@code max}, which must be constants */
+    CLAMP(3),
+    ABS(1),
+    EXP(1),
+    LOG(1);
+
+    /**
+     * @return number of operands taken by this operation
+     */
+    public int arity() {
+      return arity;
+    }
+
+    private final int arity;
+
+    Op(int arity) {
+      this.arity = arity;
+    }
+  }
+
+  /**
+   * Creates an empty graph.
+   *
+   * @return a new graph without nodes
+   */
+  public static FusedGraph create() {
+    return new FusedGraph();
+  }
+
+  /**
+   * Adds a leaf reading the values of the next array operand.
+   *
+   * @return index of the new node
+   */
+  public int addArray() {
+    return addNode(Op.ARRAY, numArrays++);
+  }
+
+  /**
+   * Adds a leaf reading the value of the next constant.
+   *
+   * @return index of the new node
+   */
+  public int addConstant() {
+    return addNode(Op.CONSTANT, numConstants++);
+  }
+
+  /**
+   * Adds an operation on the values of other nodes.
+   *
+   * @param op operation, other than a leaf
+   * @param operands indices of the nodes providing the operands
+   * @return index of the new node
+   * @throws IllegalArgumentException if the operation is a leaf, has the wrong number of operands or
+   *                                  uses a node that does not exist yet, or if the bounds of a clamp are
+   *                                  not constants
+   */
+  public int addOperation(Op op, int... operands) {
+    if (op == Op.ARRAY || op == Op.CONSTANT || operands.length != op.arity()) {
+      throw new IllegalArgumentException("Invalid operands for operation " + op);
+    }
+    for (int operand : operands) {
+      if (operand < 0 || operand >= ops.size()) {
+        throw new IllegalArgumentException("Node " + operand + " does not exist");
+      }
+    }
+    if (op == Op.CLAMP && (ops.get(operands[1]) != Op.CONSTANT || ops.get(operands[2]) != Op.CONSTANT)) {
+      throw new IllegalArgumentException("Bounds of a clamp must be constants");
+    }
+    return addNode(op, -1, operands);
+  }
+
+  public int numNodes() {
+    return ops.size();
+  }
+
+  public int numArrays() {
+    return numArrays;
+  }
+
+  public int numConstants() {
+    return numConstants;
+  }
+
+  public Op op(int node) {
+    return ops.get(node);
+  }
+
+  /**
+   * @return index of the array or of the constant read by a leaf
+   */
+  public int leafIndex(int node) {
+    return leafIndices.get(node);
+  }
+
+  public int[] operands(int node) {
+    return operands.get(node).clone();
+  }
+
+  /**
+   * Returns a string identifying the structure of this graph, without the values of its constants.
+   * Graphs with the same signature can be computed by the same kernel.
+   */
+  public String signature() {
+    return signature.toString();
+  }
+
+  private FusedGraph() {}
+
+  private final List<Op> ops = new ArrayList<>();
+  private final List<Integer> leafIndices = new ArrayList<>();
+  private final List<int[]> operands = new ArrayList<>();
+  private final StringBuilder signature = new StringBuilder();
+  private int numArrays;
+  private int numConstants;
+
+  private int addNode(Op op, int leafIndex, int... nodeOperands) {
+    ops.add(op);
+    leafIndices.add(leafIndex);
+    operands.add(nodeOperands);
+    signature.append(op.ordinal());
+    for (int operand : nodeOperands) {
+      signature.append(',').append(operand);
+    }
+    signature.append(';');
+    return ops.size() - 1;
+  }
+}
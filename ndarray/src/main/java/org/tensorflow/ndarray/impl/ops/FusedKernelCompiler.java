@@ -0,0 +1,51 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+/**
+ * Compiles {@link FusedGraph graphs} of operations into kernels of their own.
+ *
+ * <p>This version does not compile anything, leaving the graphs to be interpreted. On JDK 17+, it is
+ * replaced by its version found in the multi-release jar, which generates a hidden class per graph.
+ */
+public final class FusedKernelCompiler {
+
+  /**
+   * @return true if graphs are compiled by this class
+   */
+  public static boolean isEnabled() {
+    return false;
+  }
+
+  /**
+   * Returns a kernel compiled for a graph of operations on floats, or null if the graph cannot be
+   * compiled.
+   */
+  static FloatElementwise.NaryKernel compile(FusedGraph graph, float[] constants) {
+    return null;
+  }
+
+  /**
+   * Returns a kernel compiled for a graph of operations on doubles, or null if the graph cannot be
+   * compiled.
+   */
+  static DoubleElementwise.NaryKernel compile(FusedGraph graph, double[] constants) {
+    return null;
+  }
+
+  private FusedKernelCompiler() {}
+}
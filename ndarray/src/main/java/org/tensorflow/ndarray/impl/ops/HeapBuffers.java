@@ -0,0 +1,90 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+
+/**
+ * Resolves the Java arrays backing data buffers, if any, so that kernels can access their values
+ * directly.
+ *
+ * <p>Each method returns a NIO buffer whose {@link Buffer#array() array}, starting at its
+ * {@code arrayOffset() + position()}, holds the values of the data buffer, or null if the data
+ * buffer is not backed by a Java array.
+ */
+final class HeapBuffers {
+
+  static FloatBuffer of(FloatDataBuffer buffer) {
+    return (FloatBuffer)of((DataBuffer<?>)buffer);
+  }
+
+  static DoubleBuffer of(DoubleDataBuffer buffer) {
+    return (DoubleBuffer)of((DataBuffer<?>)buffer);
+  }
+
+  static IntBuffer of(IntDataBuffer buffer) {
+    return (IntBuffer)of((DataBuffer<?>)buffer);
+  }
+
+  static LongBuffer of(LongDataBuffer buffer) {
+    return (LongBuffer)of((DataBuffer<?>)buffer);
+  }
+
+  private static Buffer of(DataBuffer<?> buffer) {
+    return buffer.accept(VISITOR);
+  }
+
+  private static final DataStorageVisitor<Buffer> VISITOR = new DataStorageVisitor<Buffer>() {
+
+    @Override
+    public Buffer visit(IntBuffer buffer) {
+      return buffer.hasArray() ? buffer : null;
+    }
+
+    @Override
+    public Buffer visit(LongBuffer buffer) {
+      return buffer.hasArray() ? buffer : null;
+    }
+
+    @Override
+    public Buffer visit(FloatBuffer buffer) {
+      return buffer.hasArray() ? buffer : null;
+    }
+
+    @Override
+    public Buffer visit(DoubleBuffer buffer) {
+      return buffer.hasArray() ? buffer : null;
+    }
+
+    @Override
+    public Buffer fallback() {
+      return null;
+    }
+  };
+
+  private HeapBuffers() {}
+}
@@ -0,0 +1,52 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+/**
+ * Provides the kernels executing element-wise operations on arrays of each type.
+ *
+ * <p>This version only provides scalar kernels. On JDK 17+, it is replaced by its version found in
+ * the multi-release jar, which provides kernels based on the Vector API whenever the incubating
+ * module {@code jdk.incubator.vector} is added to the runtime.
+ */
+public final class Kernels {
+
+  /**
+   * @return true if the kernels returned by this class are vectorized
+   */
+  public static boolean isVectorized() {
+    return false;
+  }
+
+  public static FloatKernels floats() {
+    return ScalarFloatKernels.INSTANCE;
+  }
+
+  public static DoubleKernels doubles() {
+    return ScalarDoubleKernels.INSTANCE;
+  }
+
+  public static IntKernels ints() {
+    return ScalarIntKernels.INSTANCE;
+  }
+
+  public static LongKernels longs() {
+    return ScalarLongKernels.INSTANCE;
+  }
+
+  private Kernels() {}
+}
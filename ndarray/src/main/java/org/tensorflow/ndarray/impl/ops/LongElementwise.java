@@ -0,0 +1,205 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.impl.dense.LongDenseNdArray;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+/**
+ * Executes element-wise kernels over long arrays.
+ *
+ * <p>The operands are broadcast to the shape of the destination array, then their buffers are
+ * decomposed in runs of values. Runs that are contiguous in a buffer backed by a Java array are
+ * passed as is to the kernels, while others are first gathered in (and scattered back from) a
+ * chunk of scratch memory.
+ */
+public final class LongElementwise {
+
+  @FunctionalInterface
+  public interface UnaryKernel {
+    void apply(long[] x, int xOffset, long[] dst, int dstOffset, int length);
+  }
+
+  @FunctionalInterface
+  public interface BinaryKernel {
+    void apply(long[] x, int xOffset, long[] y, int yOffset, long[] dst, int dstOffset, int length);
+  }
+
+  @FunctionalInterface
+  public interface TernaryKernel {
+    void apply(long[] x, int xOffset, long[] y, int yOffset, long[] z, int zOffset, long[] dst, int dstOffset, int length);
+  }
+
+  public static LongNdArray apply(UnaryKernel kernel, LongNdArray x, LongNdArray dst) {
+    execute(dst, (in, out, length) ->
+        kernel.apply(in[0].data, in[0].offset, out.data, out.offset, length), x);
+    return dst;
+  }
+
+  public static LongNdArray apply(BinaryKernel kernel, LongNdArray x, LongNdArray y, LongNdArray dst) {
+    execute(dst, (in, out, length) ->
+        kernel.apply(in[0].data, in[0].offset, in[1].data, in[1].offset, out.data, out.offset, length), x, y);
+    return dst;
+  }
+
+  public static LongNdArray apply(TernaryKernel kernel, LongNdArray x, LongNdArray y, LongNdArray z, LongNdArray dst) {
+    execute(dst, (in, out, length) ->
+        kernel.apply(in[0].data, in[0].offset, in[1].data, in[1].offset, in[2].data, in[2].offset, out.data, out.offset, length), x, y, z);
+    return dst;
+  }
+
+  @FunctionalInterface
+  private interface ChunkKernel {
+    void apply(Operand[] inputs, Operand output, int length);
+  }
+
+  private static void execute(LongNdArray dst, ChunkKernel kernel, LongNdArray... inputs) {
+    if (!(dst instanceof LongDenseNdArray)) {
+      LongNdArray denseDst = NdArrays.ofLongs(dst.shape());
+      execute(denseDst, kernel, inputs);
+      denseDst.copyTo(dst);
+      return;
+    }
+    LongDenseNdArray denseDst = (LongDenseNdArray)dst;
+    if (denseDst.buffer().isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    Operand[] operands = new Operand[inputs.length];
+    DimensionalSpace[] spaces = new DimensionalSpace[inputs.length + 1];
+    for (int i = 0; i < inputs.length; ++i) {
+      LongDenseNdArray input = denseOperand(inputs[i], dst.shape());
+      operands[i] = new Operand(input.buffer());
+      spaces[i] = input.dimensions();
+    }
+    Operand output = new Operand(denseDst.buffer());
+    spaces[inputs.length] = denseDst.dimensions();
+
+    RunLoop.forEachRun(spaces, (positions, strides, length) -> {
+      for (long i = 0; i < length; i += CHUNK_SIZE) {
+        int chunkLength = (int)Math.min(CHUNK_SIZE, length - i);
+        for (int k = 0; k < operands.length; ++k) {
+          operands[k].load(positions[k] + i * strides[k], strides[k], chunkLength);
+        }
+        long outputPosition = positions[operands.length] + i * strides[operands.length];
+        long outputStride = strides[operands.length];
+        output.map(outputPosition, outputStride, chunkLength);
+        kernel.apply(operands, output, chunkLength);
+        output.store(outputPosition, outputStride, chunkLength);
+      }
+    });
+  }
+
+  private static LongDenseNdArray denseOperand(LongNdArray array, Shape shape) {
+    LongNdArray operand = array;
+    if (!(operand instanceof LongDenseNdArray)) {
+      operand = NdArrays.ofLongs(array.shape());
+      array.copyTo(operand);
+    }
+    if (!operand.shape().equals(shape)) {
+      operand = operand.broadcastTo(shape);
+    }
+    return (LongDenseNdArray)operand;
+  }
+
+  /**
+   * Maximum number of values processed by a single invocation of a kernel.
+   */
+  private static final int CHUNK_SIZE = 1024;
+
+  /**
+   * Exposes a chunk of a run of values as a region of a Java array.
+   */
+  private static final class Operand {
+
+    Operand(LongDataBuffer buffer) {
+      this.buffer = buffer;
+      LongBuffer heapBuffer = HeapBuffers.of(buffer);
+      if (heapBuffer != null) {
+        array = heapBuffer.array();
+        arrayOffset = heapBuffer.arrayOffset() + heapBuffer.position();
+      } else {
+        array = null;
+        arrayOffset = 0;
+      }
+    }
+
+    /**
+     * Exposes the values of a chunk, gathering them in scratch memory if they cannot be read in place.
+     */
+    void load(long position, long stride, int length) {
+      map(position, stride, length);
+      if (data != array) {
+        if (stride == 1) {
+          buffer.slice(position, length).read(data, 0, length);
+        } else {
+          for (int i = 0; i < length; ++i) {
+            data[i] = buffer.getLong(position + i * stride);
+          }
+        }
+      }
+    }
+
+    /**
+     * Exposes the region where the values of a chunk must be written, without reading them.
+     */
+    void map(long position, long stride, int length) {
+      if (array != null && stride == 1) {
+        data = array;
+        offset = arrayOffset + (int)position;
+      } else {
+        if (scratch == null) {
+          scratch = new long[CHUNK_SIZE];
+        }
+        data = scratch;
+        offset = 0;
+      }
+    }
+
+    /**
+     * Scatters back the values of a chunk if they were not written in place.
+     */
+    void store(long position, long stride, int length) {
+      if (data != array) {
+        if (stride == 1) {
+          buffer.slice(position, length).write(data, 0, length);
+        } else {
+          for (int i = 0; i < length; ++i) {
+            buffer.setLong(data[i], position + i * stride);
+          }
+        }
+      }
+    }
+
+    /** Array exposing the values of the current chunk */
+    long[] data;
+    /** Offset of the current chunk in {@link #data} */
+    int offset;
+
+    private final LongDataBuffer buffer;
+    private final long[] array;
+    private final int arrayOffset;
+    private long[] scratch;
+  }
+
+  private LongElementwise() {}
+}
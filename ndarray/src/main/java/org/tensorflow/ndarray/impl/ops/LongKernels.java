@@ -0,0 +1,44 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+/**
+ * Kernels computing element-wise operations over runs of contiguous longs.
+ *
+ * <p>Each kernel reads {@code length} values from its operand arrays, starting at their respective
+ * offsets, and writes the results in the destination array. The destination run may be the same as
+ * one of the operand runs, but should not partially overlap with any of them.
+ */
+public interface LongKernels {
+
+  void add(long[] x, int xOffset, long[] y, int yOffset, long[] dst, int dstOffset, int length);
+
+  void sub(long[] x, int xOffset, long[] y, int yOffset, long[] dst, int dstOffset, int length);
+
+  void mul(long[] x, int xOffset, long[] y, int yOffset, long[] dst, int dstOffset, int length);
+
+  void div(long[] x, int xOffset, long[] y, int yOffset, long[] dst, int dstOffset, int length);
+
+  /**
+   * Computes {@code x * y + z}
+   */
+  void fma(long[] x, int xOffset, long[] y, int yOffset, long[] z, int zOffset, long[] dst, int dstOffset, int length);
+
+  void clamp(long[] x, int xOffset, long min, long max, long[] dst, int dstOffset, int length);
+
+  void abs(long[] x, int xOffset, long[] dst, int dstOffset, int length);
+}
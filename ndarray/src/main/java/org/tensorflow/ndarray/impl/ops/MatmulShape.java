@@ -0,0 +1,73 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import org.tensorflow.ndarray.Shape;
+
+/**
+ * Dimensions of a matrix multiplication of a {@code [batchSize,] m x k} array by a
+ * {@code [batchSize,] k x n} array.
+ *
+ * <p>If only one of the operands is batched, the other one is multiplied with each of its matrices.
+ */
+final class MatmulShape {
+
+  /**
+   * @param a shape of the left operand
+   * @param b shape of the right operand
+   * @throws IllegalArgumentException if the operands are not matrices or batches of matrices, or if
+   *                                  their shapes are incompatible
+   */
+  static MatmulShape of(Shape a, Shape b) {
+    int aRank = a.numDimensions();
+    int bRank = b.numDimensions();
+    if (aRank < 2 || aRank > 3 || bRank < 2 || bRank > 3) {
+      throw new IllegalArgumentException("Operands must be of rank 2 or 3, got shapes " + a + " and " + b);
+    }
+    if (a.size() > Integer.MAX_VALUE || b.size() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Operands of shapes " + a + " and " + b + " are too large to be multiplied");
+    }
+    if (a.get(-1) != b.get(-2)) {
+      throw new IllegalArgumentException("Cannot multiply matrices of shapes " + a + " and " + b);
+    }
+    if (aRank == 3 && bRank == 3 && a.get(0) != b.get(0)) {
+      throw new IllegalArgumentException("Operands of shapes " + a + " and " + b + " have different batch sizes");
+    }
+    return new MatmulShape(a, b);
+  }
+
+  /**
+   * @return shape of the product
+   */
+  Shape resultShape() {
+    return batched ? Shape.of(batchSize, m, n) : Shape.of(m, n);
+  }
+
+  final boolean batched;
+  final int batchSize;
+  final int m;
+  final int n;
+  final int k;
+
+  private MatmulShape(Shape a, Shape b) {
+    batched = a.numDimensions() == 3 || b.numDimensions() == 3;
+    batchSize = (int)(a.numDimensions() == 3 ? a.get(0) : b.numDimensions() == 3 ? b.get(0) : 1);
+    m = (int)a.get(-2);
+    n = (int)b.get(-1);
+    k = (int)a.get(-1);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.util.Arrays;
+import org.tensorflow.ndarray.Shape;
+
+/**
+ * Splits the axes of an array between those that are reduced and those that are kept.
+ *
+ * <p>The values of the array can then be seen as a matrix of {@link #numCells()} rows, one per
+ * value of the result, each having {@link #numReduced()} values to reduce.
+ */
+final class ReductionAxes {
+
+  /**
+   * @param shape shape of the array to reduce
+   * @param axes axes to reduce, which can be negative to count from the last axis, or none to reduce
+   *             all axes
+   * @throws IllegalArgumentException if an axis is out of range or appears more than once
+   */
+  static ReductionAxes of(Shape shape, int... axes) {
+    int rank = shape.numDimensions();
+    boolean[] isReduced = new boolean[rank];
+    if (axes.length == 0) {
+      Arrays.fill(isReduced, true);
+    }
+    for (int axis : axes) {
+      int normalizedAxis = axis < 0 ? axis + rank : axis;
+      if (normalizedAxis < 0 || normalizedAxis >= rank) {
+        throw new IllegalArgumentException("Axis " + axis + " is out of range for an array of rank " + rank);
+      }
+      if (isReduced[normalizedAxis]) {
+        throw new IllegalArgumentException("Axis " + axis + " is reduced more than once");
+      }
+      isReduced[normalizedAxis] = true;
+    }
+    return new ReductionAxes(shape, isReduced);
+  }
+
+  /**
+   * @return number of values in the result of the reduction
+   */
+  long numCells() {
+    return numCells;
+  }
+
+  /**
+   * @return number of values reduced for each value of the result
+   */
+  long numReduced() {
+    return numReduced;
+  }
+
+  /**
+   * @return true if only the last axes of the array are reduced
+   */
+  boolean reducesInnerAxes() {
+    for (int i = 0; i < keptAxes.length; ++i) {
+      if (keptAxes[i] != i) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return true if only the first axes of the array are reduced
+   */
+  boolean reducesOuterAxes() {
+    for (int i = 0; i < reducedAxes.length; ++i) {
+      if (reducedAxes[i] != i) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return permutation of the axes of the array that moves the reduced axes after the kept ones
+   */
+  int[] permutation() {
+    int[] permutation = Arrays.copyOf(keptAxes, keptAxes.length + reducedAxes.length);
+    System.arraycopy(reducedAxes, 0, permutation, keptAxes.length, reducedAxes.length);
+    return permutation;
+  }
+
+  /**
+   * @param keepDims true if reduced axes are kept in the result with a size of 1
+   * @return shape of the result
+   */
+  Shape resultShape(boolean keepDims) {
+    if (keepDims) {
+      long[] dimensionSizes = shape.asArray();
+      for (int axis : reducedAxes) {
+        dimensionSizes[axis] = 1;
+      }
+      return Shape.of(dimensionSizes);
+    }
+    long[] dimensionSizes = new long[keptAxes.length];
+    for (int i = 0; i < keptAxes.length; ++i) {
+      dimensionSizes[i] = shape.get(keptAxes[i]);
+    }
+    return Shape.of(dimensionSizes);
+  }
+
+  private final Shape shape;
+  private final int[] keptAxes;
+  private final int[] reducedAxes;
+  private final long numCells;
+  private final long numReduced;
+
+  private ReductionAxes(Shape shape, boolean[] isReduced) {
+    this.shape = shape;
+    int numReducedAxes = 0;
+    for (boolean reduced : isReduced) {
+      numReducedAxes += reduced ? 1 : 0;
+    }
+    keptAxes = new int[isReduced.length - numReducedAxes];
+    reducedAxes = new int[numReducedAxes];
+    long numCells = 1;
+    long numReduced = 1;
+    for (int axis = 0, k = 0, r = 0; axis < isReduced.length; ++axis) {
+      if (isReduced[axis]) {
+        reducedAxes[r++] = axis;
+        numReduced *= shape.get(axis);
+      } else {
+        keptAxes[k++] = axis;
+        numCells *= shape.get(axis);
+      }
+    }
+    this.numCells = numCells;
+    this.numReduced = numReduced;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.util.Arrays;
+import org.tensorflow.ndarray.impl.dimension.Dimension;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+import org.tensorflow.ndarray.impl.sequence.PositionIterator;
+
+/**
+ * Iterates jointly over the scalars of dense arrays sharing the same shape, by runs of values that
+ * are evenly spaced in each of their buffers.
+ *
+ * <p>If none of the arrays is segmented, all their values are visited in a single run. Otherwise,
+ * there is one run per vector of the last dimension, unless that dimension is not strided in one
+ * of the arrays, in which case each value is visited as a run of its own.
+ */
+final class RunLoop {
+
+  @FunctionalInterface
+  interface RunVisitor {
+
+    /**
+     * @param positions position of the first value of the run in the buffer of each array
+     * @param strides distance between two values of the run in the buffer of each array
+     * @param length number of values in the run, always greater than 0
+     */
+    void visit(long[] positions, long[] strides, long length);
+  }
+
+  static void forEachRun(DimensionalSpace[] spaces, RunVisitor visitor) {
+    long size = spaces[0].shape().size();
+    if (size == 0) {
+      return;
+    }
+    long[] positions = new long[spaces.length];
+    long[] strides = new long[spaces.length];
+    if (!isAnySegmented(spaces)) {
+      Arrays.fill(strides, 1);
+      visitor.visit(positions, strides, size);
+      return;
+    }
+    int lastDimIdx = spaces[0].numDimensions() - 1;
+    if (!isStrided(spaces, lastDimIdx)) {
+      PositionIterator[] iterators = iterators(spaces, lastDimIdx);
+      while (iterators[0].hasNext()) {
+        for (int i = 0; i < spaces.length; ++i) {
+          positions[i] = iterators[i].nextLong();
+        }
+        visitor.visit(positions, strides, 1);
+      }
+      return;
+    }
+    long[] starts = new long[spaces.length];
+    for (int i = 0; i < spaces.length; ++i) {
+      Dimension lastDim = spaces[i].get(lastDimIdx);
+      starts[i] = lastDim.positionOf(0);
+      strides[i] = lastDim.stride();
+    }
+    long runLength = spaces[0].numElements(lastDimIdx);
+    if (lastDimIdx == 0) {
+      visitor.visit(starts, strides, runLength);
+      return;
+    }
+    PositionIterator[] iterators = iterators(spaces, lastDimIdx - 1);
+    while (iterators[0].hasNext()) {
+      for (int i = 0; i < spaces.length; ++i) {
+        positions[i] = iterators[i].nextLong() + starts[i];
+      }
+      visitor.visit(positions, strides, runLength);
+    }
+  }
+
+  private static boolean isAnySegmented(DimensionalSpace[] spaces) {
+    for (DimensionalSpace space : spaces) {
+      if (space.isSegmented()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isStrided(DimensionalSpace[] spaces, int dimensionIdx) {
+    for (DimensionalSpace space : spaces) {
+      if (!space.get(dimensionIdx).isStrided()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static PositionIterator[] iterators(DimensionalSpace[] spaces, int dimensionIdx) {
+    PositionIterator[] iterators = new PositionIterator[spaces.length];
+    for (int i = 0; i < spaces.length; ++i) {
+      iterators[i] = PositionIterator.create(spaces[i], dimensionIdx);
+    }
+    return iterators;
+  }
+
+  private RunLoop() {}
+}
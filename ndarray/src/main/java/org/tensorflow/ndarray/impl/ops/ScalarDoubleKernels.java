@@ -0,0 +1,155 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+/**
+ * Double kernels computing one value at a time, used when vectorized kernels are not available.
+ */
+public final class ScalarDoubleKernels implements DoubleKernels {
+
+  public static final ScalarDoubleKernels INSTANCE = new ScalarDoubleKernels();
+
+  @Override
+  public void add(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] + y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void sub(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] - y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void mul(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] * y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void div(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] / y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void fma(double[] x, int xOffset, double[] y, int yOffset, double[] z, int zOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.fma(x[xOffset + i], y[yOffset + i], z[zOffset + i]);
+    }
+  }
+
+  @Override
+  public void clamp(double[] x, int xOffset, double min, double max, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.min(Math.max(x[xOffset + i], min), max);
+    }
+  }
+
+  @Override
+  public void abs(double[] x, int xOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.abs(x[xOffset + i]);
+    }
+  }
+
+  @Override
+  public void min(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.min(x[xOffset + i], y[yOffset + i]);
+    }
+  }
+
+  @Override
+  public void max(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.max(x[xOffset + i], y[yOffset + i]);
+    }
+  }
+
+  @Override
+  public double reduceSum(double[] x, int xOffset, int length) {
+    double sum = 0.0;
+    for (int i = 0; i < length; ++i) {
+      sum += x[xOffset + i];
+    }
+    return sum;
+  }
+
+  @Override
+  public double reduceSumOfSquares(double[] x, int xOffset, int length) {
+    double sum = 0.0;
+    for (int i = 0; i < length; ++i) {
+      double value = x[xOffset + i];
+      sum += value * value;
+    }
+    return sum;
+  }
+
+  @Override
+  public double reduceMin(double[] x, int xOffset, int length) {
+    double min = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < length; ++i) {
+      min = Math.min(min, x[xOffset + i]);
+    }
+    return min;
+  }
+
+  @Override
+  public double reduceMax(double[] x, int xOffset, int length) {
+    double max = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < length; ++i) {
+      max = Math.max(max, x[xOffset + i]);
+    }
+    return max;
+  }
+
+  @Override
+  public void exp(double[] x, int xOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.exp(x[xOffset + i]);
+    }
+  }
+
+  @Override
+  public void log(double[] x, int xOffset, double[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.log(x[xOffset + i]);
+    }
+  }
+
+  @Override
+  public void gemm(int m, int n, int k, double[] a, int aOffset, int lda, double[] b, int bOffset, int ldb, double[] c, int cOffset, int ldc) {
+    for (int i = 0; i < m; ++i) {
+      int cRow = cOffset + i * ldc;
+      for (int p = 0; p < k; ++p) {
+        double aValue = a[aOffset + i * lda + p];
+        int bRow = bOffset + p * ldb;
+        for (int j = 0; j < n; ++j) {
+          c[cRow + j] = Math.fma(aValue, b[bRow + j], c[cRow + j]);
+        }
+      }
+    }
+  }
+
+  private ScalarDoubleKernels() {}
+}
@@ -0,0 +1,155 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+/**
+ * Float kernels computing one value at a time, used when vectorized kernels are not available.
+ */
+public final class ScalarFloatKernels implements FloatKernels {
+
+  public static final ScalarFloatKernels INSTANCE = new ScalarFloatKernels();
+
+  @Override
+  public void add(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] + y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void sub(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] - y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void mul(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] * y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void div(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] / y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void fma(float[] x, int xOffset, float[] y, int yOffset, float[] z, int zOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.fma(x[xOffset + i], y[yOffset + i], z[zOffset + i]);
+    }
+  }
+
+  @Override
+  public void clamp(float[] x, int xOffset, float min, float max, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.min(Math.max(x[xOffset + i], min), max);
+    }
+  }
+
+  @Override
+  public void abs(float[] x, int xOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.abs(x[xOffset + i]);
+    }
+  }
+
+  @Override
+  public void min(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.min(x[xOffset + i], y[yOffset + i]);
+    }
+  }
+
+  @Override
+  public void max(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.max(x[xOffset + i], y[yOffset + i]);
+    }
+  }
+
+  @Override
+  public float reduceSum(float[] x, int xOffset, int length) {
+    float sum = 0.0f;
+    for (int i = 0; i < length; ++i) {
+      sum += x[xOffset + i];
+    }
+    return sum;
+  }
+
+  @Override
+  public float reduceSumOfSquares(float[] x, int xOffset, int length) {
+    float sum = 0.0f;
+    for (int i = 0; i < length; ++i) {
+      float value = x[xOffset + i];
+      sum += value * value;
+    }
+    return sum;
+  }
+
+  @Override
+  public float reduceMin(float[] x, int xOffset, int length) {
+    float min = Float.POSITIVE_INFINITY;
+    for (int i = 0; i < length; ++i) {
+      min = Math.min(min, x[xOffset + i]);
+    }
+    return min;
+  }
+
+  @Override
+  public float reduceMax(float[] x, int xOffset, int length) {
+    float max = Float.NEGATIVE_INFINITY;
+    for (int i = 0; i < length; ++i) {
+      max = Math.max(max, x[xOffset + i]);
+    }
+    return max;
+  }
+
+  @Override
+  public void exp(float[] x, int xOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = (float)Math.exp(x[xOffset + i]);
+    }
+  }
+
+  @Override
+  public void log(float[] x, int xOffset, float[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = (float)Math.log(x[xOffset + i]);
+    }
+  }
+
+  @Override
+  public void gemm(int m, int n, int k, float[] a, int aOffset, int lda, float[] b, int bOffset, int ldb, float[] c, int cOffset, int ldc) {
+    for (int i = 0; i < m; ++i) {
+      int cRow = cOffset + i * ldc;
+      for (int p = 0; p < k; ++p) {
+        float aValue = a[aOffset + i * lda + p];
+        int bRow = bOffset + p * ldb;
+        for (int j = 0; j < n; ++j) {
+          c[cRow + j] = Math.fma(aValue, b[bRow + j], c[cRow + j]);
+        }
+      }
+    }
+  }
+
+  private ScalarFloatKernels() {}
+}
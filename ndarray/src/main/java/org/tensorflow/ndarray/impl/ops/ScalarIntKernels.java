@@ -0,0 +1,76 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+/**
+ * Int kernels computing one value at a time, used when vectorized kernels are not available.
+ */
+public final class ScalarIntKernels implements IntKernels {
+
+  public static final ScalarIntKernels INSTANCE = new ScalarIntKernels();
+
+  @Override
+  public void add(int[] x, int xOffset, int[] y, int yOffset, int[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] + y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void sub(int[] x, int xOffset, int[] y, int yOffset, int[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] - y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void mul(int[] x, int xOffset, int[] y, int yOffset, int[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] * y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void div(int[] x, int xOffset, int[] y, int yOffset, int[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] / y[yOffset + i];
+    }
+  }
+
+  @Override
+  public void fma(int[] x, int xOffset, int[] y, int yOffset, int[] z, int zOffset, int[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = x[xOffset + i] * y[yOffset + i] + z[zOffset + i];
+    }
+  }
+
+  @Override
+  public void clamp(int[] x, int xOffset, int min, int max, int[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.min(Math.max(x[xOffset + i], min), max);
+    }
+  }
+
+  @Override
+  public void abs(int[] x, int xOffset, int[] dst, int dstOffset, int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = Math.abs(x[xOffset + i]);
+    }
+  }
+
+  private ScalarIntKernels() {}
+}
@@ -0,0 +1,137 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.sequence;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+/**
+ * A spliterator over the elements of an array in a given dimension, which splits by ranges of
+ * elements.
+ *
+ * <p>Each spliterator resulting of a split obtains its own function for mapping positions to
+ * elements, so that recycled views are never shared between two ranges iterated concurrently.
+ *
+ * @param <U> Type of the elements
+ */
+final class ElementSpliterator<U> implements Spliterator<U> {
+
+  static long numElements(DimensionalSpace dimensions, int dimensionIdx) {
+    long numElements = 1;
+    for (int i = 0; i <= dimensionIdx; ++i) {
+      numElements *= dimensions.numElements(i);
+    }
+    return numElements;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super U> action) {
+    if (index >= fence) {
+      return false;
+    }
+    action.accept(elements().apply(dimensions.positionOf(coords())));
+    if (++index < fence) {
+      NdPositionIterator.increment(coords, dimensions);
+    }
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super U> action) {
+    if (index >= fence) {
+      return;
+    }
+    LongFunction<U> elements = elements();
+    long[] coords = coords();
+    do {
+      action.accept(elements.apply(dimensions.positionOf(coords)));
+      NdPositionIterator.increment(coords, dimensions);
+    } while (++index < fence);
+  }
+
+  @Override
+  public Spliterator<U> trySplit() {
+    long mid = (index + fence) >>> 1;
+    if (mid <= index) {
+      return null;
+    }
+    ElementSpliterator<U> prefix = new ElementSpliterator<>(dimensions, dimensionIdx, elementSource, index, mid);
+    index = mid;
+    coords = null;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+  }
+
+  /**
+   * @param dimensions dimensions of the array
+   * @param dimensionIdx dimension of the elements to iterate
+   * @param elementSource supplies a function mapping the position of an element to its view, invoked
+   *                      once per spliterator
+   */
+  ElementSpliterator(DimensionalSpace dimensions, int dimensionIdx, Supplier<LongFunction<U>> elementSource) {
+    this(dimensions, dimensionIdx, elementSource, 0, numElements(dimensions, dimensionIdx));
+  }
+
+  private final DimensionalSpace dimensions;
+  private final int dimensionIdx;
+  private final Supplier<LongFunction<U>> elementSource;
+  private final long fence;
+  private long index;
+  private long[] coords;
+  private LongFunction<U> elements;
+
+  private ElementSpliterator(DimensionalSpace dimensions, int dimensionIdx, Supplier<LongFunction<U>> elementSource,
+      long index, long fence) {
+    this.dimensions = dimensions;
+    this.dimensionIdx = dimensionIdx;
+    this.elementSource = elementSource;
+    this.index = index;
+    this.fence = fence;
+  }
+
+  private LongFunction<U> elements() {
+    if (elements == null) {
+      elements = elementSource.get();
+    }
+    return elements;
+  }
+
+  private long[] coords() {
+    if (coords == null) {
+      coords = new long[dimensionIdx + 1];
+      long remaining = index;
+      for (int i = dimensionIdx; i >= 0; --i) {
+        long numElements = dimensions.numElements(i);
+        coords[i] = remaining % numElements;
+        remaining /= numElements;
+      }
+    }
+    return coords;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.sequence;
+
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
+
+/**
+ * A view of an element of a sequence, backed by a buffer window that slides over the elements.
+ *
+ * @param <U> Type of the element
+ */
+public final class ElementView<U> {
+
+  public ElementView(U element, DataBufferWindow<?> window) {
+    this.element = element;
+    this.window = window;
+  }
+
+  /**
+   * Moves the view to the element at the given position and returns it.
+   */
+  U slideTo(long position) {
+    window.slideTo(position);
+    return element;
+  }
+
+  private final U element;
+  private final DataBufferWindow<?> window;
+}
@@ -18,11 +18,12 @@
 package org.tensorflow.ndarray.impl.sequence;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.NdArraySequence;
-import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.impl.AbstractNdArray;
 
 /**
@@ -33,11 +34,18 @@ import org.tensorflow.ndarray.impl.AbstractNdArray;
  */
 public final class FastElementSequence<T, U extends NdArray<T>> implements NdArraySequence<U> {
 
-  public FastElementSequence(AbstractNdArray<T, U> ndArray, int dimensionIdx, U element, DataBufferWindow<?> elementWindow) {
+  /**
+   * @param ndArray the array to iterate
+   * @param dimensionIdx dimension of the elements to iterate
+   * @param viewFactory creates a new view of an element backed by its own buffer window, invoked
+   *                    once by this sequence and once per spliterator range iterated
+   * @throws UnsupportedOperationException if the array buffer does not support windows
+   */
+  public FastElementSequence(AbstractNdArray<T, U> ndArray, int dimensionIdx, Supplier<ElementView<U>> viewFactory) {
     this.ndArray = ndArray;
     this.dimensionIdx = dimensionIdx;
-    this.element = element;
-    this.elementWindow = elementWindow;
+    this.viewFactory = viewFactory;
+    this.view = viewFactory.get();
   }
 
   @Override
@@ -48,11 +56,15 @@ public final class FastElementSequence<T, U extends NdArray<T>> implements NdArr
   @Override
   public void forEachIndexed(BiConsumer<long[], U> consumer) {
     PositionIterator.createIndexed(ndArray.dimensions(), dimensionIdx).forEachIndexed((long[] coords, long position) -> {
-      elementWindow.slideTo(position);
-      consumer.accept(coords, element);
+      consumer.accept(coords, view.slideTo(position));
     });
   }
 
+  @Override
+  public Spliterator<U> spliterator() {
+    return new ElementSpliterator<>(ndArray.dimensions(), dimensionIdx, () -> viewFactory.get()::slideTo);
+  }
+
   @Override
   public NdArraySequence<U> asSlices() {
     return new SlicingElementSequence<T, U>(ndArray, dimensionIdx);
@@ -67,8 +79,7 @@ public final class FastElementSequence<T, U extends NdArray<T>> implements NdArr
 
       @Override
       public U next() {
-        elementWindow.slideTo(positionIterator.nextLong());
-        return element;
+        return view.slideTo(positionIterator.nextLong());
       }
 
       private final PositionIterator positionIterator = PositionIterator.create(ndArray.dimensions(), dimensionIdx);
@@ -76,6 +87,6 @@ public final class FastElementSequence<T, U extends NdArray<T>> implements NdArr
 
   private final AbstractNdArray<T, U> ndArray;
   private final int dimensionIdx;
-  private final U element;
-  private final DataBufferWindow<?> elementWindow;
+  private final Supplier<ElementView<U>> viewFactory;
+  private final ElementView<U> view;
 }
@@ -18,6 +18,8 @@
 package org.tensorflow.ndarray.impl.sequence;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import org.tensorflow.ndarray.IllegalRankException;
 import org.tensorflow.ndarray.NdArray;
@@ -57,6 +59,11 @@ public final class SingleElementSequence<T, U extends NdArray<T>> implements NdA
     };
   }
 
+  @Override
+  public Spliterator<U> spliterator() {
+    return Spliterators.spliterator(iterator(), 1, Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
   @Override
   public NdArraySequence<U> asSlices() {
     return this;  // no need to slice, as there are only one element
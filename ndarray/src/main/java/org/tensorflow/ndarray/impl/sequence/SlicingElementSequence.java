@@ -18,6 +18,7 @@
 package org.tensorflow.ndarray.impl.sequence;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.NdArraySequence;
@@ -66,6 +67,12 @@ public final class SlicingElementSequence<T, U extends NdArray<T>> implements Nd
     );
   }
 
+  @Override
+  public Spliterator<U> spliterator() {
+    return new ElementSpliterator<>(ndArray.dimensions(), dimensionIdx,
+        () -> position -> ndArray.slice(position, elementDimensions));
+  }
+
   @Override
   public NdArraySequence<U> asSlices() {
     return this;
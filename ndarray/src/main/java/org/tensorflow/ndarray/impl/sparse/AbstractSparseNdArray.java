@@ -20,9 +20,13 @@ import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.NdArraySequence;
 import org.tensorflow.ndarray.NdArrays;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.SlicePlan;
 import org.tensorflow.ndarray.SparseNdArray;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
 import org.tensorflow.ndarray.impl.AbstractNdArray;
 import org.tensorflow.ndarray.impl.dense.AbstractDenseNdArray;
+import org.tensorflow.ndarray.impl.dense.LongDenseNdArray;
 import org.tensorflow.ndarray.impl.dimension.Dimension;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
 import org.tensorflow.ndarray.impl.dimension.RelativeDimensionalSpace;
@@ -31,10 +35,7 @@ import org.tensorflow.ndarray.impl.sequence.SlicingElementSequence;
 import org.tensorflow.ndarray.index.Index;
 
 import java.nio.ReadOnlyBufferException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.LongStream;
 
 /**
  * Abstract base class for sparse array.
@@ -99,6 +100,18 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
    */
   private U defaultArray;
 
+  /**
+   * Sorted linear positions of the values in the dense array, replacing {@link #indices} when this
+   * array is linearized.
+   */
+  private LongDataBuffer positions;
+
+  /**
+   * Number of elements covered by an increment of one in each dimension, used to linearize
+   * coordinates.
+   */
+  private long[] positionStrides;
+
   /**
    * Creates an abstract SparseNdArray
    *
@@ -217,6 +230,26 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
     throw new UnsupportedOperationException("Sparse NdArrays cannot be viewed with a different shape");
   }
 
+  @Override
+  public U transpose(int... axes) {
+    throw new UnsupportedOperationException("Sparse NdArrays cannot be transposed");
+  }
+
+  @Override
+  public U broadcastTo(Shape shape) {
+    throw new UnsupportedOperationException("Sparse NdArrays cannot be broadcast");
+  }
+
+  @Override
+  public U slidingWindows(int axis, long windowSize, long step) {
+    throw new UnsupportedOperationException("Sparse NdArrays cannot be split into windows");
+  }
+
+  @Override
+  public SlicePlan<U> slicePlan(Index... indices) {
+    throw new UnsupportedOperationException("Slice plans are not supported by sparse NdArrays");
+  }
+
   /** {@inheritDoc} */
   @Override
   public NdArray<T> slice(Index... indices) {
@@ -236,18 +269,30 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
   /** {@inheritDoc} */
   @Override
   public T getObject(long... coordinates) {
+    long index = valueIndexOf(coordinates);
+    if (index >= 0) {
+      return getValues().getObject(index);
+    } else {
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Gets the index in {@link #getValues()} of the value at the given coordinates.
+   *
+   * @param coordinates coordinates of a scalar in this array
+   * @return index of the value, or a negative number if the coordinates are not in the {@code
+   *     indices} array, meaning that the value at these coordinates is the default value
+   * @throws IllegalRankException if the number of coordinates is not equal to the rank of the array
+   */
+  protected long valueIndexOf(long[] coordinates) {
     if (coordinates.length != shape().numDimensions()) {
       throw new IllegalRankException(
           String.format(
               "Length of coordinates (%s)%s does not match the rank %d",
               coordinates.length, Arrays.toString(coordinates), shape().numDimensions()));
     }
-    long index = locateIndex(coordinates);
-    if (index >= 0) {
-      return getValues().getObject(index);
-    } else {
-      return defaultValue;
-    }
+    return locateIndex(coordinates);
   }
 
   /** {@inheritDoc} */
@@ -275,10 +320,11 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
   public NdArray<T> copyTo(NdArray<T> dst) {
     if (dst instanceof AbstractSparseNdArray) {
       AbstractSparseNdArray<T, U> sparse = (AbstractSparseNdArray<T, U>) dst;
-      LongNdArray indicesCopy = NdArrays.ofLongs(indices.shape());
-      this.indices.copyTo(indicesCopy);
-      U valuesCopy = createValues(values.shape());
-      this.values.copyTo(valuesCopy);
+      AbstractSparseNdArray<T, U> src = rowMajorOrder();
+      LongNdArray indicesCopy = NdArrays.ofLongs(src.getIndices().shape());
+      src.getIndices().copyTo(indicesCopy);
+      U valuesCopy = createValues(src.values.shape());
+      src.values.copyTo(valuesCopy);
       sparse.setIndices(indicesCopy);
       sparse.setValues(valuesCopy);
     } else {
@@ -314,8 +360,9 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
       }
     } else if (array instanceof AbstractSparseNdArray) {
       AbstractSparseNdArray<T, U> dst = (AbstractSparseNdArray<T, U>) array;
-      indices.copyTo(dst.getIndices());
-      values.copyTo(dst.values);
+      AbstractSparseNdArray<T, U> src = rowMajorOrder();
+      src.getIndices().copyTo(dst.getIndices());
+      src.values.copyTo(dst.values);
     } else {
       super.slowCopyTo(array);
     }
@@ -324,19 +371,147 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
   /**
    * Gets the Indices
    *
+   * <p>If this array is {@link #isLinearized() linearized}, the indices are computed from the
+   * linear positions on the first call and retained until the array is linearized again. They are
+   * then read-only.
+   *
    * @return the Indices
    */
   public LongNdArray getIndices() {
+    if (indices == null && positions != null) {
+      indices = computeIndices(true);
+    }
     return indices;
   }
 
   /**
    * Sets the Indices
    *
+   * <p>If this array was {@link #isLinearized() linearized}, it is not anymore.
+   *
    * @param indices the Indices
    */
   public void setIndices(LongNdArray indices) {
     this.indices = indices;
+    this.positions = null;
+  }
+
+  /**
+   * Returns true if the indices of this array are stored as linear positions.
+   *
+   * @see #linearize()
+   */
+  public boolean isLinearized() {
+    return positions != null;
+  }
+
+  /**
+   * Stores the indices of this array as a single linear position per value, which is the position
+   * of the value in the dense array in row-major order.
+   *
+   * <p>Linearized indices take {@code rank} times less memory and coordinates are located by a
+   * single primitive binary search. Indices and values are sorted as part of the conversion and
+   * remain sorted as long as the array is linearized. Indices of shape {@code [N, ndims]} can still
+   * be obtained with {@link #getIndices()}, or the array can be converted back with {@link
+   * #delinearize()}.
+   *
+   * @return this instance
+   * @throws IllegalStateException if the number of elements in the dense array cannot be
+   *     represented as a long
+   */
+  public AbstractSparseNdArray<T, U> linearize() {
+    long[] strides = linearStrides();
+    if (strides == null) {
+      throw new IllegalStateException("Shape " + shape() + " is too large to be linearized");
+    }
+    long[] keys;
+    if (positions != null) {
+      if (indices == null) {
+        return this;  // already linearized
+      }
+      keys = new long[(int) positions.size()];
+      positions.read(keys);
+    } else {
+      keys = linearPositions(indicesBufferOrCopy(), numValuesToSort(), strides);
+      int[] permutation = IndexSorter.sort(keys);
+      if (permutation != null) {
+        values = permuteValues(permutation);
+      }
+    }
+    positions = DataBuffers.of(keys, false, false);
+    positionStrides = strides;
+    indices = null;
+    return this;
+  }
+
+  /**
+   * Converts the linear positions of a {@link #isLinearized() linearized} array back to indices of
+   * shape {@code [N, ndims]}.
+   *
+   * @return this instance
+   */
+  public AbstractSparseNdArray<T, U> delinearize() {
+    if (positions != null) {
+      indices = computeIndices(false);
+      positions = null;
+    }
+    return this;
+  }
+
+  /**
+   * Gets the linear positions of the values of this array in the dense array, in row-major order.
+   *
+   * <p>If this array is {@link #isLinearized() linearized}, the returned array shares the storage
+   * of its positions, otherwise positions are computed from the indices.
+   *
+   * @return a 1-D array of shape {@code [N]}
+   * @throws IllegalStateException if the number of elements in the dense array cannot be
+   *     represented as a long
+   */
+  public LongNdArray getPositions() {
+    if (positions != null) {
+      return NdArrays.wrap(Shape.of(positions.size()), positions);
+    }
+    long[] strides = linearStrides();
+    if (strides == null) {
+      throw new IllegalStateException("Shape " + shape() + " is too large to be linearized");
+    }
+    long[] keys = linearPositions(indicesBufferOrCopy(), numValuesToSort(), strides);
+    return NdArrays.wrap(Shape.of(keys.length), DataBuffers.of(keys, false, false));
+  }
+
+  /**
+   * Sets the linear positions of the values of this array in the dense array, in row-major order,
+   * which {@link #linearize() linearizes} this array.
+   *
+   * @param positions a 1-D array of shape {@code [N]}, sorted in ascending order
+   * @throws IllegalArgumentException if positions are not sorted or out of the bounds of the array
+   * @throws IllegalStateException if the number of elements in the dense array cannot be
+   *     represented as a long
+   */
+  public void setPositions(LongNdArray positions) {
+    long[] strides = linearStrides();
+    if (strides == null) {
+      throw new IllegalStateException("Shape " + shape() + " is too large to be linearized");
+    }
+    if (positions.rank() != 1) {
+      throw new IllegalArgumentException("Positions must be a vector, got shape " + positions.shape());
+    }
+    LongDataBuffer buffer = DataBuffers.ofLongs(positions.size());
+    positions.copyTo(buffer);
+    long previous = -1;
+    for (long i = 0; i < buffer.size(); ++i) {
+      long position = buffer.getLong(i);
+      if (position <= previous || position >= shape().size()) {
+        throw new IllegalArgumentException(
+            "Positions must be in ascending order and within the bounds of shape " + shape()
+                + ", got " + position + " at index " + i);
+      }
+      previous = position;
+    }
+    this.positions = buffer;
+    this.positionStrides = strides;
+    this.indices = null;
   }
 
   /**
@@ -369,21 +544,77 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
    *     the return value will be {@code >= 0}, only if the coordinates are found.
    */
   protected long locateIndex(long[] coordinates) {
+    if (positions != null) {
+      return locatePosition(coordinates);
+    }
     long size = indices.shape().get(0);
+    LongDataBuffer indicesBuffer = indicesBuffer();
+    if (indicesBuffer != null) {
+      return binarySearch(indicesBuffer, size, coordinates);
+    }
     LongNdArray coordArray = NdArrays.vectorOf(coordinates);
     return binarySearch(size, coordArray);
   }
 
+  /**
+   * Locates the coordinates in the linear positions of a linearized array.
+   *
+   * @return same as {@link #locateIndex(long[])}
+   */
+  private long locatePosition(long[] coordinates) {
+    long position = 0;
+    for (int i = 0; i < coordinates.length; ++i) {
+      long coordinate = coordinates[i];
+      if (coordinate < 0 || coordinate >= shape().get(i)) {
+        return -1;  // out of bounds, can't be found
+      }
+      position += coordinate * positionStrides[i];
+    }
+    long low = 0;
+    long high = positions.size() - 1;
+
+    while (low <= high) {
+      long mid = (low + high) >>> 1;
+      long midPosition = positions.getLong(mid);
+      if (midPosition < position) {
+        low = mid + 1;
+      } else if (midPosition > position) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Returns the buffer backing the indices, if they are stored contiguously in row-major order so
+   * that the coordinates of the i-th index start at position {@code i * rank} in this buffer.
+   *
+   * @return the indices buffer, or null if indices cannot be accessed directly from a buffer
+   */
+  protected LongDataBuffer indicesBuffer() {
+    if (indices instanceof LongDenseNdArray) {
+      LongDenseNdArray denseIndices = (LongDenseNdArray) indices;
+      DimensionalSpace indicesDimensions = denseIndices.dimensions();
+      if (!indicesDimensions.isSegmented() && indicesDimensions.physicalSize() == indices.size()) {
+        return denseIndices.buffer();
+      }
+    }
+    return null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public int hashCode() {
     if (dimensions().isSegmented()) {
       return slowHashCode();
     }
+    AbstractSparseNdArray<T, U> ordered = rowMajorOrder();
     final int prime = 31;
     int result = 1;
-    result = prime * result + indices.hashCode();
-    result = prime * result + values.hashCode();
+    result = prime * result + ordered.getIndices().hashCode();
+    result = prime * result + ordered.values.hashCode();
     result = prime * result + shape().hashCode();
     return result;
   }
@@ -401,10 +632,25 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
     if (!shape().equals(other.shape())) {
       return false;
     }
-    if (!indices.equals(other.indices)) {
+    AbstractSparseNdArray<?, ?> ordered = rowMajorOrder();
+    AbstractSparseNdArray<?, ?> otherOrdered = other.rowMajorOrder();
+    if (!ordered.getIndices().equals(otherOrdered.getIndices())) {
       return false;
     }
-    return values.equals(other.values);
+    return ordered.values.equals(otherOrdered.values);
+  }
+
+  /**
+   * Returns this array with its indices and values in row-major order, as expected when comparing
+   * it to or copying it into another sparse array.
+   *
+   * <p>Subclasses storing their values in another order should override this method to return a
+   * reordered copy.
+   *
+   * @return this instance
+   */
+  protected AbstractSparseNdArray<T, U> rowMajorOrder() {
+    return this;
   }
 
   /**
@@ -460,33 +706,205 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
     return -(low + 1); // no match
   }
 
+  /**
+   * Performs a binary search directly on the buffer of the indices to locate the index of the
+   * specified coordinates, without allocating any object. The indices must be sorted by
+   * coordinates, row major.
+   *
+   * @param indicesBuffer the buffer of the indices, of size {@code toIndex * coordinates.length}
+   * @param toIndex the index of the last element (exclusive) to be searched
+   * @param coordinates the coordinates to locate
+   * @return same as {@link #binarySearch(long, LongNdArray)}
+   */
+  private static long binarySearch(LongDataBuffer indicesBuffer, long toIndex, long[] coordinates) {
+    int rank = coordinates.length;
+    long low = 0;
+    long high = toIndex - 1;
+
+    while (low <= high) {
+      long mid = (low + high) >>> 1;
+      int rc = compareCoordinates(indicesBuffer, mid * rank, coordinates);
+      if (rc < 0) { // less than
+        low = mid + 1;
+      } else if (rc > 0) { // higher than
+        high = mid - 1;
+      } else { // match
+        return mid;
+      }
+    }
+    return -(low + 1); // no match
+  }
+
+  /**
+   * Compares the coordinates found in a buffer at a given position with other coordinates, for row
+   * major coordinate order.
+   *
+   * @return a negative integer, zero, or a positive integer as the coordinates in the buffer are
+   *     less than, equal to, or greater than the other coordinates.
+   */
+  private static int compareCoordinates(LongDataBuffer buffer, long position, long[] coordinates) {
+    for (int i = 0; i < coordinates.length; ++i) {
+      int rc = Long.compare(buffer.getLong(position + i), coordinates[i]);
+      if (rc != 0) {
+        return rc;
+      }
+    }
+    return 0;
+  }
+
   /**
    * Sorts the indices and values in ascending row-major coordinates.
    *
+   * <p>Coordinates are linearized to their row-major position in the dense array and sorted as
+   * primitive longs, in parallel for large arrays. Values with identical coordinates keep their
+   * relative order.
+   *
    * @return this instance
    */
   @SuppressWarnings("UnusedReturnValue")
   public AbstractSparseNdArray<T, U> sortIndicesAndValues() {
+    if (positions != null) {
+      return this;  // linear positions are always kept sorted
+    }
+    int numValues = numValuesToSort();
+    int rank = shape().numDimensions();
+    LongDataBuffer indicesBuffer = indicesBufferOrCopy();
+    long[] strides = linearStrides();
+    int[] permutation = strides != null
+        ? IndexSorter.sort(linearPositions(indicesBuffer, numValues, strides))
+        : sortPermutationByCoordinates(indicesBuffer, numValues, rank);
+    if (permutation == null) {
+      return this;  // already sorted
+    }
+    LongDataBuffer dst = DataBuffers.ofLongs(indices.size());
+    IndexSorter.forEach(permutation.length, i -> {
+      long srcPosition = (long) permutation[i] * rank;
+      long dstPosition = (long) i * rank;
+      for (int j = 0; j < rank; ++j) {
+        dst.setLong(indicesBuffer.getLong(srcPosition + j), dstPosition + j);
+      }
+    });
+    values = permuteValues(permutation);
+    indices = NdArrays.wrap(indices.shape(), dst);
+    return this;
+  }
 
-    // indices will contain the indexes into the indices and values ndArrays, resorted.
-    List<Long> indexes = new ArrayList<>();
-    //  create a range for the length of values
-    LongStream.range(0, values.size()).forEach(indexes::add);
+  /**
+   * Creates a copy of the values, reordered so that the i-th value of the copy is the value at
+   * index {@code permutation[i]} in {@link #getValues()}.
+   *
+   * <p>Subclasses should override this method to permute values in bulk, without boxing them.
+   *
+   * @param permutation indices of the values to copy, of the same size as the values
+   * @return permuted copy of the values
+   */
+  protected U permuteValues(int[] permutation) {
+    U newValues = createValues(values.shape());
+    for (int i = 0; i < permutation.length; ++i) {
+      newValues.setObject(values.getObject(permutation[i]), i);
+    }
+    return newValues;
+  }
 
-    // then sort this range based on ascending row-wise coordinates.
-    indexes.sort((a, b) -> compareCoordinates(indices.get(a), indices.get(b)));
+  /**
+   * Computes the number of elements in the dense array covered by an increment of one in each of
+   * its dimensions, in row-major order.
+   *
+   * @return the strides, or null if the number of elements in the dense array overflows a long
+   */
+  private long[] linearStrides() {
+    int rank = shape().numDimensions();
+    long[] strides = new long[rank];
+    long stride = 1;
+    for (int i = rank - 1; i >= 0; --i) {
+      strides[i] = stride;
+      try {
+        stride = Math.multiplyExact(stride, shape().get(i));
+      } catch (ArithmeticException e) {
+        return null;
+      }
+    }
+    return strides;
+  }
 
-    LongNdArray newIndices = NdArrays.ofLongs(indices.shape());
-    U newValues = createValues(values.shape());
-    // used the sorted indexes to set up the sorted Indices and Values
-    for (long i = 0; i < indexes.size(); i++) {
-      long moveIndex = indexes.get((int) i);
-      newIndices.set(indices.get(moveIndex), i);
-      newValues.setObject(values.getObject(moveIndex), i);
-    }
-    indices = newIndices;
-    values = newValues;
-    return this;
+  /**
+   * Computes the linear position of each index in the dense array, in row-major order.
+   */
+  private static long[] linearPositions(LongDataBuffer indicesBuffer, int numValues, long[] strides) {
+    int rank = strides.length;
+    long[] keys = new long[numValues];
+    IndexSorter.forEach(numValues, i -> {
+      long position = (long) i * rank;
+      long key = 0;
+      for (int j = 0; j < rank; ++j) {
+        key += indicesBuffer.getLong(position + j) * strides[j];
+      }
+      keys[i] = key;
+    });
+    return keys;
+  }
+
+  /**
+   * Computes indices of shape {@code [N, ndims]} from the linear positions.
+   */
+  private LongNdArray computeIndices(boolean readOnly) {
+    LongDataBuffer src = positions;
+    long[] strides = positionStrides;
+    int rank = strides.length;
+    int numValues = (int) src.size();
+    long size = (long) numValues * rank;
+    long[] array = size <= Integer.MAX_VALUE - 8 ? new long[(int) size] : null;
+    LongDataBuffer dst = array != null ? DataBuffers.of(array, false, false) : DataBuffers.ofLongs(size);
+    IndexSorter.forEach(numValues, i -> {
+      long position = src.getLong(i);
+      for (int j = 0; j < rank; ++j) {
+        dst.setLong(position / strides[j], (long) i * rank + j);
+        position %= strides[j];
+      }
+    });
+    // Indices that are too large to fit in an array cannot be made read-only but are still copies
+    return NdArrays.wrap(Shape.of(numValues, rank),
+        readOnly && array != null ? DataBuffers.of(array, true, false) : dst);
+  }
+
+  /**
+   * Returns the buffer backing the indices, or a copy of the indices if they cannot be accessed
+   * directly from a buffer.
+   */
+  private LongDataBuffer indicesBufferOrCopy() {
+    LongDataBuffer indicesBuffer = indicesBuffer();
+    if (indicesBuffer == null) {
+      indicesBuffer = DataBuffers.ofLongs(indices.size());
+      indices.copyTo(indicesBuffer);
+    }
+    return indicesBuffer;
+  }
+
+  private int numValuesToSort() {
+    long numValues = values.size();
+    if (numValues > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("Too many values to sort (" + numValues + ")");
+    }
+    return (int) numValues;
+  }
+
+  /**
+   * Computes the permutation that sorts the indices by comparing coordinates one by one, for
+   * shapes too large to be linearized in a single long.
+   */
+  private static int[] sortPermutationByCoordinates(LongDataBuffer indicesBuffer, int numValues, int rank) {
+    Integer[] permutation = new Integer[numValues];
+    Arrays.setAll(permutation, i -> i);
+    Arrays.sort(permutation, (a, b) -> {
+      for (int j = 0; j < rank; ++j) {
+        int rc = Long.compare(indicesBuffer.getLong((long) a * rank + j), indicesBuffer.getLong((long) b * rank + j));
+        if (rc != 0) {
+          return rc;
+        }
+      }
+      return 0;
+    });
+    return Arrays.stream(permutation).mapToInt(Integer::intValue).toArray();
   }
 
   /**
@@ -502,8 +920,7 @@ public abstract class AbstractSparseNdArray<T, U extends NdArray<T>> extends Abs
     }
 
     for (long i = 0; i < a.size(); i++) {
-      long l = a.getLong(i);
-      rc = (int) (l - b.getLong(i));
+      rc = Long.compare(a.getLong(i), b.getLong(i));
       if (rc != 0) {
         return rc;
       }
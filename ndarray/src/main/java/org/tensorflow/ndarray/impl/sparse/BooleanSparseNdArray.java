@@ -298,6 +298,16 @@ public class BooleanSparseNdArray extends AbstractSparseNdArray<Boolean, Boolean
     return NdArrays.ofBooleans(shape);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected BooleanNdArray permuteValues(int[] permutation) {
+    boolean[] src = new boolean[permutation.length];
+    getValues().copyTo(DataBuffers.of(src, false, false));
+    boolean[] dst = new boolean[permutation.length];
+    IndexSorter.forEach(permutation.length, i -> dst[i] = src[permutation[i]]);
+    return NdArrays.wrap(getValues().shape(), DataBuffers.of(dst, false, false));
+  }
+
   /** {@inheritDoc} */
   @Override
   public BooleanNdArray slice(long position, DimensionalSpace sliceDimensions) {
@@ -307,7 +317,8 @@ public class BooleanSparseNdArray extends AbstractSparseNdArray<Boolean, Boolean
   /** {@inheritDoc} */
   @Override
   public boolean getBoolean(long... coordinates) {
-    return getObject(coordinates);
+    long index = valueIndexOf(coordinates);
+    return index >= 0 ? getValues().getBoolean(index) : getDefaultValue();
   }
 
   /** {@inheritDoc} */
@@ -282,6 +282,16 @@ public class ByteSparseNdArray extends AbstractSparseNdArray<Byte, ByteNdArray>
     return NdArrays.ofBytes(shape);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected ByteNdArray permuteValues(int[] permutation) {
+    byte[] src = new byte[permutation.length];
+    getValues().copyTo(DataBuffers.of(src, false, false));
+    byte[] dst = new byte[permutation.length];
+    IndexSorter.forEach(permutation.length, i -> dst[i] = src[permutation[i]]);
+    return NdArrays.wrap(getValues().shape(), DataBuffers.of(dst, false, false));
+  }
+
   /** {@inheritDoc} */
   @Override
   public ByteNdArray slice(long position, DimensionalSpace sliceDimensions) {
@@ -291,7 +301,8 @@ public class ByteSparseNdArray extends AbstractSparseNdArray<Byte, ByteNdArray>
   /** {@inheritDoc} */
   @Override
   public byte getByte(long... coordinates) {
-    return getObject(coordinates);
+    long index = valueIndexOf(coordinates);
+    return index >= 0 ? getValues().getByte(index) : getDefaultValue();
   }
 
   /** {@inheritDoc} */
@@ -0,0 +1,369 @@
+/* Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.ndarray.impl.sparse;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+import org.tensorflow.ndarray.IllegalRankException;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+
+/**
+ * Indices of the values of a sparse matrix, compressed along one of its axes.
+ *
+ * <p>Values are grouped by their coordinate on the major axis, which is the row for the CSR format
+ * and the column for the CSC format. The values of the i-th group are found between {@code
+ * pointers[i]} (inclusive) and {@code pointers[i + 1]} (exclusive), sorted by their coordinate on
+ * the minor axis, which is stored in {@code minorIndices} at the same index. Locating a group is then
+ * a single lookup and its indices and values are contiguous, so they can be viewed without copy.
+ */
+final class CompressedIndex {
+
+  /**
+   * Computes the key of each COO index, so that sorting the keys groups values by their coordinate
+   * on the major axis, then orders them by their coordinate on the minor axis.
+   *
+   * @param indices a 2-D array of shape {@code [N, 2]}, or of shape {@code [0, n]} if there are no
+   *     values
+   * @param shape shape of the matrix
+   * @param majorAxis 0 to compress rows, 1 to compress columns
+   * @return the keys, one per index
+   * @throws IllegalArgumentException if the indices are not of shape {@code [N, 2]} or if a
+   *     coordinate is out of the bounds of the matrix
+   */
+  static long[] keysOf(LongNdArray indices, Shape shape, int majorAxis) {
+    checkShape(shape, majorAxis);
+    if (indices.rank() == 2 && indices.shape().get(0) == 0) {
+      return new long[0];  // sparse arrays without values may have indices of shape [0, 0]
+    }
+    if (indices.rank() != 2 || indices.shape().get(1) != 2) {
+      throw new IllegalArgumentException(
+          "Indices of a sparse matrix must be of shape [N, 2], got " + indices.shape());
+    }
+    long numValues = indices.shape().get(0);
+    if (numValues > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Too many values to compress (" + numValues + ")");
+    }
+    LongDataBuffer buffer = DataBuffers.ofLongs(indices.size());
+    indices.copyTo(buffer);
+    long numMinor = shape.get(1 - majorAxis);
+    long[] keys = new long[(int) numValues];
+    for (int i = 0; i < keys.length; ++i) {
+      long row = buffer.getLong(2L * i);
+      long col = buffer.getLong(2L * i + 1);
+      if (row < 0 || row >= shape.get(0) || col < 0 || col >= shape.get(1)) {
+        throw new IllegalArgumentException(
+            "Index [" + row + ", " + col + "] is out of the bounds of shape " + shape);
+      }
+      keys[i] = majorAxis == 0 ? row * numMinor + col : col * numMinor + row;
+    }
+    return keys;
+  }
+
+  /**
+   * Creates a compressed index from keys computed by {@link #keysOf(LongNdArray, Shape, int)}.
+   *
+   * @param keys keys of the values, sorted in ascending order
+   * @param shape shape of the matrix
+   * @param majorAxis 0 to compress rows, 1 to compress columns
+   * @return the compressed index
+   * @throws IllegalArgumentException if the same coordinates are found more than once
+   */
+  static CompressedIndex ofSortedKeys(long[] keys, Shape shape, int majorAxis) {
+    long numMajor = shape.get(majorAxis);
+    long numMinor = shape.get(1 - majorAxis);
+    long[] pointers = new long[(int) numMajor + 1];
+    long[] minorIndices = new long[keys.length];
+    int major = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      long keyMajor = keys[i] / numMinor;
+      if (i > 0 && keys[i] == keys[i - 1]) {
+        long keyMinor = keys[i] % numMinor;
+        throw new IllegalArgumentException(
+            "Index ["
+                + (majorAxis == 0 ? keyMajor : keyMinor)
+                + ", "
+                + (majorAxis == 0 ? keyMinor : keyMajor)
+                + "] is found more than once");
+      }
+      while (major < keyMajor) {
+        pointers[++major] = i;
+      }
+      minorIndices[i] = keys[i] % numMinor;
+    }
+    while (major < numMajor) {
+      pointers[++major] = keys.length;
+    }
+    return new CompressedIndex(shape, majorAxis, pointers, minorIndices);
+  }
+
+  /**
+   * Creates a compressed index of the positions of the non-default values of a dense matrix.
+   *
+   * @param shape shape of the matrix
+   * @param majorAxis 0 to compress rows, 1 to compress columns
+   * @param isValue tests if the value at a given row-major position in the dense matrix is not
+   *     the default value
+   * @return the compressed index
+   */
+  static CompressedIndex ofDense(Shape shape, int majorAxis, LongPredicate isValue) {
+    checkShape(shape, majorAxis);
+    long numMajor = shape.get(majorAxis);
+    long numMinor = shape.get(1 - majorAxis);
+    long[] pointers = new long[(int) numMajor + 1];
+    long numValues = 0;
+    for (int major = 0; major < numMajor; ++major) {
+      for (long minor = 0; minor < numMinor; ++minor) {
+        if (isValue.test(densePosition(shape, majorAxis, major, minor))) {
+          ++numValues;
+        }
+      }
+      pointers[major + 1] = numValues;
+    }
+    if (numValues > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Too many values to compress (" + numValues + ")");
+    }
+    long[] minorIndices = new long[(int) numValues];
+    int i = 0;
+    for (int major = 0; major < numMajor; ++major) {
+      for (long minor = 0; minor < numMinor; ++minor) {
+        if (isValue.test(densePosition(shape, majorAxis, major, minor))) {
+          minorIndices[i++] = minor;
+        }
+      }
+    }
+    return new CompressedIndex(shape, majorAxis, pointers, minorIndices);
+  }
+
+  /**
+   * Creates a compressed index from its pointers and minor indices.
+   *
+   * @param shape shape of the matrix
+   * @param majorAxis 0 to compress rows, 1 to compress columns
+   * @param pointers a 1-D array of shape {@code [shape.get(majorAxis) + 1]}
+   * @param minorIndices a 1-D array of shape {@code [N]}
+   * @return the compressed index
+   * @throws IllegalArgumentException if the pointers are not ascending from 0 to {@code N}, or if
+   *     the minor indices of a group are not strictly ascending and within the bounds of the matrix
+   */
+  static CompressedIndex of(Shape shape, int majorAxis, LongNdArray pointers, LongNdArray minorIndices) {
+    checkShape(shape, majorAxis);
+    long numMajor = shape.get(majorAxis);
+    long numMinor = shape.get(1 - majorAxis);
+    if (pointers.rank() != 1 || pointers.size() != numMajor + 1) {
+      throw new IllegalArgumentException(
+          "Pointers must be a vector of shape [" + (numMajor + 1) + "], got " + pointers.shape());
+    }
+    if (minorIndices.rank() != 1) {
+      throw new IllegalArgumentException(
+          "Indices must be a vector, got shape " + minorIndices.shape());
+    }
+    if (minorIndices.size() > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Too many values to compress (" + minorIndices.size() + ")");
+    }
+    long[] pointersArray = new long[(int) numMajor + 1];
+    pointers.copyTo(DataBuffers.of(pointersArray, false, false));
+    long[] minorArray = new long[(int) minorIndices.size()];
+    minorIndices.copyTo(DataBuffers.of(minorArray, false, false));
+    if (pointersArray[0] != 0 || pointersArray[(int) numMajor] != minorArray.length) {
+      throw new IllegalArgumentException(
+          "Pointers must start at 0 and end at the number of indices (" + minorArray.length + ")");
+    }
+    for (int major = 0; major < numMajor; ++major) {
+      long start = pointersArray[major];
+      long end = pointersArray[major + 1];
+      if (end < start) {
+        throw new IllegalArgumentException("Pointers must be in ascending order, got " + end + " at index " + (major + 1));
+      }
+      long previous = -1;
+      for (int i = (int) start; i < end; ++i) {
+        long minor = minorArray[i];
+        if (minor <= previous || minor >= numMinor) {
+          throw new IllegalArgumentException(
+              "Indices must be in ascending order within each "
+                  + (majorAxis == 0 ? "row" : "column")
+                  + " and lower than " + numMinor + ", got " + minor + " at index " + i);
+        }
+        previous = minor;
+      }
+    }
+    return new CompressedIndex(shape, majorAxis, pointersArray, minorArray);
+  }
+
+  /**
+   * @return number of values indexed
+   */
+  long numValues() {
+    return minorIndices.length;
+  }
+
+  /**
+   * @return index of the first value of a group
+   */
+  long start(long major) {
+    return pointers[(int) major];
+  }
+
+  /**
+   * @return index following the last value of a group
+   */
+  long end(long major) {
+    return pointers[(int) major + 1];
+  }
+
+  /**
+   * Gets the index of the value at the given coordinates in the matrix.
+   *
+   * @param coordinates coordinates of a scalar in the matrix
+   * @return index of the value, or a negative number if the coordinates are not indexed
+   * @throws IllegalRankException if there are not exactly two coordinates
+   */
+  long valueIndexOf(long[] coordinates) {
+    if (coordinates.length != 2) {
+      throw new IllegalRankException(
+          String.format(
+              "Length of coordinates (%s)%s does not match the rank %d",
+              coordinates.length, Arrays.toString(coordinates), 2));
+    }
+    long major = coordinates[majorAxis];
+    long minor = coordinates[1 - majorAxis];
+    if (major < 0 || major >= numMajor || minor < 0 || minor >= numMinor) {
+      return -1;  // out of bounds, can't be found
+    }
+    int low = (int) start(major);
+    int high = (int) end(major) - 1;
+
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      long midMinor = minorIndices[mid];
+      if (midMinor < minor) {
+        low = mid + 1;
+      } else if (midMinor > minor) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Returns the indices of a group as those of a sparse vector, sharing the memory of this index.
+   *
+   * @param major coordinate of the group on the major axis
+   * @return a 2-D array of shape {@code [n, 1]}, where {@code n} is the number of values in the group
+   * @throws IndexOutOfBoundsException if there is no such group
+   */
+  LongNdArray vectorIndices(long major) {
+    if (major < 0 || major >= numMajor) {
+      throw new IndexOutOfBoundsException(
+          "Index " + major + " is out of bounds for axis " + majorAxis + " of size " + numMajor);
+    }
+    long start = start(major);
+    long length = end(major) - start;
+    return NdArrays.wrap(
+        Shape.of(length, 1), DataBuffers.of(minorIndices, true, false).slice(start, length));
+  }
+
+  /**
+   * @return a read-only view of the pointers, of shape {@code [numMajor + 1]}
+   */
+  LongNdArray pointers() {
+    return readOnlyView(pointers);
+  }
+
+  /**
+   * @return a read-only view of the minor indices, of shape {@code [N]}
+   */
+  LongNdArray minorIndices() {
+    return readOnlyView(minorIndices);
+  }
+
+  /**
+   * Computes the coordinates of the values, in the order they are stored.
+   *
+   * @param readOnly true if the coordinates cannot be modified
+   * @return a 2-D array of shape {@code [N, 2]}
+   */
+  LongNdArray cooIndices(boolean readOnly) {
+    long[] coordinates = new long[Math.toIntExact(2L * minorIndices.length)];
+    int i = 0;
+    for (int major = 0; major < numMajor; ++major) {
+      for (int k = (int) pointers[major]; k < pointers[major + 1]; ++k, i += 2) {
+        coordinates[i + majorAxis] = major;
+        coordinates[i + 1 - majorAxis] = minorIndices[k];
+      }
+    }
+    return NdArrays.wrap(Shape.of(numValues(), 2), DataBuffers.of(coordinates, readOnly, false));
+  }
+
+  /**
+   * Computes the row-major position of the values in the dense matrix, in the order they are stored.
+   *
+   * @return the positions
+   */
+  long[] densePositions() {
+    long[] positions = new long[minorIndices.length];
+    int i = 0;
+    for (int major = 0; major < numMajor; ++major) {
+      for (int k = (int) pointers[major]; k < pointers[major + 1]; ++k) {
+        positions[i++] = densePosition(shape, majorAxis, major, minorIndices[k]);
+      }
+    }
+    return positions;
+  }
+
+  private final Shape shape;
+  private final int majorAxis;
+  private final long numMajor;
+  private final long numMinor;
+  private final long[] pointers;
+  private final long[] minorIndices;
+
+  private CompressedIndex(Shape shape, int majorAxis, long[] pointers, long[] minorIndices) {
+    this.shape = shape;
+    this.majorAxis = majorAxis;
+    this.numMajor = shape.get(majorAxis);
+    this.numMinor = shape.get(1 - majorAxis);
+    this.pointers = pointers;
+    this.minorIndices = minorIndices;
+  }
+
+  private static long densePosition(Shape shape, int majorAxis, long major, long minor) {
+    return majorAxis == 0 ? major * shape.get(1) + minor : minor * shape.get(1) + major;
+  }
+
+  private static LongNdArray readOnlyView(long[] array) {
+    return NdArrays.wrap(Shape.of(array.length), DataBuffers.of(array, true, false));
+  }
+
+  private static void checkShape(Shape shape, int majorAxis) {
+    if (shape.numDimensions() != 2 || shape.hasUnknownDimension()) {
+      throw new IllegalArgumentException("Compressed sparse arrays must be matrices, got shape " + shape);
+    }
+    try {
+      Math.multiplyExact(shape.get(0), shape.get(1));
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Shape " + shape + " is too large to be compressed");
+    }
+    if (shape.get(majorAxis) >= Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(
+          "Shape " + shape + " has too many " + (majorAxis == 0 ? "rows" : "columns") + " to be compressed");
+    }
+  }
+}
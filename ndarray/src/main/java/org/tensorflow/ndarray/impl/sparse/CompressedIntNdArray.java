@@ -0,0 +1,280 @@
+/* Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.ndarray.impl.sparse;
+
+import org.tensorflow.ndarray.IntNdArray;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+/**
+ * Sparse matrix of ints whose indices are compressed along one of its axes.
+ *
+ * <p>Values are stored contiguously by row for {@link CsrIntNdArray} and by column for {@link
+ * CscIntNdArray}, with a pointer to the first value of each, so that a row or a column is located
+ * in constant time and can be viewed as a sparse vector sharing the memory of the matrix. Only one
+ * coordinate is stored per value, instead of two for {@link IntSparseNdArray}.
+ *
+ * <p>Indices of shape {@code [N, 2]} returned by {@link #getIndices()} are computed on demand, in
+ * the order the values are stored, and cannot be modified.
+ */
+public abstract class CompressedIntNdArray extends IntSparseNdArray {
+
+  /**
+   * Converts this array to a new COO sparse array.
+   *
+   * @return a sparse array with the same values, sorted in row-major order
+   */
+  public IntSparseNdArray toCoo() {
+    IntDataBuffer valuesCopy = DataBuffers.ofInts(index.numValues());
+    values.copyTo(valuesCopy, index.numValues());
+    IntSparseNdArray coo = IntSparseNdArray.create(
+        index.cooIndices(false),
+        NdArrays.wrap(Shape.of(index.numValues()), valuesCopy),
+        getDefaultValue(),
+        DimensionalSpace.create(shape()));
+    coo.sortIndicesAndValues();
+    return coo;
+  }
+
+  /**
+   * Gets the Indices
+   *
+   * <p>Indices are computed from the compressed indices on the first call and retained. They are
+   * read-only.
+   *
+   * @return the Indices
+   */
+  @Override
+  public LongNdArray getIndices() {
+    if (indices == null) {
+      indices = index.cooIndices(true);
+    }
+    return indices;
+  }
+
+  /**
+   * Not supported, compressed indices are only set on creation.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void setIndices(LongNdArray indices) {
+    throw new UnsupportedOperationException("Indices of a compressed sparse array cannot be set");
+  }
+
+  /**
+   * Not supported, values are only set on creation.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void setValues(IntNdArray values) {
+    throw new UnsupportedOperationException("Values of a compressed sparse array cannot be set");
+  }
+
+  /**
+   * Not supported, compressed indices already take half the memory of linear positions.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public AbstractSparseNdArray<Integer, IntNdArray> linearize() {
+    throw new UnsupportedOperationException("Compressed sparse arrays cannot be linearized");
+  }
+
+  /**
+   * Gets the linear positions of the values of this array in the dense array, in row-major order.
+   *
+   * @return a 1-D array of shape {@code [N]}, in the order the values are stored
+   */
+  @Override
+  public LongNdArray getPositions() {
+    long[] positions = index.densePositions();
+    return NdArrays.wrap(Shape.of(positions.length), DataBuffers.of(positions, true, false));
+  }
+
+  /**
+   * Not supported, compressed indices are only set on creation.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void setPositions(LongNdArray positions) {
+    throw new UnsupportedOperationException("Compressed sparse arrays cannot be linearized");
+  }
+
+  /**
+   * Returns this array if it is compressed by rows, or a COO copy of it sorted in row-major order if
+   * it is compressed by columns.
+   *
+   * @return this array or its COO copy
+   */
+  @Override
+  protected AbstractSparseNdArray<Integer, IntNdArray> rowMajorOrder() {
+    return majorAxis == 0 ? this : toCoo();
+  }
+
+  /**
+   * Does nothing, values of compressed arrays are always sorted by their compressed index.
+   *
+   * @return this instance
+   */
+  @Override
+  public AbstractSparseNdArray<Integer, IntNdArray> sortIndicesAndValues() {
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getInt(long... coordinates) {
+    long valueIndex = valueIndexOf(coordinates);
+    return valueIndex >= 0 ? values.getInt(valueIndex) : getDefaultValue();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntNdArray copyTo(IntDataBuffer dst) {
+    int defaultValue = getDefaultValue();
+    for (long i = 0; i < shape().size(); ++i) {
+      dst.setInt(defaultValue, i);
+    }
+    long[] positions = index.densePositions();
+    for (int i = 0; i < positions.length; ++i) {
+      dst.setInt(values.getInt(i), positions[i]);
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntNdArray copyFrom(IntDataBuffer src) {
+    int defaultValue = getDefaultValue();
+    CompressedIndex newIndex = CompressedIndex.ofDense(
+        shape(), majorAxis, p -> src.getInt(p) != defaultValue);
+    long[] positions = newIndex.densePositions();
+    int[] newValues = new int[positions.length];
+    for (int i = 0; i < positions.length; ++i) {
+      newValues[i] = src.getInt(positions[i]);
+    }
+    setCompressed(newIndex, DataBuffers.of(newValues, false, false));
+    return this;
+  }
+
+  /**
+   * @return the compressed indices of this array
+   */
+  CompressedIndex compressedIndex() {
+    return index;
+  }
+
+  /**
+   * Returns a row or a column of this array as a sparse vector, sharing the memory of this array.
+   *
+   * @param major coordinate of the row or the column on the compressed axis
+   * @return the sparse vector
+   * @throws IndexOutOfBoundsException if the coordinate is out of the bounds of the compressed axis
+   */
+  IntSparseNdArray vector(long major) {
+    LongNdArray vectorIndices = index.vectorIndices(major);
+    long start = index.start(major);
+    long length = vectorIndices.shape().get(0);
+    return IntSparseNdArray.create(
+        vectorIndices,
+        NdArrays.wrap(Shape.of(length), values.slice(start, length)),
+        getDefaultValue(),
+        DimensionalSpace.create(Shape.of(shape().get(1 - majorAxis))));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected long valueIndexOf(long[] coordinates) {
+    return index.valueIndexOf(coordinates);
+  }
+
+  /**
+   * Creates an array from its compressed indices and values.
+   *
+   * @param index compressed indices
+   * @param values values, of the same size as the indices
+   * @param defaultValue Scalar value to set for indices not specified in {@link #getIndices()}
+   * @param shape shape of the dense matrix
+   * @param majorAxis axis along which indices are compressed
+   */
+  CompressedIntNdArray(
+      CompressedIndex index, IntNdArray values, int defaultValue, Shape shape, int majorAxis) {
+    super(defaultValue, DimensionalSpace.create(shape));
+    this.majorAxis = majorAxis;
+    if (values.rank() != 1 || values.size() != index.numValues()) {
+      throw new IllegalArgumentException(
+          "Values must be a vector of shape [" + index.numValues() + "], got " + values.shape());
+    }
+    IntDataBuffer valuesCopy = DataBuffers.ofInts(values.size());
+    values.copyTo(valuesCopy);
+    setCompressed(index, valuesCopy);
+  }
+
+  /**
+   * Creates an array from a COO sparse array, which may be a compressed array as well.
+   *
+   * @param src the sparse array to convert
+   * @param majorAxis axis along which indices are compressed
+   */
+  CompressedIntNdArray(IntSparseNdArray src, int majorAxis) {
+    super(src.getDefaultValue(), DimensionalSpace.create(src.shape()));
+    this.majorAxis = majorAxis;
+    long[] keys = CompressedIndex.keysOf(src.getIndices(), src.shape(), majorAxis);
+    int[] srcValues = new int[keys.length];
+    src.getValues().copyTo(DataBuffers.of(srcValues, false, false));
+    int[] permutation = IndexSorter.sort(keys);
+    int[] newValues = srcValues;
+    if (permutation != null) {
+      newValues = new int[keys.length];
+      int[] dst = newValues;
+      IndexSorter.forEach(permutation.length, i -> dst[i] = srcValues[permutation[i]]);
+    }
+    setCompressed(
+        CompressedIndex.ofSortedKeys(keys, src.shape(), majorAxis), DataBuffers.of(newValues, false, false));
+  }
+
+  /**
+   * Creates an array from the non-default values of a dense matrix.
+   *
+   * @param src the buffer of the dense matrix
+   * @param defaultValue Scalar value to set for indices not specified in {@link #getIndices()}
+   * @param shape shape of the dense matrix
+   * @param majorAxis axis along which indices are compressed
+   */
+  CompressedIntNdArray(IntDataBuffer src, int defaultValue, Shape shape, int majorAxis) {
+    super(defaultValue, DimensionalSpace.create(shape));
+    this.majorAxis = majorAxis;
+    copyFrom(src);
+  }
+
+  private final int majorAxis;
+  private CompressedIndex index;
+  private IntDataBuffer values;
+  private LongNdArray indices;
+
+  private void setCompressed(CompressedIndex index, IntDataBuffer values) {
+    this.index = index;
+    this.values = values;
+    this.indices = null;
+    super.setValues(NdArrays.wrap(Shape.of(values.size()), values));
+  }
+}
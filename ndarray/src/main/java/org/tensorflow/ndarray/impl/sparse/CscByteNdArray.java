@@ -0,0 +1,173 @@
+/* Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.ndarray.impl.sparse;
+
+import org.tensorflow.ndarray.ByteNdArray;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+
+/**
+ * Sparse matrix of bytes in the Compressed Sparse Column (CSC) format.
+ *
+ * <p>The values of the j-th column are stored between {@code columnPointers[j]} (inclusive) and
+ * {@code columnPointers[j + 1]} (exclusive), sorted by their row, which is found in {@code
+ * rowIndices} at the same index.
+ *
+ * <pre>{@code
+ * CscByteNdArray st = CscByteNdArray.create(
+ *      NdArrays.vectorOf(0L, 1L, 1L, 2L, 2L),
+ *      NdArrays.vectorOf(0L, 1L),
+ *      NdArrays.vectorOf((byte) 1, (byte) 3),
+ *      Shape.of(3, 4));
+ *
+ * }</pre>
+ *
+ * <p>represents the dense array:
+ *
+ * <pre>{@code
+ * [[1, 0, 0, 0]
+ *  [0, 0, 3, 0]
+ *  [0, 0, 0, 0]]
+ *
+ * }</pre>
+ *
+ * <p>Columns returned by {@link #column(long)} are sparse vectors sharing the memory of the matrix,
+ * located in constant time. Values and indices returned by {@link #getValues()} and {@link
+ * #getIndices()} are in column-major order.
+ */
+public final class CscByteNdArray extends CompressedByteNdArray {
+
+  /**
+   * Creates a new CscByteNdArray with a default value of zero.
+   *
+   * @param columnPointers A 1-D LongNdArray of shape {@code [columns + 1]}, where {@code
+   *     columnPointers[j]} is the index of the first value of the j-th column and {@code
+   *     columnPointers[columns]} is the number of values.
+   * @param rowIndices A 1-D LongNdArray of shape {@code [N]}, which supplies the row of each value,
+   *     in ascending order within a column.
+   * @param values A 1-D ByteNdArray of shape {@code [N]}, which supplies the values of each column.
+   * @param shape the shape of the dense matrix represented by this sparse array.
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the shape is not a matrix or if the indices are not valid
+   */
+  public static CscByteNdArray create(
+      LongNdArray columnPointers, LongNdArray rowIndices, ByteNdArray values, Shape shape) {
+    return create(columnPointers, rowIndices, values, (byte) 0, shape);
+  }
+
+  /**
+   * Creates a new CscByteNdArray
+   *
+   * @param columnPointers A 1-D LongNdArray of shape {@code [columns + 1]}, where {@code
+   *     columnPointers[j]} is the index of the first value of the j-th column and {@code
+   *     columnPointers[columns]} is the number of values.
+   * @param rowIndices A 1-D LongNdArray of shape {@code [N]}, which supplies the row of each value,
+   *     in ascending order within a column.
+   * @param values A 1-D ByteNdArray of shape {@code [N]}, which supplies the values of each column.
+   * @param defaultValue Scalar value to set for indices not specified in {@link #getIndices()}
+   * @param shape the shape of the dense matrix represented by this sparse array.
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the shape is not a matrix or if the indices are not valid
+   */
+  public static CscByteNdArray create(
+      LongNdArray columnPointers,
+      LongNdArray rowIndices,
+      ByteNdArray values,
+      byte defaultValue,
+      Shape shape) {
+    return new CscByteNdArray(
+        CompressedIndex.of(shape, 1, columnPointers, rowIndices), values, defaultValue, shape);
+  }
+
+  /**
+   * Creates a new CscByteNdArray from a sparse array in any format.
+   *
+   * @param src the sparse matrix, whose indices do not need to be sorted
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the source is not a matrix or if it has values at the same
+   *     coordinates
+   */
+  public static CscByteNdArray fromCoo(ByteSparseNdArray src) {
+    return new CscByteNdArray(src);
+  }
+
+  /**
+   * Creates a new CscByteNdArray from a dense ByteNdArray
+   *
+   * @param src the dense matrix
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the source is not a matrix
+   */
+  public static CscByteNdArray create(ByteNdArray src) {
+    return create(src, (byte) 0);
+  }
+
+  /**
+   * Creates a new CscByteNdArray from a dense ByteNdArray
+   *
+   * @param src the dense matrix
+   * @param defaultValue Scalar value to set for indices not specified in {@link #getIndices()}
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the source is not a matrix
+   */
+  public static CscByteNdArray create(ByteNdArray src, byte defaultValue) {
+    ByteDataBuffer buffer = DataBuffers.ofBytes(src.size());
+    src.copyTo(buffer);
+    return new CscByteNdArray(buffer, defaultValue, src.shape());
+  }
+
+  /**
+   * Returns a column of this matrix as a sparse vector sharing its memory.
+   *
+   * @param j index of the column
+   * @return the sparse vector of the column
+   * @throws IndexOutOfBoundsException if the column does not exist
+   */
+  public ByteSparseNdArray column(long j) {
+    return vector(j);
+  }
+
+  /**
+   * Gets the column pointers
+   *
+   * @return a read-only 1-D array of shape {@code [columns + 1]}
+   */
+  public LongNdArray getColumnPointers() {
+    return compressedIndex().pointers();
+  }
+
+  /**
+   * Gets the row of each value
+   *
+   * @return a read-only 1-D array of shape {@code [N]}
+   */
+  public LongNdArray getRowIndices() {
+    return compressedIndex().minorIndices();
+  }
+
+  private CscByteNdArray(CompressedIndex index, ByteNdArray values, byte defaultValue, Shape shape) {
+    super(index, values, defaultValue, shape, 1);
+  }
+
+  private CscByteNdArray(ByteSparseNdArray src) {
+    super(src, 1);
+  }
+
+  private CscByteNdArray(ByteDataBuffer src, byte defaultValue, Shape shape) {
+    super(src, defaultValue, shape, 1);
+  }
+}
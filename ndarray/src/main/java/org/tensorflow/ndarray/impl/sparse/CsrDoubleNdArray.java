@@ -0,0 +1,187 @@
+/* Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.ndarray.impl.sparse;
+
+import org.tensorflow.ndarray.DoubleNdArray;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+/**
+ * Sparse matrix of doubles in the Compressed Sparse Row (CSR) format.
+ *
+ * <p>The values of the i-th row are stored between {@code rowPointers[i]} (inclusive) and {@code
+ * rowPointers[i + 1]} (exclusive), sorted by their column, which is found in {@code columnIndices}
+ * at the same index.
+ *
+ * <pre>{@code
+ * CsrDoubleNdArray st = CsrDoubleNdArray.create(
+ *      NdArrays.vectorOf(0L, 1L, 2L, 2L),
+ *      NdArrays.vectorOf(0L, 2L),
+ *      NdArrays.vectorOf(1d, 3.14d),
+ *      Shape.of(3, 4));
+ *
+ * }</pre>
+ *
+ * <p>represents the dense array:
+ *
+ * <pre>{@code
+ * [[1, 0, 0, 0]
+ *  [0, 0, 3.14, 0]
+ *  [0, 0, 0, 0]]
+ *
+ * }</pre>
+ *
+ * <p>Rows returned by {@link #row(long)}, {@link #get(long...) get(i)} or when iterating {@link
+ * #elements(int) elements(0)} are sparse vectors sharing the memory of the matrix, located in
+ * constant time.
+ */
+public final class CsrDoubleNdArray extends CompressedDoubleNdArray {
+
+  /**
+   * Creates a new CsrDoubleNdArray with a default value of zero.
+   *
+   * @param rowPointers A 1-D LongNdArray of shape {@code [rows + 1]}, where {@code rowPointers[i]}
+   *     is the index of the first value of the i-th row and {@code rowPointers[rows]} is the number
+   *     of values.
+   * @param columnIndices A 1-D LongNdArray of shape {@code [N]}, which supplies the column of each
+   *     value, in ascending order within a row.
+   * @param values A 1-D DoubleNdArray of shape {@code [N]}, which supplies the values of each row.
+   * @param shape the shape of the dense matrix represented by this sparse array.
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the shape is not a matrix or if the indices are not valid
+   */
+  public static CsrDoubleNdArray create(
+      LongNdArray rowPointers, LongNdArray columnIndices, DoubleNdArray values, Shape shape) {
+    return create(rowPointers, columnIndices, values, 0d, shape);
+  }
+
+  /**
+   * Creates a new CsrDoubleNdArray
+   *
+   * @param rowPointers A 1-D LongNdArray of shape {@code [rows + 1]}, where {@code rowPointers[i]}
+   *     is the index of the first value of the i-th row and {@code rowPointers[rows]} is the number
+   *     of values.
+   * @param columnIndices A 1-D LongNdArray of shape {@code [N]}, which supplies the column of each
+   *     value, in ascending order within a row.
+   * @param values A 1-D DoubleNdArray of shape {@code [N]}, which supplies the values of each row.
+   * @param defaultValue Scalar value to set for indices not specified in {@link #getIndices()}
+   * @param shape the shape of the dense matrix represented by this sparse array.
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the shape is not a matrix or if the indices are not valid
+   */
+  public static CsrDoubleNdArray create(
+      LongNdArray rowPointers,
+      LongNdArray columnIndices,
+      DoubleNdArray values,
+      double defaultValue,
+      Shape shape) {
+    return new CsrDoubleNdArray(
+        CompressedIndex.of(shape, 0, rowPointers, columnIndices), values, defaultValue, shape);
+  }
+
+  /**
+   * Creates a new CsrDoubleNdArray from a sparse array in any format.
+   *
+   * @param src the sparse matrix, whose indices do not need to be sorted
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the source is not a matrix or if it has values at the same
+   *     coordinates
+   */
+  public static CsrDoubleNdArray fromCoo(DoubleSparseNdArray src) {
+    return new CsrDoubleNdArray(src);
+  }
+
+  /**
+   * Creates a new CsrDoubleNdArray from a dense DoubleNdArray
+   *
+   * @param src the dense matrix
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the source is not a matrix
+   */
+  public static CsrDoubleNdArray create(DoubleNdArray src) {
+    return create(src, 0d);
+  }
+
+  /**
+   * Creates a new CsrDoubleNdArray from a dense DoubleNdArray
+   *
+   * @param src the dense matrix
+   * @param defaultValue Scalar value to set for indices not specified in {@link #getIndices()}
+   * @return the new Sparse Array
+   * @throws IllegalArgumentException if the source is not a matrix
+   */
+  public static CsrDoubleNdArray create(DoubleNdArray src, double defaultValue) {
+    DoubleDataBuffer buffer = DataBuffers.ofDoubles(src.size());
+    src.copyTo(buffer);
+    return new CsrDoubleNdArray(buffer, defaultValue, src.shape());
+  }
+
+  /**
+   * Returns a row of this matrix as a sparse vector sharing its memory.
+   *
+   * @param i index of the row
+   * @return the sparse vector of the row
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public DoubleSparseNdArray row(long i) {
+    return vector(i);
+  }
+
+  /**
+   * Gets the row pointers
+   *
+   * @return a read-only 1-D array of shape {@code [rows + 1]}
+   */
+  public LongNdArray getRowPointers() {
+    return compressedIndex().pointers();
+  }
+
+  /**
+   * Gets the column of each value
+   *
+   * @return a read-only 1-D array of shape {@code [N]}
+   */
+  public LongNdArray getColumnIndices() {
+    return compressedIndex().minorIndices();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleNdArray slice(long position, DimensionalSpace sliceDimensions) {
+    long numColumns = shape().get(1);
+    if (numColumns > 0
+        && sliceDimensions.numDimensions() == 1
+        && sliceDimensions.get(0) == dimensions().get(1)
+        && position % numColumns == 0) {
+      return row(position / numColumns);
+    }
+    return super.slice(position, sliceDimensions);
+  }
+
+  private CsrDoubleNdArray(CompressedIndex index, DoubleNdArray values, double defaultValue, Shape shape) {
+    super(index, values, defaultValue, shape, 0);
+  }
+
+  private CsrDoubleNdArray(DoubleSparseNdArray src) {
+    super(src, 0);
+  }
+
+  private CsrDoubleNdArray(DoubleDataBuffer src, double defaultValue, Shape shape) {
+    super(src, defaultValue, shape, 0);
+  }
+}
@@ -283,6 +283,16 @@ public class DoubleSparseNdArray extends AbstractSparseNdArray<Double, DoubleNdA
     return NdArrays.ofDoubles(shape);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected DoubleNdArray permuteValues(int[] permutation) {
+    double[] src = new double[permutation.length];
+    getValues().copyTo(DataBuffers.of(src, false, false));
+    double[] dst = new double[permutation.length];
+    IndexSorter.forEach(permutation.length, i -> dst[i] = src[permutation[i]]);
+    return NdArrays.wrap(getValues().shape(), DataBuffers.of(dst, false, false));
+  }
+
   /** {@inheritDoc} */
   @Override
   public DoubleNdArray slice(long position, DimensionalSpace sliceDimensions) {
@@ -292,7 +302,8 @@ public class DoubleSparseNdArray extends AbstractSparseNdArray<Double, DoubleNdA
   /** {@inheritDoc} */
   @Override
   public double getDouble(long... coordinates) {
-    return getObject(coordinates);
+    long index = valueIndexOf(coordinates);
+    return index >= 0 ? getValues().getDouble(index) : getDefaultValue();
   }
 
   /** {@inheritDoc} */
@@ -281,6 +281,16 @@ public class FloatSparseNdArray extends AbstractSparseNdArray<Float, FloatNdArra
     return NdArrays.ofFloats(shape);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected FloatNdArray permuteValues(int[] permutation) {
+    float[] src = new float[permutation.length];
+    getValues().copyTo(DataBuffers.of(src, false, false));
+    float[] dst = new float[permutation.length];
+    IndexSorter.forEach(permutation.length, i -> dst[i] = src[permutation[i]]);
+    return NdArrays.wrap(getValues().shape(), DataBuffers.of(dst, false, false));
+  }
+
   /** {@inheritDoc} */
   @Override
   public FloatNdArray slice(long position, DimensionalSpace sliceDimensions) {
@@ -290,7 +300,8 @@ public class FloatSparseNdArray extends AbstractSparseNdArray<Float, FloatNdArra
   /** {@inheritDoc} */
   @Override
   public float getFloat(long... coordinates) {
-    return getObject(coordinates);
+    long index = valueIndexOf(coordinates);
+    return index >= 0 ? getValues().getFloat(index) : getDefaultValue();
   }
 
   /** {@inheritDoc} */
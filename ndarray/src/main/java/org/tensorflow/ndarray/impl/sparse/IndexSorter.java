@@ -0,0 +1,165 @@
+/* Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.ndarray.impl.sparse;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Sorts the linearized coordinates of sparse indices, tracking the permutation applied to them so
+ * it can be applied to the values as well.
+ *
+ * <p>Sorting is a stable merge sort on primitive arrays, which is forked in the common {@link
+ * ForkJoinPool} for large inputs.
+ */
+final class IndexSorter {
+
+  /**
+   * Sorts the given keys in ascending order.
+   *
+   * @param keys keys to sort, in place
+   * @return the permutation applied to the keys, i.e. {@code sortedKeys[i] == keys[permutation[i]]},
+   *     or null if the keys were already sorted
+   */
+  static int[] sort(long[] keys) {
+    if (isSorted(keys)) {
+      return null;
+    }
+    int[] permutation = new int[keys.length];
+    forEach(keys.length, i -> permutation[i] = i);
+    long[] keysBuffer = new long[keys.length];
+    int[] permutationBuffer = new int[keys.length];
+    if (keys.length >= PARALLEL_THRESHOLD) {
+      ForkJoinPool.commonPool().invoke(
+          new SortTask(keys, permutation, keysBuffer, permutationBuffer, 0, keys.length));
+    } else {
+      mergeSort(keys, permutation, keysBuffer, permutationBuffer, 0, keys.length);
+    }
+    return permutation;
+  }
+
+  /**
+   * Performs an action for each integer from 0 (inclusive) to {@code n} (exclusive), in parallel
+   * if {@code n} is large enough.
+   *
+   * <p>Actions must be independent from each other, like copying values from a source array to
+   * a distinct destination array.
+   *
+   * @param n number of iterations
+   * @param action action to perform
+   */
+  static void forEach(int n, IntConsumer action) {
+    IntStream range = IntStream.range(0, n);
+    if (n >= PARALLEL_THRESHOLD) {
+      range = range.parallel();
+    }
+    range.forEach(action);
+  }
+
+  @SuppressWarnings("serial")
+  private static final class SortTask extends RecursiveAction {
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        mergeSort(keys, permutation, keysBuffer, permutationBuffer, from, to);
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(
+          new SortTask(keys, permutation, keysBuffer, permutationBuffer, from, mid),
+          new SortTask(keys, permutation, keysBuffer, permutationBuffer, mid, to));
+      merge(keys, permutation, keysBuffer, permutationBuffer, from, mid, to);
+    }
+
+    SortTask(long[] keys, int[] permutation, long[] keysBuffer, int[] permutationBuffer, int from, int to) {
+      this.keys = keys;
+      this.permutation = permutation;
+      this.keysBuffer = keysBuffer;
+      this.permutationBuffer = permutationBuffer;
+      this.from = from;
+      this.to = to;
+    }
+
+    private final long[] keys;
+    private final int[] permutation;
+    private final long[] keysBuffer;
+    private final int[] permutationBuffer;
+    private final int from;
+    private final int to;
+  }
+
+  private static boolean isSorted(long[] keys) {
+    for (int i = 1; i < keys.length; ++i) {
+      if (keys[i - 1] > keys[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void mergeSort(long[] keys, int[] permutation, long[] keysBuffer, int[] permutationBuffer, int from, int to) {
+    if (to - from <= INSERTION_SORT_THRESHOLD) {
+      insertionSort(keys, permutation, from, to);
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    mergeSort(keys, permutation, keysBuffer, permutationBuffer, from, mid);
+    mergeSort(keys, permutation, keysBuffer, permutationBuffer, mid, to);
+    merge(keys, permutation, keysBuffer, permutationBuffer, from, mid, to);
+  }
+
+  private static void insertionSort(long[] keys, int[] permutation, int from, int to) {
+    for (int i = from + 1; i < to; ++i) {
+      long key = keys[i];
+      int position = permutation[i];
+      int j = i - 1;
+      while (j >= from && keys[j] > key) {
+        keys[j + 1] = keys[j];
+        permutation[j + 1] = permutation[j];
+        --j;
+      }
+      keys[j + 1] = key;
+      permutation[j + 1] = position;
+    }
+  }
+
+  private static void merge(long[] keys, int[] permutation, long[] keysBuffer, int[] permutationBuffer, int from, int mid, int to) {
+    if (keys[mid - 1] <= keys[mid]) {
+      return;  // both halves are already in order
+    }
+    System.arraycopy(keys, from, keysBuffer, from, to - from);
+    System.arraycopy(permutation, from, permutationBuffer, from, to - from);
+    int left = from;
+    int right = mid;
+    for (int i = from; i < to; ++i) {
+      // Taking from the left half on equality keeps the sort stable
+      if (right >= to || (left < mid && keysBuffer[left] <= keysBuffer[right])) {
+        keys[i] = keysBuffer[left];
+        permutation[i] = permutationBuffer[left++];
+      } else {
+        keys[i] = keysBuffer[right];
+        permutation[i] = permutationBuffer[right++];
+      }
+    }
+  }
+
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+  private static final int INSERTION_SORT_THRESHOLD = 32;
+
+  private IndexSorter() {}
+}
@@ -296,6 +296,16 @@ public class IntSparseNdArray extends AbstractSparseNdArray<Integer, IntNdArray>
     return NdArrays.ofInts(shape);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected IntNdArray permuteValues(int[] permutation) {
+    int[] src = new int[permutation.length];
+    getValues().copyTo(DataBuffers.of(src, false, false));
+    int[] dst = new int[permutation.length];
+    IndexSorter.forEach(permutation.length, i -> dst[i] = src[permutation[i]]);
+    return NdArrays.wrap(getValues().shape(), DataBuffers.of(dst, false, false));
+  }
+
   /** {@inheritDoc} */
   @Override
   public IntNdArray slice(long position, DimensionalSpace sliceDimensions) {
@@ -305,7 +315,8 @@ public class IntSparseNdArray extends AbstractSparseNdArray<Integer, IntNdArray>
   /** {@inheritDoc} */
   @Override
   public int getInt(long... coordinates) {
-    return getObject(coordinates);
+    long index = valueIndexOf(coordinates);
+    return index >= 0 ? getValues().getInt(index) : getDefaultValue();
   }
 
   /** {@inheritDoc} */
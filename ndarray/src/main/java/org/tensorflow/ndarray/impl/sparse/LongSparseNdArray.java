@@ -281,6 +281,16 @@ public class LongSparseNdArray extends AbstractSparseNdArray<Long, LongNdArray>
     return NdArrays.ofLongs(shape);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected LongNdArray permuteValues(int[] permutation) {
+    long[] src = new long[permutation.length];
+    getValues().copyTo(DataBuffers.of(src, false, false));
+    long[] dst = new long[permutation.length];
+    IndexSorter.forEach(permutation.length, i -> dst[i] = src[permutation[i]]);
+    return NdArrays.wrap(getValues().shape(), DataBuffers.of(dst, false, false));
+  }
+
   /** {@inheritDoc} */
   @Override
   public LongNdArray slice(long position, DimensionalSpace sliceDimensions) {
@@ -290,7 +300,8 @@ public class LongSparseNdArray extends AbstractSparseNdArray<Long, LongNdArray>
   /** {@inheritDoc} */
   @Override
   public long getLong(long... coordinates) {
-    return getObject(coordinates);
+    long index = valueIndexOf(coordinates);
+    return index >= 0 ? getValues().getLong(index) : getDefaultValue();
   }
 
   /** {@inheritDoc} */
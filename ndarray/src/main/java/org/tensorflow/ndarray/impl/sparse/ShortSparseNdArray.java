@@ -282,6 +282,16 @@ public class ShortSparseNdArray extends AbstractSparseNdArray<Short, ShortNdArra
     return NdArrays.ofShorts(shape);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected ShortNdArray permuteValues(int[] permutation) {
+    short[] src = new short[permutation.length];
+    getValues().copyTo(DataBuffers.of(src, false, false));
+    short[] dst = new short[permutation.length];
+    IndexSorter.forEach(permutation.length, i -> dst[i] = src[permutation[i]]);
+    return NdArrays.wrap(getValues().shape(), DataBuffers.of(dst, false, false));
+  }
+
   /** {@inheritDoc} */
   @Override
   public ShortNdArray slice(long position, DimensionalSpace sliceDimensions) {
@@ -291,7 +301,8 @@ public class ShortSparseNdArray extends AbstractSparseNdArray<Short, ShortNdArra
   /** {@inheritDoc} */
   @Override
   public short getShort(long... coordinates) {
-    return getObject(coordinates);
+    long index = valueIndexOf(coordinates);
+    return index >= 0 ? getValues().getShort(index) : getDefaultValue();
   }
 
   /** {@inheritDoc} */
@@ -0,0 +1,375 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.ops;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.impl.ops.FloatElementwise;
+import org.tensorflow.ndarray.impl.ops.FloatFusion;
+import org.tensorflow.ndarray.impl.ops.FusedGraph;
+import org.tensorflow.ndarray.impl.ops.FusedGraph.Op;
+import org.tensorflow.ndarray.impl.ops.FusedKernelCompiler;
+
+/**
+ * A lazy element-wise expression over arrays of floats.
+ *
+ * <p>Operations on an expression compute nothing but return a new expression recording them. When the
+ * expression is evaluated, all of its operations are computed in a single pass over the memory of its
+ * operands, chunk by chunk, so that intermediate results never take a full array of their own. For
+ * example, this normalizes a batch of images in place without allocating any temporary array:
+ * <pre>{@code
+ *    FloatNdExpr.of(images).sub(mean).div(std).mul(scale).add(bias).evalInto(images);
+ * }</pre>
+ *
+ * <p>Operands are broadcast together as described in {@link Shape#broadcastWith(Shape)}, then to the
+ * shape of the destination array, which may be one of the operands. Arrays are only read when the
+ * expression is evaluated, so changes made to them after the expression is built are visible in its
+ * result. Operations produce the same values as those of {@link FloatOps}, except as noted in
+ * {@link #isCompiled()}.
+ *
+ * <p>On JDK 17+, the operations of an expression are compiled at evaluation in a class of their own,
+ * looping over the values of the operands as a hand-written loop would, see {@link #isCompiled()}.
+ * Classes are cached by structure of expression, regardless of the values of its constants. Otherwise,
+ * expressions are interpreted as a sequence of vectorized kernels.
+ *
+ * <p>Expressions are immutable and can be evaluated any number of times.
+ */
+public final class FloatNdExpr {
+
+  /**
+   * Returns true if expressions are compiled when evaluated.
+   *
+   * <p>This requires JDK 17+. Compiled expressions compute {@code exp} and {@code log} with
+   * {@link Math}, whose results may differ by one ulp from those computed by vectorized kernels.
+   *
+   * @return true if expressions are compiled
+   */
+  public static boolean isCompiled() {
+    return FusedKernelCompiler.isEnabled();
+  }
+
+  /**
+   * Creates an expression reading the values of an array.
+   *
+   * @param array array to read
+   * @return new expression
+   */
+  public static FloatNdExpr of(FloatNdArray array) {
+    return new FloatNdExpr(Op.ARRAY, array.shape(), array, 0.0f);
+  }
+
+  /**
+   * Creates an expression of a constant value, broadcast to any shape.
+   *
+   * @param value constant value
+   * @return new expression
+   */
+  public static FloatNdExpr constant(float value) {
+    return new FloatNdExpr(Op.CONSTANT, Shape.scalar(), null, value);
+  }
+
+  /**
+   * @return shape of the result of this expression, before it is broadcast to a destination
+   */
+  public Shape shape() {
+    return shape;
+  }
+
+  /**
+   * Records {@code this + y}, element-wise.
+   *
+   * @param y second operand
+   * @return new expression
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public FloatNdExpr add(FloatNdExpr y) {
+    return operation(Op.ADD, this, y);
+  }
+
+  /**
+   * @see #add(FloatNdExpr)
+   */
+  public FloatNdExpr add(FloatNdArray y) {
+    return add(of(y));
+  }
+
+  /**
+   * @see #add(FloatNdExpr)
+   */
+  public FloatNdExpr add(float y) {
+    return add(constant(y));
+  }
+
+  /**
+   * Records {@code this - y}, element-wise.
+   *
+   * @param y second operand
+   * @return new expression
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public FloatNdExpr sub(FloatNdExpr y) {
+    return operation(Op.SUB, this, y);
+  }
+
+  /**
+   * @see #sub(FloatNdExpr)
+   */
+  public FloatNdExpr sub(FloatNdArray y) {
+    return sub(of(y));
+  }
+
+  /**
+   * @see #sub(FloatNdExpr)
+   */
+  public FloatNdExpr sub(float y) {
+    return sub(constant(y));
+  }
+
+  /**
+   * Records {@code this * y}, element-wise.
+   *
+   * @param y second operand
+   * @return new expression
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public FloatNdExpr mul(FloatNdExpr y) {
+    return operation(Op.MUL, this, y);
+  }
+
+  /**
+   * @see #mul(FloatNdExpr)
+   */
+  public FloatNdExpr mul(FloatNdArray y) {
+    return mul(of(y));
+  }
+
+  /**
+   * @see #mul(FloatNdExpr)
+   */
+  public FloatNdExpr mul(float y) {
+    return mul(constant(y));
+  }
+
+  /**
+   * Records {@code this / y}, element-wise.
+   *
+   * @param y second operand
+   * @return new expression
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public FloatNdExpr div(FloatNdExpr y) {
+    return operation(Op.DIV, this, y);
+  }
+
+  /**
+   * @see #div(FloatNdExpr)
+   */
+  public FloatNdExpr div(FloatNdArray y) {
+    return div(of(y));
+  }
+
+  /**
+   * @see #div(FloatNdExpr)
+   */
+  public FloatNdExpr div(float y) {
+    return div(constant(y));
+  }
+
+  /**
+   * Records {@code this * y + z}, element-wise, with a single rounding.
+   *
+   * @param y second operand
+   * @param z third operand
+   * @return new expression
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public FloatNdExpr fma(FloatNdExpr y, FloatNdExpr z) {
+    return operation(Op.FMA, this, y, z);
+  }
+
+  /**
+   * Records the minimum of {@code this} and {@code y}, element-wise.
+   *
+   * @param y second operand
+   * @return new expression
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public FloatNdExpr min(FloatNdExpr y) {
+    return operation(Op.MIN, this, y);
+  }
+
+  /**
+   * @see #min(FloatNdExpr)
+   */
+  public FloatNdExpr min(float y) {
+    return min(constant(y));
+  }
+
+  /**
+   * Records the maximum of {@code this} and {@code y}, element-wise.
+   *
+   * @param y second operand
+   * @return new expression
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public FloatNdExpr max(FloatNdExpr y) {
+    return operation(Op.MAX, this, y);
+  }
+
+  /**
+   * @see #max(FloatNdExpr)
+   */
+  public FloatNdExpr max(float y) {
+    return max(constant(y));
+  }
+
+  /**
+   * Records the values of {@code this} clamped between {@code min} and {@code max}.
+   *
+   * @param min lower bound
+   * @param max upper bound
+   * @return new expression
+   */
+  public FloatNdExpr clamp(float min, float max) {
+    return operation(Op.CLAMP, this, constant(min), constant(max));
+  }
+
+  /**
+   * Records the absolute values of {@code this}.
+   *
+   * @return new expression
+   */
+  public FloatNdExpr abs() {
+    return operation(Op.ABS, this);
+  }
+
+  /**
+   * Records the exponential of the values of {@code this}.
+   *
+   * @return new expression
+   */
+  public FloatNdExpr exp() {
+    return operation(Op.EXP, this);
+  }
+
+  /**
+   * Records the natural logarithm of the values of {@code this}.
+   *
+   * @return new expression
+   */
+  public FloatNdExpr log() {
+    return operation(Op.LOG, this);
+  }
+
+  /**
+   * Evaluates this expression into a new array.
+   *
+   * @return a new array of shape {@link #shape()} with the result
+   */
+  public FloatNdArray eval() {
+    return evalInto(NdArrays.ofFloats(shape));
+  }
+
+  /**
+   * Evaluates this expression into a destination array.
+   *
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the result cannot be broadcast to the shape of the destination
+   */
+  public FloatNdArray evalInto(FloatNdArray dst) {
+    GraphBuilder builder = new GraphBuilder();
+    builder.add(this);
+    float[] constants = new float[builder.constants.size()];
+    for (int i = 0; i < constants.length; ++i) {
+      constants[i] = builder.constants.get(i);
+    }
+    return FloatElementwise.apply(
+        FloatFusion.kernel(builder.graph, constants), builder.arrays.toArray(new FloatNdArray[0]), dst);
+  }
+
+  private final Op op;
+  private final Shape shape;
+  private final FloatNdArray array;
+  private final float value;
+  private final FloatNdExpr[] operands;
+
+  private FloatNdExpr(Op op, Shape shape, FloatNdArray array, float value, FloatNdExpr... operands) {
+    this.op = op;
+    this.shape = shape;
+    this.array = array;
+    this.value = value;
+    this.operands = operands;
+  }
+
+  private static FloatNdExpr operation(Op op, FloatNdExpr... operands) {
+    Shape shape = operands[0].shape;
+    for (int i = 1; i < operands.length; ++i) {
+      shape = shape.broadcastWith(operands[i].shape);
+    }
+    return new FloatNdExpr(op, shape, null, 0.0f, operands);
+  }
+
+  /**
+   * Converts an expression to a graph, where subexpressions and arrays used more than once are
+   * represented by a single node.
+   */
+  private static final class GraphBuilder {
+
+    final FusedGraph graph = FusedGraph.create();
+    final List<FloatNdArray> arrays = new ArrayList<>();
+    final List<Float> constants = new ArrayList<>();
+
+    int add(FloatNdExpr expr) {
+      Integer node = exprNodes.get(expr);
+      if (node != null) {
+        return node;
+      }
+      switch (expr.op) {
+        case ARRAY:
+          node = arrayNodes.get(expr.array);
+          if (node == null) {
+            node = graph.addArray();
+            arrays.add(expr.array);
+            arrayNodes.put(expr.array, node);
+          }
+          break;
+        case CONSTANT:
+          node = graph.addConstant();
+          constants.add(expr.value);
+          break;
+        default:
+          int[] operandNodes = new int[expr.operands.length];
+          for (int i = 0; i < operandNodes.length; ++i) {
+            operandNodes[i] = add(expr.operands[i]);
+          }
+          node = graph.addOperation(expr.op, operandNodes);
+          break;
+      }
+      exprNodes.put(expr, node);
+      return node;
+    }
+
+    private final Map<FloatNdExpr, Integer> exprNodes = new IdentityHashMap<>();
+    private final Map<FloatNdArray, Integer> arrayNodes = new IdentityHashMap<>();
+  }
+}
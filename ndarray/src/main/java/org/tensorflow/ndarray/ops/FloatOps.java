@@ -0,0 +1,486 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.ops;
+
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.impl.ops.FloatElementwise;
+import org.tensorflow.ndarray.impl.ops.FloatKernels;
+import org.tensorflow.ndarray.impl.ops.FloatMatmul;
+import org.tensorflow.ndarray.impl.ops.FloatReduction;
+import org.tensorflow.ndarray.impl.ops.Kernels;
+import org.tensorflow.ndarray.impl.ops.ReductionType;
+
+/**
+ * Element-wise operations and reductions on arrays of floats.
+ *
+ * <p>Each operation comes in two variants: one allocating a new array for its result, and one writing
+ * its result to a given destination array. Operands are broadcast to the shape of the destination
+ * as described in {@link Shape#broadcastWith(Shape)},
+ * and the destination may be one of the operands to compute the operation in place. For example:
+ * <pre>{@code
+ *    FloatNdArray images = NdArrays.ofFloats(Shape.of(32, 224, 224, 3));
+ *    FloatNdArray mean = NdArrays.vectorOf(0.485f, 0.456f, 0.406f);
+ *    FloatOps.sub(images, mean, images);  // subtracts the mean of each channel in place
+ * }</pre>
+ *
+ * <p>Operations are computed on runs of contiguous values by kernels that are vectorized when the
+ * JDK supports it, see {@link #isVectorized()}. A destination array that is neither one of the
+ * operands nor independent from them, like an overlapping slice, leads to undefined results.
+ *
+ * <p>Reductions, like {@link #sum(FloatNdArray, int...)}, combine the values of an array along some of
+ * its axes and always return a new array. Large reductions are split in tasks executed in the common
+ * {@link java.util.concurrent.ForkJoinPool}.
+ *
+ * <p>Matrix products are computed by {@link #matmul(FloatNdArray, FloatNdArray)}.
+ */
+public final class FloatOps {
+
+  /**
+   * Returns true if the operations are computed with the Vector API.
+   *
+   * <p>This requires JDK 17+ and the incubating module {@code jdk.incubator.vector} to be added to
+   * the runtime, e.g. with {@code --add-modules jdk.incubator.vector}. Otherwise, operations are
+   * computed one value at a time.
+   *
+   * @return true if operations are vectorized
+   */
+  public static boolean isVectorized() {
+    return Kernels.isVectorized();
+  }
+
+  /**
+   * Computes {@code x + y}, element-wise.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static FloatNdArray add(FloatNdArray x, FloatNdArray y) {
+    return add(x, y, allocate(x, y));
+  }
+
+  /**
+   * Computes {@code x + y}, element-wise, into {@code dst}.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray add(FloatNdArray x, FloatNdArray y, FloatNdArray dst) {
+    return FloatElementwise.apply(KERNELS::add, x, y, dst);
+  }
+
+  /**
+   * Computes {@code x - y}, element-wise.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static FloatNdArray sub(FloatNdArray x, FloatNdArray y) {
+    return sub(x, y, allocate(x, y));
+  }
+
+  /**
+   * Computes {@code x - y}, element-wise, into {@code dst}.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray sub(FloatNdArray x, FloatNdArray y, FloatNdArray dst) {
+    return FloatElementwise.apply(KERNELS::sub, x, y, dst);
+  }
+
+  /**
+   * Computes {@code x * y}, element-wise.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static FloatNdArray mul(FloatNdArray x, FloatNdArray y) {
+    return mul(x, y, allocate(x, y));
+  }
+
+  /**
+   * Computes {@code x * y}, element-wise, into {@code dst}.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray mul(FloatNdArray x, FloatNdArray y, FloatNdArray dst) {
+    return FloatElementwise.apply(KERNELS::mul, x, y, dst);
+  }
+
+  /**
+   * Computes {@code x / y}, element-wise.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static FloatNdArray div(FloatNdArray x, FloatNdArray y) {
+    return div(x, y, allocate(x, y));
+  }
+
+  /**
+   * Computes {@code x / y}, element-wise, into {@code dst}.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray div(FloatNdArray x, FloatNdArray y, FloatNdArray dst) {
+    return FloatElementwise.apply(KERNELS::div, x, y, dst);
+  }
+
+  /**
+   * Computes {@code x * y + z}, element-wise, with a single rounding.
+   *
+   * @param x first factor
+   * @param y second factor
+   * @param z addend
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static FloatNdArray fma(FloatNdArray x, FloatNdArray y, FloatNdArray z) {
+    return fma(x, y, z, allocate(x, y, z));
+  }
+
+  /**
+   * Computes {@code x * y + z}, element-wise, with a single rounding, into {@code dst}.
+   *
+   * @param x first factor
+   * @param y second factor
+   * @param z addend
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray fma(FloatNdArray x, FloatNdArray y, FloatNdArray z, FloatNdArray dst) {
+    return FloatElementwise.apply(KERNELS::fma, x, y, z, dst);
+  }
+
+  /**
+   * Limits each value of {@code x} to the range {@code [min, max]}.
+   *
+   * @param x operand
+   * @param min lower bound of the range
+   * @param max upper bound of the range
+   * @return a new array with the result
+   */
+  public static FloatNdArray clamp(FloatNdArray x, float min, float max) {
+    return clamp(x, min, max, allocate(x));
+  }
+
+  /**
+   * Limits each value of {@code x} to the range {@code [min, max]}, into {@code dst}.
+   *
+   * @param x operand
+   * @param min lower bound of the range
+   * @param max upper bound of the range
+   * @param dst destination array, which may be the operand
+   * @return the destination array
+   * @throws IllegalArgumentException if the operand cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray clamp(FloatNdArray x, float min, float max, FloatNdArray dst) {
+    return FloatElementwise.apply((in, inOffset, out, outOffset, length) ->
+        KERNELS.clamp(in, inOffset, min, max, out, outOffset, length), x, dst);
+  }
+
+  /**
+   * Computes the absolute value of {@code x}, element-wise.
+   *
+   * @param x operand
+   * @return a new array with the result
+   */
+  public static FloatNdArray abs(FloatNdArray x) {
+    return abs(x, allocate(x));
+  }
+
+  /**
+   * Computes the absolute value of {@code x}, element-wise, into {@code dst}.
+   *
+   * @param x operand
+   * @param dst destination array, which may be the operand
+   * @return the destination array
+   * @throws IllegalArgumentException if the operand cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray abs(FloatNdArray x, FloatNdArray dst) {
+    return FloatElementwise.apply(KERNELS::abs, x, dst);
+  }
+
+  /**
+   * Computes the exponential of {@code x}, element-wise.
+   *
+   * @param x operand
+   * @return a new array with the result
+   */
+  public static FloatNdArray exp(FloatNdArray x) {
+    return exp(x, allocate(x));
+  }
+
+  /**
+   * Computes the exponential of {@code x}, element-wise, into {@code dst}.
+   *
+   * @param x operand
+   * @param dst destination array, which may be the operand
+   * @return the destination array
+   * @throws IllegalArgumentException if the operand cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray exp(FloatNdArray x, FloatNdArray dst) {
+    return FloatElementwise.apply(KERNELS::exp, x, dst);
+  }
+
+  /**
+   * Computes the natural logarithm of {@code x}, element-wise.
+   *
+   * @param x operand
+   * @return a new array with the result
+   */
+  public static FloatNdArray log(FloatNdArray x) {
+    return log(x, allocate(x));
+  }
+
+  /**
+   * Computes the natural logarithm of {@code x}, element-wise, into {@code dst}.
+   *
+   * @param x operand
+   * @param dst destination array, which may be the operand
+   * @return the destination array
+   * @throws IllegalArgumentException if the operand cannot be broadcast to the shape of the destination
+   */
+  public static FloatNdArray log(FloatNdArray x, FloatNdArray dst) {
+    return FloatElementwise.apply(KERNELS::log, x, dst);
+  }
+
+  /**
+   * Computes the sum of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result, where reduced axes are removed
+   * @throws IllegalArgumentException if an axis is out of range or is repeated
+   */
+  public static FloatNdArray sum(FloatNdArray x, int... axes) {
+    return sum(x, false, axes);
+  }
+
+  /**
+   * Computes the sum of the values of {@code x} along the given axes.
+   *
+   * <p>Values are summed pairwise, which bounds rounding errors and returns the same result
+   * whether the sum is computed in parallel or not.
+   *
+   * @param x operand
+   * @param keepDims true if reduced axes are kept in the result with a size of 1
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result
+   * @throws IllegalArgumentException if an axis is out of range or is repeated
+   */
+  public static FloatNdArray sum(FloatNdArray x, boolean keepDims, int... axes) {
+    return FloatReduction.reduce(x, ReductionType.SUM, keepDims, axes);
+  }
+
+  /**
+   * Computes the mean of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result, where reduced axes are removed
+   * @throws IllegalArgumentException if an axis is out of range or is repeated
+   */
+  public static FloatNdArray mean(FloatNdArray x, int... axes) {
+    return mean(x, false, axes);
+  }
+
+  /**
+   * Computes the mean of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param keepDims true if reduced axes are kept in the result with a size of 1
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result
+   * @throws IllegalArgumentException if an axis is out of range or is repeated
+   */
+  public static FloatNdArray mean(FloatNdArray x, boolean keepDims, int... axes) {
+    return FloatReduction.reduce(x, ReductionType.MEAN, keepDims, axes);
+  }
+
+  /**
+   * Computes the minimum of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result, where reduced axes are removed
+   * @throws IllegalArgumentException if an axis is out of range, is repeated or is empty
+   */
+  public static FloatNdArray min(FloatNdArray x, int... axes) {
+    return min(x, false, axes);
+  }
+
+  /**
+   * Computes the minimum of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param keepDims true if reduced axes are kept in the result with a size of 1
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result
+   * @throws IllegalArgumentException if an axis is out of range, is repeated or is empty
+   */
+  public static FloatNdArray min(FloatNdArray x, boolean keepDims, int... axes) {
+    return FloatReduction.reduce(x, ReductionType.MIN, keepDims, axes);
+  }
+
+  /**
+   * Computes the maximum of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result, where reduced axes are removed
+   * @throws IllegalArgumentException if an axis is out of range, is repeated or is empty
+   */
+  public static FloatNdArray max(FloatNdArray x, int... axes) {
+    return max(x, false, axes);
+  }
+
+  /**
+   * Computes the maximum of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param keepDims true if reduced axes are kept in the result with a size of 1
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result
+   * @throws IllegalArgumentException if an axis is out of range, is repeated or is empty
+   */
+  public static FloatNdArray max(FloatNdArray x, boolean keepDims, int... axes) {
+    return FloatReduction.reduce(x, ReductionType.MAX, keepDims, axes);
+  }
+
+  /**
+   * Computes the euclidean norm of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result, where reduced axes are removed
+   * @throws IllegalArgumentException if an axis is out of range or is repeated
+   */
+  public static FloatNdArray l2Norm(FloatNdArray x, int... axes) {
+    return l2Norm(x, false, axes);
+  }
+
+  /**
+   * Computes the euclidean norm of the values of {@code x} along the given axes.
+   *
+   * @param x operand
+   * @param keepDims true if reduced axes are kept in the result with a size of 1
+   * @param axes axes to reduce, negative values counting from the last axis, or none to reduce all axes
+   * @return a new array with the result
+   * @throws IllegalArgumentException if an axis is out of range or is repeated
+   */
+  public static FloatNdArray l2Norm(FloatNdArray x, boolean keepDims, int... axes) {
+    return FloatReduction.reduce(x, ReductionType.L2_NORM, keepDims, axes);
+  }
+
+  /**
+   * Finds the indices of the maximum values of {@code x} along an axis.
+   *
+   * @param x operand
+   * @param axis axis to reduce, a negative value counting from the last axis
+   * @return a new array with the result, where the reduced axis is removed
+   * @throws IllegalArgumentException if the axis is out of range or is empty
+   */
+  public static LongNdArray argMax(FloatNdArray x, int axis) {
+    return argMax(x, axis, false);
+  }
+
+  /**
+   * Finds the indices of the maximum values of {@code x} along an axis.
+   *
+   * <p>NaN is considered greater than any other value and, if the maximum is found more than once,
+   * the index of its first occurrence is returned.
+   *
+   * @param x operand
+   * @param axis axis to reduce, a negative value counting from the last axis
+   * @param keepDims true if the reduced axis is kept in the result with a size of 1
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the axis is out of range or is empty
+   */
+  public static LongNdArray argMax(FloatNdArray x, int axis, boolean keepDims) {
+    return FloatReduction.argMax(x, axis, keepDims);
+  }
+
+  /**
+   * Multiplies two matrices, or two batches of matrices.
+   *
+   * <p>Operands are of rank 2 or 3. If only one of them is a batch of matrices, the other one is
+   * multiplied with each matrix of the batch. Transposed views, like {@code b.transpose()}, are
+   * multiplied without being copied. Large products are split in tasks executed in the common
+   * {@link java.util.concurrent.ForkJoinPool}.
+   *
+   * @param a left operand, of shape {@code [batchSize,] m x k}
+   * @param b right operand, of shape {@code [batchSize,] k x n}
+   * @return a new array with the product, of shape {@code [batchSize,] m x n}
+   * @throws IllegalArgumentException if the shapes of the operands are incompatible
+   */
+  public static FloatNdArray matmul(FloatNdArray a, FloatNdArray b) {
+    return FloatMatmul.multiply(a, b);
+  }
+
+  /**
+   * Multiplies two matrices, or two batches of matrices, into a destination array.
+   *
+   * @param a left operand, of shape {@code [batchSize,] m x k}
+   * @param b right operand, of shape {@code [batchSize,] k x n}
+   * @param dst destination array, of shape {@code [batchSize,] m x n}, which may be one of the operands
+   * @return {@code dst}
+   * @throws IllegalArgumentException if the shapes of the operands or of the destination are incompatible
+   * @see #matmul(FloatNdArray, FloatNdArray)
+   */
+  public static FloatNdArray matmul(FloatNdArray a, FloatNdArray b, FloatNdArray dst) {
+    return FloatMatmul.multiply(a, b, dst);
+  }
+
+  private static final FloatKernels KERNELS = Kernels.floats();
+
+  private static FloatNdArray allocate(FloatNdArray... operands) {
+    Shape shape = operands[0].shape();
+    for (int i = 1; i < operands.length; ++i) {
+      shape = shape.broadcastWith(operands[i].shape());
+    }
+    return NdArrays.ofFloats(shape);
+  }
+
+  private FloatOps() {}
+}
@@ -0,0 +1,247 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.ops;
+
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.impl.ops.LongElementwise;
+import org.tensorflow.ndarray.impl.ops.LongKernels;
+import org.tensorflow.ndarray.impl.ops.Kernels;
+
+/**
+ * Element-wise operations on arrays of longs.
+ *
+ * <p>Each operation comes in two variants: one allocating a new array for its result, and one writing
+ * its result to a given destination array. Operands are broadcast to the shape of the destination
+ * as described in {@link Shape#broadcastWith(Shape)},
+ * and the destination may be one of the operands to compute the operation in place. For example:
+ * <pre>{@code
+ *    LongNdArray images = NdArrays.ofLongs(Shape.of(32, 224, 224, 3));
+ *    LongNdArray mean = NdArrays.vectorOf(124L, 116L, 104L);
+ *    LongOps.sub(images, mean, images);  // subtracts the mean of each channel in place
+ * }</pre>
+ *
+ * <p>Operations are computed on runs of contiguous values by kernels that are vectorized when the
+ * JDK supports it, see {@link #isVectorized()}. A destination array that is neither one of the
+ * operands nor independent from them, like an overlapping slice, leads to undefined results.
+ */
+public final class LongOps {
+
+  /**
+   * Returns true if the operations are computed with the Vector API.
+   *
+   * <p>This requires JDK 17+ and the incubating module {@code jdk.incubator.vector} to be added to
+   * the runtime, e.g. with {@code --add-modules jdk.incubator.vector}. Otherwise, operations are
+   * computed one value at a time.
+   *
+   * @return true if operations are vectorized
+   */
+  public static boolean isVectorized() {
+    return Kernels.isVectorized();
+  }
+
+  /**
+   * Computes {@code x + y}, element-wise.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static LongNdArray add(LongNdArray x, LongNdArray y) {
+    return add(x, y, allocate(x, y));
+  }
+
+  /**
+   * Computes {@code x + y}, element-wise, into {@code dst}.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static LongNdArray add(LongNdArray x, LongNdArray y, LongNdArray dst) {
+    return LongElementwise.apply(KERNELS::add, x, y, dst);
+  }
+
+  /**
+   * Computes {@code x - y}, element-wise.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static LongNdArray sub(LongNdArray x, LongNdArray y) {
+    return sub(x, y, allocate(x, y));
+  }
+
+  /**
+   * Computes {@code x - y}, element-wise, into {@code dst}.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static LongNdArray sub(LongNdArray x, LongNdArray y, LongNdArray dst) {
+    return LongElementwise.apply(KERNELS::sub, x, y, dst);
+  }
+
+  /**
+   * Computes {@code x * y}, element-wise.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static LongNdArray mul(LongNdArray x, LongNdArray y) {
+    return mul(x, y, allocate(x, y));
+  }
+
+  /**
+   * Computes {@code x * y}, element-wise, into {@code dst}.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static LongNdArray mul(LongNdArray x, LongNdArray y, LongNdArray dst) {
+    return LongElementwise.apply(KERNELS::mul, x, y, dst);
+  }
+
+  /**
+   * Computes {@code x / y}, element-wise.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   * @throws ArithmeticException if a divisor is zero
+   */
+  public static LongNdArray div(LongNdArray x, LongNdArray y) {
+    return div(x, y, allocate(x, y));
+  }
+
+  /**
+   * Computes {@code x / y}, element-wise, into {@code dst}.
+   *
+   * @param x first operand
+   * @param y second operand
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   * @throws ArithmeticException if a divisor is zero
+   */
+  public static LongNdArray div(LongNdArray x, LongNdArray y, LongNdArray dst) {
+    return LongElementwise.apply(KERNELS::div, x, y, dst);
+  }
+
+  /**
+   * Computes {@code x * y + z}, element-wise.
+   *
+   * @param x first factor
+   * @param y second factor
+   * @param z addend
+   * @return a new array with the result
+   * @throws IllegalArgumentException if the shapes of the operands cannot be broadcast together
+   */
+  public static LongNdArray fma(LongNdArray x, LongNdArray y, LongNdArray z) {
+    return fma(x, y, z, allocate(x, y, z));
+  }
+
+  /**
+   * Computes {@code x * y + z}, element-wise, into {@code dst}.
+   *
+   * @param x first factor
+   * @param y second factor
+   * @param z addend
+   * @param dst destination array, which may be one of the operands
+   * @return the destination array
+   * @throws IllegalArgumentException if the operands cannot be broadcast to the shape of the destination
+   */
+  public static LongNdArray fma(LongNdArray x, LongNdArray y, LongNdArray z, LongNdArray dst) {
+    return LongElementwise.apply(KERNELS::fma, x, y, z, dst);
+  }
+
+  /**
+   * Limits each value of {@code x} to the range {@code [min, max]}.
+   *
+   * @param x operand
+   * @param min lower bound of the range
+   * @param max upper bound of the range
+   * @return a new array with the result
+   */
+  public static LongNdArray clamp(LongNdArray x, long min, long max) {
+    return clamp(x, min, max, allocate(x));
+  }
+
+  /**
+   * Limits each value of {@code x} to the range {@code [min, max]}, into {@code dst}.
+   *
+   * @param x operand
+   * @param min lower bound of the range
+   * @param max upper bound of the range
+   * @param dst destination array, which may be the operand
+   * @return the destination array
+   * @throws IllegalArgumentException if the operand cannot be broadcast to the shape of the destination
+   */
+  public static LongNdArray clamp(LongNdArray x, long min, long max, LongNdArray dst) {
+    return LongElementwise.apply((in, inOffset, out, outOffset, length) ->
+        KERNELS.clamp(in, inOffset, min, max, out, outOffset, length), x, dst);
+  }
+
+  /**
+   * Computes the absolute value of {@code x}, element-wise.
+   *
+   * @param x operand
+   * @return a new array with the result
+   */
+  public static LongNdArray abs(LongNdArray x) {
+    return abs(x, allocate(x));
+  }
+
+  /**
+   * Computes the absolute value of {@code x}, element-wise, into {@code dst}.
+   *
+   * @param x operand
+   * @param dst destination array, which may be the operand
+   * @return the destination array
+   * @throws IllegalArgumentException if the operand cannot be broadcast to the shape of the destination
+   */
+  public static LongNdArray abs(LongNdArray x, LongNdArray dst) {
+    return LongElementwise.apply(KERNELS::abs, x, dst);
+  }
+
+  private static final LongKernels KERNELS = Kernels.longs();
+
+  private static LongNdArray allocate(LongNdArray... operands) {
+    Shape shape = operands[0].shape();
+    for (int i = 1; i < operands.length; ++i) {
+      shape = shape.broadcastWith(operands[i].shape());
+    }
+    return NdArrays.ofLongs(shape);
+  }
+
+  private LongOps() {}
+}
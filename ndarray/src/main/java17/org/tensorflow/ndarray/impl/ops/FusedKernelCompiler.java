@@ -0,0 +1,671 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles {@link FusedGraph graphs} of operations into kernels of their own.
+ *
+ * <p>This version is picked from the multi-release jar on JDK 17+. Each graph is compiled in a hidden
+ * class whose kernel loops once over the values of its operands and computes all operations on each
+ * value, keeping intermediate results in local variables like a hand-written loop would. Operations
+ * are computed as by the scalar kernels, and the loop is left to the JIT compiler to vectorize.
+ *
+ * <p>Classes are cached by type and {@link FusedGraph#signature() signature} of the graph, the values of
+ * its constants being passed to the constructor of the kernel. Once the cache is full, or if a graph
+ * is too large, new graphs are not compiled and must be interpreted.
+ */
+public final class FusedKernelCompiler {
+
+  /**
+   * @return true if graphs are compiled by this class
+   */
+  public static boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * Returns a kernel compiled for a graph of operations on floats, or null if the graph cannot be
+   * compiled.
+   */
+  static FloatElementwise.NaryKernel compile(FusedGraph graph, float[] constants) {
+    MethodHandle constructor = constructorOf(ValueType.FLOAT, graph);
+    return constructor != null ? (FloatElementwise.NaryKernel)newKernel(constructor, constants.clone()) : null;
+  }
+
+  /**
+   * Returns a kernel compiled for a graph of operations on doubles, or null if the graph cannot be
+   * compiled.
+   */
+  static DoubleElementwise.NaryKernel compile(FusedGraph graph, double[] constants) {
+    MethodHandle constructor = constructorOf(ValueType.DOUBLE, graph);
+    return constructor != null ? (DoubleElementwise.NaryKernel)newKernel(constructor, constants.clone()) : null;
+  }
+
+  /** Maximum number of kernel classes kept in cache */
+  private static final int MAX_CLASSES = 256;
+
+  /** Maximum number of nodes in a compiled graph, keeping the loop of the kernel within a short branch */
+  private static final int MAX_NODES = 1024;
+
+  private static final Map<String, MethodHandle> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+  private static MethodHandle constructorOf(ValueType type, FusedGraph graph) {
+    if (graph.numNodes() > MAX_NODES) {
+      return null;
+    }
+    String key = type.name + ':' + graph.signature();
+    MethodHandle constructor = CONSTRUCTORS.get(key);
+    if (constructor == null) {
+      if (CONSTRUCTORS.size() >= MAX_CLASSES) {
+        return null;
+      }
+      constructor = CONSTRUCTORS.computeIfAbsent(key, k -> defineKernel(type, graph));
+    }
+    return constructor;
+  }
+
+  private static MethodHandle defineKernel(ValueType type, FusedGraph graph) {
+    byte[] classBytes = new KernelClassWriter(type, graph).write();
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(classBytes, true);
+      return lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, type.arrayClass))
+          .asType(MethodType.methodType(Object.class, Object.class));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to define kernel for graph " + graph.signature(), e);
+    }
+  }
+
+  private static Object newKernel(MethodHandle constructor, Object constants) {
+    try {
+      return constructor.invokeExact(constants);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Instructions and descriptors specific to the type of values of a kernel.
+   */
+  private enum ValueType {
+    FLOAT("float", float[].class, "F", 1, 2, 0x17, 0x38, 0x30, 0x51, 0x62, 0x66, 0x6a, 0x6e),
+    DOUBLE("double", double[].class, "D", 2, 3, 0x18, 0x39, 0x31, 0x52, 0x63, 0x67, 0x6b, 0x6f);
+
+    final String name;
+    final Class<?> arrayClass;
+    final String descriptor;
+    final int slots;
+    final int verificationType;
+    final int load;
+    final int store;
+    final int arrayLoad;
+    final int arrayStore;
+    final int add;
+    final int sub;
+    final int mul;
+    final int div;
+
+    String arrayDescriptor() {
+      return "[" + descriptor;
+    }
+
+    String kernelClassName() {
+      return "org/tensorflow/ndarray/impl/ops/" + (this == FLOAT ? "Float" : "Double") + "Elementwise$NaryKernel";
+    }
+
+    ValueType(String name, Class<?> arrayClass, String descriptor, int slots, int verificationType, int load,
+        int store, int arrayLoad, int arrayStore, int add, int sub, int mul, int div) {
+      this.name = name;
+      this.arrayClass = arrayClass;
+      this.descriptor = descriptor;
+      this.slots = slots;
+      this.verificationType = verificationType;
+      this.load = load;
+      this.store = store;
+      this.arrayLoad = arrayLoad;
+      this.arrayStore = arrayStore;
+      this.add = add;
+      this.sub = sub;
+      this.mul = mul;
+      this.div = div;
+    }
+  }
+
+  /**
+   * Writes the class file of a kernel computing a graph.
+   *
+   * <p>The kernel is equivalent to:
+   * <pre>{@code
+   *    final class FusedKernel implements FloatElementwise.NaryKernel {
+   *
+   *      FusedKernel(float[] constants) {
+   *        this.constants = constants;
+   *      }
+   *
+   *      public void apply(float[][] x, int[] xOffsets, float[] dst, int dstOffset, int length) {
+   *        float[] x0 = x[0]; ...
+   *        int offset0 = xOffsets[0]; ...
+   *        float c0 = constants[0]; ...
+   *        for (int i = 0; i < length; ++i) {
+   *          float v0 = x0[offset0 + i];
+   *          float v1 = v0 - c0;
+   *          ...
+   *          dst[dstOffset + i] = vN;
+   *        }
+   *      }
+   *
+   *      private final float[] constants;
+   *    }
+   * }</pre>
+   */
+  private static final class KernelClassWriter {
+
+    KernelClassWriter(ValueType type, FusedGraph graph) {
+      this.type = type;
+      this.graph = graph;
+      className = "org/tensorflow/ndarray/impl/ops/Fused" + (type == ValueType.FLOAT ? "Float" : "Double") + "Kernel";
+    }
+
+    byte[] write() {
+      byte[] constructorCode = constructorCode();
+      byte[] applyCode = applyCode();
+      int thisClass = classRef(className);
+      int superClass = classRef("java/lang/Object");
+      int kernelInterface = classRef(type.kernelClassName());
+      int fieldName = utf8(CONSTANTS_FIELD);
+      int fieldDescriptor = utf8(type.arrayDescriptor());
+      int constructorName = utf8("<init>");
+      int constructorDescriptor = utf8("(" + type.arrayDescriptor() + ")V");
+      int applyName = utf8("apply");
+      int applyDescriptor = utf8(applyDescriptor());
+      int codeName = utf8("Code");
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(61);
+        out.writeShort(constantPool.size() + 1);
+        for (byte[] constant : constantPool) {
+          out.write(constant);
+        }
+        out.writeShort(ACC_FINAL | ACC_SUPER);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(1);
+        out.writeShort(kernelInterface);
+        out.writeShort(1);
+        out.writeShort(ACC_PRIVATE | ACC_FINAL);
+        out.writeShort(fieldName);
+        out.writeShort(fieldDescriptor);
+        out.writeShort(0);
+        out.writeShort(2);
+        writeMethod(out, constructorName, constructorDescriptor, codeName, constructorCode);
+        writeMethod(out, applyName, applyDescriptor, codeName, applyCode);
+        out.writeShort(0);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return bytes.toByteArray();
+    }
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int ILOAD = 0x15;
+    private static final int ALOAD = 0x19;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ALOAD_3 = 0x2d;
+    private static final int IALOAD = 0x2e;
+    private static final int AALOAD = 0x32;
+    private static final int ISTORE = 0x36;
+    private static final int ASTORE = 0x3a;
+    private static final int IADD = 0x60;
+    private static final int IINC = 0x84;
+    private static final int F2D = 0x8d;
+    private static final int D2F = 0x90;
+    private static final int IF_ICMPGE = 0xa2;
+    private static final int GOTO = 0xa7;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int WIDE = 0xc4;
+
+    private static final int VERIFICATION_INTEGER = 1;
+    private static final int VERIFICATION_OBJECT = 7;
+
+    private static final String CONSTANTS_FIELD = "constants";
+
+    // Local variables of the apply method, before those allocated for the graph
+    private static final int X_LOCAL = 1;
+    private static final int X_OFFSETS_LOCAL = 2;
+    private static final int DST_LOCAL = 3;
+    private static final int DST_OFFSET_LOCAL = 4;
+    private static final int LENGTH_LOCAL = 5;
+
+    private final ValueType type;
+    private final FusedGraph graph;
+    private final String className;
+    private final List<byte[]> constantPool = new ArrayList<>();
+    private final Map<String, Integer> constantIndices = new HashMap<>();
+
+    private String applyDescriptor() {
+      return "([" + type.arrayDescriptor() + "[I" + type.arrayDescriptor() + "II)V";
+    }
+
+    private byte[] constructorCode() {
+      Code code = new Code();
+      code.u1(ALOAD_0);
+      code.u1(INVOKESPECIAL);
+      code.u2(methodRef("java/lang/Object", "<init>", "()V"));
+      code.u1(ALOAD_0);
+      code.u1(ALOAD_1);
+      code.u1(PUTFIELD);
+      code.u2(fieldRef(className, CONSTANTS_FIELD, type.arrayDescriptor()));
+      code.u1(RETURN);
+      return code.attribute(2, 2, null);
+    }
+
+    private byte[] applyCode() {
+      int numArrays = graph.numArrays();
+      int numConstants = graph.numConstants();
+      int numNodes = graph.numNodes();
+      Code code = new Code();
+
+      int nextLocal = LENGTH_LOCAL + 1;
+      int[] arrayLocals = new int[numArrays];
+      for (int k = 0; k < numArrays; ++k) {
+        arrayLocals[k] = nextLocal++;
+        code.u1(ALOAD_1);
+        code.pushInt(k);
+        code.u1(AALOAD);
+        code.local(ASTORE, arrayLocals[k]);
+      }
+      int[] offsetLocals = new int[numArrays];
+      for (int k = 0; k < numArrays; ++k) {
+        offsetLocals[k] = nextLocal++;
+        code.u1(ALOAD_2);
+        code.pushInt(k);
+        code.u1(IALOAD);
+        code.local(ISTORE, offsetLocals[k]);
+      }
+      int[] constantLocals = new int[numConstants];
+      for (int c = 0; c < numConstants; ++c) {
+        constantLocals[c] = nextLocal;
+        nextLocal += type.slots;
+        code.u1(ALOAD_0);
+        code.u1(GETFIELD);
+        code.u2(fieldRef(className, CONSTANTS_FIELD, type.arrayDescriptor()));
+        code.pushInt(c);
+        code.u1(type.arrayLoad);
+        code.local(type.store, constantLocals[c]);
+      }
+      int indexLocal = nextLocal++;
+      code.u1(ICONST_0);
+      code.local(ISTORE, indexLocal);
+      byte[] loopFrameLocals = loopFrameLocals(numArrays, numConstants);
+
+      int loopStart = code.length();
+      code.local(ILOAD, indexLocal);
+      code.local(ILOAD, LENGTH_LOCAL);
+      int exitBranch = code.length();
+      code.u1(IF_ICMPGE);
+      code.u2(0);
+
+      int[] nodeLocals = new int[numNodes];
+      for (int node = 0; node < numNodes; ++node) {
+        FusedGraph.Op op = graph.op(node);
+        if (op == FusedGraph.Op.CONSTANT) {
+          nodeLocals[node] = constantLocals[graph.leafIndex(node)];
+          continue;
+        }
+        if (op == FusedGraph.Op.ARRAY) {
+          int k = graph.leafIndex(node);
+          code.local(ALOAD, arrayLocals[k]);
+          code.local(ILOAD, offsetLocals[k]);
+          code.local(ILOAD, indexLocal);
+          code.u1(IADD);
+          code.u1(type.arrayLoad);
+        } else if (op == FusedGraph.Op.CLAMP) {
+          int[] operands = graph.operands(node);
+          code.local(type.load, nodeLocals[operands[0]]);
+          code.local(type.load, nodeLocals[operands[1]]);
+          writeOperation(code, FusedGraph.Op.MAX);
+          code.local(type.load, nodeLocals[operands[2]]);
+          writeOperation(code, FusedGraph.Op.MIN);
+        } else {
+          for (int operand : graph.operands(node)) {
+            code.local(type.load, nodeLocals[operand]);
+          }
+          writeOperation(code, op);
+        }
+        nodeLocals[node] = nextLocal;
+        nextLocal += type.slots;
+        code.local(type.store, nodeLocals[node]);
+      }
+      code.u1(ALOAD_3);
+      code.local(ILOAD, DST_OFFSET_LOCAL);
+      code.local(ILOAD, indexLocal);
+      code.u1(IADD);
+      code.local(type.load, nodeLocals[numNodes - 1]);
+      code.u1(type.arrayStore);
+      code.increment(indexLocal);
+      int backBranch = code.length();
+      code.u1(GOTO);
+      code.u2(loopStart - backBranch);
+
+      int loopEnd = code.length();
+      code.patchU2(exitBranch + 1, loopEnd - exitBranch);
+      code.u1(RETURN);
+
+      ByteArrayOutputStream frames = new ByteArrayOutputStream();
+      writeFullFrame(frames, loopStart, loopFrameLocals);
+      writeFullFrame(frames, loopEnd - loopStart - 1, loopFrameLocals);
+      return code.attribute(4 * type.slots, nextLocal, frames.toByteArray());
+    }
+
+    private void writeOperation(Code code, FusedGraph.Op op) {
+      String d = type.descriptor;
+      switch (op) {
+        case ADD:
+          code.u1(type.add);
+          break;
+        case SUB:
+          code.u1(type.sub);
+          break;
+        case MUL:
+          code.u1(type.mul);
+          break;
+        case DIV:
+          code.u1(type.div);
+          break;
+        case FMA:
+          invokeMath(code, "fma", "(" + d + d + d + ")" + d);
+          break;
+        case MIN:
+          invokeMath(code, "min", "(" + d + d + ")" + d);
+          break;
+        case MAX:
+          invokeMath(code, "max", "(" + d + d + ")" + d);
+          break;
+        case ABS:
+          invokeMath(code, "abs", "(" + d + ")" + d);
+          break;
+        case EXP:
+        case LOG:
+          if (type == ValueType.FLOAT) {
+            code.u1(F2D);
+          }
+          invokeMath(code, op == FusedGraph.Op.EXP ? "exp" : "log", "(D)D");
+          if (type == ValueType.FLOAT) {
+            code.u1(D2F);
+          }
+          break;
+        default:
+          throw new IllegalStateException("Unexpected operation " + op);
+      }
+    }
+
+    private void invokeMath(Code code, String name, String descriptor) {
+      code.u1(INVOKESTATIC);
+      code.u2(methodRef("java/lang/Math", name, descriptor));
+    }
+
+    private byte[] loopFrameLocals(int numArrays, int numConstants) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        int numLocals = LENGTH_LOCAL + 1 + 2 * numArrays + numConstants + 1;
+        out.writeShort(numLocals);
+        writeObjectType(out, className);
+        writeObjectType(out, "[" + type.arrayDescriptor());
+        writeObjectType(out, "[I");
+        writeObjectType(out, type.arrayDescriptor());
+        out.writeByte(VERIFICATION_INTEGER);
+        out.writeByte(VERIFICATION_INTEGER);
+        for (int k = 0; k < numArrays; ++k) {
+          writeObjectType(out, type.arrayDescriptor());
+        }
+        for (int k = 0; k < numArrays; ++k) {
+          out.writeByte(VERIFICATION_INTEGER);
+        }
+        for (int c = 0; c < numConstants; ++c) {
+          out.writeByte(type.verificationType);
+        }
+        out.writeByte(VERIFICATION_INTEGER);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return bytes.toByteArray();
+    }
+
+    private void writeObjectType(DataOutputStream out, String name) throws IOException {
+      out.writeByte(VERIFICATION_OBJECT);
+      out.writeShort(classRef(name));
+    }
+
+    private void writeFullFrame(ByteArrayOutputStream frames, int offsetDelta, byte[] locals) {
+      frames.write(255);
+      frames.write(offsetDelta >>> 8);
+      frames.write(offsetDelta);
+      frames.write(locals, 0, locals.length);
+      frames.write(0);
+      frames.write(0);
+    }
+
+    private void writeMethod(DataOutputStream out, int name, int descriptor, int codeName, byte[] code) throws IOException {
+      out.writeShort(ACC_PUBLIC);
+      out.writeShort(name);
+      out.writeShort(descriptor);
+      out.writeShort(1);
+      out.writeShort(codeName);
+      out.writeInt(code.length);
+      out.write(code);
+    }
+
+    private int utf8(String value) {
+      return constant("U" + value, out -> {
+        out.writeByte(1);
+        out.writeUTF(value);
+      });
+    }
+
+    private int classRef(String name) {
+      int nameIndex = utf8(name);
+      return constant("C" + name, out -> {
+        out.writeByte(7);
+        out.writeShort(nameIndex);
+      });
+    }
+
+    private int nameAndType(String name, String descriptor) {
+      int nameIndex = utf8(name);
+      int descriptorIndex = utf8(descriptor);
+      return constant("N" + name + ':' + descriptor, out -> {
+        out.writeByte(12);
+        out.writeShort(nameIndex);
+        out.writeShort(descriptorIndex);
+      });
+    }
+
+    private int fieldRef(String owner, String name, String descriptor) {
+      int ownerIndex = classRef(owner);
+      int nameAndTypeIndex = nameAndType(name, descriptor);
+      return constant("F" + owner + '.' + name + ':' + descriptor, out -> {
+        out.writeByte(9);
+        out.writeShort(ownerIndex);
+        out.writeShort(nameAndTypeIndex);
+      });
+    }
+
+    private int methodRef(String owner, String name, String descriptor) {
+      int ownerIndex = classRef(owner);
+      int nameAndTypeIndex = nameAndType(name, descriptor);
+      return constant("M" + owner + '.' + name + ':' + descriptor, out -> {
+        out.writeByte(10);
+        out.writeShort(ownerIndex);
+        out.writeShort(nameAndTypeIndex);
+      });
+    }
+
+    @FunctionalInterface
+    private interface ConstantWriter {
+      void write(DataOutputStream out) throws IOException;
+    }
+
+    private int constant(String key, ConstantWriter writer) {
+      Integer index = constantIndices.get(key);
+      if (index == null) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+          writer.write(out);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        constantPool.add(bytes.toByteArray());
+        index = constantPool.size();
+        constantIndices.put(key, index);
+      }
+      return index;
+    }
+
+    /**
+     * Bytecode of a method.
+     */
+    private final class Code {
+
+      void u1(int value) {
+        ensureCapacity(1);
+        bytes[length++] = (byte)value;
+      }
+
+      void u2(int value) {
+        u1(value >>> 8);
+        u1(value);
+      }
+
+      void patchU2(int position, int value) {
+        bytes[position] = (byte)(value >>> 8);
+        bytes[position + 1] = (byte)value;
+      }
+
+      void pushInt(int value) {
+        if (value <= 5) {
+          u1(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+          u1(BIPUSH);
+          u1(value);
+        } else {
+          u1(SIPUSH);
+          u2(value);
+        }
+      }
+
+      /**
+       * Loads or stores a local variable.
+       */
+      void local(int opcode, int index) {
+        if (index <= 0xff) {
+          u1(opcode);
+          u1(index);
+        } else {
+          u1(WIDE);
+          u1(opcode);
+          u2(index);
+        }
+      }
+
+      void increment(int index) {
+        if (index <= 0xff) {
+          u1(IINC);
+          u1(index);
+          u1(1);
+        } else {
+          u1(WIDE);
+          u1(IINC);
+          u2(index);
+          u2(1);
+        }
+      }
+
+      int length() {
+        return length;
+      }
+
+      /**
+       * Returns the content of the {@code Code} attribute of the method, with the given stack map frames
+       * if any.
+       */
+      byte[] attribute(int maxStack, int maxLocals, byte[] frames) {
+        ByteArrayOutputStream attribute = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(attribute)) {
+          out.writeShort(maxStack);
+          out.writeShort(maxLocals);
+          out.writeInt(length);
+          out.write(bytes, 0, length);
+          out.writeShort(0);
+          if (frames == null) {
+            out.writeShort(0);
+          } else {
+            out.writeShort(1);
+            out.writeShort(utf8("StackMapTable"));
+            out.writeInt(frames.length + 2);
+            out.writeShort(2);
+            out.write(frames);
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        return attribute.toByteArray();
+      }
+
+      private byte[] bytes = new byte[256];
+      private int length;
+
+      private void ensureCapacity(int size) {
+        if (length + size > bytes.length) {
+          bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + size));
+        }
+      }
+    }
+  }
+
+  private FusedKernelCompiler() {}
+}
@@ -0,0 +1,77 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import java.util.Optional;
+
+/**
+ * Provides the kernels executing element-wise operations on arrays of each type.
+ *
+ * <p>This version is picked from the multi-release jar on JDK 17+. It provides kernels based on the
+ * Vector API if the incubating module {@code jdk.incubator.vector} has been added to the runtime
+ * (e.g. with {@code --add-modules jdk.incubator.vector}), and falls back to scalar kernels
+ * otherwise.
+ *
+ * <p>The module is not required by the module descriptor of this library, since it might be absent
+ * at runtime, so when the library is loaded from the module path, it is granted read access to the
+ * module before any vectorized kernel is linked.
+ */
+public final class Kernels {
+
+  /**
+   * @return true if the kernels returned by this class are vectorized
+   */
+  public static boolean isVectorized() {
+    return VECTORIZED;
+  }
+
+  public static FloatKernels floats() {
+    return FLOATS;
+  }
+
+  public static DoubleKernels doubles() {
+    return DOUBLES;
+  }
+
+  public static IntKernels ints() {
+    return INTS;
+  }
+
+  public static LongKernels longs() {
+    return LONGS;
+  }
+
+  private static final boolean VECTORIZED = canReadVectorModule();
+  private static final FloatKernels FLOATS = VECTORIZED ? new VectorFloatKernels() : ScalarFloatKernels.INSTANCE;
+  private static final DoubleKernels DOUBLES = VECTORIZED ? new VectorDoubleKernels() : ScalarDoubleKernels.INSTANCE;
+  private static final IntKernels INTS = VECTORIZED ? new VectorIntKernels() : ScalarIntKernels.INSTANCE;
+  private static final LongKernels LONGS = VECTORIZED ? new VectorLongKernels() : ScalarLongKernels.INSTANCE;
+
+  private static boolean canReadVectorModule() {
+    Optional<Module> vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector");
+    if (vectorModule.isEmpty()) {
+      return false;
+    }
+    Module module = Kernels.class.getModule();
+    if (!module.canRead(vectorModule.get())) {
+      module.addReads(vectorModule.get());
+    }
+    return module.canRead(vectorModule.get());
+  }
+
+  private Kernels() {}
+}
@@ -0,0 +1,232 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Double kernels based on the Vector API, which process as many values at once as the preferred
+ * vector shape of the platform allows, and the remaining values of a run with scalar kernels.
+ */
+final class VectorDoubleKernels implements DoubleKernels {
+
+  @Override
+  public void add(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .add(DoubleVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.add(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void sub(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .sub(DoubleVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.sub(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void mul(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .mul(DoubleVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.mul(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void div(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .div(DoubleVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.div(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void fma(double[] x, int xOffset, double[] y, int yOffset, double[] z, int zOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .fma(DoubleVector.fromArray(SPECIES, y, yOffset + i), DoubleVector.fromArray(SPECIES, z, zOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.fma(x, xOffset + i, y, yOffset + i, z, zOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void clamp(double[] x, int xOffset, double min, double max, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .max(min)
+          .min(max)
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.clamp(x, xOffset + i, min, max, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void abs(double[] x, int xOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .abs()
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.abs(x, xOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void min(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .min(DoubleVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.min(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void max(double[] x, int xOffset, double[] y, int yOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .max(DoubleVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.max(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public double reduceSum(double[] x, int xOffset, int length) {
+    int i = 0;
+    DoubleVector sum = DoubleVector.zero(SPECIES);
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      sum = sum.add(DoubleVector.fromArray(SPECIES, x, xOffset + i));
+    }
+    return sum.reduceLanes(VectorOperators.ADD) + SCALAR.reduceSum(x, xOffset + i, length - i);
+  }
+
+  @Override
+  public double reduceSumOfSquares(double[] x, int xOffset, int length) {
+    int i = 0;
+    DoubleVector sum = DoubleVector.zero(SPECIES);
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector values = DoubleVector.fromArray(SPECIES, x, xOffset + i);
+      sum = values.fma(values, sum);
+    }
+    return sum.reduceLanes(VectorOperators.ADD) + SCALAR.reduceSumOfSquares(x, xOffset + i, length - i);
+  }
+
+  @Override
+  public double reduceMin(double[] x, int xOffset, int length) {
+    int i = 0;
+    DoubleVector min = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      min = min.min(DoubleVector.fromArray(SPECIES, x, xOffset + i));
+    }
+    return Math.min(min.reduceLanes(VectorOperators.MIN), SCALAR.reduceMin(x, xOffset + i, length - i));
+  }
+
+  @Override
+  public double reduceMax(double[] x, int xOffset, int length) {
+    int i = 0;
+    DoubleVector max = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      max = max.max(DoubleVector.fromArray(SPECIES, x, xOffset + i));
+    }
+    return Math.max(max.reduceLanes(VectorOperators.MAX), SCALAR.reduceMax(x, xOffset + i, length - i));
+  }
+
+  @Override
+  public void exp(double[] x, int xOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .lanewise(VectorOperators.EXP)
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.exp(x, xOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void log(double[] x, int xOffset, double[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      DoubleVector.fromArray(SPECIES, x, xOffset + i)
+          .lanewise(VectorOperators.LOG)
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.log(x, xOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void gemm(int m, int n, int k, double[] a, int aOffset, int lda, double[] b, int bOffset, int ldb, double[] c, int cOffset, int ldc) {
+    int j = 0;
+    for (int bound = SPECIES.loopBound(n); j < bound; j += SPECIES.length()) {
+      // Accumulates a vector of columns in four rows at once, reusing each vector loaded from b
+      int i = 0;
+      for (; i + 4 <= m; i += 4) {
+        int cRow = cOffset + i * ldc + j;
+        int aRow = aOffset + i * lda;
+        DoubleVector c0 = DoubleVector.fromArray(SPECIES, c, cRow);
+        DoubleVector c1 = DoubleVector.fromArray(SPECIES, c, cRow + ldc);
+        DoubleVector c2 = DoubleVector.fromArray(SPECIES, c, cRow + 2 * ldc);
+        DoubleVector c3 = DoubleVector.fromArray(SPECIES, c, cRow + 3 * ldc);
+        for (int p = 0; p < k; ++p) {
+          DoubleVector bValues = DoubleVector.fromArray(SPECIES, b, bOffset + p * ldb + j);
+          c0 = bValues.fma(DoubleVector.broadcast(SPECIES, a[aRow + p]), c0);
+          c1 = bValues.fma(DoubleVector.broadcast(SPECIES, a[aRow + lda + p]), c1);
+          c2 = bValues.fma(DoubleVector.broadcast(SPECIES, a[aRow + 2 * lda + p]), c2);
+          c3 = bValues.fma(DoubleVector.broadcast(SPECIES, a[aRow + 3 * lda + p]), c3);
+        }
+        c0.intoArray(c, cRow);
+        c1.intoArray(c, cRow + ldc);
+        c2.intoArray(c, cRow + 2 * ldc);
+        c3.intoArray(c, cRow + 3 * ldc);
+      }
+      for (; i < m; ++i) {
+        int cRow = cOffset + i * ldc + j;
+        int aRow = aOffset + i * lda;
+        DoubleVector c0 = DoubleVector.fromArray(SPECIES, c, cRow);
+        for (int p = 0; p < k; ++p) {
+          c0 = DoubleVector.fromArray(SPECIES, b, bOffset + p * ldb + j).fma(DoubleVector.broadcast(SPECIES, a[aRow + p]), c0);
+        }
+        c0.intoArray(c, cRow);
+      }
+    }
+    SCALAR.gemm(m, n - j, k, a, aOffset, lda, b, bOffset + j, ldb, c, cOffset + j, ldc);
+  }
+
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+  private static final DoubleKernels SCALAR = ScalarDoubleKernels.INSTANCE;
+}
@@ -0,0 +1,232 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Float kernels based on the Vector API, which process as many values at once as the preferred
+ * vector shape of the platform allows, and the remaining values of a run with scalar kernels.
+ */
+final class VectorFloatKernels implements FloatKernels {
+
+  @Override
+  public void add(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .add(FloatVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.add(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void sub(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .sub(FloatVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.sub(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void mul(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .mul(FloatVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.mul(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void div(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .div(FloatVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.div(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void fma(float[] x, int xOffset, float[] y, int yOffset, float[] z, int zOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .fma(FloatVector.fromArray(SPECIES, y, yOffset + i), FloatVector.fromArray(SPECIES, z, zOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.fma(x, xOffset + i, y, yOffset + i, z, zOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void clamp(float[] x, int xOffset, float min, float max, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .max(min)
+          .min(max)
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.clamp(x, xOffset + i, min, max, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void abs(float[] x, int xOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .abs()
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.abs(x, xOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void min(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .min(FloatVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.min(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void max(float[] x, int xOffset, float[] y, int yOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .max(FloatVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.max(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public float reduceSum(float[] x, int xOffset, int length) {
+    int i = 0;
+    FloatVector sum = FloatVector.zero(SPECIES);
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      sum = sum.add(FloatVector.fromArray(SPECIES, x, xOffset + i));
+    }
+    return sum.reduceLanes(VectorOperators.ADD) + SCALAR.reduceSum(x, xOffset + i, length - i);
+  }
+
+  @Override
+  public float reduceSumOfSquares(float[] x, int xOffset, int length) {
+    int i = 0;
+    FloatVector sum = FloatVector.zero(SPECIES);
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector values = FloatVector.fromArray(SPECIES, x, xOffset + i);
+      sum = values.fma(values, sum);
+    }
+    return sum.reduceLanes(VectorOperators.ADD) + SCALAR.reduceSumOfSquares(x, xOffset + i, length - i);
+  }
+
+  @Override
+  public float reduceMin(float[] x, int xOffset, int length) {
+    int i = 0;
+    FloatVector min = FloatVector.broadcast(SPECIES, Float.POSITIVE_INFINITY);
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      min = min.min(FloatVector.fromArray(SPECIES, x, xOffset + i));
+    }
+    return Math.min(min.reduceLanes(VectorOperators.MIN), SCALAR.reduceMin(x, xOffset + i, length - i));
+  }
+
+  @Override
+  public float reduceMax(float[] x, int xOffset, int length) {
+    int i = 0;
+    FloatVector max = FloatVector.broadcast(SPECIES, Float.NEGATIVE_INFINITY);
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      max = max.max(FloatVector.fromArray(SPECIES, x, xOffset + i));
+    }
+    return Math.max(max.reduceLanes(VectorOperators.MAX), SCALAR.reduceMax(x, xOffset + i, length - i));
+  }
+
+  @Override
+  public void exp(float[] x, int xOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .lanewise(VectorOperators.EXP)
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.exp(x, xOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void log(float[] x, int xOffset, float[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      FloatVector.fromArray(SPECIES, x, xOffset + i)
+          .lanewise(VectorOperators.LOG)
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.log(x, xOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void gemm(int m, int n, int k, float[] a, int aOffset, int lda, float[] b, int bOffset, int ldb, float[] c, int cOffset, int ldc) {
+    int j = 0;
+    for (int bound = SPECIES.loopBound(n); j < bound; j += SPECIES.length()) {
+      // Accumulates a vector of columns in four rows at once, reusing each vector loaded from b
+      int i = 0;
+      for (; i + 4 <= m; i += 4) {
+        int cRow = cOffset + i * ldc + j;
+        int aRow = aOffset + i * lda;
+        FloatVector c0 = FloatVector.fromArray(SPECIES, c, cRow);
+        FloatVector c1 = FloatVector.fromArray(SPECIES, c, cRow + ldc);
+        FloatVector c2 = FloatVector.fromArray(SPECIES, c, cRow + 2 * ldc);
+        FloatVector c3 = FloatVector.fromArray(SPECIES, c, cRow + 3 * ldc);
+        for (int p = 0; p < k; ++p) {
+          FloatVector bValues = FloatVector.fromArray(SPECIES, b, bOffset + p * ldb + j);
+          c0 = bValues.fma(FloatVector.broadcast(SPECIES, a[aRow + p]), c0);
+          c1 = bValues.fma(FloatVector.broadcast(SPECIES, a[aRow + lda + p]), c1);
+          c2 = bValues.fma(FloatVector.broadcast(SPECIES, a[aRow + 2 * lda + p]), c2);
+          c3 = bValues.fma(FloatVector.broadcast(SPECIES, a[aRow + 3 * lda + p]), c3);
+        }
+        c0.intoArray(c, cRow);
+        c1.intoArray(c, cRow + ldc);
+        c2.intoArray(c, cRow + 2 * ldc);
+        c3.intoArray(c, cRow + 3 * ldc);
+      }
+      for (; i < m; ++i) {
+        int cRow = cOffset + i * ldc + j;
+        int aRow = aOffset + i * lda;
+        FloatVector c0 = FloatVector.fromArray(SPECIES, c, cRow);
+        for (int p = 0; p < k; ++p) {
+          c0 = FloatVector.fromArray(SPECIES, b, bOffset + p * ldb + j).fma(FloatVector.broadcast(SPECIES, a[aRow + p]), c0);
+        }
+        c0.intoArray(c, cRow);
+      }
+    }
+    SCALAR.gemm(m, n - j, k, a, aOffset, lda, b, bOffset + j, ldb, c, cOffset + j, ldc);
+  }
+
+  private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+  private static final FloatKernels SCALAR = ScalarFloatKernels.INSTANCE;
+}
@@ -0,0 +1,110 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Int kernels based on the Vector API, which process as many values at once as the preferred
+ * vector shape of the platform allows, and the remaining values of a run with scalar kernels.
+ */
+final class VectorIntKernels implements IntKernels {
+
+  @Override
+  public void add(int[] x, int xOffset, int[] y, int yOffset, int[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      IntVector.fromArray(SPECIES, x, xOffset + i)
+          .add(IntVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.add(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void sub(int[] x, int xOffset, int[] y, int yOffset, int[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      IntVector.fromArray(SPECIES, x, xOffset + i)
+          .sub(IntVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.sub(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void mul(int[] x, int xOffset, int[] y, int yOffset, int[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      IntVector.fromArray(SPECIES, x, xOffset + i)
+          .mul(IntVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.mul(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void div(int[] x, int xOffset, int[] y, int yOffset, int[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      IntVector.fromArray(SPECIES, x, xOffset + i)
+          .div(IntVector.fromArray(SPECIES, y, yOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.div(x, xOffset + i, y, yOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void fma(int[] x, int xOffset, int[] y, int yOffset, int[] z, int zOffset, int[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      IntVector.fromArray(SPECIES, x, xOffset + i)
+          .mul(IntVector.fromArray(SPECIES, y, yOffset + i))
+          .add(IntVector.fromArray(SPECIES, z, zOffset + i))
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.fma(x, xOffset + i, y, yOffset + i, z, zOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void clamp(int[] x, int xOffset, int min, int max, int[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      IntVector.fromArray(SPECIES, x, xOffset + i)
+          .max(min)
+          .min(max)
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.clamp(x, xOffset + i, min, max, dst, dstOffset + i, length - i);
+  }
+
+  @Override
+  public void abs(int[] x, int xOffset, int[] dst, int dstOffset, int length) {
+    int i = 0;
+    for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+      IntVector.fromArray(SPECIES, x, xOffset + i)
+          .abs()
+          .intoArray(dst, dstOffset + i);
+    }
+    SCALAR.abs(x, xOffset + i, dst, dstOffset + i, length - i);
+  }
+
+  private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+  private static final IntKernels SCALAR = ScalarIntKernels.INSTANCE;
+}
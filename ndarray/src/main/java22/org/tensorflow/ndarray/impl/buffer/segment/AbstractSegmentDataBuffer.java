@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.MemorySegment;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
+import org.tensorflow.ndarray.impl.buffer.AbstractDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+@SuppressWarnings("unchecked")
+abstract class AbstractSegmentDataBuffer<T, B extends DataBuffer<T>> extends AbstractDataBuffer<T> {
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  @Override
+  public B slice(long index, long size) {
+    Validator.sliceArgs(this, index, size);
+    return instantiate(byteOffset + index * scale, size);
+  }
+
+  @Override
+  public DataBufferWindow<B> window(long size) {
+    B windowBuffer = instantiate(byteOffset, size);
+    return new SegmentDataBufferWindow<>((AbstractSegmentDataBuffer<?, B>)windowBuffer, size());
+  }
+
+  protected final MemorySegment segment;
+  protected final boolean readOnly;
+
+  protected abstract B instantiate(long byteOffset, long size);
+
+  /**
+   * Copies the values of this buffer to another buffer sharing the same type of segment, without
+   * going through any intermediate storage.
+   */
+  protected final void copyBytesTo(AbstractSegmentDataBuffer<T, ?> dst, long size) {
+    MemorySegment.copy(segment, byteOffset, dst.segment, dst.byteOffset, size * scale);
+  }
+
+  /**
+   * Returns the offset in bytes of this buffer in its segment
+   */
+  protected final long byteOffset() {
+    return byteOffset;
+  }
+
+  /**
+   * Returns the offset in the array backing this buffer, counted in values, or -1 if the segment
+   * is not backed by an array.
+   */
+  protected final int arrayOffset() {
+    if (segment.isNative()) {
+      return -1;
+    }
+    return (int)((segment.address() + byteOffset) / scale);
+  }
+
+  AbstractSegmentDataBuffer(MemorySegment segment, long byteOffset, long size, int scale, boolean readOnly) {
+    this.segment = segment;
+    this.byteOffset = byteOffset;
+    this.size = size;
+    this.scale = scale;
+    this.readOnly = readOnly;
+  }
+
+  void rebase(long byteOffset) {
+    this.byteOffset = byteOffset;
+  }
+
+  final int scale;
+
+  private final long size;
+  private long byteOffset;
+}
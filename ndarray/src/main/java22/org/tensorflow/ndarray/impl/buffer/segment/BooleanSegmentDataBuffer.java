@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of booleans using a {@link MemorySegment} for storage, one byte per value.
+ */
+final class BooleanSegmentDataBuffer extends AbstractSegmentDataBuffer<Boolean, BooleanDataBuffer>
+    implements BooleanDataBuffer {
+
+  @Override
+  public boolean getBoolean(long index) {
+    Validator.getArgs(this, index);
+    return segment.get(LAYOUT, byteOffset() + index);
+  }
+
+  @Override
+  public BooleanDataBuffer setBoolean(boolean value, long index) {
+    Validator.setArgs(this, index);
+    segment.set(LAYOUT, byteOffset() + index, value);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer read(boolean[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    for (int idx = 0; idx < length; ++idx) {
+      dst[offset + idx] = segment.get(LAYOUT, byteOffset() + idx);
+    }
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer write(boolean[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    for (int idx = 0; idx < length; ++idx) {
+      segment.set(LAYOUT, byteOffset() + idx, src[offset + idx]);
+    }
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer copyTo(DataBuffer<Boolean> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    if (dst instanceof BooleanSegmentDataBuffer) {
+      copyBytesTo((BooleanSegmentDataBuffer)dst, size);
+      return this;
+    }
+    return dst.accept(new DataStorageVisitor<BooleanDataBuffer>() {
+
+      @Override
+      public BooleanDataBuffer visit(boolean[] array, int offset, int length) {
+        read(array, offset, (int)size);
+        return BooleanSegmentDataBuffer.this;
+      }
+
+      @Override
+      public BooleanDataBuffer fallback() {
+        if (dst instanceof BooleanDataBuffer) {
+          BooleanDataBuffer booleanDst = (BooleanDataBuffer)dst;
+          for (long idx = 0L; idx < size; ++idx) {
+            booleanDst.setBoolean(getBoolean(idx), idx);
+          }
+          return BooleanSegmentDataBuffer.this;
+        }
+        return slowCopyTo(dst, size);
+      }
+    });
+  }
+
+  @Override
+  public <R> R accept(DataStorageVisitor<R> visitor) {
+    if (segment.isNative()) {
+      return visitor.visit(segment.address() + byteOffset(), size(), Byte.BYTES);
+    }
+    return visitor.fallback();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof BooleanDataBuffer)) {
+      return super.equals(obj);
+    }
+    BooleanDataBuffer other = (BooleanDataBuffer)obj;
+    if (size() != other.size()) {
+      return false;
+    }
+    for (long idx = 0L; idx < size(); ++idx) {
+      if (other.getBoolean(idx) != getBoolean(idx)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected BooleanDataBuffer instantiate(long byteOffset, long size) {
+    return new BooleanSegmentDataBuffer(segment, byteOffset, size, readOnly);
+  }
+
+  BooleanSegmentDataBuffer(MemorySegment segment, long byteOffset, long size, boolean readOnly) {
+    super(segment, byteOffset, size, Byte.BYTES, readOnly);
+  }
+
+  private static final ValueLayout.OfBoolean LAYOUT = ValueLayout.JAVA_BOOLEAN;
+}
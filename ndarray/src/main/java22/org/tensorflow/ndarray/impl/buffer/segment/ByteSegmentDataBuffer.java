@@ -0,0 +1,167 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of bytes using a {@link MemorySegment} for storage.
+ */
+final class ByteSegmentDataBuffer extends AbstractSegmentDataBuffer<Byte, ByteDataBuffer>
+    implements ByteDataBuffer {
+
+  @Override
+  public byte getByte(long index) {
+    Validator.getArgs(this, index);
+    return segment.get(LAYOUT, byteOffset() + index * Byte.BYTES);
+  }
+
+  @Override
+  public ByteDataBuffer setByte(byte value, long index) {
+    Validator.setArgs(this, index);
+    segment.set(LAYOUT, byteOffset() + index * Byte.BYTES, value);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer read(byte[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    MemorySegment.copy(segment, LAYOUT, byteOffset(), dst, offset, length);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer write(byte[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    MemorySegment.copy(src, offset, segment, LAYOUT, byteOffset(), length);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer copyTo(DataBuffer<Byte> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    if (dst instanceof ByteSegmentDataBuffer) {
+      copyBytesTo((ByteSegmentDataBuffer)dst, size);
+      return this;
+    }
+    return dst.accept(new DataStorageVisitor<ByteDataBuffer>() {
+
+      @Override
+      public ByteDataBuffer visit(ByteBuffer buffer) {
+        MemorySegment.copy(segment, LAYOUT, byteOffset(), MemorySegment.ofBuffer(buffer), LAYOUT, 0L, size);
+        return ByteSegmentDataBuffer.this;
+      }
+
+      @Override
+      public ByteDataBuffer fallback() {
+        if (dst instanceof ByteDataBuffer) {
+          ByteDataBuffer byteDst = (ByteDataBuffer)dst;
+          for (long idx = 0L; idx < size; ++idx) {
+            byteDst.setByte(getByte(idx), idx);
+          }
+          return ByteSegmentDataBuffer.this;
+        }
+        return slowCopyTo(dst, size);
+      }
+    });
+  }
+
+  @Override
+  public IntDataBuffer asInts() {
+    return new IntSegmentDataBuffer(segment, byteOffset(), size() / Integer.BYTES, readOnly);
+  }
+
+  @Override
+  public ShortDataBuffer asShorts() {
+    return new ShortSegmentDataBuffer(segment, byteOffset(), size() / Short.BYTES, readOnly);
+  }
+
+  @Override
+  public LongDataBuffer asLongs() {
+    return new LongSegmentDataBuffer(segment, byteOffset(), size() / Long.BYTES, readOnly);
+  }
+
+  @Override
+  public FloatDataBuffer asFloats() {
+    return new FloatSegmentDataBuffer(segment, byteOffset(), size() / Float.BYTES, readOnly);
+  }
+
+  @Override
+  public DoubleDataBuffer asDoubles() {
+    return new DoubleSegmentDataBuffer(segment, byteOffset(), size() / Double.BYTES, readOnly);
+  }
+
+  @Override
+  public BooleanDataBuffer asBooleans() {
+    return new BooleanSegmentDataBuffer(segment, byteOffset(), size() / Byte.BYTES, readOnly);
+  }
+
+  @Override
+  public <R> R accept(DataStorageVisitor<R> visitor) {
+    if (segment.isNative()) {
+      return visitor.visit(segment.address() + byteOffset(), size() * Byte.BYTES, Byte.BYTES);
+    }
+    if (segment.heapBase().orElse(null) instanceof byte[] array) {
+      ByteBuffer buffer = ByteBuffer.wrap(array, arrayOffset(), (int)size()).slice();
+      return visitor.visit(readOnly ? buffer.asReadOnlyBuffer() : buffer);
+    }
+    return visitor.fallback();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ByteDataBuffer)) {
+      return super.equals(obj);
+    }
+    ByteDataBuffer other = (ByteDataBuffer)obj;
+    if (size() != other.size()) {
+      return false;
+    }
+    for (long idx = 0L; idx < size(); ++idx) {
+      if (other.getByte(idx) != getByte(idx)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected ByteDataBuffer instantiate(long byteOffset, long size) {
+    return new ByteSegmentDataBuffer(segment, byteOffset, size, readOnly);
+  }
+
+  ByteSegmentDataBuffer(MemorySegment segment, long byteOffset, long size, boolean readOnly) {
+    super(segment, byteOffset, size, Byte.BYTES, readOnly);
+  }
+
+  private static final ValueLayout.OfByte LAYOUT = ValueLayout.JAVA_BYTE;
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.DoubleBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of doubles using a {@link MemorySegment} for storage.
+ */
+final class DoubleSegmentDataBuffer extends AbstractSegmentDataBuffer<Double, DoubleDataBuffer>
+    implements DoubleDataBuffer {
+
+  @Override
+  public double getDouble(long index) {
+    Validator.getArgs(this, index);
+    return segment.get(LAYOUT, byteOffset() + index * Double.BYTES);
+  }
+
+  @Override
+  public DoubleDataBuffer setDouble(double value, long index) {
+    Validator.setArgs(this, index);
+    segment.set(LAYOUT, byteOffset() + index * Double.BYTES, value);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer read(double[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    MemorySegment.copy(segment, LAYOUT, byteOffset(), dst, offset, length);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer write(double[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    MemorySegment.copy(src, offset, segment, LAYOUT, byteOffset(), length);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer copyTo(DataBuffer<Double> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    if (dst instanceof DoubleSegmentDataBuffer) {
+      copyBytesTo((DoubleSegmentDataBuffer)dst, size);
+      return this;
+    }
+    return dst.accept(new DataStorageVisitor<DoubleDataBuffer>() {
+
+      @Override
+      public DoubleDataBuffer visit(DoubleBuffer buffer) {
+        MemorySegment.copy(segment, LAYOUT, byteOffset(), MemorySegment.ofBuffer(buffer), LAYOUT.withOrder(buffer.order()), 0L, size);
+        return DoubleSegmentDataBuffer.this;
+      }
+
+      @Override
+      public DoubleDataBuffer fallback() {
+        if (dst instanceof DoubleDataBuffer) {
+          DoubleDataBuffer doubleDst = (DoubleDataBuffer)dst;
+          for (long idx = 0L; idx < size; ++idx) {
+            doubleDst.setDouble(getDouble(idx), idx);
+          }
+          return DoubleSegmentDataBuffer.this;
+        }
+        return slowCopyTo(dst, size);
+      }
+    });
+  }
+
+  @Override
+  public <R> R accept(DataStorageVisitor<R> visitor) {
+    if (segment.isNative()) {
+      return visitor.visit(segment.address() + byteOffset(), size() * Double.BYTES, Double.BYTES);
+    }
+    if (segment.heapBase().orElse(null) instanceof double[] array) {
+      DoubleBuffer buffer = DoubleBuffer.wrap(array, arrayOffset(), (int)size()).slice();
+      return visitor.visit(readOnly ? buffer.asReadOnlyBuffer() : buffer);
+    }
+    return visitor.fallback();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DoubleDataBuffer)) {
+      return super.equals(obj);
+    }
+    DoubleDataBuffer other = (DoubleDataBuffer)obj;
+    if (size() != other.size()) {
+      return false;
+    }
+    for (long idx = 0L; idx < size(); ++idx) {
+      if (other.getDouble(idx) != getDouble(idx)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected DoubleDataBuffer instantiate(long byteOffset, long size) {
+    return new DoubleSegmentDataBuffer(segment, byteOffset, size, readOnly);
+  }
+
+  DoubleSegmentDataBuffer(MemorySegment segment, long byteOffset, long size, boolean readOnly) {
+    super(segment, byteOffset, size, Double.BYTES, readOnly);
+  }
+
+  private static final ValueLayout.OfDouble LAYOUT = ValueLayout.JAVA_DOUBLE_UNALIGNED;
+}
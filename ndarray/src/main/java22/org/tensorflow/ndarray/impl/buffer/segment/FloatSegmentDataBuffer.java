@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.FloatBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of floats using a {@link MemorySegment} for storage.
+ */
+final class FloatSegmentDataBuffer extends AbstractSegmentDataBuffer<Float, FloatDataBuffer>
+    implements FloatDataBuffer {
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return segment.get(LAYOUT, byteOffset() + index * Float.BYTES);
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(float value, long index) {
+    Validator.setArgs(this, index);
+    segment.set(LAYOUT, byteOffset() + index * Float.BYTES, value);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer read(float[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    MemorySegment.copy(segment, LAYOUT, byteOffset(), dst, offset, length);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer write(float[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    MemorySegment.copy(src, offset, segment, LAYOUT, byteOffset(), length);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer copyTo(DataBuffer<Float> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    if (dst instanceof FloatSegmentDataBuffer) {
+      copyBytesTo((FloatSegmentDataBuffer)dst, size);
+      return this;
+    }
+    return dst.accept(new DataStorageVisitor<FloatDataBuffer>() {
+
+      @Override
+      public FloatDataBuffer visit(FloatBuffer buffer) {
+        MemorySegment.copy(segment, LAYOUT, byteOffset(), MemorySegment.ofBuffer(buffer), LAYOUT.withOrder(buffer.order()), 0L, size);
+        return FloatSegmentDataBuffer.this;
+      }
+
+      @Override
+      public FloatDataBuffer fallback() {
+        if (dst instanceof FloatDataBuffer) {
+          FloatDataBuffer floatDst = (FloatDataBuffer)dst;
+          for (long idx = 0L; idx < size; ++idx) {
+            floatDst.setFloat(getFloat(idx), idx);
+          }
+          return FloatSegmentDataBuffer.this;
+        }
+        return slowCopyTo(dst, size);
+      }
+    });
+  }
+
+  @Override
+  public <R> R accept(DataStorageVisitor<R> visitor) {
+    if (segment.isNative()) {
+      return visitor.visit(segment.address() + byteOffset(), size() * Float.BYTES, Float.BYTES);
+    }
+    if (segment.heapBase().orElse(null) instanceof float[] array) {
+      FloatBuffer buffer = FloatBuffer.wrap(array, arrayOffset(), (int)size()).slice();
+      return visitor.visit(readOnly ? buffer.asReadOnlyBuffer() : buffer);
+    }
+    return visitor.fallback();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof FloatDataBuffer)) {
+      return super.equals(obj);
+    }
+    FloatDataBuffer other = (FloatDataBuffer)obj;
+    if (size() != other.size()) {
+      return false;
+    }
+    for (long idx = 0L; idx < size(); ++idx) {
+      if (other.getFloat(idx) != getFloat(idx)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected FloatDataBuffer instantiate(long byteOffset, long size) {
+    return new FloatSegmentDataBuffer(segment, byteOffset, size, readOnly);
+  }
+
+  FloatSegmentDataBuffer(MemorySegment segment, long byteOffset, long size, boolean readOnly) {
+    super(segment, byteOffset, size, Float.BYTES, readOnly);
+  }
+
+  private static final ValueLayout.OfFloat LAYOUT = ValueLayout.JAVA_FLOAT_UNALIGNED;
+}
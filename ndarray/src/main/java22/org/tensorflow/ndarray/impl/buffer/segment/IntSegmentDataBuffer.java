@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.IntBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of ints using a {@link MemorySegment} for storage.
+ */
+final class IntSegmentDataBuffer extends AbstractSegmentDataBuffer<Integer, IntDataBuffer>
+    implements IntDataBuffer {
+
+  @Override
+  public int getInt(long index) {
+    Validator.getArgs(this, index);
+    return segment.get(LAYOUT, byteOffset() + index * Integer.BYTES);
+  }
+
+  @Override
+  public IntDataBuffer setInt(int value, long index) {
+    Validator.setArgs(this, index);
+    segment.set(LAYOUT, byteOffset() + index * Integer.BYTES, value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer read(int[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    MemorySegment.copy(segment, LAYOUT, byteOffset(), dst, offset, length);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer write(int[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    MemorySegment.copy(src, offset, segment, LAYOUT, byteOffset(), length);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer copyTo(DataBuffer<Integer> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    if (dst instanceof IntSegmentDataBuffer) {
+      copyBytesTo((IntSegmentDataBuffer)dst, size);
+      return this;
+    }
+    return dst.accept(new DataStorageVisitor<IntDataBuffer>() {
+
+      @Override
+      public IntDataBuffer visit(IntBuffer buffer) {
+        MemorySegment.copy(segment, LAYOUT, byteOffset(), MemorySegment.ofBuffer(buffer), LAYOUT.withOrder(buffer.order()), 0L, size);
+        return IntSegmentDataBuffer.this;
+      }
+
+      @Override
+      public IntDataBuffer fallback() {
+        if (dst instanceof IntDataBuffer) {
+          IntDataBuffer intDst = (IntDataBuffer)dst;
+          for (long idx = 0L; idx < size; ++idx) {
+            intDst.setInt(getInt(idx), idx);
+          }
+          return IntSegmentDataBuffer.this;
+        }
+        return slowCopyTo(dst, size);
+      }
+    });
+  }
+
+  @Override
+  public <R> R accept(DataStorageVisitor<R> visitor) {
+    if (segment.isNative()) {
+      return visitor.visit(segment.address() + byteOffset(), size() * Integer.BYTES, Integer.BYTES);
+    }
+    if (segment.heapBase().orElse(null) instanceof int[] array) {
+      IntBuffer buffer = IntBuffer.wrap(array, arrayOffset(), (int)size()).slice();
+      return visitor.visit(readOnly ? buffer.asReadOnlyBuffer() : buffer);
+    }
+    return visitor.fallback();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof IntDataBuffer)) {
+      return super.equals(obj);
+    }
+    IntDataBuffer other = (IntDataBuffer)obj;
+    if (size() != other.size()) {
+      return false;
+    }
+    for (long idx = 0L; idx < size(); ++idx) {
+      if (other.getInt(idx) != getInt(idx)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected IntDataBuffer instantiate(long byteOffset, long size) {
+    return new IntSegmentDataBuffer(segment, byteOffset, size, readOnly);
+  }
+
+  IntSegmentDataBuffer(MemorySegment segment, long byteOffset, long size, boolean readOnly) {
+    super(segment, byteOffset, size, Integer.BYTES, readOnly);
+  }
+
+  private static final ValueLayout.OfInt LAYOUT = ValueLayout.JAVA_INT_UNALIGNED;
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.LongBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of longs using a {@link MemorySegment} for storage.
+ */
+final class LongSegmentDataBuffer extends AbstractSegmentDataBuffer<Long, LongDataBuffer>
+    implements LongDataBuffer {
+
+  @Override
+  public long getLong(long index) {
+    Validator.getArgs(this, index);
+    return segment.get(LAYOUT, byteOffset() + index * Long.BYTES);
+  }
+
+  @Override
+  public LongDataBuffer setLong(long value, long index) {
+    Validator.setArgs(this, index);
+    segment.set(LAYOUT, byteOffset() + index * Long.BYTES, value);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer read(long[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    MemorySegment.copy(segment, LAYOUT, byteOffset(), dst, offset, length);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer write(long[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    MemorySegment.copy(src, offset, segment, LAYOUT, byteOffset(), length);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer copyTo(DataBuffer<Long> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    if (dst instanceof LongSegmentDataBuffer) {
+      copyBytesTo((LongSegmentDataBuffer)dst, size);
+      return this;
+    }
+    return dst.accept(new DataStorageVisitor<LongDataBuffer>() {
+
+      @Override
+      public LongDataBuffer visit(LongBuffer buffer) {
+        MemorySegment.copy(segment, LAYOUT, byteOffset(), MemorySegment.ofBuffer(buffer), LAYOUT.withOrder(buffer.order()), 0L, size);
+        return LongSegmentDataBuffer.this;
+      }
+
+      @Override
+      public LongDataBuffer fallback() {
+        if (dst instanceof LongDataBuffer) {
+          LongDataBuffer longDst = (LongDataBuffer)dst;
+          for (long idx = 0L; idx < size; ++idx) {
+            longDst.setLong(getLong(idx), idx);
+          }
+          return LongSegmentDataBuffer.this;
+        }
+        return slowCopyTo(dst, size);
+      }
+    });
+  }
+
+  @Override
+  public <R> R accept(DataStorageVisitor<R> visitor) {
+    if (segment.isNative()) {
+      return visitor.visit(segment.address() + byteOffset(), size() * Long.BYTES, Long.BYTES);
+    }
+    if (segment.heapBase().orElse(null) instanceof long[] array) {
+      LongBuffer buffer = LongBuffer.wrap(array, arrayOffset(), (int)size()).slice();
+      return visitor.visit(readOnly ? buffer.asReadOnlyBuffer() : buffer);
+    }
+    return visitor.fallback();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LongDataBuffer)) {
+      return super.equals(obj);
+    }
+    LongDataBuffer other = (LongDataBuffer)obj;
+    if (size() != other.size()) {
+      return false;
+    }
+    for (long idx = 0L; idx < size(); ++idx) {
+      if (other.getLong(idx) != getLong(idx)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected LongDataBuffer instantiate(long byteOffset, long size) {
+    return new LongSegmentDataBuffer(segment, byteOffset, size, readOnly);
+  }
+
+  LongSegmentDataBuffer(MemorySegment segment, long byteOffset, long size, boolean readOnly) {
+    super(segment, byteOffset, size, Long.BYTES, readOnly);
+  }
+
+  private static final ValueLayout.OfLong LAYOUT = ValueLayout.JAVA_LONG_UNALIGNED;
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.util.function.Function;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.MappedDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+
+/**
+ * Factory of data buffers backed by memory segments.
+ * <p>
+ * This is the version of the factory loaded from a multi-release jar on JDK 22+, where the
+ * foreign memory API is available.
+ */
+public class SegmentDataBufferFactory {
+
+  public static boolean canBeUsed() {
+    return true;
+  }
+
+  public static BooleanDataBuffer allocateBooleans(long size) {
+    return new BooleanSegmentDataBuffer(MemorySegment.ofArray(new byte[(int)size]), 0L, size, false);
+  }
+
+  public static ByteDataBuffer create(byte[] array, boolean readOnly) {
+    return new ByteSegmentDataBuffer(MemorySegment.ofArray(array), 0L, array.length, readOnly);
+  }
+
+  public static DoubleDataBuffer create(double[] array, boolean readOnly) {
+    return new DoubleSegmentDataBuffer(MemorySegment.ofArray(array), 0L, array.length, readOnly);
+  }
+
+  public static FloatDataBuffer create(float[] array, boolean readOnly) {
+    return new FloatSegmentDataBuffer(MemorySegment.ofArray(array), 0L, array.length, readOnly);
+  }
+
+  public static IntDataBuffer create(int[] array, boolean readOnly) {
+    return new IntSegmentDataBuffer(MemorySegment.ofArray(array), 0L, array.length, readOnly);
+  }
+
+  public static LongDataBuffer create(long[] array, boolean readOnly) {
+    return new LongSegmentDataBuffer(MemorySegment.ofArray(array), 0L, array.length, readOnly);
+  }
+
+  public static ShortDataBuffer create(short[] array, boolean readOnly) {
+    return new ShortSegmentDataBuffer(MemorySegment.ofArray(array), 0L, array.length, readOnly);
+  }
+
+  public static <B extends DataBuffer<?>> MappedDataBuffer<B> map(FileChannel channel,
+      FileChannel.MapMode mode, long position, long byteSize, Function<ByteDataBuffer, B> view)
+      throws IOException {
+    Arena arena = Arena.ofShared();
+    try {
+      MemorySegment segment = channel.map(mode, position, byteSize, arena);
+      ByteDataBuffer buffer = new ByteSegmentDataBuffer(segment, 0L, byteSize, segment.isReadOnly());
+      return new SegmentMappedDataBuffer<>(segment, arena, view.apply(buffer));
+    } catch (IOException | RuntimeException e) {
+      arena.close();
+      throw e;
+    }
+  }
+
+  private SegmentDataBufferFactory() {}
+}
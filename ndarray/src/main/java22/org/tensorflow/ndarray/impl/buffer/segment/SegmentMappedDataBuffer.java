@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.MappedDataBuffer;
+
+/**
+ * A file mapped in memory as a {@link MemorySegment}, unmapped when its arena is closed.
+ */
+final class SegmentMappedDataBuffer<B extends DataBuffer<?>> implements MappedDataBuffer<B> {
+
+  @Override
+  public B buffer() {
+    return buffer;
+  }
+
+  @Override
+  public void force() {
+    if (!segment.isReadOnly()) {
+      segment.force();
+    }
+  }
+
+  @Override
+  public void close() {
+    arena.close();
+  }
+
+  SegmentMappedDataBuffer(MemorySegment segment, Arena arena, B buffer) {
+    this.segment = segment;
+    this.arena = arena;
+    this.buffer = buffer;
+  }
+
+  private final MemorySegment segment;
+  private final Arena arena;
+  private final B buffer;
+}
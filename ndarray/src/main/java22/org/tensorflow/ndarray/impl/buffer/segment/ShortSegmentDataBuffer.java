@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ShortBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.Validator;
+
+/**
+ * A buffer of shorts using a {@link MemorySegment} for storage.
+ */
+final class ShortSegmentDataBuffer extends AbstractSegmentDataBuffer<Short, ShortDataBuffer>
+    implements ShortDataBuffer {
+
+  @Override
+  public short getShort(long index) {
+    Validator.getArgs(this, index);
+    return segment.get(LAYOUT, byteOffset() + index * Short.BYTES);
+  }
+
+  @Override
+  public ShortDataBuffer setShort(short value, long index) {
+    Validator.setArgs(this, index);
+    segment.set(LAYOUT, byteOffset() + index * Short.BYTES, value);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer read(short[] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    MemorySegment.copy(segment, LAYOUT, byteOffset(), dst, offset, length);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer write(short[] src, int offset, int length) {
+    Validator.writeArgs(this, src.length, offset, length);
+    MemorySegment.copy(src, offset, segment, LAYOUT, byteOffset(), length);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer copyTo(DataBuffer<Short> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    if (dst instanceof ShortSegmentDataBuffer) {
+      copyBytesTo((ShortSegmentDataBuffer)dst, size);
+      return this;
+    }
+    return dst.accept(new DataStorageVisitor<ShortDataBuffer>() {
+
+      @Override
+      public ShortDataBuffer visit(ShortBuffer buffer) {
+        MemorySegment.copy(segment, LAYOUT, byteOffset(), MemorySegment.ofBuffer(buffer), LAYOUT.withOrder(buffer.order()), 0L, size);
+        return ShortSegmentDataBuffer.this;
+      }
+
+      @Override
+      public ShortDataBuffer fallback() {
+        if (dst instanceof ShortDataBuffer) {
+          ShortDataBuffer shortDst = (ShortDataBuffer)dst;
+          for (long idx = 0L; idx < size; ++idx) {
+            shortDst.setShort(getShort(idx), idx);
+          }
+          return ShortSegmentDataBuffer.this;
+        }
+        return slowCopyTo(dst, size);
+      }
+    });
+  }
+
+  @Override
+  public <R> R accept(DataStorageVisitor<R> visitor) {
+    if (segment.isNative()) {
+      return visitor.visit(segment.address() + byteOffset(), size() * Short.BYTES, Short.BYTES);
+    }
+    if (segment.heapBase().orElse(null) instanceof short[] array) {
+      ShortBuffer buffer = ShortBuffer.wrap(array, arrayOffset(), (int)size()).slice();
+      return visitor.visit(readOnly ? buffer.asReadOnlyBuffer() : buffer);
+    }
+    return visitor.fallback();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ShortDataBuffer)) {
+      return super.equals(obj);
+    }
+    ShortDataBuffer other = (ShortDataBuffer)obj;
+    if (size() != other.size()) {
+      return false;
+    }
+    for (long idx = 0L; idx < size(); ++idx) {
+      if (other.getShort(idx) != getShort(idx)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected ShortDataBuffer instantiate(long byteOffset, long size) {
+    return new ShortSegmentDataBuffer(segment, byteOffset, size, readOnly);
+  }
+
+  ShortSegmentDataBuffer(MemorySegment segment, long byteOffset, long size, boolean readOnly) {
+    super(segment, byteOffset, size, Short.BYTES, readOnly);
+  }
+
+  private static final ValueLayout.OfShort LAYOUT = ValueLayout.JAVA_SHORT_UNALIGNED;
+}
@@ -16,9 +16,13 @@
  */
 package org.tensorflow.ndarray;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.index.Indices;
 
 public abstract class FloatNdArrayTestBase extends NdArrayTestBase<Float> {
 
@@ -52,4 +56,79 @@ public abstract class FloatNdArrayTestBase extends NdArrayTestBase<Float> {
         assertEquals(9, matrix3d.getFloat(0, 0, 4), 0.0f);
         assertEquals(7, matrix3d.getFloat(0, 1, 2), 0.0f);
     }
+
+    @Test
+    public void fixedRankAccessors() {
+        FloatNdArray vector = allocate(Shape.of(4));
+        vector.setFloat(1.0f, 3);
+        assertEquals(1.0f, vector.getFloat(3), 0.0f);
+        assertEquals(1.0f, vector.getFloat(new long[] {3}), 0.0f);
+
+        FloatNdArray matrix = allocate(Shape.of(3, 4));
+        matrix.setFloat(2.0f, 2, 1);
+        assertEquals(2.0f, matrix.getFloat(new long[] {2, 1}), 0.0f);
+        assertEquals(2.0f, matrix.transpose().getFloat(1, 2), 0.0f);
+
+        FloatNdArray matrix3d = allocate(Shape.of(3, 4, 5));
+        matrix3d.setFloat(3.0f, 1, 2, 3);
+        assertEquals(3.0f, matrix3d.getFloat(new long[] {1, 2, 3}), 0.0f);
+        assertEquals(3.0f, matrix3d.slice(Indices.seq(2, 1, 0), Indices.all(), Indices.at(3)).getFloat(1, 2), 0.0f);
+        assertEquals(3.0f, matrix3d.get(1).getFloat(2, 3), 0.0f);
+
+        FloatNdArray matrix4d = allocate(Shape.of(2, 3, 4, 5));
+        matrix4d.setFloat(4.0f, 1, 1, 2, 3);
+        assertEquals(4.0f, matrix4d.getFloat(new long[] {1, 1, 2, 3}), 0.0f);
+        assertEquals(4.0f, matrix4d.getFloat(1, 1, 2, 3), 0.0f);
+
+        assertThrows(IllegalRankException.class, () -> matrix.getFloat(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.getFloat(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.getFloat(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.setFloat(0.0f, 0, -1));
+    }
+
+    @Test
+    public void cursor() {
+        FloatNdArray matrix = allocate(Shape.of(4, 5));
+        FloatNdCursor cursor = matrix.cursor();
+        do {
+            cursor.setFloat(cursor.coordinate(0) + cursor.coordinate(1));
+        } while (cursor.next());
+        assertEquals(7.0f, matrix.getFloat(3, 4), 0.0f);
+
+        float sum = 0.0f;
+        cursor.moveTo(2, 0);
+        do {
+            sum += cursor.getFloat();
+        } while (cursor.next(1));
+        assertEquals(20.0f, sum, 0.0f);
+    }
+
+    @Test
+    public void primitiveStreamsAndVisitors() {
+        FloatNdArray matrix = allocate(Shape.of(3, 4));
+        matrix.scalars().forEachIndexed((coords, scalar) ->
+            scalar.setFloat(coords[0] * 10 + coords[1])
+        );
+        assertArrayEquals(new double[] {0, 1, 2, 3, 10, 11, 12, 13, 20, 21, 22, 23}, matrix.streamOfFloats().toArray());
+        assertArrayEquals(new double[] {0, 10, 20, 1, 11, 21, 2, 12, 22, 3, 13, 23}, matrix.transpose().streamOfFloats().toArray());
+        assertArrayEquals(new double[] {13, 11, 23, 21},
+            matrix.slice(Indices.sliceFrom(1), Indices.seq(3, 1)).streamOfFloats().toArray());
+
+        for (FloatNdArray array : List.of(matrix, matrix.transpose(), matrix.slice(Indices.all(), Indices.seq(3, 1)))) {
+            long[] count = new long[1];
+            array.forEachFloat((coords, value) -> {
+                assertEquals(array.getFloat(coords), value, 0.0f);
+                ++count[0];
+            });
+            assertEquals(array.shape().size(), count[0]);
+        }
+
+        FloatNdArray scalar = allocate(Shape.scalar());
+        scalar.setFloat(5.0f);
+        assertArrayEquals(new double[] {5.0}, scalar.streamOfFloats().toArray());
+        scalar.forEachFloat((coords, value) -> {
+            assertEquals(0, coords.length);
+            assertEquals(5.0f, value, 0.0f);
+        });
+    }
 }
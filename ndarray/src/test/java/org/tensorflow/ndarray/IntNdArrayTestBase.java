@@ -16,10 +16,14 @@
  */
 package org.tensorflow.ndarray;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.index.Indices;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public abstract class IntNdArrayTestBase extends NdArrayTestBase<Integer> {
 
@@ -78,4 +82,56 @@ public abstract class IntNdArrayTestBase extends NdArrayTestBase<Integer> {
         values = matrix.streamOfInts().toArray();
         assertArrayEquals(new int[]{1, 2, 3, 4}, values);
     }
+
+    @Test
+    public void fixedRankAccessors() {
+        IntNdArray vector = allocate(Shape.of(4));
+        vector.setInt(1, 3);
+        assertEquals(1, vector.getInt(3));
+        assertEquals(1, vector.getInt(new long[] {3}));
+
+        IntNdArray matrix = allocate(Shape.of(3, 4));
+        matrix.setInt(2, 2, 1);
+        assertEquals(2, matrix.getInt(new long[] {2, 1}));
+        assertEquals(2, matrix.transpose().getInt(1, 2));
+
+        IntNdArray matrix3d = allocate(Shape.of(3, 4, 5));
+        matrix3d.setInt(3, 1, 2, 3);
+        assertEquals(3, matrix3d.getInt(new long[] {1, 2, 3}));
+        assertEquals(3, matrix3d.slice(Indices.seq(2, 1, 0), Indices.all(), Indices.at(3)).getInt(1, 2));
+        assertEquals(3, matrix3d.get(1).getInt(2, 3));
+
+        IntNdArray matrix4d = allocate(Shape.of(2, 3, 4, 5));
+        matrix4d.setInt(4, 1, 1, 2, 3);
+        assertEquals(4, matrix4d.getInt(new long[] {1, 1, 2, 3}));
+        assertEquals(4, matrix4d.getInt(1, 1, 2, 3));
+
+        assertThrows(IllegalRankException.class, () -> matrix.getInt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.getInt(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.getInt(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.setInt(0, 0, -1));
+    }
+
+    @Test
+    public void visitingInts() {
+        IntNdArray matrix3d = allocate(Shape.of(2, 3, 4));
+        matrix3d.scalars().forEachIndexed((coords, scalar) ->
+            scalar.setInt((int)(coords[0] * 100 + coords[1] * 10 + coords[2]))
+        );
+        List<long[]> visited = new ArrayList<>();
+        matrix3d.forEachInt((coords, value) -> {
+            assertEquals(coords[0] * 100 + coords[1] * 10 + coords[2], value);
+            visited.add(coords.clone());
+        });
+        assertEquals(24, visited.size());
+        assertArrayEquals(new long[] {0, 0, 3}, visited.get(3));
+        assertArrayEquals(new long[] {0, 1, 0}, visited.get(4));
+        assertArrayEquals(new long[] {1, 2, 3}, visited.get(23));
+
+        IntNdArray transposed = matrix3d.transpose(2, 0, 1);
+        int[] values = transposed.streamOfInts().toArray();
+        assertEquals(20, values[2]);
+        assertEquals(11, values[7]);
+        transposed.forEachInt((coords, value) -> assertEquals(transposed.getInt(coords), value));
+    }
 }
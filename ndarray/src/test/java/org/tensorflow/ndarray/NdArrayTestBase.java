@@ -312,6 +312,389 @@ public abstract class NdArrayTestBase<T> {
     }
   }
 
+  @Test
+  public void segmentedCopies() {
+    NdArray<T> matrix = allocate(Shape.of(4, 3));
+    matrix.scalars().forEachIndexed((coords, scalar) ->
+        scalar.setObject(valueOf(coords[0] * 3 + coords[1]))
+    );
+
+    NdArray<T> column = allocate(Shape.of(4));
+    matrix.slice(all(), at(1)).copyTo(column);
+    assertEquals(valueOf(1L), column.getObject(0));
+    assertEquals(valueOf(4L), column.getObject(1));
+    assertEquals(valueOf(10L), column.getObject(3));
+
+    matrix.slice(all(), at(2)).set(column);
+    assertEquals(valueOf(1L), matrix.getObject(0, 2));
+    assertEquals(valueOf(7L), matrix.getObject(2, 2));
+    assertEquals(valueOf(9L), matrix.getObject(3, 0));
+
+    NdArray<T> flipped = allocate(Shape.of(4, 3));
+    matrix.slice(flip(), flip()).copyTo(flipped);
+    assertEquals(valueOf(10L), flipped.getObject(0, 0));
+    assertEquals(valueOf(9L), flipped.getObject(0, 2));
+    assertEquals(valueOf(1L), flipped.getObject(3, 0));
+    assertEquals(valueOf(0L), flipped.getObject(3, 2));
+
+    NdArray<T> rows = allocate(Shape.of(2, 3));
+    matrix.slice(seq(3, 0)).copyTo(rows);
+    assertEquals(valueOf(9L), rows.getObject(0, 0));
+    assertEquals(valueOf(0L), rows.getObject(1, 0));
+    assertEquals(valueOf(1L), rows.getObject(1, 2));
+
+    DataBuffer<T> buffer = allocateBuffer(4L);
+    matrix.slice(all(), at(0)).copyTo(buffer);
+    assertEquals(valueOf(0L), buffer.getObject(0));
+    assertEquals(valueOf(3L), buffer.getObject(1));
+    assertEquals(valueOf(9L), buffer.getObject(3));
+
+    matrix.slice(all(), at(1)).copyFrom(buffer);
+    assertEquals(valueOf(0L), matrix.getObject(0, 1));
+    assertEquals(valueOf(6L), matrix.getObject(2, 1));
+    assertEquals(valueOf(9L), matrix.getObject(3, 1));
+  }
+
+  @Test
+  public void transpose() {
+    NdArray<T> array = allocate(Shape.of(2, 3, 4));
+    array.scalars().forEachIndexed((coords, scalar) ->
+        scalar.setObject(valueOf(coords[0] * 100 + coords[1] * 10 + coords[2]))
+    );
+    assertSame(array, array.transpose(0, 1, 2));
+
+    NdArray<T> transposed = array.transpose(2, 0, 1);
+    assertEquals(Shape.of(4, 2, 3), transposed.shape());
+    assertEquals(valueOf(123L), transposed.getObject(3, 1, 2));
+    assertEquals(valueOf(102L), transposed.get(2, 1).getObject(0));
+    assertEquals(Shape.of(2, 3), transposed.get(1).shape());
+
+    transposed.setObject(valueOf(7L), 3, 0, 1);
+    assertEquals(valueOf(7L), array.getObject(0, 1, 3));
+
+    NdArray<T> reversed = array.transpose();
+    assertEquals(Shape.of(4, 3, 2), reversed.shape());
+    NdArray<T> copy = allocate(Shape.of(4, 3, 2));
+    reversed.copyTo(copy);
+    copy.scalars().forEachIndexed((coords, scalar) ->
+        assertEquals(array.getObject(coords[2], coords[1], coords[0]), scalar.getObject())
+    );
+    assertEquals(reversed, copy);
+    assertEquals(reversed.transpose(), array);
+
+    DataBuffer<T> buffer = allocateBuffer(24);
+    array.transpose(1, 0, 2).copyTo(buffer);
+    assertEquals(array.getObject(1, 0, 0), buffer.getObject(4));
+
+    NdArray<T> slice = array.transpose(2, 1, 0).slice(range(1, 3), at(2));
+    assertEquals(Shape.of(2, 2), slice.shape());
+    assertEquals(array.getObject(1, 2, 2), slice.getObject(1, 1));
+
+    assertThrows(IllegalArgumentException.class, () -> array.transpose(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> array.transpose(0, 1, 1));
+    assertThrows(IllegalArgumentException.class, () -> array.transpose(0, 1, 3));
+    assertThrows(UnsupportedOperationException.class, () -> transposed.withShape(Shape.of(24)));
+  }
+
+  @Test
+  public void transposedCopiesByTile() {
+    NdArray<T> matrix = allocate(Shape.of(3, 70, 45));
+    matrix.scalars().forEachIndexed((coords, scalar) ->
+        scalar.setObject(valueOf(coords[0] + coords[1] * 3 + coords[2] * 210))
+    );
+    NdArray<T> copy = allocate(Shape.of(3, 45, 70));
+    matrix.transpose(0, 2, 1).copyTo(copy);
+    copy.scalars().forEachIndexed((coords, scalar) ->
+        assertEquals(matrix.getObject(coords[0], coords[2], coords[1]), scalar.getObject())
+    );
+    NdArray<T> back = allocate(Shape.of(3, 70, 45));
+    back.transpose(0, 2, 1).copyFrom(toBuffer(copy));
+    assertEquals(matrix, back);
+  }
+
+  private DataBuffer<T> toBuffer(NdArray<T> array) {
+    DataBuffer<T> buffer = allocateBuffer(array.size());
+    array.copyTo(buffer);
+    return buffer;
+  }
+
+  @Test
+  public void broadcastTo() {
+    NdArray<T> vector = allocate(Shape.of(3));
+    vector.scalars().forEachIndexed((coords, scalar) -> scalar.setObject(valueOf(coords[0] + 1)));
+    assertSame(vector, vector.broadcastTo(Shape.of(3)));
+
+    NdArray<T> broadcast = vector.broadcastTo(Shape.of(4, 3));
+    assertEquals(Shape.of(4, 3), broadcast.shape());
+    broadcast.scalars().forEachIndexed((coords, scalar) ->
+        assertEquals(vector.getObject(coords[1]), scalar.getObject())
+    );
+    NdArray<T> copy = allocate(Shape.of(4, 3));
+    broadcast.copyTo(copy);
+    assertEquals(broadcast, copy);
+
+    NdArray<T> column = allocate(Shape.of(2, 1));
+    column.setObject(valueOf(1L), 0, 0);
+    column.setObject(valueOf(0L), 1, 0);
+    NdArray<T> matrix = column.broadcastTo(Shape.of(3, 2, 5));
+    assertEquals(Shape.of(3, 2, 5), matrix.shape());
+    matrix.scalars().forEachIndexed((coords, scalar) ->
+        assertEquals(column.getObject(coords[1], 0), scalar.getObject())
+    );
+    DataBuffer<T> buffer = allocateBuffer(30);
+    matrix.copyTo(buffer);
+    assertEquals(valueOf(1L), buffer.getObject(14));
+    assertEquals(valueOf(0L), buffer.getObject(15));
+
+    matrix.setObject(valueOf(2L), 2, 1, 4);
+    assertEquals(valueOf(2L), column.getObject(1, 0));
+    assertEquals(valueOf(2L), matrix.getObject(0, 1, 0));
+
+    assertThrows(IllegalArgumentException.class, () -> vector.broadcastTo(Shape.of(4, 2)));
+    assertThrows(IllegalArgumentException.class, () -> vector.broadcastTo(Shape.scalar()));
+    assertThrows(IllegalArgumentException.class, () -> column.broadcastTo(Shape.of(3, -1, 2)));
+  }
+
+  @Test
+  public void slidingWindows() {
+    NdArray<T> signal = allocate(Shape.of(10, 2));
+    signal.scalars().forEachIndexed((coords, scalar) -> scalar.setObject(valueOf(coords[0] * 10 + coords[1])));
+
+    NdArray<T> frames = signal.slidingWindows(0, 4, 3);
+    assertEquals(Shape.of(3, 4, 2), frames.shape());
+    frames.scalars().forEachIndexed((coords, scalar) ->
+        assertEquals(signal.getObject(coords[0] * 3 + coords[1], coords[2]), scalar.getObject())
+    );
+    long[] frameCount = {0};
+    frames.elements(0).forEachIndexed((coords, frame) -> {
+      assertEquals(Shape.of(4, 2), frame.shape());
+      assertEquals(signal.getObject(coords[0] * 3 + 3, 1), frame.getObject(3, 1));
+      frameCount[0]++;
+    });
+    assertEquals(3, frameCount[0]);
+    NdArray<T> copy = allocate(Shape.of(3, 4, 2));
+    frames.copyTo(copy);
+    assertEquals(frames, copy);
+
+    NdArray<T> channels = signal.slidingWindows(1, 1, 1);
+    assertEquals(Shape.of(10, 2, 1), channels.shape());
+    assertEquals(signal.getObject(4, 1), channels.getObject(4, 1, 0));
+
+    NdArray<T> sameFrames = signal.slidingWindows(0, 10, 1);
+    assertEquals(Shape.of(1, 10, 2), sameFrames.shape());
+    assertEquals(signal, sameFrames.get(0));
+
+    frames.setObject(valueOf(1L), 1, 0, 0);
+    assertEquals(valueOf(1L), frames.getObject(0, 3, 0));
+
+    assertThrows(IllegalArgumentException.class, () -> signal.slidingWindows(2, 1, 1));
+    assertThrows(IllegalArgumentException.class, () -> signal.slidingWindows(0, 11, 1));
+    assertThrows(IllegalArgumentException.class, () -> signal.slidingWindows(0, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> signal.slidingWindows(0, 2, 0));
+    assertThrows(UnsupportedOperationException.class, () -> signal.slice(Indices.seq(1, 0, 2)).slidingWindows(0, 2, 1));
+  }
+
+  @Test
+  public void slidingWindowsOfReversedArray() {
+    NdArray<T> signal = allocate(Shape.of(5, 3));
+    signal.scalars().forEachIndexed((coords, scalar) -> scalar.setObject(valueOf(coords[0] * 10 + coords[1])));
+
+    NdArray<T> reversed = signal.slice(flip());
+    NdArray<T> frames = reversed.slidingWindows(0, 2, 2);
+    assertEquals(Shape.of(2, 2, 3), frames.shape());
+    frames.scalars().forEachIndexed((coords, scalar) ->
+        assertEquals(signal.getObject(4 - coords[0] * 2 - coords[1], coords[2]), scalar.getObject())
+    );
+    frames.elements(0).forEachIndexed((coords, frame) -> {
+      assertEquals(signal.getObject(4 - coords[0] * 2, 2), frame.getObject(0, 2));
+      assertEquals(signal.getObject(3 - coords[0] * 2, 0), frame.getObject(1, 0));
+    });
+    long[] frameCount = {0};
+    frames.elements(0).forEach(frame -> {
+      assertEquals(signal.get(4 - frameCount[0] * 2), frame.get(0));
+      frameCount[0]++;
+    });
+    assertEquals(2, frameCount[0]);
+    assertEquals(signal.get(2), frames.get(1, 0));
+
+    NdArray<T> reversedChannels = signal.slice(all(), flip()).slidingWindows(1, 2, 1);
+    assertEquals(Shape.of(5, 2, 2), reversedChannels.shape());
+    reversedChannels.scalars().forEachIndexed((coords, scalar) ->
+        assertEquals(signal.getObject(coords[0], 2 - coords[1] - coords[2]), scalar.getObject())
+    );
+    reversedChannels.elements(1).forEachIndexed((coords, frame) ->
+        assertEquals(signal.getObject(coords[0], 1 - coords[1]), frame.getObject(1))
+    );
+  }
+
+  @Test
+  public void columnMajor() {
+    DataBuffer<T> buffer = allocateBuffer(24);
+    for (long i = 0; i < buffer.size(); ++i) {
+      buffer.setObject(valueOf(i), i);
+    }
+    NdArray<T> array = NdArrays.wrap(Shape.of(2, 3, 4), buffer, StorageOrder.COLUMN_MAJOR);
+    assertEquals(Shape.of(2, 3, 4), array.shape());
+    array.scalars().forEachIndexed((coords, scalar) ->
+        assertEquals(valueOf(coords[0] + coords[1] * 2 + coords[2] * 6), scalar.getObject())
+    );
+    assertEquals(valueOf(15L), array.get(1, 1).getObject(2));
+    assertEquals(valueOf(19L), array.slice(all(), at(0), at(3)).getObject(1));
+
+    NdArray<T> rowMajor = allocate(Shape.of(2, 3, 4));
+    array.copyTo(rowMajor);
+    assertEquals(array, rowMajor);
+    assertEquals(valueOf(7L), rowMajor.getObject(1, 0, 1));
+
+    DataBuffer<T> otherBuffer = allocateBuffer(24);
+    NdArray<T> otherArray = NdArrays.wrap(Shape.of(2, 3, 4), otherBuffer, StorageOrder.COLUMN_MAJOR);
+    rowMajor.copyTo(otherArray);
+    array.copyTo(otherArray);
+    for (long i = 0; i < buffer.size(); ++i) {
+      assertEquals(buffer.getObject(i), otherBuffer.getObject(i));
+    }
+    DataBuffer<T> copy = allocateBuffer(24);
+    array.copyTo(copy);
+    assertEquals(valueOf(6L), copy.getObject(1));
+
+    NdArray<T> vector = NdArrays.wrap(Shape.of(4), buffer, StorageOrder.COLUMN_MAJOR);
+    assertEquals(valueOf(3L), vector.getObject(3));
+  }
+
+  @Test
+  public void slicePlan() {
+    NdArray<T> array = allocate(Shape.of(4, 5, 3));
+    array.scalars().forEachIndexed((coords, scalar) ->
+        scalar.setObject(valueOf(coords[0] * 100 + coords[1] * 10 + coords[2]))
+    );
+    SlicePlan<? extends NdArray<T>> plan = array.slicePlan(at(0), all(), at(0));
+    assertEquals(Shape.of(5), plan.shape());
+    assertEquals(2, plan.numCoordinates());
+    assertEquals(array.slice(at(2), all(), at(1)), plan.slice(2, 1));
+    assertEquals(array.slice(at(3), all(), at(2)), plan.slice(-1, -1));
+
+    NdArray<T> view = plan.slideTo(1, 2);
+    assertEquals(array.slice(at(1), all(), at(2)), view);
+    assertSame(view, plan.slideTo(3, 0));
+    assertEquals(array.slice(at(3), all(), at(0)), view);
+    view.setObject(valueOf(1L), 4);
+    assertEquals(valueOf(1L), array.getObject(3, 4, 0));
+    NdArray<T> copy = allocate(Shape.of(5));
+    plan.slideTo(2, 2).copyTo(copy);
+    assertEquals(array.slice(at(2), all(), at(2)), copy);
+
+    DataBuffer<T> buffer = allocateBuffer(60);
+    array.copyTo(buffer);
+    assertEquals(array.getObject(2, 0, 1), buffer.getObject(plan.positionOf(2, 1)));
+
+    SlicePlan<? extends NdArray<T>> rangePlan = array.slicePlan(range(1, 3), at(0), sliceFrom(1));
+    assertEquals(Shape.of(2, 2), rangePlan.shape());
+    assertEquals(array.slice(range(1, 3), at(4), sliceFrom(1)), rangePlan.slice(4));
+
+    SlicePlan<? extends NdArray<T>> ellipsisPlan = array.slicePlan(Indices.ellipsis(), at(0));
+    assertEquals(array.slice(Indices.ellipsis(), at(2)), ellipsisPlan.slideTo(2));
+
+    SlicePlan<? extends NdArray<T>> scalarPlan = array.slicePlan(at(0), at(0), at(0));
+    assertEquals(Shape.scalar(), scalarPlan.shape());
+    assertEquals(array.getObject(3, 2, 1), scalarPlan.slice(3, 2, 1).getObject());
+
+    SlicePlan<? extends NdArray<T>> transposedPlan = array.transpose().slicePlan(at(0), all(), at(0));
+    assertEquals(array.slice(at(3), all(), at(1)), transposedPlan.slice(1, 3));
+
+    assertThrows(IllegalArgumentException.class, () -> plan.slice(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> plan.slice(4, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> plan.slideTo(0, -4));
+  }
+
+  @Test
+  public void slicePlanOfReversedArray() {
+    NdArray<T> array = allocate(Shape.of(3, 4, 2));
+    array.scalars().forEachIndexed((coords, scalar) ->
+        scalar.setObject(valueOf(coords[0] * 100 + coords[1] * 10 + coords[2]))
+    );
+    NdArray<T> flipped = array.slice(all(), flip());
+    SlicePlan<? extends NdArray<T>> flippedPlan = flipped.slicePlan(all(), at(0));
+    for (long i = 0; i < 4; ++i) {
+      assertEquals(flipped.slice(all(), at(i)), flippedPlan.slice(i));
+      assertEquals(flipped.slice(all(), at(i)), flippedPlan.slideTo(i));
+    }
+    assertEquals(array.slice(all(), at(3)), flippedPlan.slideTo(0));
+
+    NdArray<T> descending = array.slice(seq(2, 0, 1), all(), flip());
+    SlicePlan<? extends NdArray<T>> descendingPlan = descending.slicePlan(at(0), all(), at(0));
+    for (long i = 0; i < 3; ++i) {
+      for (long j = 0; j < 2; ++j) {
+        assertEquals(descending.slice(at(i), all(), at(j)), descendingPlan.slice(i, j));
+        assertEquals(descending.slice(at(i), all(), at(j)), descendingPlan.slideTo(i, j));
+      }
+    }
+
+    NdArray<T> transposed = flipped.transpose(2, 0, 1);
+    SlicePlan<? extends NdArray<T>> transposedPlan = transposed.slicePlan(all(), all(), at(0));
+    for (long i = 0; i < 4; ++i) {
+      assertEquals(transposed.slice(all(), all(), at(i)), transposedPlan.slice(i));
+      assertEquals(transposed.slice(all(), all(), at(i)), transposedPlan.slideTo(i));
+    }
+
+    NdArray<T> broadcast = array.slice(at(1), flip(), sliceTo(1)).broadcastTo(Shape.of(2, 4, 3));
+    SlicePlan<? extends NdArray<T>> broadcastPlan = broadcast.slicePlan(all(), at(0), all());
+    for (long i = 0; i < 4; ++i) {
+      assertEquals(broadcast.slice(all(), at(i), all()), broadcastPlan.slice(i));
+      assertEquals(broadcast.slice(all(), at(i), all()), broadcastPlan.slideTo(i));
+    }
+  }
+
+  @Test
+  public void cursor() {
+    NdArray<T> array = allocate(Shape.of(3, 4));
+    array.scalars().forEachIndexed((coords, scalar) -> scalar.setObject(valueOf(coords[0] * 10 + coords[1])));
+
+    NdCursor<T> cursor = array.cursor();
+    assertEquals(2, cursor.rank());
+    long count = 0;
+    do {
+      assertEquals(array.getObject(cursor.coordinate(0), cursor.coordinate(1)), cursor.getObject());
+      ++count;
+    } while (cursor.next());
+    assertEquals(12, count);
+    assertEquals(0, cursor.coordinate(0));
+    assertEquals(0, cursor.coordinate(1));
+
+    cursor.moveTo(2, 1);
+    assertEquals(valueOf(21L), cursor.getObject());
+    assertTrue(cursor.next(1));
+    assertEquals(valueOf(22L), cursor.getObject());
+    assertFalse(cursor.next(0));
+    cursor.moveTo(new long[] {1, 3});
+    assertFalse(cursor.next(1));
+    assertEquals(3, cursor.coordinate(1));
+    cursor.setObject(valueOf(5L));
+    assertEquals(valueOf(5L), array.getObject(1, 3));
+
+    NdCursor<T> transposedCursor = array.transpose().cursor();
+    transposedCursor.moveTo(2, 2);
+    assertEquals(array.getObject(2, 2), transposedCursor.getObject());
+    assertTrue(transposedCursor.next());
+    assertEquals(array.getObject(0, 3), transposedCursor.getObject());
+    assertFalse(transposedCursor.moveTo(3, 2).next());
+    assertEquals(array.getObject(0, 0), transposedCursor.moveTo(0, 0).getObject());
+
+    NdCursor<T> scalarCursor = allocate(Shape.scalar()).setObject(valueOf(1L)).cursor();
+    assertEquals(valueOf(1L), scalarCursor.getObject());
+    assertFalse(scalarCursor.next());
+
+    assertThrows(IllegalRankException.class, () -> cursor.moveTo(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(3, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(0, 1, 2));
+    cursor.moveTo(1, 2);
+    assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(0, 4));
+    assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(new long[] {2, -1}));
+    assertEquals(1, cursor.coordinate(0));  // invalid moves leave the cursor where it was
+    assertEquals(2, cursor.coordinate(1));
+    assertEquals(array.getObject(1, 2), cursor.getObject());
+    assertThrows(IllegalStateException.class, () -> allocate(Shape.of(2, 0)).cursor());
+  }
+
   @Test
   public void equalsAndHashCode() {
     NdArray<T> array1 = allocate(Shape.of(2, 2));
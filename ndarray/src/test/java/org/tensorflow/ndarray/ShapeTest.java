@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.junit.jupiter.api.Test;
@@ -173,4 +174,23 @@ public class ShapeTest {
     assertFalse(a.isCompatibleWith(b));
     assertFalse(b.isCompatibleWith(a));
   }
+
+  @Test
+  public void testBroadcast() {
+    assertEquals(Shape.of(32, 224, 224, 3), Shape.of(32, 224, 224, 3).broadcastWith(Shape.of(3)));
+    assertEquals(Shape.of(8, 7, 6), Shape.of(8, 1, 6).broadcastWith(Shape.of(7, 1)));
+    assertEquals(Shape.of(8, 7, 6), Shape.of(7, 1).broadcastWith(Shape.of(8, 1, 6)));
+    assertEquals(Shape.of(2, 3), Shape.scalar().broadcastWith(Shape.of(2, 3)));
+    assertEquals(Shape.of(4, 3), Shape.of(-1, 3).broadcastWith(Shape.of(4, 1)));
+    assertArrayEquals(new long[] {-1, 3}, Shape.of(-1, 3).broadcastWith(Shape.of(1, 1)).asArray());
+    assertTrue(Shape.unknown().broadcastWith(Shape.of(2)).isUnknown());
+    assertThrows(IllegalArgumentException.class, () -> Shape.of(2, 3).broadcastWith(Shape.of(4)));
+
+    assertTrue(Shape.of(3).isBroadcastableTo(Shape.of(4, 3)));
+    assertTrue(Shape.of(2, 1).isBroadcastableTo(Shape.of(5, 2, 3)));
+    assertTrue(Shape.scalar().isBroadcastableTo(Shape.of(2)));
+    assertFalse(Shape.of(4, 3).isBroadcastableTo(Shape.of(3)));
+    assertFalse(Shape.of(2).isBroadcastableTo(Shape.of(2, 3)));
+    assertFalse(Shape.of(3).isBroadcastableTo(Shape.of(-1, 3)));
+  }
 }
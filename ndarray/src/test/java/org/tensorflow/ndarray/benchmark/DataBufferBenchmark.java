@@ -0,0 +1,119 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.benchmark;
+
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.impl.buffer.raw.RawDataBufferFactory;
+import org.tensorflow.ndarray.impl.buffer.segment.SegmentDataBufferFactory;
+
+/**
+ * Compares raw data buffers, based on {@code sun.misc.Unsafe}, with data buffers based on memory
+ * segments. The {@code segment} implementation requires running on JDK 22+ with the
+ * multi-release jar on the classpath.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class DataBufferBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Param({"raw", "segment"})
+  public String implementation;
+
+  @Setup
+  public void setUp() {
+    src = create(new float[BUFFER_SIZE]);
+    dst = create(new float[BUFFER_SIZE]);
+    for (int i = 0; i < BUFFER_SIZE; ++i) {
+      src.setFloat(i, i);
+    }
+    array = new float[BUFFER_SIZE];
+    window = src.window(WINDOW_SIZE);
+  }
+
+  @Benchmark
+  public void getByIndex(Blackhole bh) {
+    for (long i = 0; i < BUFFER_SIZE; ++i) {
+      bh.consume(src.getFloat(i));
+    }
+  }
+
+  @Benchmark
+  public void setByIndex() {
+    for (long i = 0; i < BUFFER_SIZE; ++i) {
+      dst.setFloat(1.0f, i);
+    }
+  }
+
+  @Benchmark
+  public void readToArray() {
+    src.read(array);
+  }
+
+  @Benchmark
+  public void copyToBuffer() {
+    src.copyTo(dst, BUFFER_SIZE);
+  }
+
+  @Benchmark
+  public void slideWindow(Blackhole bh) {
+    for (long i = 0; i <= BUFFER_SIZE - WINDOW_SIZE; i += WINDOW_SIZE) {
+      bh.consume(window.slideTo(i).buffer().getFloat(0));
+    }
+  }
+
+  private FloatDataBuffer create(float[] values) {
+    switch (implementation) {
+      case "raw":
+        return RawDataBufferFactory.create(values, false);
+      case "segment":
+        if (!SegmentDataBufferFactory.canBeUsed()) {
+          throw new IllegalStateException("Memory segment data buffers require JDK 22+");
+        }
+        return SegmentDataBufferFactory.create(values, false);
+      default:
+        throw new IllegalArgumentException("Unknown implementation \"" + implementation + "\"");
+    }
+  }
+
+  private static final int BUFFER_SIZE = 1024 * 1024;
+  private static final int WINDOW_SIZE = 64;
+
+  private FloatDataBuffer src;
+  private FloatDataBuffer dst;
+  private float[] array;
+  private DataBufferWindow<FloatDataBuffer> window;
+}
@@ -0,0 +1,206 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.benchmark;
+
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.ops.FloatNdExpr;
+import org.tensorflow.ndarray.ops.FloatOps;
+
+/**
+ * Compares element-wise operations, fused expressions and reductions with hand-written loops. Benchmarks are forked with the
+ * incubating Vector API module and require JDK 17+, but vectorized kernels are only measured when
+ * the multi-release jar is on the classpath.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G", "--add-modules=jdk.incubator.vector"})
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ElementwiseBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Setup
+  public void setUp() {
+    x = NdArrays.ofFloats(Shape.of(ROWS, COLUMNS));
+    y = NdArrays.ofFloats(Shape.of(ROWS, COLUMNS));
+    dst = NdArrays.ofFloats(Shape.of(ROWS, COLUMNS));
+    transposedDst = NdArrays.ofFloats(Shape.of(COLUMNS, ROWS));
+    x.scalars().forEachIndexed((coords, s) -> s.setFloat(coords[0] + coords[1]));
+    y.scalars().forEachIndexed((coords, s) -> s.setFloat(coords[0] - coords[1]));
+    xArray = new float[ROWS * COLUMNS];
+    yArray = new float[ROWS * COLUMNS];
+    dstArray = new float[ROWS * COLUMNS];
+    x.copyTo(DataBuffers.of(xArray, false, false));
+    y.copyTo(DataBuffers.of(yArray, false, false));
+    meanArray = new float[COLUMNS];
+    stdArray = new float[COLUMNS];
+    for (int j = 0; j < COLUMNS; ++j) {
+      meanArray[j] = j;
+      stdArray[j] = j + 1.0f;
+    }
+    mean = NdArrays.vectorOf(meanArray);
+    std = NdArrays.vectorOf(stdArray);
+    normalization = FloatNdExpr.of(x).sub(mean).div(std).mul(SCALE).add(BIAS);
+  }
+
+  @Benchmark
+  public void addByOps() {
+    FloatOps.add(x, y, dst);
+  }
+
+  @Benchmark
+  public void addByIndex() {
+    for (long i = 0; i < ROWS; ++i) {
+      for (long j = 0; j < COLUMNS; ++j) {
+        dst.setFloat(x.getFloat(i, j) + y.getFloat(i, j), i, j);
+      }
+    }
+  }
+
+  @Benchmark
+  public void addByArrayLoop() {
+    for (int i = 0; i < dstArray.length; ++i) {
+      dstArray[i] = xArray[i] + yArray[i];
+    }
+  }
+
+  @Benchmark
+  public void fmaByOps() {
+    FloatOps.fma(x, y, x, dst);
+  }
+
+  @Benchmark
+  public void fmaByArrayLoop() {
+    for (int i = 0; i < dstArray.length; ++i) {
+      dstArray[i] = Math.fma(xArray[i], yArray[i], xArray[i]);
+    }
+  }
+
+  @Benchmark
+  public void expByOps() {
+    FloatOps.exp(x, dst);
+  }
+
+  @Benchmark
+  public void expByArrayLoop() {
+    for (int i = 0; i < dstArray.length; ++i) {
+      dstArray[i] = (float)Math.exp(xArray[i]);
+    }
+  }
+
+  @Benchmark
+  public void addIntoTransposedByOps() {
+    FloatOps.add(x.transpose(), y.transpose(), transposedDst);
+  }
+
+  @Benchmark
+  public void addIntoTransposedByIndex() {
+    for (long i = 0; i < ROWS; ++i) {
+      for (long j = 0; j < COLUMNS; ++j) {
+        transposedDst.setFloat(x.getFloat(i, j) + y.getFloat(i, j), j, i);
+      }
+    }
+  }
+
+  @Benchmark
+  public FloatNdArray normalizeByOps() {
+    return FloatOps.add(FloatOps.mul(FloatOps.div(FloatOps.sub(x, mean), std), NdArrays.scalarOf(SCALE)), NdArrays.scalarOf(BIAS));
+  }
+
+  @Benchmark
+  public FloatNdArray normalizeByExpr() {
+    return normalization.evalInto(dst);
+  }
+
+  @Benchmark
+  public void normalizeByArrayLoop() {
+    for (int i = 0; i < ROWS; ++i) {
+      for (int j = 0; j < COLUMNS; ++j) {
+        dstArray[i * COLUMNS + j] = (xArray[i * COLUMNS + j] - meanArray[j]) / stdArray[j] * SCALE + BIAS;
+      }
+    }
+  }
+
+  @Benchmark
+  public FloatNdArray sumColumnsByOps() {
+    return FloatOps.sum(x, 0);
+  }
+
+  @Benchmark
+  public float[] sumColumnsByArrayLoop() {
+    float[] sums = new float[COLUMNS];
+    for (int i = 0; i < ROWS; ++i) {
+      for (int j = 0; j < COLUMNS; ++j) {
+        sums[j] += xArray[i * COLUMNS + j];
+      }
+    }
+    return sums;
+  }
+
+  @Benchmark
+  public FloatNdArray sumRowsByOps() {
+    return FloatOps.sum(x, 1);
+  }
+
+  @Benchmark
+  public float[] sumRowsByArrayLoop() {
+    float[] sums = new float[ROWS];
+    for (int i = 0; i < ROWS; ++i) {
+      float sum = 0.0f;
+      for (int j = 0; j < COLUMNS; ++j) {
+        sum += xArray[i * COLUMNS + j];
+      }
+      sums[i] = sum;
+    }
+    return sums;
+  }
+
+  private static final int ROWS = 1024;
+  private static final int COLUMNS = 1024;
+  private static final float SCALE = 2.0f;
+  private static final float BIAS = -1.0f;
+
+  private FloatNdArray x;
+  private FloatNdArray y;
+  private FloatNdArray dst;
+  private FloatNdArray transposedDst;
+  private float[] xArray;
+  private float[] yArray;
+  private float[] dstArray;
+  private FloatNdArray mean;
+  private FloatNdArray std;
+  private float[] meanArray;
+  private float[] stdArray;
+  private FloatNdExpr normalization;
+}
@@ -0,0 +1,121 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.impl.ops.FloatElementwise;
+import org.tensorflow.ndarray.impl.ops.FloatFusion;
+import org.tensorflow.ndarray.impl.ops.FusedGraph;
+import org.tensorflow.ndarray.impl.ops.FusedGraph.Op;
+
+/**
+ * Compares fused kernels compiled in hidden classes with interpreted ones and with a hand-written
+ * loop, on a clamped normalization of the values of a matrix. Kernels are only compiled when the
+ * multi-release jar is on the classpath.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G", "--add-modules=jdk.incubator.vector"})
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class FusionBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    xArray = new float[ROWS * COLUMNS];
+    meanArray = new float[COLUMNS];
+    stdArray = new float[COLUMNS];
+    dstArray = new float[ROWS * COLUMNS];
+    for (int i = 0; i < xArray.length; ++i) {
+      xArray[i] = random.nextFloat();
+    }
+    for (int j = 0; j < COLUMNS; ++j) {
+      meanArray[j] = random.nextFloat();
+      stdArray[j] = random.nextFloat() + 0.5f;
+    }
+    operands = new FloatNdArray[] {
+        NdArrays.wrap(Shape.of(ROWS, COLUMNS), DataBuffers.of(xArray, true, false)),
+        NdArrays.vectorOf(meanArray),
+        NdArrays.vectorOf(stdArray)
+    };
+    dst = NdArrays.ofFloats(Shape.of(ROWS, COLUMNS));
+
+    // clamp((x - mean) / std * scale + bias, -1, 1)
+    graph = FusedGraph.create();
+    int x = graph.addArray();
+    int mean = graph.addArray();
+    int std = graph.addArray();
+    int normalized = graph.addOperation(Op.DIV, graph.addOperation(Op.SUB, x, mean), std);
+    int scaled = graph.addOperation(Op.ADD, graph.addOperation(Op.MUL, normalized, graph.addConstant()), graph.addConstant());
+    graph.addOperation(Op.CLAMP, scaled, graph.addConstant(), graph.addConstant());
+  }
+
+  @Benchmark
+  public FloatNdArray compiledKernel() {
+    return FloatElementwise.apply(FloatFusion.kernel(graph, CONSTANTS), operands, dst);
+  }
+
+  @Benchmark
+  public FloatNdArray interpretedKernel() {
+    return FloatElementwise.apply(FloatFusion.interpret(graph, CONSTANTS), operands, dst);
+  }
+
+  @Benchmark
+  public float[] handWrittenLoop() {
+    for (int i = 0; i < ROWS; ++i) {
+      for (int j = 0; j < COLUMNS; ++j) {
+        float value = (xArray[i * COLUMNS + j] - meanArray[j]) / stdArray[j] * SCALE + BIAS;
+        dstArray[i * COLUMNS + j] = Math.min(Math.max(value, -1.0f), 1.0f);
+      }
+    }
+    return dstArray;
+  }
+
+  private static final int ROWS = 1024;
+  private static final int COLUMNS = 1024;
+  private static final float SCALE = 2.0f;
+  private static final float BIAS = -1.0f;
+  private static final float[] CONSTANTS = {SCALE, BIAS, -1.0f, 1.0f};
+
+  private float[] xArray;
+  private float[] meanArray;
+  private float[] stdArray;
+  private float[] dstArray;
+  private FloatNdArray[] operands;
+  private FloatNdArray dst;
+  private FusedGraph graph;
+}
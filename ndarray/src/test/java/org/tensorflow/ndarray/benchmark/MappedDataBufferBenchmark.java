@@ -0,0 +1,107 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.benchmark;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.MappedDataBuffer;
+
+/**
+ * Compares random row access of a table backed by a file mapped in memory with the same table
+ * allocated on the heap.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class MappedDataBufferBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Param({"heap", "mapped"})
+  public String storage;
+
+  @Setup
+  public void setUp() throws IOException {
+    Shape shape = Shape.of(NUM_ROWS, ROW_SIZE);
+    if (storage.equals("mapped")) {
+      file = Files.createTempFile("ndarray-benchmark", ".bin");
+      mapping = DataBuffers.mapFloats(file, FileChannel.MapMode.READ_WRITE, 0, shape.size());
+      table = NdArrays.wrap(shape, mapping.buffer());
+    } else {
+      table = NdArrays.ofFloats(shape);
+    }
+    Random random = new Random(42);
+    for (long i = 0; i < NUM_ROWS; ++i) {
+      table.setFloat(random.nextFloat(), i, 0);
+    }
+    rowIndices = new long[NUM_LOOKUPS];
+    for (int i = 0; i < NUM_LOOKUPS; ++i) {
+      rowIndices[i] = (long)(random.nextDouble() * NUM_ROWS);
+    }
+    row = DataBuffers.ofFloats(ROW_SIZE);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    if (mapping != null) {
+      mapping.close();
+      Files.delete(file);
+    }
+  }
+
+  @Benchmark
+  @Measurement(batchSize = NUM_LOOKUPS)
+  public void readRandomRows() {
+    for (long rowIndex : rowIndices) {
+      table.get(rowIndex).copyTo(row);
+    }
+  }
+
+  private static final long NUM_ROWS = 1_000_000L;
+  private static final int ROW_SIZE = 256;
+  private static final int NUM_LOOKUPS = 10_000;
+
+  private Path file;
+  private MappedDataBuffer<FloatDataBuffer> mapping;
+  private FloatNdArray table;
+  private long[] rowIndices;
+  private FloatDataBuffer row;
+}
@@ -0,0 +1,107 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.ops.FloatOps;
+
+/**
+ * Compares matrix products with a naive triple loop. Each invocation counts for the {@value #FLOPS}
+ * floating-point operations of a product, so throughput is reported in FLOP/s.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G", "--add-modules=jdk.incubator.vector"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class MatmulBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    a = NdArrays.ofFloats(Shape.of(SIZE, SIZE));
+    b = NdArrays.ofFloats(Shape.of(SIZE, SIZE));
+    c = NdArrays.ofFloats(Shape.of(SIZE, SIZE));
+    a.scalars().forEach(s -> s.setFloat(random.nextFloat()));
+    b.scalars().forEach(s -> s.setFloat(random.nextFloat()));
+    aArray = new float[SIZE * SIZE];
+    bArray = new float[SIZE * SIZE];
+    cArray = new float[SIZE * SIZE];
+    a.copyTo(DataBuffers.of(aArray, false, false));
+    b.copyTo(DataBuffers.of(bArray, false, false));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FLOPS)
+  public FloatNdArray matmulByOps() {
+    return FloatOps.matmul(a, b, c);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FLOPS)
+  public FloatNdArray matmulTransposedByOps() {
+    return FloatOps.matmul(a, b.transpose(), c);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FLOPS)
+  public float[] matmulByTripleLoop() {
+    for (int i = 0; i < SIZE; ++i) {
+      for (int j = 0; j < SIZE; ++j) {
+        float sum = 0.0f;
+        for (int p = 0; p < SIZE; ++p) {
+          sum += aArray[i * SIZE + p] * bArray[p * SIZE + j];
+        }
+        cArray[i * SIZE + j] = sum;
+      }
+    }
+    return cArray;
+  }
+
+  private static final int SIZE = 512;
+  private static final int FLOPS = 2 * SIZE * SIZE * SIZE;
+
+  private FloatNdArray a;
+  private FloatNdArray b;
+  private FloatNdArray c;
+  private float[] aArray;
+  private float[] bArray;
+  private float[] cArray;
+}
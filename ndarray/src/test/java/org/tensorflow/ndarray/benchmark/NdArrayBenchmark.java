@@ -32,10 +32,13 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.RunnerException;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.FloatNdCursor;
 import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.SlicePlan;
 import org.tensorflow.ndarray.StdArrays;
 
 @Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
@@ -63,11 +66,12 @@ public class NdArrayBenchmark {
 			for (int x = 0; x < image.getWidth(); ++x, ++pixelIdx) {
 				imageData.getPixel(x, y, pixel);
 				StdArrays.copyTo(pixel, pixels.get(pixelIdx));
-				StdArrays.copyTo(pixel, channels.slice(all(), at(pixelIdx)));
 			}
 		}
+		pixels.transpose().copyTo(channels);
 		batches = NdArrays.ofFloats(Shape.of(BATCH_SIZE, 3, numPixels));
 		firstBatch = batches.get(0);
+		batchSlicePlan = batches.slicePlan(at(0), all(), at(0));
 	}
 
 	@Benchmark
@@ -82,6 +86,18 @@ public class NdArrayBenchmark {
 		batches.slice(at(0), all(), at(0));
 	}
 
+	@Benchmark
+	@Measurement(batchSize = 2049 * 1537)
+	public void slicingWithPlan() {
+		batchSlicePlan.slice(0, 0);
+	}
+
+	@Benchmark
+	@Measurement(batchSize = 2049 * 1537)
+	public void slidingSlicePlan() {
+		batchSlicePlan.slideTo(0, 0);
+	}
+
 	@Benchmark
 	public void readingAllPixelsChannelsBySequence() {
 		pixels.scalars().forEach(pixel -> pixel.getFloat());
@@ -103,12 +119,42 @@ public class NdArrayBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void readingAllPixelsChannelsByCursor(Blackhole blackhole) {
+		FloatNdCursor cursor = pixels.cursor();
+		do {
+			blackhole.consume(cursor.getFloat());
+		} while (cursor.next());
+	}
+
+	@Benchmark
+	public void readingAllPixelsChannelsByVisitor(Blackhole blackhole) {
+		pixels.forEachFloat((coords, value) -> blackhole.consume(value));
+	}
+
+	@Benchmark
+	public double summingAllPixelsChannelsByStream() {
+		return pixels.streamOfFloats().sum();
+	}
+
 	@Benchmark
   @Measurement(batchSize = BATCH_SIZE)
 	public void writeFirstBatchChannels() {
 	  firstBatch.set(channels);
 	}
 
+	@Benchmark
+	public void transposePixelsToChannels() {
+		pixels.transpose().copyTo(channels);
+	}
+
+	@Benchmark
+	public void writeAllBatchChannelsFromTransposedPixels() {
+		batches.elements(0).forEach(batch ->
+			batch.set(pixels.transpose())
+		);
+	}
+
 	@Benchmark
 	public void writeAllBatchChannels() {
 	  batches.elements(0).forEach(batch ->
@@ -122,6 +168,15 @@ public class NdArrayBenchmark {
 		batches.slice(at(0), all(), at(0)).set(pixels.get(0));
 	}
 
+	@Benchmark
+	public void writeAllPixelsBySlicePlan() {
+		batches.elements(0).forEachIndexed((batchCoords, batch) ->
+				pixels.elements(0).forEachIndexed((coords, pixel) ->
+						batchSlicePlan.slideTo(batchCoords[0], coords[0]).set(pixel)
+				)
+		);
+	}
+
 	@Benchmark
 	public void writeAllPixelsBySlicing() {
 		batches.elements(0).forEach(batch ->
@@ -160,4 +215,5 @@ public class NdArrayBenchmark {
 	private FloatNdArray channels;
 	private FloatNdArray batches;
 	private FloatNdArray firstBatch;
+	private SlicePlan<FloatNdArray> batchSlicePlan;
 }
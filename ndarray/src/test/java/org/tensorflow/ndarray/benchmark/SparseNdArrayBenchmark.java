@@ -0,0 +1,101 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+import org.tensorflow.ndarray.impl.sparse.FloatSparseNdArray;
+
+/**
+ * Measures random lookups in a large sparse array, where about half of the coordinates looked up
+ * have a non-default value.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SparseNdArrayBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Setup
+  public void setUp() {
+    // Every other element of the dense array has a value, in row-major order
+    LongNdArray indices = NdArrays.ofLongs(Shape.of(NUM_VALUES, 2));
+    FloatNdArray values = NdArrays.ofFloats(Shape.of(NUM_VALUES));
+    for (long i = 0; i < NUM_VALUES; ++i) {
+      long position = i * 2;
+      indices.setLong(position / NUM_COLUMNS, i, 0);
+      indices.setLong(position % NUM_COLUMNS, i, 1);
+      values.setFloat(i, i);
+    }
+    array = FloatSparseNdArray.create(indices, values,
+        DimensionalSpace.create(Shape.of(NUM_VALUES * 2 / NUM_COLUMNS, NUM_COLUMNS)));
+
+    Random random = new Random(42);
+    rows = new long[NUM_LOOKUPS];
+    columns = new long[NUM_LOOKUPS];
+    for (int i = 0; i < NUM_LOOKUPS; ++i) {
+      rows[i] = random.nextInt((int)array.shape().get(0));
+      columns[i] = random.nextInt(NUM_COLUMNS);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_LOOKUPS)
+  public void getFloat(Blackhole bh) {
+    for (int i = 0; i < NUM_LOOKUPS; ++i) {
+      bh.consume(array.getFloat(rows[i], columns[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_LOOKUPS)
+  public void getObject(Blackhole bh) {
+    for (int i = 0; i < NUM_LOOKUPS; ++i) {
+      bh.consume(array.getObject(rows[i], columns[i]));
+    }
+  }
+
+  private static final long NUM_VALUES = 10_000_000L;
+  private static final int NUM_COLUMNS = 1000;
+  private static final int NUM_LOOKUPS = 100_000;
+
+  private FloatSparseNdArray array;
+  private long[] rows;
+  private long[] columns;
+}
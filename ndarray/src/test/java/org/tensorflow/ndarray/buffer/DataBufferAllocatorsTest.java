@@ -0,0 +1,151 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+
+public class DataBufferAllocatorsTest {
+
+  @AfterEach
+  public void resetAllocators() {
+    DataBufferAllocators.setForCurrentThread(null);
+    DataBufferAllocators.setGlobal(null);
+  }
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  public void defaultAllocatorIsHeap() {
+    assertSame(DataBufferAllocators.heap(), DataBufferAllocators.current());
+  }
+
+  @Test
+  public void defaultAllocatorIsLoadedAsService() throws Exception {
+    // Register the service in an isolated class loader, so that it does not leak to other tests
+    Path services = Files.createDirectories(tempDir.resolve("META-INF/services"));
+    Files.write(services.resolve(DataBufferAllocator.class.getName()),
+        ServiceDataBufferAllocator.class.getName().getBytes());
+    URL[] urls = {
+        codeSource(DataBufferAllocators.class), codeSource(ServiceDataBufferAllocator.class), tempDir.toUri().toURL()
+    };
+    Thread thread = Thread.currentThread();
+    ClassLoader contextLoader = thread.getContextClassLoader();
+    try (URLClassLoader loader = new URLClassLoader(urls, ClassLoader.getPlatformClassLoader())) {
+      thread.setContextClassLoader(loader);
+      Object allocator = loader.loadClass(DataBufferAllocators.class.getName()).getMethod("current").invoke(null);
+      assertEquals(ServiceDataBufferAllocator.class.getName(), allocator.getClass().getName());
+      assertSame(loader, allocator.getClass().getClassLoader());
+    } finally {
+      thread.setContextClassLoader(contextLoader);
+    }
+  }
+
+  @Test
+  public void allocateWithGlobalAllocator() {
+    CountingAllocator allocator = new CountingAllocator();
+    DataBufferAllocators.setGlobal(allocator);
+    assertSame(allocator, DataBufferAllocators.current());
+
+    FloatNdArray array = NdArrays.ofFloats(Shape.of(2, 3));
+    assertEquals(6, array.size());
+    assertEquals(6, allocator.allocatedSize.get());
+  }
+
+  @Test
+  public void threadAllocatorOverridesGlobalAllocator() throws Exception {
+    CountingAllocator globalAllocator = new CountingAllocator();
+    CountingAllocator threadAllocator = new CountingAllocator();
+    DataBufferAllocators.setGlobal(globalAllocator);
+    assertNull(DataBufferAllocators.setForCurrentThread(threadAllocator));
+
+    DataBuffers.ofFloats(10);
+    Thread thread = new Thread(() -> DataBuffers.ofFloats(20));
+    thread.start();
+    thread.join();
+
+    assertEquals(10, threadAllocator.allocatedSize.get());
+    assertEquals(20, globalAllocator.allocatedSize.get());
+    assertSame(threadAllocator, DataBufferAllocators.setForCurrentThread(null));
+    assertSame(globalAllocator, DataBufferAllocators.current());
+  }
+
+  @Test
+  public void allocateDirectBuffers() {
+    DataBufferAllocators.setForCurrentThread(DataBufferAllocators.direct());
+    FloatDataBuffer buffer = DataBuffers.ofFloats(100);
+    assertEquals(100, buffer.size());
+    assertTrue(buffer.accept(new DataStorageVisitor<Boolean>() {
+
+      @Override
+      public Boolean visit(FloatBuffer buffer) {
+        return buffer.isDirect();
+      }
+
+      @Override
+      public Boolean fallback() {
+        return false;
+      }
+    }));
+    buffer.setFloat(10.0f, 99);
+    assertEquals(10.0f, buffer.getFloat(99), 0.0f);
+
+    BooleanDataBuffer booleans = DataBuffers.ofBooleans(5);
+    booleans.setBoolean(true, 4);
+    assertTrue(booleans.getBoolean(4));
+  }
+
+  @Test
+  public void invalidSizeIsRejectedBeforeAllocation() {
+    CountingAllocator allocator = new CountingAllocator();
+    DataBufferAllocators.setForCurrentThread(allocator);
+    assertThrows(IllegalArgumentException.class, () -> DataBuffers.ofFloats(-1));
+    assertEquals(0, allocator.allocatedSize.get());
+  }
+
+  private static URL codeSource(Class<?> type) {
+    return type.getProtectionDomain().getCodeSource().getLocation();
+  }
+
+  private static class CountingAllocator extends ServiceDataBufferAllocator {
+
+    @Override
+    public FloatDataBuffer allocateFloats(long size) {
+      allocatedSize.addAndGet(size);
+      return super.allocateFloats(size);
+    }
+
+    final AtomicLong allocatedSize = new AtomicLong();
+  }
+}
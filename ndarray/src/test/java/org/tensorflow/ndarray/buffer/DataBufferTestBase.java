@@ -265,6 +265,11 @@ public abstract class DataBufferTestBase<T> {
     assertEquals(4, bufferWindow.size());
     assertEquals(valueOf(18L), bufferWindow.buffer().getObject(2));
 
+    DataBuffer<T> windowCopy = allocate(4);
+    bufferWindow.buffer().copyTo(windowCopy, 4);
+    assertEquals(valueOf(16L), windowCopy.getObject(0));
+    assertEquals(valueOf(19L), windowCopy.getObject(3));
+
     try {
       bufferWindow.slide(1);
       fail();
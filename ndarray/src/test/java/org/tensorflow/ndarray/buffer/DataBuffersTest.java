@@ -0,0 +1,133 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+
+public class DataBuffersTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  public void mapFileForWriting() throws IOException {
+    Path file = Files.createFile(tempDir.resolve("floats.bin"));
+    try (MappedDataBuffer<FloatDataBuffer> mapping = DataBuffers.mapFloats(file, FileChannel.MapMode.READ_WRITE, 0, 10)) {
+      FloatDataBuffer buffer = mapping.buffer();
+      assertEquals(10, buffer.size());
+      assertFalse(buffer.isReadOnly());
+      for (int i = 0; i < buffer.size(); ++i) {
+        buffer.setFloat(i * 0.5f, i);
+      }
+      mapping.force();
+    }
+    assertEquals(10 * Float.BYTES, Files.size(file));
+
+    ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.nativeOrder());
+    for (int i = 0; i < 10; ++i) {
+      assertEquals(i * 0.5f, content.getFloat(), 0.0f);
+    }
+  }
+
+  @Test
+  public void mapFileForReading() throws IOException {
+    ByteBuffer content = ByteBuffer.allocate(8 + 6 * Long.BYTES).order(ByteOrder.nativeOrder());
+    content.putLong(-1L);
+    for (long i = 0; i < 6; ++i) {
+      content.putLong(i * i);
+    }
+    Path file = Files.write(tempDir.resolve("longs.bin"), content.array());
+
+    try (MappedDataBuffer<LongDataBuffer> mapping = DataBuffers.mapLongs(file, FileChannel.MapMode.READ_ONLY, 8, 6)) {
+      LongDataBuffer buffer = mapping.buffer();
+      assertEquals(6, buffer.size());
+      assertTrue(buffer.isReadOnly());
+      assertEquals(0L, buffer.getLong(0));
+      assertEquals(25L, buffer.getLong(5));
+      assertEquals(9L, buffer.slice(2, 2).getLong(1));
+      assertThrows(ReadOnlyBufferException.class, () -> buffer.setLong(10L, 0));
+    }
+  }
+
+  @Test
+  public void wrapMappedFileInNdArray() throws IOException {
+    Path file = Files.createFile(tempDir.resolve("table.bin"));
+    try (MappedDataBuffer<FloatDataBuffer> mapping = DataBuffers.mapFloats(file, FileChannel.MapMode.READ_WRITE, 0, 12)) {
+      FloatNdArray table = NdArrays.wrap(Shape.of(4, 3), mapping.buffer());
+      table.setFloat(5.0f, 2, 1);
+      assertEquals(5.0f, mapping.buffer().getFloat(7), 0.0f);
+      assertEquals(5.0f, table.get(2).getFloat(1), 0.0f);
+    }
+  }
+
+  @Test
+  public void mapFileOfBooleans() throws IOException {
+    Path file = Files.write(tempDir.resolve("booleans.bin"), new byte[] { 0, 1, 1, 0 });
+    try (MappedDataBuffer<BooleanDataBuffer> mapping = DataBuffers.mapBooleans(file, FileChannel.MapMode.READ_ONLY, 0, 4)) {
+      BooleanDataBuffer buffer = mapping.buffer();
+      assertFalse(buffer.getBoolean(0));
+      assertTrue(buffer.getBoolean(1));
+      assertTrue(buffer.getBoolean(2));
+      assertFalse(buffer.getBoolean(3));
+    }
+  }
+
+  @Test
+  public void mapFileLargerThan2GB() throws IOException {
+    Path file = Files.createFile(tempDir.resolve("large.bin"));
+    long size = (1L << 29) + 4; // a bit more than 2GB of floats
+    try (MappedDataBuffer<FloatDataBuffer> mapping = DataBuffers.mapFloats(file, FileChannel.MapMode.READ_WRITE, 0, size)) {
+      FloatDataBuffer buffer = mapping.buffer();
+      assertEquals(size, buffer.size());
+      buffer.setFloat(1.0f, 0);
+      buffer.setFloat(2.0f, size - 1);
+
+      // write and read values on both sides of the 1GB boundary
+      FloatDataBuffer window = buffer.slice((1L << 28) - 2, 4);
+      window.write(new float[] {3.0f, 4.0f, 5.0f, 6.0f});
+      float[] values = new float[4];
+      buffer.slice((1L << 28) - 2, 4).read(values);
+      assertEquals(5.0f, values[2], 0.0f);
+      assertEquals(4.0f, buffer.getFloat((1L << 28) - 1), 0.0f);
+      assertEquals(1.0f, buffer.getFloat(0), 0.0f);
+      assertEquals(2.0f, buffer.getFloat(size - 1), 0.0f);
+    }
+    assertEquals(size * Float.BYTES, Files.size(file));
+  }
+
+  @Test
+  public void mapWithInvalidSizeFails() {
+    Path file = tempDir.resolve("invalid.bin");
+    assertThrows(IllegalArgumentException.class, () -> DataBuffers.mapInts(file, FileChannel.MapMode.READ_WRITE, 0, -1));
+  }
+}
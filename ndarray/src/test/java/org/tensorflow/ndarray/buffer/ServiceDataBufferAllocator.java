@@ -0,0 +1,59 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.buffer;
+
+/**
+ * Allocator registered as a service by {@link DataBufferAllocatorsTest}, delegating to the heap
+ * allocator.
+ */
+public class ServiceDataBufferAllocator implements DataBufferAllocator {
+
+  @Override
+  public ByteDataBuffer allocateBytes(long size) {
+    return DataBufferAllocators.heap().allocateBytes(size);
+  }
+
+  @Override
+  public LongDataBuffer allocateLongs(long size) {
+    return DataBufferAllocators.heap().allocateLongs(size);
+  }
+
+  @Override
+  public IntDataBuffer allocateInts(long size) {
+    return DataBufferAllocators.heap().allocateInts(size);
+  }
+
+  @Override
+  public ShortDataBuffer allocateShorts(long size) {
+    return DataBufferAllocators.heap().allocateShorts(size);
+  }
+
+  @Override
+  public DoubleDataBuffer allocateDoubles(long size) {
+    return DataBufferAllocators.heap().allocateDoubles(size);
+  }
+
+  @Override
+  public FloatDataBuffer allocateFloats(long size) {
+    return DataBufferAllocators.heap().allocateFloats(size);
+  }
+
+  @Override
+  public BooleanDataBuffer allocateBooleans(long size) {
+    return DataBufferAllocators.heap().allocateBooleans(size);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBufferTestBase;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+
+public class ByteChunkedDataBufferTest extends ByteDataBufferTestBase {
+
+  @Override
+  protected ByteDataBuffer allocate(long size) {
+    return chunked(size, 8);
+  }
+
+  @Test
+  public void slicesWithinAChunkAreNotChunked() {
+    ByteDataBuffer buffer = allocate(20);
+    assertEquals(ByteChunkedDataBuffer.class, buffer.slice(6, 4).getClass());
+    assertEquals(ByteChunkedDataBuffer.class, buffer.offset(4).getClass());
+
+    ByteDataBuffer slice = buffer.slice(8, 8);
+    assertNotEquals(ByteChunkedDataBuffer.class, slice.getClass());
+    slice.setByte((byte)5, 7);
+    assertEquals(5, buffer.getByte(15));
+    assertEquals(5, buffer.offset(12).slice(2, 2).getByte(1));
+  }
+
+  @Test
+  public void viewValuesAcrossChunks() {
+    ByteDataBuffer buffer = allocate(36);
+    buffer.asLongs().setLong(-2L, 1);
+    buffer.asInts().setInt(7, 8);
+    assertEquals(4, buffer.asLongs().size());
+    assertEquals(-2L, buffer.offset(8).asLongs().getLong(0));
+    assertEquals(7, buffer.offset(16).asInts().getInt(4));
+    assertEquals(7, buffer.asInts().slice(6, 3).getInt(2));
+    assertThrows(UnsupportedOperationException.class, () -> buffer.offset(3).asInts());
+  }
+
+  @Test
+  public void invalidChunks() {
+    assertThrows(IllegalArgumentException.class, () -> MiscDataBufferFactory.create(new ByteDataBuffer[0]));
+    assertThrows(IllegalArgumentException.class,
+        () -> MiscDataBufferFactory.create(new ByteDataBuffer[] { DataBuffers.ofBytes(12), DataBuffers.ofBytes(12) }));
+    assertThrows(IllegalArgumentException.class,
+        () -> MiscDataBufferFactory.create(new ByteDataBuffer[] { DataBuffers.ofBytes(8), DataBuffers.ofBytes(16) }));
+  }
+
+  static ByteDataBuffer chunked(long size, int chunkSize) {
+    int numChunks = Math.max(1, (int)((size + chunkSize - 1) / chunkSize));
+    ByteDataBuffer[] chunks = new ByteDataBuffer[numChunks];
+    for (int i = 0; i < numChunks; ++i) {
+      int length = (int)Math.min(chunkSize, size - (long)i * chunkSize);
+      chunks[i] = DataBuffers.of(ByteBuffer.allocate(length));
+    }
+    return MiscDataBufferFactory.create(chunks);
+  }
+}
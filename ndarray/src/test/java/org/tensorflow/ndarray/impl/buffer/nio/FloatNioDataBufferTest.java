@@ -16,7 +16,14 @@
  */
 package org.tensorflow.ndarray.impl.buffer.nio;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferOverflowException;
 import java.nio.FloatBuffer;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBufferTestBase;
 
@@ -26,4 +33,20 @@ public class FloatNioDataBufferTest extends FloatDataBufferTestBase {
   protected FloatDataBuffer allocate(long size) {
     return new FloatNioDataBuffer(FloatBuffer.allocate((int)size));
   }
+
+  @Test
+  public void bulkTransfersThroughWindow() {
+    FloatDataBuffer buffer = allocate(10);
+    DataBufferWindow<FloatDataBuffer> window = buffer.window(3);
+    window.slideTo(4).buffer().write(new float[] {1.0f, 2.0f, 3.0f});
+    assertEquals(1.0f, buffer.getFloat(4), 0.0f);
+    assertEquals(3.0f, buffer.getFloat(6), 0.0f);
+    assertEquals(0.0f, buffer.getFloat(7), 0.0f);
+
+    float[] values = new float[3];
+    window.slide(-1).buffer().read(values);
+    assertArrayEquals(new float[] {0.0f, 1.0f, 2.0f}, values, 0.0f);
+    assertThrows(BufferOverflowException.class, () -> window.buffer().write(new float[] {1.0f, 2.0f, 3.0f, 4.0f}));
+    assertEquals(3.0f, buffer.getFloat(6), 0.0f);
+  }
 }
@@ -0,0 +1,173 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.BufferPool;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.Pooled;
+
+public class ArrayBufferPoolTest {
+
+  @Test
+  public void recycleReleasedBuffers() {
+    BufferPool pool = BufferPool.create();
+    Pooled<FloatDataBuffer> first = pool.allocateFloats(100);
+    assertEquals(100, first.get().size());
+    first.get().setFloat(10.0f, 99);
+    first.close();
+    assertEquals(0, pool.metrics().bytesRetained());  // cached by this thread only
+
+    try (Pooled<FloatDataBuffer> second = pool.allocateFloats(120)) {
+      assertEquals(120, second.get().size());
+      assertEquals(0.0f, second.get().getFloat(99), 0.0f);  // recycled storage is cleared
+    }
+    assertEquals(1, pool.metrics().hits());
+    assertEquals(1, pool.metrics().misses());
+    assertEquals(0.5, pool.metrics().hitRate(), 0.0);
+  }
+
+  @Test
+  public void sizeClassesAreSeparated() {
+    BufferPool pool = BufferPool.create();
+    pool.allocateInts(64).close();
+    try (Pooled<IntDataBuffer> buffer = pool.allocateInts(65)) {
+      assertEquals(65, buffer.get().size());
+    }
+    assertEquals(0, pool.metrics().hits());
+    assertEquals(2, pool.metrics().misses());
+  }
+
+  @Test
+  public void closingTwiceReleasesOnce() {
+    BufferPool pool = BufferPool.create();
+    Pooled<FloatDataBuffer> buffer = pool.allocateFloats(10);
+    buffer.close();
+    buffer.close();
+    pool.allocateFloats(10);
+    pool.allocateFloats(10);
+    assertEquals(1, pool.metrics().hits());
+    assertEquals(2, pool.metrics().misses());
+  }
+
+  @Test
+  public void evictWhenFull() {
+    // arrays larger than what a thread can cache are all shared
+    BufferPool pool = BufferPool.create(4 << 20);
+    Pooled<FloatDataBuffer> first = pool.allocateFloats(1 << 20);
+    Pooled<FloatDataBuffer> second = pool.allocateFloats(1 << 20);
+    first.close();
+    second.close();
+    assertEquals(4 << 20, pool.metrics().bytesRetained());
+    assertEquals(1, pool.metrics().evictions());
+  }
+
+  @Test
+  public void cacheLocallyWithinBudget() {
+    BufferPool pool = BufferPool.create(1024);
+    Pooled<FloatDataBuffer> first = pool.allocateFloats(256);
+    Pooled<FloatDataBuffer> second = pool.allocateFloats(256);
+    Pooled<FloatDataBuffer> third = pool.allocateFloats(256);
+    first.close();
+    second.close();
+    third.close();
+    assertEquals(1024, pool.metrics().bytesRetained());
+    assertEquals(1, pool.metrics().evictions());
+  }
+
+  @Test
+  public void shareReleasedBuffersAcrossThreads() throws Exception {
+    BufferPool pool = BufferPool.create();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(() -> {
+        List<Pooled<DoubleDataBuffer>> buffers = new ArrayList<>();
+        for (int i = 0; i < 6; ++i) {
+          buffers.add(pool.allocateDoubles(1000));
+        }
+        buffers.forEach(Pooled::close);
+      }).get();
+    } finally {
+      executor.shutdown();
+    }
+    // the releasing thread keeps a few buffers in its local cache and shares the others
+    assertEquals(2 * 1024 * Double.BYTES, pool.metrics().bytesRetained());
+    try (Pooled<DoubleDataBuffer> buffer = pool.allocateDoubles(1000)) {
+      assertEquals(1000, buffer.get().size());
+      assertEquals(1, pool.metrics().hits());
+      assertEquals(1024 * Double.BYTES, pool.metrics().bytesRetained());
+    }
+  }
+
+  @Test
+  public void budgetIsNotHeldByOtherThreads() throws Exception {
+    BufferPool pool = BufferPool.create(1024);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      // the other thread caches its buffer locally, out of the shared budget
+      executor.submit(() -> pool.allocateFloats(256).close()).get();
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(0, pool.metrics().bytesRetained());
+    Pooled<FloatDataBuffer> first = pool.allocateFloats(256);
+    Pooled<FloatDataBuffer> second = pool.allocateFloats(256);
+    first.close();
+    second.close();
+    assertEquals(1024, pool.metrics().bytesRetained());
+    assertEquals(0, pool.metrics().evictions());
+  }
+
+  @Test
+  public void closedPoolCannotBeUsed() {
+    BufferPool pool = BufferPool.create();
+    Pooled<FloatDataBuffer> borrowed = pool.allocateFloats(10);
+    Pooled<FloatDataBuffer> shared = pool.allocateFloats(1 << 20);
+    shared.close();
+    assertEquals(4 << 20, pool.metrics().bytesRetained());
+
+    pool.close();
+    assertEquals(0, pool.metrics().bytesRetained());
+    assertThrows(IllegalStateException.class, () -> pool.allocateFloats(10));
+    assertThrows(IllegalStateException.class, borrowed::close);
+  }
+
+  @Test
+  public void allocateNdArrayFromPool() {
+    BufferPool pool = BufferPool.create();
+    try (Pooled<FloatNdArray> array = NdArrays.ofFloats(Shape.of(2, 3), pool)) {
+      assertEquals(Shape.of(2, 3), array.get().shape());
+      array.get().setFloat(1.0f, 1, 2);
+      assertEquals(1.0f, array.get().getFloat(1, 2), 0.0f);
+    }
+    pool.allocateFloats(6);
+    assertEquals(1, pool.metrics().hits());
+    assertThrows(IllegalArgumentException.class, () -> NdArrays.ofFloats(Shape.of(-1, 3), pool));
+  }
+}
@@ -16,6 +16,13 @@
  */
 package org.tensorflow.ndarray.impl.buffer.raw;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.buffer.DataBuffers;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBufferTestBase;
 
@@ -25,4 +32,30 @@ public class FloatRawDataBufferTest extends FloatDataBufferTestBase {
   protected FloatDataBuffer allocate(long size) {
     return new FloatRawDataBuffer(UnsafeMemoryHandle.fromArray(new float[(int)size], (int)size), false);
   }
+
+  @Test
+  public void copyToSlicedHeapBuffer() {
+    FloatDataBuffer buffer = allocate(3).write(new float[] { 1.0f, 2.0f, 3.0f });
+    float[] array = new float[6];
+    FloatBuffer slice = FloatBuffer.wrap(array, 2, 4).slice();
+
+    buffer.copyTo(DataBuffers.of(slice), 3);
+    assertArrayEquals(new float[] { 0.0f, 0.0f, 1.0f, 2.0f, 3.0f, 0.0f }, array, 0.0f);
+
+    buffer.narrow(2).copyTo(DataBuffers.of((FloatBuffer)slice.position(1)), 2);
+    assertArrayEquals(new float[] { 0.0f, 0.0f, 1.0f, 1.0f, 2.0f, 0.0f }, array, 0.0f);
+    assertEquals(1, slice.position());
+  }
+
+  @Test
+  public void copyToDirectBuffer() {
+    FloatDataBuffer buffer = allocate(3).write(new float[] { 1.0f, 2.0f, 3.0f });
+    FloatBuffer direct = ByteBuffer.allocateDirect(4 * Float.BYTES).asFloatBuffer();
+
+    buffer.copyTo(DataBuffers.of(direct), 2);
+    assertEquals(0, direct.position());
+    assertEquals(1.0f, direct.get(0), 0.0f);
+    assertEquals(2.0f, direct.get(1), 0.0f);
+    assertEquals(0.0f, direct.get(2), 0.0f);
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.raw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.buffer.BooleanDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBufferArena;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.DataStorageVisitor;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBufferTestBase;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+
+public class RawDataBufferArenaTest extends FloatDataBufferTestBase {
+
+  @BeforeAll
+  public static void checkUnsafe() {
+    assumeTrue(RawDataBufferFactory.canBeUsed());
+  }
+
+  @AfterEach
+  public void closeArena() {
+    arena.close();
+  }
+
+  @Override
+  protected FloatDataBuffer allocate(long size) {
+    return arena.allocateFloats(size);
+  }
+
+  @Test
+  public void buffersAreAlignedAndZeroed() {
+    DataBuffer<?>[] buffers = {
+        arena.allocateBytes(3),
+        arena.allocateShorts(5),
+        arena.allocateInts(7),
+        arena.allocateLongs(9),
+        arena.allocateFloats(11),
+        arena.allocateDoubles(13),
+        arena.allocateBooleans(15)
+    };
+    for (DataBuffer<?> buffer : buffers) {
+      assertEquals(0, address(buffer) % DataBufferArena.ALIGNMENT);
+    }
+    assertEquals(3, buffers[0].size());
+    assertEquals(13, buffers[5].size());
+    assertEquals(9 * DataBufferArena.ALIGNMENT, arena.allocatedBytes());  // longs and doubles take two lines
+
+    LongDataBuffer longs = (LongDataBuffer)buffers[3];
+    for (long i = 0; i < longs.size(); ++i) {
+      assertEquals(0L, longs.getLong(i));
+    }
+    DoubleDataBuffer doubles = (DoubleDataBuffer)buffers[5];
+    doubles.setDouble(1.5, 12);
+    assertEquals(1.5, doubles.getDouble(12), 0.0);
+    assertEquals(0L, longs.getLong(8));
+  }
+
+  @Test
+  public void largeBuffersHaveTheirOwnSlab() {
+    try (DataBufferArena smallArena = DataBufferArena.create(256, false)) {
+      ShortDataBuffer small = smallArena.allocateShorts(10);
+      FloatDataBuffer large = smallArena.allocateFloats(1000);
+      ShortDataBuffer next = smallArena.allocateShorts(10);
+      assertEquals(0, address(large) % DataBufferArena.ALIGNMENT);
+      assertEquals(address(small) + DataBufferArena.ALIGNMENT, address(next));
+      large.setFloat(1.0f, 999);
+      assertEquals(1.0f, large.getFloat(999), 0.0f);
+    }
+  }
+
+  @Test
+  public void allocatingFromClosedArenaFails() {
+    DataBufferArena closedArena = DataBufferArena.create();
+    closedArena.allocateInts(10);
+    assertFalse(closedArena.isClosed());
+    closedArena.close();
+    assertTrue(closedArena.isClosed());
+    closedArena.close();  // no effect
+    assertThrows(IllegalStateException.class, () -> closedArena.allocateInts(10));
+  }
+
+  @Test
+  public void accessingBuffersOfClosedArenaFails() {
+    DataBufferArena closedArena = DataBufferArena.create();
+    FloatDataBuffer floats = closedArena.allocateFloats(10);
+    FloatDataBuffer slice = floats.slice(2, 4);
+    ByteDataBuffer bytes = closedArena.allocateBytes(16);
+    IntDataBuffer ints = bytes.asInts();
+    FloatDataBuffer heapFloats = DataBuffers.ofFloats(10);
+    closedArena.close();
+
+    assertThrows(IllegalStateException.class, () -> floats.getFloat(0));
+    assertThrows(IllegalStateException.class, () -> floats.setFloat(1.0f, 0));
+    assertThrows(IllegalStateException.class, () -> slice.getFloat(0));
+    assertThrows(IllegalStateException.class, () -> ints.getInt(0));
+    assertThrows(IllegalStateException.class, () -> floats.read(new float[10]));
+    assertThrows(IllegalStateException.class, () -> floats.copyTo(heapFloats, 10));
+    assertThrows(IllegalStateException.class, () -> heapFloats.copyTo(floats, 10));
+    assertThrows(IllegalStateException.class, () -> address(floats));
+    assertThrows(IllegalStateException.class, () -> floats.offset(1).getFloat(0));
+  }
+
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> DataBufferArena.create(0, false));
+    assertThrows(IllegalArgumentException.class, () -> arena.allocateLongs(-1));
+  }
+
+  @Test
+  public void debugModeDetectsOutOfBoundsWrites() {
+    DataBufferArena debugArena = DataBufferArena.create(1024, true);
+    BooleanDataBuffer booleans = debugArena.allocateBooleans(10);
+    booleans.setBoolean(true, 9);
+    ByteDataBuffer bytes = debugArena.allocateBytes(10);
+    bytes.setByte((byte)1, 9);
+    UnsafeReference.UNSAFE.putByte(address(bytes) + bytes.size(), (byte)1);
+    assertThrows(IllegalStateException.class, debugArena::close);
+    assertTrue(debugArena.isClosed());
+
+    DataBufferArena cleanArena = DataBufferArena.create(1024, true);
+    cleanArena.allocateFloats(16).setFloat(1.0f, 15);
+    cleanArena.close();
+  }
+
+  private static long address(DataBuffer<?> buffer) {
+    return buffer.accept(new DataStorageVisitor<Long>() {
+
+      @Override
+      public Long visit(long address, long length, long scale) {
+        return address;
+      }
+
+      @Override
+      public Long fallback() {
+        throw new IllegalArgumentException("Buffer is not native");
+      }
+    });
+  }
+
+  private final DataBufferArena arena = DataBufferArena.create();
+}
@@ -0,0 +1,36 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.buffer.segment;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
+import org.tensorflow.ndarray.buffer.DoubleDataBufferTestBase;
+
+public class DoubleSegmentDataBufferTest extends DoubleDataBufferTestBase {
+
+  @BeforeAll
+  public static void checkAvailability() {
+    assumeTrue(SegmentDataBufferFactory.canBeUsed());
+  }
+
+  @Override
+  protected DoubleDataBuffer allocate(long size) {
+    return SegmentDataBufferFactory.create(new double[(int)size], false);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.impl.ops;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.impl.ops.FusedGraph.Op;
+
+public class FloatFusionTest {
+
+  @Test
+  public void compiledAndInterpretedKernelsAgree() {
+    Random random = new Random(42);
+    FloatNdArray x = NdArrays.ofFloats(Shape.of(30, 70));
+    FloatNdArray y = NdArrays.ofFloats(Shape.of(70));
+    x.scalars().forEach(s -> s.setFloat(random.nextFloat() * 4.0f - 2.0f));
+    y.scalars().forEach(s -> s.setFloat(random.nextFloat() + 0.5f));
+
+    FusedGraph graph = FusedGraph.create();
+    int xNode = graph.addArray();
+    int yNode = graph.addArray();
+    int sum = graph.addOperation(Op.ADD, xNode, graph.addConstant());
+    int quotient = graph.addOperation(Op.DIV, sum, yNode);
+    int clamped = graph.addOperation(Op.CLAMP, quotient, graph.addConstant(), graph.addConstant());
+    int fma = graph.addOperation(Op.FMA, clamped, quotient, graph.addOperation(Op.ABS, xNode));
+    int extremum = graph.addOperation(Op.MAX, graph.addOperation(Op.MIN, fma, sum), graph.addOperation(Op.SUB, yNode, xNode));
+    graph.addOperation(Op.MUL, extremum, extremum);
+    float[] constants = {0.5f, -1.0f, 1.0f};
+
+    FloatNdArray compiled = NdArrays.ofFloats(x.shape());
+    FloatNdArray interpreted = NdArrays.ofFloats(x.shape());
+    FloatElementwise.apply(FloatFusion.kernel(graph, constants), new FloatNdArray[] {x, y}, compiled);
+    FloatElementwise.apply(FloatFusion.interpret(graph, constants), new FloatNdArray[] {x, y}, interpreted);
+    assertEquals(interpreted, compiled);
+    float x0 = x.getFloat(0, 0);
+    float y0 = y.getFloat(0);
+    float expectedQuotient = (x0 + 0.5f) / y0;
+    float expectedFma = Math.fma(Math.min(Math.max(expectedQuotient, -1.0f), 1.0f), expectedQuotient, Math.abs(x0));
+    float expectedExtremum = Math.max(Math.min(expectedFma, x0 + 0.5f), y0 - x0);
+    assertEquals(expectedExtremum * expectedExtremum, compiled.getFloat(0, 0));
+
+    // a kernel compiled for a graph is reused with other constants
+    constants[0] = 100.0f;
+    FloatElementwise.apply(FloatFusion.kernel(graph, constants), new FloatNdArray[] {x, y}, compiled);
+    FloatElementwise.apply(FloatFusion.interpret(graph, constants), new FloatNdArray[] {x, y}, interpreted);
+    assertEquals(interpreted, compiled);
+  }
+
+  @Test
+  public void copyLeaves() {
+    FloatNdArray x = NdArrays.vectorOf(1.0f, 2.0f);
+    FusedGraph graph = FusedGraph.create();
+    graph.addArray();
+    FloatNdArray dst = NdArrays.ofFloats(x.shape());
+    FloatElementwise.apply(FloatFusion.kernel(graph, new float[0]), new FloatNdArray[] {x}, dst);
+    assertEquals(x, dst);
+
+    graph = FusedGraph.create();
+    graph.addConstant();
+    FloatElementwise.apply(FloatFusion.kernel(graph, new float[] {3.0f}), new FloatNdArray[0], dst);
+    assertEquals(NdArrays.vectorOf(3.0f, 3.0f), dst);
+  }
+
+  @Test
+  public void validateGraphs() {
+    FusedGraph graph = FusedGraph.create();
+    int x = graph.addArray();
+    assertThrows(IllegalArgumentException.class, () -> graph.addOperation(Op.ADD, x));
+    assertThrows(IllegalArgumentException.class, () -> graph.addOperation(Op.ADD, x, 1));
+    assertThrows(IllegalArgumentException.class, () -> graph.addOperation(Op.ARRAY));
+    assertThrows(IllegalArgumentException.class, () -> graph.addOperation(Op.CLAMP, x, x, x));
+
+    FusedGraph otherGraph = FusedGraph.create();
+    otherGraph.addArray();
+    assertEquals(graph.signature(), otherGraph.signature());
+    graph.addOperation(Op.EXP, x);
+    otherGraph.addOperation(Op.LOG, x);
+    assertNotEquals(graph.signature(), otherGraph.signature());
+  }
+}
@@ -19,11 +19,14 @@ package org.tensorflow.ndarray.impl.sequence;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 import org.junit.jupiter.api.Test;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.buffer.DataBufferWindow;
@@ -99,7 +102,7 @@ public class ElementSequenceTest {
     IntNdArray array = NdArrays.ofInts(Shape.of(2, 3, 2));
     IntNdArray element = array.get(0);
     NdArraySequence<IntNdArray> sequence = new FastElementSequence(
-        (AbstractNdArray<Integer, IntNdArray>) array, 1, element, mockDataBufferWindow(2));
+        (AbstractNdArray<Integer, IntNdArray>) array, 1, () -> new ElementView<>(element, mockDataBufferWindow(2)));
     sequence.forEach(e -> {
       if (e != element) {
         fail();
@@ -107,6 +110,43 @@ public class ElementSequenceTest {
     });
   }
 
+  @Test
+  public void splitElementsByRanges() {
+    IntNdArray array = NdArrays.ofInts(Shape.of(3, 3, 2));
+    Spliterator<IntNdArray> prefix = array.elements(1).spliterator();
+    assertEquals(9, prefix.getExactSizeIfKnown());
+    assertTrue(prefix.hasCharacteristics(Spliterator.SUBSIZED));
+
+    Spliterator<IntNdArray> suffix = prefix;
+    prefix = suffix.trySplit();
+    assertEquals(4, prefix.getExactSizeIfKnown());
+    assertEquals(5, suffix.getExactSizeIfKnown());
+
+    List<IntNdArray> prefixElements = new ArrayList<>();
+    prefix.forEachRemaining(e -> prefixElements.add(e.copyTo(NdArrays.ofInts(e.shape()))));
+    assertEquals(array.get(0, 0), prefixElements.get(0));
+    assertEquals(array.get(1, 0), prefixElements.get(3));
+
+    assertTrue(suffix.tryAdvance(e -> assertEquals(array.get(1, 1), e)));
+    suffix.forEachRemaining(e -> { });
+    assertFalse(suffix.tryAdvance(e -> fail()));
+  }
+
+  @Test
+  public void parallelStreamOfElements() {
+    IntNdArray array = NdArrays.ofInts(Shape.of(64, 8, 4));
+    array.scalars().forEachIndexed((c, s) -> s.setInt((int)(c[0] * 32 + c[1] * 4 + c[2])));
+
+    long[] sums = array.elements(0).parallelStream()
+        .mapToLong(e -> e.scalars().asSlices().stream().mapToLong(IntNdArray::getInt).sum())
+        .toArray();
+    assertEquals(64, sums.length);
+    for (int i = 0; i < sums.length; ++i) {
+      assertEquals(i * 32L * 32L + 31L * 32L / 2L, sums[i]);
+    }
+    assertEquals(64L * 8L, array.elements(1).parallelStream().count());
+  }
+
   private DataBufferWindow<IntDataBuffer> mockDataBufferWindow(long size) {
     return new DataBufferWindow<IntDataBuffer>() {
 
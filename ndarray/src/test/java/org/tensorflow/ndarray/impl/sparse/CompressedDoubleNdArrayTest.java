@@ -0,0 +1,101 @@
+package org.tensorflow.ndarray.impl.sparse;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.DoubleNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StdArrays;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressedDoubleNdArrayTest {
+  double[][] dense2DArray = {{0, 0, 1.5, 0, 0}, {2.5, 0, 0, 0, -1}, {0, 0, 3.25, 0, 0}};
+
+  Shape shape = Shape.of(3, 5);
+
+  @Test
+  public void testCreateCsc() {
+    CscDoubleNdArray instance =
+        CscDoubleNdArray.create(
+            NdArrays.vectorOf(0L, 1L, 1L, 3L, 3L, 4L),
+            NdArrays.vectorOf(1L, 0L, 2L, 1L),
+            NdArrays.vectorOf(2.5, 1.5, 3.25, -1.0),
+            shape);
+
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), instance.toDense());
+    assertEquals(NdArrays.vectorOf(1.5, 3.25), instance.column(2).getValues());
+    assertEquals(0, instance.column(3).getValues().size());
+    // column pointers must end at the number of values
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CscDoubleNdArray.create(
+            NdArrays.vectorOf(0L, 1L, 1L, 3L, 3L, 3L),
+            NdArrays.vectorOf(1L, 0L, 2L, 1L),
+            NdArrays.vectorOf(2.5, 1.5, 3.25, -1.0),
+            shape));
+  }
+
+  @Test
+  public void testGetDouble() {
+    CsrDoubleNdArray csr = CsrDoubleNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+    CscDoubleNdArray csc = CscDoubleNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+
+    for (int n = 0; n < shape.get(0); n++) {
+      for (int m = 0; m < shape.get(1); m++) {
+        assertEquals(dense2DArray[n][m], csr.getDouble(n, m), 0.0);
+        assertEquals(dense2DArray[n][m], csc.getDouble(n, m), 0.0);
+      }
+    }
+  }
+
+  @Test
+  public void testEqualsAcrossFormats() {
+    DoubleNdArray dense = StdArrays.ndCopyOf(dense2DArray);
+    CsrDoubleNdArray csr = CsrDoubleNdArray.create(dense);
+    CscDoubleNdArray csc = CscDoubleNdArray.create(dense);
+    DoubleSparseNdArray coo = DoubleSparseNdArray.create(dense);
+
+    assertEquals(csr, csc);
+    assertEquals(csc, csr);
+    assertEquals(coo, csc);
+    assertEquals(csc, coo);
+    assertEquals(csr.hashCode(), csc.hashCode());
+    assertEquals(coo.hashCode(), csc.hashCode());
+
+    dense.setDouble(4.0, 0, 4);
+    assertNotEquals(csr, CscDoubleNdArray.create(dense));
+    assertNotEquals(CscDoubleNdArray.create(dense), coo);
+  }
+
+  @Test
+  public void testCopyTo() {
+    CscDoubleNdArray csc = CscDoubleNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+
+    DoubleSparseNdArray coo = DoubleSparseNdArray.create(DimensionalSpace.create(shape));
+    csc.copyTo(coo);
+    assertEquals(1.5, coo.getDouble(0, 2), 0.0);
+    assertEquals(-1.0, coo.getDouble(1, 4), 0.0);
+    assertEquals(0.0, coo.getDouble(2, 4), 0.0);
+    assertEquals(csc, coo);
+
+    DoubleNdArray dense = NdArrays.ofDoubles(shape);
+    csc.copyTo(dense);
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), dense);
+  }
+
+  @Test
+  public void testCopyFrom() {
+    CsrDoubleNdArray csr = CsrDoubleNdArray.create(StdArrays.ndCopyOf(dense2DArray), 1.5);
+    assertEquals(NdArrays.vectorOf(0L, 4L, 9L, 14L), csr.getRowPointers());
+
+    csr.copyFrom(DataBuffers.of(new double[] {1.5, 1.5, 1.5, 1.5, 1.5, 0, 1.5, 1.5, 1.5, 1.5, 1.5, 1.5, 1.5, 1.5, 2}));
+    assertEquals(NdArrays.vectorOf(0L, 0L, 1L, 2L), csr.getRowPointers());
+    assertEquals(NdArrays.vectorOf(0L, 4L), csr.getColumnIndices());
+    assertEquals(NdArrays.vectorOf(0.0, 2.0), csr.getValues());
+    assertEquals(1.5, csr.getDouble(2, 0), 0.0);
+  }
+}
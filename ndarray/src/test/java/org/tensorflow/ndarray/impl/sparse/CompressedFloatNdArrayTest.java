@@ -0,0 +1,276 @@
+package org.tensorflow.ndarray.impl.sparse;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StdArrays;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressedFloatNdArrayTest {
+  float[][] dense2DArray = {{1, 0, 0, 4}, {0, 0, 2, 0}, {0, 0, 0, 0}, {0, 3, 0, 5}};
+
+  Shape shape = Shape.of(4, 4);
+  LongNdArray rowPointers = NdArrays.vectorOf(0L, 2L, 3L, 3L, 5L);
+  LongNdArray columnIndices = NdArrays.vectorOf(0L, 3L, 2L, 1L, 3L);
+  FloatNdArray rowValues = NdArrays.vectorOf(1f, 4f, 2f, 3f, 5f);
+
+  @Test
+  public void testCreateCsr() {
+    CsrFloatNdArray instance = CsrFloatNdArray.create(rowPointers, columnIndices, rowValues, shape);
+
+    assertEquals(shape, instance.shape());
+    assertEquals(rowPointers, instance.getRowPointers());
+    assertEquals(columnIndices, instance.getColumnIndices());
+    assertEquals(rowValues, instance.getValues());
+    assertEquals(
+        StdArrays.ndCopyOf(new long[][] {{0, 0}, {0, 3}, {1, 2}, {3, 1}, {3, 3}}),
+        instance.getIndices());
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), instance.toDense());
+  }
+
+  @Test
+  public void testCreateCsc() {
+    CscFloatNdArray instance =
+        CscFloatNdArray.create(
+            NdArrays.vectorOf(0L, 1L, 2L, 3L, 5L),
+            NdArrays.vectorOf(0L, 3L, 1L, 0L, 3L),
+            NdArrays.vectorOf(1f, 3f, 2f, 4f, 5f),
+            shape);
+
+    assertEquals(shape, instance.shape());
+    assertEquals(
+        StdArrays.ndCopyOf(new long[][] {{0, 0}, {3, 1}, {1, 2}, {0, 3}, {3, 3}}),
+        instance.getIndices());
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), instance.toDense());
+  }
+
+  @Test
+  public void testCreateInvalid() {
+    // pointers not ending at the number of values
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CsrFloatNdArray.create(
+            NdArrays.vectorOf(0L, 2L, 3L, 3L, 4L), columnIndices, rowValues, shape));
+    // columns not ascending within a row
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CsrFloatNdArray.create(
+            rowPointers, NdArrays.vectorOf(3L, 0L, 2L, 1L, 3L), rowValues, shape));
+    // column out of bounds
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CsrFloatNdArray.create(
+            rowPointers, NdArrays.vectorOf(0L, 4L, 2L, 1L, 3L), rowValues, shape));
+    // not a matrix
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CsrFloatNdArray.create(NdArrays.ofFloats(Shape.of(2, 2, 2))));
+  }
+
+  @Test
+  public void testGetFloat() {
+    CsrFloatNdArray csr = CsrFloatNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+    CscFloatNdArray csc = CscFloatNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+
+    for (int n = 0; n < shape.get(0); n++) {
+      for (int m = 0; m < shape.get(1); m++) {
+        assertEquals(dense2DArray[n][m], csr.getFloat(n, m));
+        assertEquals(dense2DArray[n][m], csc.getFloat(n, m));
+        assertEquals(Float.valueOf(dense2DArray[n][m]), csr.getObject(n, m));
+      }
+    }
+  }
+
+  @Test
+  public void testDefaultValue() {
+    float[][] denseDefaultValue = {{1, -1}, {-1, 2}};
+    CsrFloatNdArray instance = CsrFloatNdArray.create(StdArrays.ndCopyOf(denseDefaultValue), -1f);
+
+    assertEquals(NdArrays.vectorOf(0L, 1L, 2L), instance.getRowPointers());
+    assertEquals(NdArrays.vectorOf(1f, 2f), instance.getValues());
+    assertEquals(-1f, instance.getFloat(0, 1));
+    assertEquals(-1f, instance.row(1).getFloat(0));
+    assertEquals(StdArrays.ndCopyOf(denseDefaultValue), instance.toDense());
+  }
+
+  @Test
+  public void testFromCoo() {
+    // unsorted COO indices
+    FloatSparseNdArray coo =
+        FloatSparseNdArray.create(
+            StdArrays.ndCopyOf(new long[][] {{3, 3}, {0, 3}, {1, 2}, {0, 0}, {3, 1}}),
+            NdArrays.vectorOf(5f, 4f, 2f, 1f, 3f),
+            DimensionalSpace.create(shape));
+
+    CsrFloatNdArray csr = CsrFloatNdArray.fromCoo(coo);
+    assertEquals(rowPointers, csr.getRowPointers());
+    assertEquals(columnIndices, csr.getColumnIndices());
+    assertEquals(rowValues, csr.getValues());
+
+    CscFloatNdArray csc = CscFloatNdArray.fromCoo(coo);
+    assertEquals(NdArrays.vectorOf(0L, 1L, 2L, 3L, 5L), csc.getColumnPointers());
+    assertEquals(NdArrays.vectorOf(0L, 3L, 1L, 0L, 3L), csc.getRowIndices());
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), csc.toDense());
+
+    // between compressed formats
+    assertEquals(csr, CsrFloatNdArray.fromCoo(csc));
+  }
+
+  @Test
+  public void testToCoo() {
+    CscFloatNdArray csc = CscFloatNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+    FloatSparseNdArray coo = csc.toCoo();
+
+    // values are sorted back in row-major order
+    assertEquals(
+        StdArrays.ndCopyOf(new long[][] {{0, 0}, {0, 3}, {1, 2}, {3, 1}, {3, 3}}),
+        coo.getIndices());
+    assertEquals(rowValues, coo.getValues());
+    assertEquals(coo, CsrFloatNdArray.fromCoo(coo));
+  }
+
+  @Test
+  public void testFromCooWithoutValues() {
+    FloatNdArray zeros = NdArrays.ofFloats(Shape.of(2, 3));
+    FloatSparseNdArray coo = FloatSparseNdArray.create(zeros);
+
+    CsrFloatNdArray csr = CsrFloatNdArray.fromCoo(coo);
+    assertEquals(NdArrays.vectorOf(0L, 0L, 0L), csr.getRowPointers());
+    assertEquals(0, csr.getValues().size());
+    assertEquals(zeros, csr.toDense());
+    assertEquals(0, csr.toCoo().getValues().size());
+
+    CscFloatNdArray csc = CscFloatNdArray.fromCoo(coo);
+    assertEquals(NdArrays.vectorOf(0L, 0L, 0L, 0L), csc.getColumnPointers());
+    assertEquals(zeros, csc.toDense());
+    assertEquals(zeros, csc.toCoo().toDense());
+  }
+
+  @Test
+  public void testFromCooWithDuplicates() {
+    FloatSparseNdArray coo =
+        FloatSparseNdArray.create(
+            StdArrays.ndCopyOf(new long[][] {{1, 2}, {0, 3}, {1, 2}}),
+            NdArrays.vectorOf(1f, 2f, 3f),
+            DimensionalSpace.create(shape));
+
+    assertThrows(IllegalArgumentException.class, () -> CsrFloatNdArray.fromCoo(coo));
+    assertThrows(IllegalArgumentException.class, () -> CscFloatNdArray.fromCoo(coo));
+  }
+
+  @Test
+  public void testEqualsAcrossFormats() {
+    FloatNdArray dense = StdArrays.ndCopyOf(dense2DArray);
+    CsrFloatNdArray csr = CsrFloatNdArray.create(dense);
+    CscFloatNdArray csc = CscFloatNdArray.create(dense);
+    FloatSparseNdArray coo = FloatSparseNdArray.create(dense);
+
+    assertEquals(csr, csc);
+    assertEquals(csc, csr);
+    assertEquals(csc, coo);
+    assertEquals(coo, csc);
+    assertEquals(csc, csr.toCoo());
+    assertEquals(csr.hashCode(), csc.hashCode());
+    assertEquals(coo.hashCode(), csc.hashCode());
+
+    float[][] transposed = {{1, 0, 0, 0}, {0, 0, 0, 3}, {0, 2, 0, 0}, {4, 0, 0, 5}};
+    assertNotEquals(csc, CscFloatNdArray.create(StdArrays.ndCopyOf(transposed)));
+    assertNotEquals(csr, CscFloatNdArray.create(StdArrays.ndCopyOf(transposed)));
+  }
+
+  @Test
+  public void testCopyCscToSparse() {
+    CscFloatNdArray csc = CscFloatNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+    FloatSparseNdArray coo = FloatSparseNdArray.create(DimensionalSpace.create(shape));
+
+    csc.copyTo(coo);
+    for (int n = 0; n < shape.get(0); n++) {
+      for (int m = 0; m < shape.get(1); m++) {
+        assertEquals(dense2DArray[n][m], coo.getFloat(n, m));
+      }
+    }
+    assertEquals(csc, coo);
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), coo.toDense());
+  }
+
+  @Test
+  public void testRows() {
+    CsrFloatNdArray instance = CsrFloatNdArray.create(rowPointers, columnIndices, rowValues, shape);
+
+    List<FloatNdArray> rows = new ArrayList<>();
+    instance.elements(0).forEach(rows::add);
+    assertEquals(4, rows.size());
+    for (int n = 0; n < rows.size(); n++) {
+      FloatNdArray row = rows.get(n);
+      assertEquals(FloatSparseNdArray.class, row.getClass());
+      assertEquals(Shape.of(4), row.shape());
+      assertEquals(StdArrays.ndCopyOf(dense2DArray[n]), ((FloatSparseNdArray) row).toDense());
+      assertEquals(row, instance.get(n));
+    }
+    FloatSparseNdArray row = instance.row(3);
+    assertEquals(StdArrays.ndCopyOf(new long[][] {{1}, {3}}), row.getIndices());
+    assertEquals(NdArrays.vectorOf(3f, 5f), row.getValues());
+    assertEquals(0, instance.row(2).getValues().size());
+    assertThrows(IndexOutOfBoundsException.class, () -> instance.row(4));
+  }
+
+  @Test
+  public void testRowsShareMemory() {
+    CsrFloatNdArray instance = CsrFloatNdArray.create(rowPointers, columnIndices, rowValues, shape);
+
+    instance.row(1).getValues().setFloat(7f, 0);
+    assertEquals(7f, instance.getFloat(1, 2));
+    instance.getValues().setFloat(8f, 4);
+    assertEquals(8f, instance.get(3).getFloat(3));
+  }
+
+  @Test
+  public void testColumns() {
+    CscFloatNdArray instance = CscFloatNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+
+    for (int m = 0; m < shape.get(1); m++) {
+      FloatSparseNdArray column = instance.column(m);
+      for (int n = 0; n < shape.get(0); n++) {
+        assertEquals(dense2DArray[n][m], column.getFloat(n));
+      }
+    }
+    // rows are still available as slices
+    assertEquals(StdArrays.ndCopyOf(dense2DArray[3]), instance.get(3));
+  }
+
+  @Test
+  public void testCopyToBuffer() {
+    CscFloatNdArray instance = CscFloatNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+    FloatDataBuffer dataBuffer = DataBuffers.ofFloats(instance.shape().size());
+
+    instance.copyTo(dataBuffer);
+
+    float[] array = new float[(int) dataBuffer.size()];
+    dataBuffer.read(array);
+    assertArrayEquals(new float[] {1, 0, 0, 4, 0, 0, 2, 0, 0, 0, 0, 0, 0, 3, 0, 5}, array);
+  }
+
+  @Test
+  public void testReadOnlyIndices() {
+    CsrFloatNdArray instance = CsrFloatNdArray.create(rowPointers, columnIndices, rowValues, shape);
+
+    assertThrows(UnsupportedOperationException.class, () -> instance.setIndices(instance.getIndices()));
+    assertThrows(UnsupportedOperationException.class, instance::linearize);
+    assertThrows(java.nio.ReadOnlyBufferException.class, () -> instance.getRowPointers().setLong(1L, 0));
+    assertThrows(java.nio.ReadOnlyBufferException.class, () -> instance.setFloat(1f, 0, 0));
+    assertSame(instance, instance.sortIndicesAndValues());
+  }
+}
@@ -0,0 +1,108 @@
+package org.tensorflow.ndarray.impl.sparse;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.IntNdArray;
+import org.tensorflow.ndarray.LongNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StdArrays;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressedIntNdArrayTest {
+  int[][] dense2DArray = {{0, 7, 0}, {5, 0, 0}, {0, 0, 0}, {1, 0, 9}};
+
+  Shape shape = Shape.of(4, 3);
+  LongNdArray rowPointers = NdArrays.vectorOf(0L, 1L, 2L, 2L, 4L);
+  LongNdArray columnIndices = NdArrays.vectorOf(1L, 0L, 0L, 2L);
+  IntNdArray rowValues = NdArrays.vectorOf(7, 5, 1, 9);
+
+  @Test
+  public void testCreateCsr() {
+    CsrIntNdArray instance = CsrIntNdArray.create(rowPointers, columnIndices, rowValues, shape);
+
+    assertEquals(shape, instance.shape());
+    assertEquals(
+        StdArrays.ndCopyOf(new long[][] {{0, 1}, {1, 0}, {3, 0}, {3, 2}}), instance.getIndices());
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), instance.toDense());
+    assertEquals(instance, CsrIntNdArray.create(StdArrays.ndCopyOf(dense2DArray)));
+  }
+
+  @Test
+  public void testCreateCsc() {
+    CscIntNdArray instance = CscIntNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+
+    assertEquals(NdArrays.vectorOf(0L, 2L, 3L, 4L), instance.getColumnPointers());
+    assertEquals(NdArrays.vectorOf(1L, 3L, 0L, 3L), instance.getRowIndices());
+    assertEquals(NdArrays.vectorOf(5, 1, 7, 9), instance.getValues());
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), instance.toDense());
+  }
+
+  @Test
+  public void testGetInt() {
+    CsrIntNdArray csr = CsrIntNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+    CscIntNdArray csc = CscIntNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+
+    for (int n = 0; n < shape.get(0); n++) {
+      for (int m = 0; m < shape.get(1); m++) {
+        assertEquals(dense2DArray[n][m], csr.getInt(n, m));
+        assertEquals(dense2DArray[n][m], csc.getInt(n, m));
+      }
+    }
+    assertEquals(NdArrays.vectorOf(1, 0, 9), csr.row(3).toDense());
+    assertEquals(NdArrays.vectorOf(0, 5, 0, 1), csc.column(0).toDense());
+  }
+
+  @Test
+  public void testConversions() {
+    IntSparseNdArray coo =
+        IntSparseNdArray.create(
+            StdArrays.ndCopyOf(new long[][] {{3, 2}, {0, 1}, {3, 0}, {1, 0}}),
+            NdArrays.vectorOf(9, 7, 1, 5),
+            DimensionalSpace.create(shape));
+
+    CsrIntNdArray csr = CsrIntNdArray.fromCoo(coo);
+    assertEquals(rowPointers, csr.getRowPointers());
+    assertEquals(columnIndices, csr.getColumnIndices());
+    assertEquals(rowValues, csr.getValues());
+
+    CscIntNdArray csc = CscIntNdArray.fromCoo(coo);
+    assertEquals(csr, csc);
+    assertEquals(csc, csr);
+    assertEquals(csc, csr.toCoo());
+    assertEquals(csr.toCoo(), csc);
+    assertEquals(csr.hashCode(), csc.hashCode());
+    assertEquals(csr, CsrIntNdArray.fromCoo(csc));
+  }
+
+  @Test
+  public void testCopyCscToSparse() {
+    CscIntNdArray csc = CscIntNdArray.create(StdArrays.ndCopyOf(dense2DArray));
+    IntSparseNdArray coo = IntSparseNdArray.create(DimensionalSpace.create(shape));
+
+    csc.copyTo(coo);
+    assertEquals(7, coo.getInt(0, 1));
+    assertEquals(9, coo.getInt(3, 2));
+    assertEquals(0, coo.getInt(2, 1));
+    assertEquals(StdArrays.ndCopyOf(dense2DArray), coo.toDense());
+  }
+
+  @Test
+  public void testDefaultValue() {
+    CscIntNdArray instance = CscIntNdArray.create(StdArrays.ndCopyOf(new int[][] {{-1, 3}, {4, -1}}), -1);
+
+    assertEquals(NdArrays.vectorOf(4, 3), instance.getValues());
+    assertEquals(-1, instance.getInt(0, 0));
+    assertEquals(3, instance.getInt(0, 1));
+  }
+
+  @Test
+  public void testReadOnly() {
+    CsrIntNdArray instance = CsrIntNdArray.create(rowPointers, columnIndices, rowValues, shape);
+
+    assertThrows(UnsupportedOperationException.class, () -> instance.setValues(rowValues));
+    assertThrows(java.nio.ReadOnlyBufferException.class, () -> instance.getColumnIndices().setLong(1L, 0));
+  }
+}
@@ -14,12 +14,15 @@ import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
 import org.tensorflow.ndarray.index.Indices;
 
 import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FloatSparseNdArrayTest {
   long[][] indicesArray = {{0, 0}, {1, 2}};
@@ -128,6 +131,38 @@ class FloatSparseNdArrayTest {
     }
   }
 
+  @Test
+  public void testGetFloatLargeCoordinates() {
+    long[][] largeIndices = {{0, 1}, {0, 3_000_000_000L}, {2, 0}};
+    FloatSparseNdArray instance =
+        new FloatSparseNdArray(
+            StdArrays.ndCopyOf(largeIndices),
+            StdArrays.ndCopyOf(new float[] {1, 2, 3}),
+            DimensionalSpace.create(Shape.of(3, 4_000_000_000L)));
+
+    assertEquals(1, instance.getFloat(0, 1));
+    assertEquals(2, instance.getFloat(0, 3_000_000_000L));
+    assertEquals(3, instance.getFloat(2, 0));
+    assertEquals(0, instance.getFloat(1, 3_000_000_000L));
+    assertEquals(0, instance.getFloat(0, 2_000_000_000L));
+  }
+
+  @Test
+  public void testGetFloatNonContiguousIndices() {
+    // indices are viewed from the first two columns of a larger array
+    long[][] paddedIndices = {{0, 0, 9}, {1, 2, 9}};
+    LongNdArray slicedIndices =
+        StdArrays.ndCopyOf(paddedIndices).slice(Indices.all(), Indices.range(0, 2));
+    FloatSparseNdArray instance =
+        new FloatSparseNdArray(slicedIndices, values, DimensionalSpace.create(shape));
+
+    for (int n = 0; n < shape.get(0); n++) {
+      for (int m = 0; m < shape.get(1); m++) {
+        assertEquals(denseArray[n * 4 + m], instance.getFloat(n, m));
+      }
+    }
+  }
+
   @Test
   public void testGet() {
     float[][] dense2DArray = {{1, 0, 0, 0}, {0, 0, 2, 0}, {0, 0, 0, 0}};
@@ -184,6 +219,81 @@ class FloatSparseNdArrayTest {
     assertEquals(sortedValues, instance.getValues());
   }
 
+  @Test
+  public void testSortLarge() {
+    int numValues = 100_000;
+    Shape largeShape = Shape.of(1000, 1000);
+    LongNdArray unsortedIndices = NdArrays.ofLongs(Shape.of(numValues, 2));
+    FloatNdArray unsortedValues = NdArrays.ofFloats(Shape.of(numValues));
+    for (int i = 0; i < numValues; ++i) {
+      long position = (i * 7919L) % largeShape.size();  // scattered, distinct positions
+      unsortedIndices.setLong(position / 1000, i, 0);
+      unsortedIndices.setLong(position % 1000, i, 1);
+      unsortedValues.setFloat(position, i);
+    }
+    FloatSparseNdArray instance =
+        new FloatSparseNdArray(unsortedIndices, unsortedValues, DimensionalSpace.create(largeShape));
+
+    instance.sortIndicesAndValues();
+
+    long previousPosition = -1;
+    for (int i = 0; i < numValues; ++i) {
+      long position =
+          instance.getIndices().getLong(i, 0) * 1000 + instance.getIndices().getLong(i, 1);
+      assertTrue(position > previousPosition);
+      assertEquals((float) position, instance.getValues().getFloat(i));
+      previousPosition = position;
+    }
+  }
+
+  @Test
+  public void testLinearize() {
+    long[][] unsortedIndicesArray = {{1, 2}, {0, 0}};
+    FloatSparseNdArray instance =
+        new FloatSparseNdArray(
+            StdArrays.ndCopyOf(unsortedIndicesArray),
+            StdArrays.ndCopyOf(new float[] {2, 1}),
+            DimensionalSpace.create(shape));
+    assertFalse(instance.isLinearized());
+
+    instance.linearize();
+    assertTrue(instance.isLinearized());
+    assertEquals(StdArrays.ndCopyOf(new long[] {0, 6}), instance.getPositions());
+    assertEquals(values, instance.getValues());
+    for (int n = 0; n < shape.get(0); n++) {
+      for (int m = 0; m < shape.get(1); m++) {
+        assertEquals(denseArray[n * 4 + m], instance.getFloat(n, m));
+      }
+    }
+    assertEquals(0, instance.getFloat(0, 6));  // out of bounds coordinates matching a position
+    assertEquals(indices, instance.getIndices());
+    assertThrows(ReadOnlyBufferException.class, () -> instance.getIndices().setLong(1, 0, 0));
+    assertEquals(NdArrays.vectorOf(denseArray).withShape(shape), instance.toDense());
+
+    instance.delinearize();
+    assertFalse(instance.isLinearized());
+    assertEquals(indices, instance.getIndices());
+    instance.getIndices().setLong(1, 0, 1);
+    assertEquals(1, instance.getFloat(0, 1));
+  }
+
+  @Test
+  public void testSetPositions() {
+    FloatSparseNdArray instance = FloatSparseNdArray.create(DimensionalSpace.create(shape));
+    instance.setPositions(StdArrays.ndCopyOf(new long[] {0, 6}));
+    instance.setValues(values);
+
+    assertTrue(instance.isLinearized());
+    assertEquals(indices, instance.getIndices());
+    assertEquals(2, instance.getFloat(1, 2));
+    assertEquals(0, instance.getFloat(1, 3));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> instance.setPositions(StdArrays.ndCopyOf(new long[] {6, 0})));
+    assertThrows(IllegalArgumentException.class,
+        () -> instance.setPositions(StdArrays.ndCopyOf(new long[] {0, 12})));
+  }
+
   @Test
   public void testElements() {
 
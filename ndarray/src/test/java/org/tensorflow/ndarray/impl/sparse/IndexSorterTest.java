@@ -0,0 +1,62 @@
+/* Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.ndarray.impl.sparse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IndexSorterTest {
+
+  @Test
+  public void sortedKeysAreNotPermuted() {
+    assertNull(IndexSorter.sort(new long[0]));
+    assertNull(IndexSorter.sort(new long[] {1, 2, 2, 5}));
+  }
+
+  @Test
+  public void sortSmallInput() {
+    long[] keys = {5, 3, 9, 3, 0};
+    int[] permutation = IndexSorter.sort(keys);
+    assertArrayEquals(new long[] {0, 3, 3, 5, 9}, keys);
+    assertArrayEquals(new int[] {4, 1, 3, 0, 2}, permutation);
+  }
+
+  @Test
+  public void sortLargeInputInParallel() {
+    Random random = new Random(123);
+    long[] keys = new long[300_000];
+    for (int i = 0; i < keys.length; ++i) {
+      keys[i] = random.nextInt(1000);  // lots of duplicates
+    }
+    long[] originalKeys = keys.clone();
+    int[] permutation = IndexSorter.sort(keys);
+
+    long[] expectedKeys = originalKeys.clone();
+    Arrays.sort(expectedKeys);
+    assertArrayEquals(expectedKeys, keys);
+    for (int i = 0; i < keys.length; ++i) {
+      assertEquals(keys[i], originalKeys[permutation[i]]);
+      if (i > 0 && keys[i] == keys[i - 1]) {
+        assertTrue(permutation[i] > permutation[i - 1]);  // stable
+      }
+    }
+  }
+}
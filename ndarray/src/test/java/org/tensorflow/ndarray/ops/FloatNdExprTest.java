@@ -0,0 +1,103 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.ops;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StdArrays;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+
+public class FloatNdExprTest {
+
+  @Test
+  public void evaluateOperations() {
+    FloatNdArray x = NdArrays.vectorOf(1.0f, -2.0f, 3.0f, -4.0f);
+    FloatNdArray y = NdArrays.vectorOf(2.0f, 2.0f, 2.0f, 2.0f);
+    FloatNdExpr ex = FloatNdExpr.of(x);
+    assertArrayEquals(new float[] {3.0f, 0.0f, 5.0f, -2.0f}, StdArrays.array1dCopyOf(ex.add(y).eval()));
+    assertArrayEquals(new float[] {-1.0f, -4.0f, 1.0f, -6.0f}, StdArrays.array1dCopyOf(ex.sub(y).eval()));
+    assertArrayEquals(new float[] {2.0f, -4.0f, 6.0f, -8.0f}, StdArrays.array1dCopyOf(ex.mul(2.0f).eval()));
+    assertArrayEquals(new float[] {0.5f, -1.0f, 1.5f, -2.0f}, StdArrays.array1dCopyOf(ex.div(y).eval()));
+    assertArrayEquals(new float[] {4.0f, -1.0f, 10.0f, -3.0f},
+        StdArrays.array1dCopyOf(ex.fma(FloatNdExpr.of(y), FloatNdExpr.constant(1.0f).add(ex.abs())).eval()));
+    assertArrayEquals(new float[] {1.0f, -2.0f, 2.0f, -4.0f}, StdArrays.array1dCopyOf(ex.min(2.0f).eval()));
+    assertArrayEquals(new float[] {2.0f, 2.0f, 3.0f, 2.0f}, StdArrays.array1dCopyOf(ex.max(FloatNdExpr.of(y)).eval()));
+    assertArrayEquals(new float[] {1.0f, -1.0f, 1.0f, -1.0f}, StdArrays.array1dCopyOf(ex.clamp(-1.0f, 1.0f).eval()));
+    assertArrayEquals(new float[] {0.0f, (float)Math.log(2.0), (float)Math.log(3.0), (float)Math.log(4.0)},
+        StdArrays.array1dCopyOf(ex.abs().log().eval()));
+    assertArrayEquals(new float[] {1.0f, -2.0f, 3.0f, -4.0f}, StdArrays.array1dCopyOf(ex.eval()));
+    assertArrayEquals(new float[] {5.0f, 5.0f}, StdArrays.array1dCopyOf(FloatNdExpr.constant(5.0f).evalInto(NdArrays.ofFloats(Shape.of(2)))));
+    assertEquals(Shape.scalar(), FloatNdExpr.constant(1.0f).exp().shape());
+  }
+
+  @Test
+  public void evaluateSharedSubexpressions() {
+    FloatNdArray x = NdArrays.vectorOf(1.0f, 2.0f, 3.0f);
+    FloatNdExpr square = FloatNdExpr.of(x).mul(x);
+    FloatNdExpr expr = square.add(square.mul(square)).sub(square);
+    assertArrayEquals(new float[] {1.0f, 16.0f, 81.0f}, StdArrays.array1dCopyOf(expr.eval()));
+
+    // changes made to the operands are visible when evaluating again
+    x.setFloat(4.0f, 0);
+    assertArrayEquals(new float[] {256.0f, 16.0f, 81.0f}, StdArrays.array1dCopyOf(expr.eval()));
+  }
+
+  @Test
+  public void normalizeInPlace() {
+    Random random = new Random(42);
+    FloatNdArray images = NdArrays.ofFloats(Shape.of(4, 50, 60, 3));
+    images.scalars().forEach(s -> s.setFloat(random.nextFloat()));
+    FloatNdArray mean = NdArrays.vectorOf(0.485f, 0.456f, 0.406f);
+    FloatNdArray std = NdArrays.vectorOf(0.229f, 0.224f, 0.225f);
+    FloatNdArray scale = NdArrays.scalarOf(2.0f);
+    FloatNdArray bias = NdArrays.scalarOf(-1.0f);
+
+    FloatNdArray expected = FloatOps.add(FloatOps.mul(FloatOps.div(FloatOps.sub(images, mean), std), scale), bias);
+    FloatNdExpr expr = FloatNdExpr.of(images).sub(mean).div(std).mul(scale).add(bias);
+    assertEquals(images.shape(), expr.shape());
+    assertEquals(expected, expr.eval());
+
+    FloatNdArray direct = NdArrays.wrap(images.shape(), DataBuffers.of(ByteBuffer.allocateDirect((int)images.size() * 4).asFloatBuffer()));
+    assertSame(direct, expr.evalInto(direct));
+    assertEquals(expected, direct);
+    assertSame(images, expr.evalInto(images));
+    assertEquals(expected, images);
+  }
+
+  @Test
+  public void broadcastOperands() {
+    FloatNdArray rows = StdArrays.ndCopyOf(new float[][] {{1.0f}, {2.0f}});
+    FloatNdArray columns = NdArrays.vectorOf(10.0f, 20.0f, 30.0f);
+    FloatNdExpr expr = FloatNdExpr.of(rows).mul(columns).add(1.0f);
+    assertEquals(Shape.of(2, 3), expr.shape());
+    assertArrayEquals(new float[][] {{11.0f, 21.0f, 31.0f}, {21.0f, 41.0f, 61.0f}}, StdArrays.array2dCopyOf(expr.eval()));
+    assertArrayEquals(new float[][] {{11.0f, 21.0f, 31.0f}, {21.0f, 41.0f, 61.0f}},
+        StdArrays.array2dCopyOf(expr.evalInto(NdArrays.ofFloats(Shape.of(2, 3)).transpose().transpose())));
+
+    assertThrows(IllegalArgumentException.class, () -> FloatNdExpr.of(columns).add(NdArrays.vectorOf(1.0f, 2.0f)));
+    assertThrows(IllegalArgumentException.class, () -> expr.evalInto(NdArrays.ofFloats(Shape.of(3, 2))));
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.ops;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StdArrays;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.index.Indices;
+
+public class FloatOpsTest {
+
+  @Test
+  public void binaryOperations() {
+    FloatNdArray x = NdArrays.vectorOf(1.0f, 2.0f, 3.0f, 4.0f);
+    FloatNdArray y = NdArrays.vectorOf(2.0f, 2.0f, 2.0f, 2.0f);
+    assertArrayEquals(new float[] {3.0f, 4.0f, 5.0f, 6.0f}, StdArrays.array1dCopyOf(FloatOps.add(x, y)));
+    assertArrayEquals(new float[] {-1.0f, 0.0f, 1.0f, 2.0f}, StdArrays.array1dCopyOf(FloatOps.sub(x, y)));
+    assertArrayEquals(new float[] {2.0f, 4.0f, 6.0f, 8.0f}, StdArrays.array1dCopyOf(FloatOps.mul(x, y)));
+    assertArrayEquals(new float[] {0.5f, 1.0f, 1.5f, 2.0f}, StdArrays.array1dCopyOf(FloatOps.div(x, y)));
+    assertArrayEquals(new float[] {3.0f, 6.0f, 9.0f, 12.0f}, StdArrays.array1dCopyOf(FloatOps.fma(x, y, x)));
+  }
+
+  @Test
+  public void unaryOperations() {
+    FloatNdArray x = NdArrays.vectorOf(-2.0f, -0.5f, 1.0f, 3.0f);
+    assertArrayEquals(new float[] {2.0f, 0.5f, 1.0f, 3.0f}, StdArrays.array1dCopyOf(FloatOps.abs(x)));
+    assertArrayEquals(new float[] {-1.0f, -0.5f, 1.0f, 1.0f}, StdArrays.array1dCopyOf(FloatOps.clamp(x, -1.0f, 1.0f)));
+
+    float[] exp = StdArrays.array1dCopyOf(FloatOps.exp(x));
+    float[] log = StdArrays.array1dCopyOf(FloatOps.log(FloatOps.abs(x)));
+    for (int i = 0; i < 4; ++i) {
+      float value = x.getFloat(i);
+      assertEquals(Math.exp(value), exp[i], 1e-6 * Math.exp(value));
+      assertEquals(Math.log(Math.abs(value)), log[i], 1e-6);
+    }
+  }
+
+  @Test
+  public void operateOnLargeArrays() {
+    // spans multiple chunks and vectors, with a remainder
+    FloatNdArray x = NdArrays.ofFloats(Shape.of(3, 1001));
+    FloatNdArray y = NdArrays.ofFloats(Shape.of(3, 1001));
+    x.scalars().forEachIndexed((coords, s) -> s.setFloat(coords[0] * 1001 + coords[1]));
+    y.scalars().forEachIndexed((coords, s) -> s.setFloat(2.0f));
+
+    FloatNdArray result = FloatOps.mul(x, y);
+    result.forEachFloat((coords, value) -> assertEquals(2.0f * x.getFloat(coords), value, 0.0f));
+
+    FloatNdArray transposed = NdArrays.ofFloats(Shape.of(1001, 3));
+    FloatOps.add(x.transpose(), y.transpose(), transposed);
+    transposed.forEachFloat((coords, value) -> assertEquals(x.getFloat(coords[1], coords[0]) + 2.0f, value, 0.0f));
+  }
+
+  @Test
+  public void broadcastOperands() {
+    FloatNdArray matrix = StdArrays.ndCopyOf(new float[][] {{1.0f, 2.0f, 3.0f}, {4.0f, 5.0f, 6.0f}});
+    FloatNdArray column = StdArrays.ndCopyOf(new float[][] {{10.0f}, {20.0f}});
+
+    FloatNdArray result = FloatOps.add(matrix, column);
+    assertEquals(Shape.of(2, 3), result.shape());
+    assertArrayEquals(new float[][] {{11.0f, 12.0f, 13.0f}, {24.0f, 25.0f, 26.0f}}, StdArrays.array2dCopyOf(result));
+
+    result = FloatOps.mul(matrix, NdArrays.scalarOf(2.0f));
+    assertArrayEquals(new float[][] {{2.0f, 4.0f, 6.0f}, {8.0f, 10.0f, 12.0f}}, StdArrays.array2dCopyOf(result));
+
+    assertThrows(IllegalArgumentException.class, () -> FloatOps.add(matrix, NdArrays.vectorOf(1.0f, 2.0f)));
+    assertThrows(IllegalArgumentException.class, () -> FloatOps.add(matrix, column, NdArrays.ofFloats(Shape.of(3))));
+  }
+
+  @Test
+  public void operateInPlace() {
+    FloatNdArray matrix = StdArrays.ndCopyOf(new float[][] {{1.0f, 2.0f, 3.0f}, {4.0f, 5.0f, 6.0f}});
+    assertSame(matrix, FloatOps.sub(matrix, NdArrays.vectorOf(1.0f, 2.0f, 3.0f), matrix));
+    assertArrayEquals(new float[][] {{0.0f, 0.0f, 0.0f}, {3.0f, 3.0f, 3.0f}}, StdArrays.array2dCopyOf(matrix));
+
+    FloatNdArray slice = matrix.slice(Indices.all(), Indices.seq(2, 0));
+    FloatOps.add(slice, slice, slice);
+    assertArrayEquals(new float[][] {{0.0f, 0.0f, 0.0f}, {6.0f, 3.0f, 6.0f}}, StdArrays.array2dCopyOf(matrix));
+  }
+
+  @Test
+  public void operateOnOtherStorages() {
+    FloatNdArray direct = NdArrays.wrap(Shape.of(2, 2), DataBuffers.of(ByteBuffer.allocateDirect(16).asFloatBuffer()));
+    FloatOps.add(NdArrays.vectorOf(1.0f, 2.0f), NdArrays.vectorOf(3.0f, 4.0f), direct);
+    assertArrayEquals(new float[][] {{4.0f, 6.0f}, {4.0f, 6.0f}}, StdArrays.array2dCopyOf(direct));
+
+    FloatNdArray sparse = NdArrays.sparseOf(
+        StdArrays.ndCopyOf(new long[][] {{0, 1}, {1, 0}}), NdArrays.vectorOf(5.0f, 7.0f), Shape.of(2, 2));
+    assertArrayEquals(new float[][] {{4.0f, 11.0f}, {11.0f, 6.0f}}, StdArrays.array2dCopyOf(FloatOps.add(direct, sparse)));
+
+    FloatNdArray readOnly = NdArrays.wrap(Shape.of(2), DataBuffers.of(new float[2], true, false));
+    assertThrows(ReadOnlyBufferException.class, () -> FloatOps.abs(readOnly, readOnly));
+  }
+
+  @Test
+  public void operateOnRunsOfDirectBuffers() {
+    // runs of values spanning many chunks, either contiguous or strided
+    Shape shape = Shape.of(50, 60);
+    FloatNdArray x = NdArrays.ofFloats(shape);
+    x.scalars().forEachIndexed((coords, scalar) -> scalar.setFloat(coords[0] * 100 + coords[1]));
+    FloatNdArray direct = NdArrays.wrap(shape, DataBuffers.of(ByteBuffer.allocateDirect(50 * 60 * 4).asFloatBuffer()));
+    x.copyTo(direct);
+    FloatNdArray directSum = NdArrays.wrap(shape, DataBuffers.of(ByteBuffer.allocateDirect(50 * 60 * 4).asFloatBuffer()));
+
+    FloatOps.add(direct, x, directSum);
+    assertEquals(FloatOps.add(x, x), directSum);
+    FloatNdArray transposedSum = FloatOps.add(direct.transpose(), x.transpose());
+    assertEquals(FloatOps.add(x, x).transpose(), transposedSum);
+    FloatOps.add(direct.transpose(), x.transpose(), directSum.transpose());
+    assertEquals(FloatOps.add(x, x), directSum);
+  }
+
+  @Test
+  public void reduceAlongAxes() {
+    FloatNdArray matrix = StdArrays.ndCopyOf(new float[][] {{1.0f, 2.0f, 3.0f}, {4.0f, 5.0f, 6.0f}});
+    assertEquals(Shape.scalar(), FloatOps.sum(matrix).shape());
+    assertEquals(21.0f, FloatOps.sum(matrix).getFloat());
+    assertArrayEquals(new float[] {5.0f, 7.0f, 9.0f}, StdArrays.array1dCopyOf(FloatOps.sum(matrix, 0)));
+    assertArrayEquals(new float[] {6.0f, 15.0f}, StdArrays.array1dCopyOf(FloatOps.sum(matrix, -1)));
+    assertArrayEquals(new float[][] {{6.0f}, {15.0f}}, StdArrays.array2dCopyOf(FloatOps.sum(matrix, true, 1)));
+    assertArrayEquals(new float[] {2.5f, 3.5f, 4.5f}, StdArrays.array1dCopyOf(FloatOps.mean(matrix, 0)));
+    assertArrayEquals(new float[] {1.0f, 4.0f}, StdArrays.array1dCopyOf(FloatOps.min(matrix, 1)));
+    assertArrayEquals(new float[] {4.0f, 5.0f, 6.0f}, StdArrays.array1dCopyOf(FloatOps.max(matrix, 0)));
+    assertArrayEquals(new float[] {(float)Math.sqrt(14.0), (float)Math.sqrt(77.0)}, StdArrays.array1dCopyOf(FloatOps.l2Norm(matrix, 1)), 1e-6f);
+    assertArrayEquals(new long[] {1, 1, 1}, StdArrays.array1dCopyOf(FloatOps.argMax(matrix, 0)));
+    assertArrayEquals(new long[][] {{2}, {2}}, StdArrays.array2dCopyOf(FloatOps.argMax(matrix, 1, true)));
+
+    // reduces middle axes and views that are not contiguous in memory
+    FloatNdArray cube = NdArrays.ofFloats(Shape.of(2, 3, 4));
+    cube.scalars().forEachIndexed((coords, s) -> s.setFloat(coords[0] * 100 + coords[1] * 10 + coords[2]));
+    assertArrayEquals(new float[] {360.0f, 366.0f, 372.0f, 378.0f}, StdArrays.array1dCopyOf(FloatOps.sum(cube, 0, 1)));
+    assertArrayEquals(new float[] {412.0f, 492.0f, 572.0f}, StdArrays.array1dCopyOf(FloatOps.sum(cube, 0, 2)));
+    assertArrayEquals(new float[] {412.0f, 492.0f, 572.0f}, StdArrays.array1dCopyOf(FloatOps.sum(cube.transpose(), 0, 2)));
+    assertArrayEquals(new float[][][] {{{3.0f}, {13.0f}, {23.0f}}, {{103.0f}, {113.0f}, {123.0f}}},
+        StdArrays.array3dCopyOf(FloatOps.max(cube, true, 2)));
+
+    FloatNdArray empty = NdArrays.ofFloats(Shape.of(2, 0));
+    assertArrayEquals(new float[] {0.0f, 0.0f}, StdArrays.array1dCopyOf(FloatOps.sum(empty, 1)));
+    assertEquals(Shape.of(0), FloatOps.max(empty, 0).shape());
+    assertThrows(IllegalArgumentException.class, () -> FloatOps.max(empty, 1));
+    assertThrows(IllegalArgumentException.class, () -> FloatOps.sum(matrix, 2));
+    assertThrows(IllegalArgumentException.class, () -> FloatOps.sum(matrix, 1, -1));
+  }
+
+  @Test
+  public void argMaxReturnsFirstMaximum() {
+    FloatNdArray matrix = StdArrays.ndCopyOf(new float[][] {{1.0f, 3.0f, 3.0f}, {1.0f, Float.NaN, Float.NaN}});
+    assertArrayEquals(new long[] {1, 1}, StdArrays.array1dCopyOf(FloatOps.argMax(matrix, 1)));
+    assertArrayEquals(new long[] {0, 1, 1}, StdArrays.array1dCopyOf(FloatOps.argMax(matrix, 0)));
+  }
+
+  @Test
+  public void reduceLargeArrays() {
+    Random random = new Random(42);
+    FloatNdArray x = NdArrays.ofFloats(Shape.of(512, 1000));
+    x.scalars().forEach(s -> s.setFloat(random.nextFloat()));
+
+    double[] expectedRows = new double[512];
+    double[] expectedColumns = new double[1000];
+    x.forEachFloat((coords, value) -> {
+      expectedRows[(int)coords[0]] += value;
+      expectedColumns[(int)coords[1]] += value;
+    });
+    float[] rows = StdArrays.array1dCopyOf(FloatOps.sum(x, 1));
+    float[] columns = StdArrays.array1dCopyOf(FloatOps.sum(x, 0));
+    for (int i = 0; i < rows.length; ++i) {
+      assertEquals(expectedRows[i], rows[i], 1e-3);
+    }
+    for (int i = 0; i < columns.length; ++i) {
+      assertEquals(expectedColumns[i], columns[i], 1e-3);
+    }
+    double expectedTotal = 0.0;
+    for (double row : expectedRows) {
+      expectedTotal += row;
+    }
+    float total = FloatOps.sum(x).getFloat();
+    assertEquals(expectedTotal, total, 1e-6 * expectedTotal);
+
+    // results do not depend on how the reduction has been split
+    for (int i = 0; i < 5; ++i) {
+      assertEquals(total, FloatOps.sum(x).getFloat());
+      assertArrayEquals(columns, StdArrays.array1dCopyOf(FloatOps.sum(x, 0)));
+    }
+    FloatNdArray direct = NdArrays.wrap(x.shape(), DataBuffers.of(ByteBuffer.allocateDirect(512 * 1000 * 4).asFloatBuffer()));
+    x.copyTo(direct);
+    assertEquals(total, FloatOps.sum(direct).getFloat());
+  }
+
+  @Test
+  public void multiplyMatrices() {
+    FloatNdArray a = StdArrays.ndCopyOf(new float[][] {{1.0f, 2.0f, 3.0f}, {4.0f, 5.0f, 6.0f}});
+    FloatNdArray b = StdArrays.ndCopyOf(new float[][] {{7.0f, 8.0f}, {9.0f, 10.0f}, {11.0f, 12.0f}});
+    assertArrayEquals(new float[][] {{58.0f, 64.0f}, {139.0f, 154.0f}}, StdArrays.array2dCopyOf(FloatOps.matmul(a, b)));
+    assertArrayEquals(new float[][] {{39.0f, 49.0f, 59.0f}, {54.0f, 68.0f, 82.0f}, {69.0f, 87.0f, 105.0f}},
+        StdArrays.array2dCopyOf(FloatOps.matmul(b, a).transpose()));
+    assertArrayEquals(new float[][] {{58.0f, 139.0f}, {64.0f, 154.0f}},
+        StdArrays.array2dCopyOf(FloatOps.matmul(b.transpose(), a.transpose())));
+
+    // multiplies each matrix of a batch, writing the product in place
+    FloatNdArray batch = NdArrays.ofFloats(Shape.of(2, 2, 2));
+    batch.set(StdArrays.ndCopyOf(new float[][] {{1.0f, 2.0f}, {3.0f, 4.0f}}), 0);
+    batch.set(StdArrays.ndCopyOf(new float[][] {{0.0f, 1.0f}, {1.0f, 0.0f}}), 1);
+    FloatNdArray identity = StdArrays.ndCopyOf(new float[][] {{1.0f, 0.0f}, {0.0f, 1.0f}});
+    assertArrayEquals(new float[][][] {{{1.0f, 2.0f}, {3.0f, 4.0f}}, {{0.0f, 1.0f}, {1.0f, 0.0f}}},
+        StdArrays.array3dCopyOf(FloatOps.matmul(identity, batch)));
+    assertSame(batch, FloatOps.matmul(batch, batch, batch));
+    assertArrayEquals(new float[][][] {{{7.0f, 10.0f}, {15.0f, 22.0f}}, {{1.0f, 0.0f}, {0.0f, 1.0f}}},
+        StdArrays.array3dCopyOf(batch));
+
+    assertThrows(IllegalArgumentException.class, () -> FloatOps.matmul(a, a));
+    assertThrows(IllegalArgumentException.class, () -> FloatOps.matmul(a, NdArrays.vectorOf(1.0f, 2.0f, 3.0f)));
+    assertThrows(IllegalArgumentException.class, () -> FloatOps.matmul(a, b, NdArrays.ofFloats(Shape.of(2, 3))));
+  }
+
+  @Test
+  public void multiplyLargeMatrices() {
+    Random random = new Random(42);
+    FloatNdArray a = NdArrays.ofFloats(Shape.of(300, 700));
+    FloatNdArray b = NdArrays.ofFloats(Shape.of(600, 700));
+    a.scalars().forEach(s -> s.setFloat(random.nextFloat() - 0.5f));
+    b.scalars().forEach(s -> s.setFloat(random.nextFloat() - 0.5f));
+    float[][] aValues = StdArrays.array2dCopyOf(a);
+    float[][] bValues = StdArrays.array2dCopyOf(b);
+
+    FloatNdArray product = FloatOps.matmul(a, b.transpose());
+    assertEquals(Shape.of(300, 600), product.shape());
+    product.forEachFloat((coords, value) -> {
+      double expected = 0.0;
+      for (int p = 0; p < 700; ++p) {
+        expected += (double)aValues[(int)coords[0]][p] * bValues[(int)coords[1]][p];
+      }
+      assertEquals(expected, value, 1e-3);
+    });
+
+    // results do not depend on how the product has been split, nor on the storage of the operands
+    FloatNdArray direct = NdArrays.wrap(b.shape(), DataBuffers.of(ByteBuffer.allocateDirect(600 * 700 * 4).asFloatBuffer()));
+    b.copyTo(direct);
+    FloatNdArray directProduct = NdArrays.wrap(product.shape(), DataBuffers.of(ByteBuffer.allocateDirect(300 * 600 * 4).asFloatBuffer()));
+    assertSame(directProduct, FloatOps.matmul(a, direct.transpose(), directProduct));
+    assertEquals(product, directProduct);
+    assertEquals(product, FloatOps.matmul(a, b.transpose()));
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.ops;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.IntNdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StdArrays;
+
+public class IntOpsTest {
+
+  @Test
+  public void integerOperations() {
+    IntNdArray x = NdArrays.vectorOf(-7, -2, 5, 9);
+    IntNdArray y = NdArrays.vectorOf(2, 2, 2, 2);
+    assertArrayEquals(new int[] {-3, -1, 2, 4}, StdArrays.array1dCopyOf(IntOps.div(x, y)));
+    assertArrayEquals(new int[] {-12, -2, 12, 20}, StdArrays.array1dCopyOf(IntOps.fma(x, y, y)));
+    assertArrayEquals(new int[] {7, 2, 5, 9}, StdArrays.array1dCopyOf(IntOps.abs(x)));
+    assertArrayEquals(new int[] {-2, -2, 5, 6}, StdArrays.array1dCopyOf(IntOps.clamp(x, -2, 6)));
+
+    assertThrows(ArithmeticException.class, () -> IntOps.div(x, NdArrays.scalarOf(0)));
+  }
+
+  @Test
+  public void operateOnLargeArrays() {
+    IntNdArray x = NdArrays.ofInts(Shape.of(5000));
+    x.scalars().forEachIndexed((coords, s) -> s.setInt((int)coords[0]));
+    IntNdArray result = IntOps.sub(IntOps.mul(x, x), x);
+    result.forEachInt((coords, value) -> assertEquals(coords[0] * coords[0] - coords[0], value));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ Copyright 2024 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.ops;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.module.Configuration;
+import java.lang.module.ModuleFinder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class ModularOpsTest {
+
+  @Test
+  public void runOperationsFromModulePath() throws Exception {
+    // Load the library as a named module in its own layer, like it would be from the module path
+    Path location = Paths.get(FloatOps.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    assumeTrue(!Files.isDirectory(location) || Files.exists(location.resolve("module-info.class")));
+    ModuleLayer boot = ModuleLayer.boot();
+    Configuration configuration = boot.configuration()
+        .resolve(ModuleFinder.of(location), ModuleFinder.of(), Set.of("org.tensorflow.ndarray"));
+    ModuleLayer layer = boot.defineModulesWithOneLoader(configuration, ClassLoader.getPlatformClassLoader());
+    ClassLoader loader = layer.findLoader("org.tensorflow.ndarray");
+
+    Class<?> ndArrays = loader.loadClass("org.tensorflow.ndarray.NdArrays");
+    Class<?> stdArrays = loader.loadClass("org.tensorflow.ndarray.StdArrays");
+    Class<?> floatNdArray = loader.loadClass("org.tensorflow.ndarray.FloatNdArray");
+    Class<?> floatOps = loader.loadClass("org.tensorflow.ndarray.ops.FloatOps");
+    assertTrue(floatOps.getModule().isNamed());
+    assertEquals(FloatOps.isVectorized(), floatOps.getMethod("isVectorized").invoke(null));
+
+    Object x = ndArrays.getMethod("vectorOf", float[].class).invoke(null, (Object)new float[] {1.0f, 2.0f, 3.0f});
+    Object y = floatOps.getMethod("mul", floatNdArray, floatNdArray).invoke(null, x, x);
+    Object z = floatOps.getMethod("add", floatNdArray, floatNdArray).invoke(null, x, y);
+    assertArrayEquals(new float[] {2.0f, 6.0f, 12.0f}, (float[])stdArrays.getMethod("array1dCopyOf", floatNdArray).invoke(null, z));
+  }
+}